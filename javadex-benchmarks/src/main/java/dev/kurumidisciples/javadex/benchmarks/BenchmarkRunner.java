@@ -0,0 +1,33 @@
+package dev.kurumidisciples.javadex.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so every result reports {@code gc.alloc.rate.norm}
+ * (bytes allocated per operation) next to the throughput.
+ * <pre>{@code
+ * mvn -f javadex-benchmarks/pom.xml package
+ * java -jar javadex-benchmarks/target/benchmarks.jar            # everything
+ * java -jar javadex-benchmarks/target/benchmarks.jar Entity -f 1 # any JMH option or filter
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
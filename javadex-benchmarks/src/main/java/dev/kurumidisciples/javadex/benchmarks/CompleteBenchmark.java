@@ -0,0 +1,96 @@
+package dev.kurumidisciples.javadex.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+/**
+ * Query building and whole {@code complete()} round trips, answered by {@link StubInterceptor} instead of the API.
+ * <p>The request limit is raised to {@link Integer#MAX_VALUE} so no call waits for a permit, but the limiter is
+ * still in the path: every request schedules the release of its permit one minute later. That task is counted in
+ * {@code gc.alloc.rate.norm}, and since none of them fire within a run the executor's delay queue grows by one
+ * entry per request.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompleteBenchmark {
+
+    private static final UUID MANGA_ID = UUID.fromString("a96676e5-8ae2-425e-b549-7f15dd34a6d8");
+
+    private final StubInterceptor stub = new StubInterceptor()
+            .route("/manga/" + MANGA_ID + "/aggregate", Fixtures.AGGREGATE)
+            .route("/manga", Fixtures.MANGA_LIST)
+            .route("/chapter", Fixtures.CHAPTER_FEED)
+            .route("/group", Fixtures.GROUP_LIST)
+            .route("/user/follows/manga", Fixtures.FOLLOWS)
+            .route("/at-home/server", Fixtures.AT_HOME);
+
+    private int previousLimit;
+
+    @Setup
+    public void setup() {
+        previousLimit = HTTPRequest.getRequestsPerMinute();
+        HTTPRequest.setRequestsPerMinute(Integer.MAX_VALUE);
+        HTTPRequest.addInterceptor(stub);
+    }
+
+    @TearDown
+    public void tearDown() {
+        HTTPRequest.removeInterceptor(stub);
+        HTTPRequest.setRequestsPerMinute(previousLimit);
+    }
+
+    private static MangaAction mangaSearch() {
+        return new MangaAction("frieren", 50, 0)
+                .addTag(Manga.Tag.ADVENTURE.getId())
+                .addContentRating("safe");
+    }
+
+    private static ChapterAction chapterFeed() {
+        return new ChapterAction()
+                .setMangaId(MANGA_ID)
+                .setLimit(100)
+                .setIncludes(IncludesType.SCANLATION_GROUP, IncludesType.MANGA, IncludesType.USER);
+    }
+
+    @Benchmark
+    public String chapterQuery() {
+        return chapterFeed().toQuery();
+    }
+
+    @Benchmark
+    public List<Manga> mangaComplete() {
+        return mangaSearch().complete();
+    }
+
+    @Benchmark
+    public List<Chapter> chapterComplete() {
+        return chapterFeed().complete();
+    }
+}
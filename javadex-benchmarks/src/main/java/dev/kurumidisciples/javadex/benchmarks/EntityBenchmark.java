@@ -0,0 +1,131 @@
+package dev.kurumidisciples.javadex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.MangaProjection;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
+
+/**
+ * Decodes whole response pages into entities: from a parsed tree, from the raw body through a tree, and by
+ * streaming the body straight into the entity adapters.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBenchmark {
+
+    private static final TypeToken<List<Manga>> MANGA_LIST = new TypeToken<>() { };
+    private static final TypeToken<List<Chapter>> CHAPTER_LIST = new TypeToken<>() { };
+
+    private String mangaBody;
+    private String chapterBody;
+    private String mangaData;
+    private String chapterData;
+    private JsonArray mangaTree;
+    private JsonArray chapterTree;
+    private JsonArray groupTree;
+
+    @Setup
+    public void setup() {
+        mangaBody = Fixtures.load(Fixtures.MANGA_LIST);
+        chapterBody = Fixtures.load(Fixtures.CHAPTER_FEED);
+        mangaTree = Fixtures.data(Fixtures.MANGA_LIST);
+        chapterTree = Fixtures.data(Fixtures.CHAPTER_FEED);
+        groupTree = Fixtures.data(Fixtures.GROUP_LIST);
+        mangaData = mangaTree.toString();
+        chapterData = chapterTree.toString();
+    }
+
+    @Benchmark
+    public List<Manga> mangaFromTree() {
+        List<Manga> result = new ArrayList<>(mangaTree.size());
+        for (JsonElement element : mangaTree) {
+            result.add(new Manga(element.getAsJsonObject()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Manga> mangaTitlesFromTree() {
+        List<Manga> result = new ArrayList<>(mangaTree.size());
+        for (JsonElement element : mangaTree) {
+            result.add(new Manga(element.getAsJsonObject(), MangaProjection.TITLES));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Manga> mangaFromBody() {
+        JsonArray data = JsonParser.parseString(mangaBody).getAsJsonObject().getAsJsonArray("data");
+        List<Manga> result = new ArrayList<>(data.size());
+        for (JsonElement element : data) {
+            result.add(new Manga(element.getAsJsonObject()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Manga> mangaStreamed() {
+        return EntityCodecs.GSON.fromJson(mangaData, MANGA_LIST);
+    }
+
+    @Benchmark
+    public List<Chapter> chapterFromTree() {
+        List<Chapter> result = new ArrayList<>(chapterTree.size());
+        for (JsonElement element : chapterTree) {
+            result.add(new Chapter(element.getAsJsonObject()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Chapter> chapterFromBody() {
+        JsonArray data = JsonParser.parseString(chapterBody).getAsJsonObject().getAsJsonArray("data");
+        List<Chapter> result = new ArrayList<>(data.size());
+        for (JsonElement element : data) {
+            result.add(new Chapter(element.getAsJsonObject()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Chapter> chapterStreamed() {
+        return EntityCodecs.GSON.fromJson(chapterData, CHAPTER_LIST);
+    }
+
+    @Benchmark
+    public List<ScanlationGroup> groupFromTree() {
+        List<ScanlationGroup> result = new ArrayList<>(groupTree.size());
+        for (JsonElement element : groupTree) {
+            result.add(new ScanlationGroup(element.getAsJsonObject()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.kurumidisciples.javadex.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+
+/**
+ * Loads the recorded API responses under {@code fixtures/}.
+ * <p>Fixtures mirror the shape of real MangaDex responses: a collection of 50 manga, a feed page of 100 chapters,
+ * 50 scanlation groups, a follows page of 30 manga, a manga aggregate and an at-home server response.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class Fixtures {
+
+    /** {@code GET /manga} */
+    public static final String MANGA_LIST = "manga-list.json";
+    /** {@code GET /manga/{id}/feed} */
+    public static final String CHAPTER_FEED = "chapter-feed.json";
+    /** {@code GET /group} */
+    public static final String GROUP_LIST = "group-list.json";
+    /** {@code GET /user/follows/manga} */
+    public static final String FOLLOWS = "follows.json";
+    /** {@code GET /manga/{id}/aggregate} */
+    public static final String AGGREGATE = "aggregate.json";
+    /** {@code GET /at-home/server/{chapterId}} */
+    public static final String AT_HOME = "at-home.json";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Reads a fixture.
+     *
+     * @param name the file name under {@code fixtures/}.
+     * @return the response body.
+     */
+    public static String load(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No fixture named " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the {@code data} array of a collection fixture.
+     *
+     * @param name the file name under {@code fixtures/}.
+     * @return the parsed entities.
+     */
+    public static JsonArray data(String name) {
+        return JsonParser.parseString(load(name)).getAsJsonObject().getAsJsonArray("data");
+    }
+}
@@ -0,0 +1,131 @@
+package dev.kurumidisciples.javadex.benchmarks;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
+import dev.kurumidisciples.javadex.internal.parsers.MangaParsers;
+import dev.kurumidisciples.javadex.internal.parsers.TimestampParser;
+import dev.kurumidisciples.javadex.internal.parsers.UuidParser;
+
+/**
+ * The per-field decoders every entity goes through: relationship maps, manga attribute parsers, UUIDs,
+ * timestamps and locale codes. The JDK baselines sit next to the fast paths they replace.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private List<JsonArray> relationships;
+    private List<JsonObject> attributes;
+    private List<String> ids;
+    private List<String> timestamps;
+    private List<String> languages;
+
+    @Setup
+    public void setup() {
+        relationships = new ArrayList<>();
+        attributes = new ArrayList<>();
+        ids = new ArrayList<>();
+        timestamps = new ArrayList<>();
+        languages = new ArrayList<>();
+        for (JsonElement element : Fixtures.data(Fixtures.CHAPTER_FEED)) {
+            JsonObject chapter = element.getAsJsonObject();
+            JsonObject chapterAttributes = chapter.getAsJsonObject("attributes");
+            relationships.add(chapter.getAsJsonArray("relationships"));
+            ids.add(chapter.get("id").getAsString());
+            timestamps.add(chapterAttributes.get("updatedAt").getAsString());
+            languages.add(chapterAttributes.get("translatedLanguage").getAsString());
+        }
+        for (JsonElement element : Fixtures.data(Fixtures.MANGA_LIST)) {
+            attributes.add(element.getAsJsonObject().getAsJsonObject("attributes"));
+        }
+    }
+
+    @Benchmark
+    public void relationshipMap(Blackhole blackhole) {
+        for (JsonArray array : relationships) {
+            blackhole.consume(new RelationshipMap(array));
+        }
+    }
+
+    @Benchmark
+    public void mangaAttributes(Blackhole blackhole) {
+        for (JsonObject manga : attributes) {
+            blackhole.consume(MangaParsers.parseTags(manga.getAsJsonArray("tags")));
+            blackhole.consume(MangaParsers.parseAltTitles(manga.getAsJsonArray("altTitles")));
+            blackhole.consume(MangaParsers.parseDescription(manga.getAsJsonObject("description")));
+            blackhole.consume(MangaParsers.parseLinks(manga.getAsJsonObject("links")));
+            blackhole.consume(MangaParsers.parseAvailableTranslatedLanguages(manga.getAsJsonArray("availableTranslatedLanguages")));
+        }
+    }
+
+    @Benchmark
+    public void uuidFast(Blackhole blackhole) {
+        for (String id : ids) {
+            blackhole.consume(UuidParser.parse(id));
+        }
+    }
+
+    @Benchmark
+    public void uuidJdk(Blackhole blackhole) {
+        for (String id : ids) {
+            blackhole.consume(UUID.fromString(id));
+        }
+    }
+
+    @Benchmark
+    public void timestampFast(Blackhole blackhole) {
+        for (String timestamp : timestamps) {
+            blackhole.consume(TimestampParser.parse(timestamp));
+        }
+    }
+
+    @Benchmark
+    public void timestampEpochMilli(Blackhole blackhole) {
+        for (String timestamp : timestamps) {
+            blackhole.consume(TimestampParser.parseEpochMilli(timestamp));
+        }
+    }
+
+    @Benchmark
+    public void timestampJdk(Blackhole blackhole) {
+        for (String timestamp : timestamps) {
+            blackhole.consume(OffsetDateTime.parse(timestamp));
+        }
+    }
+
+    @Benchmark
+    public void locale(Blackhole blackhole) {
+        for (String language : languages) {
+            blackhole.consume(Locale.getByLanguage(language));
+        }
+    }
+}
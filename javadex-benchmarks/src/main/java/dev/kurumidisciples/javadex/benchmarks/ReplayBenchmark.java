@@ -0,0 +1,133 @@
+package dev.kurumidisciples.javadex.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.cassette.Cassette;
+import dev.kurumidisciples.javadex.internal.http.cassette.CassettePlayer;
+import dev.kurumidisciples.javadex.internal.http.cassette.CassetteRecorder;
+
+import okhttp3.Interceptor;
+
+/**
+ * Replays a cassette recorded from the fixtures: the raw lookup of a body, decoding straight from the replayed
+ * buffer, and a whole {@code complete()} answered by {@link CassettePlayer}.
+ * <p>The fixture body is large enough to be stored compressed, so after the first call it is served from the
+ * inflated heap copy, not from the mapping.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+
+    private Path file;
+    private CassettePlayer player;
+    private Cassette cassette;
+    private String url;
+
+    @Setup
+    public void setup() throws IOException {
+        HTTPRequest.setRequestsPerMinute(Integer.MAX_VALUE);
+        file = Files.createTempFile("javadex-replay", ".cassette");
+        StubInterceptor stub = new StubInterceptor().route("/manga", Fixtures.MANGA_LIST);
+        Interceptor capture = chain -> {
+            url = chain.request().url().toString();
+            return chain.proceed(chain.request());
+        };
+        try (CassetteRecorder recorder = CassetteRecorder.start(file)) {
+            HTTPRequest.addInterceptor(capture);
+            HTTPRequest.addInterceptor(stub);
+            search().complete();
+            if (recorder.getRecorded() != 1) {
+                throw new IllegalStateException("Expected one recorded response, got " + recorder.getRecorded());
+            }
+        } finally {
+            HTTPRequest.removeInterceptor(stub);
+            HTTPRequest.removeInterceptor(capture);
+        }
+        player = CassettePlayer.start(file);
+        cassette = player.getCassette();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        player.close();
+        Files.deleteIfExists(file);
+    }
+
+    private static MangaAction search() {
+        return new MangaAction("replay", 50, 0);
+    }
+
+    @Benchmark
+    public ByteBuffer body() {
+        return cassette.body("GET", url);
+    }
+
+    @Benchmark
+    public JsonObject parseBody() {
+        ByteBuffer body = cassette.body("GET", url);
+        return JsonParser.parseReader(new InputStreamReader(new ByteBufferInputStream(body), StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+
+    @Benchmark
+    public List<Manga> completeReplayed() {
+        return search().complete();
+    }
+
+    /** Reads a buffer without copying it first. */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.kurumidisciples.javadex.benchmarks;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Answers requests in-process from fixtures, so end-to-end benchmarks never touch a socket.
+ * <p>Routes are matched against the request path in the order they were added; unmatched requests get a 404.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class StubInterceptor implements Interceptor {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String NOT_FOUND = "{\"result\":\"error\",\"errors\":[{\"status\":404,\"title\":\"Not found\",\"detail\":\"No stub route\"}]}";
+
+    private final Map<String, String> routes = new LinkedHashMap<>();
+
+    /**
+     * Serves a fixture for every path starting with the prefix.
+     *
+     * @param pathPrefix the path prefix, such as {@code /manga}.
+     * @param fixture the fixture file name.
+     * @return this interceptor.
+     */
+    public StubInterceptor route(String pathPrefix, String fixture) {
+        routes.put(pathPrefix, Fixtures.load(fixture));
+        return this;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String path = request.url().encodedPath();
+        for (Map.Entry<String, String> route : routes.entrySet()) {
+            if (path.startsWith(route.getKey())) {
+                return respond(request, 200, route.getValue());
+            }
+        }
+        return respond(request, 404, NOT_FOUND);
+    }
+
+    private static Response respond(Request request, int code, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(code == 200 ? "OK" : "Not Found")
+                .body(ResponseBody.create(body, JSON))
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package dev.kurumidisciples.javadex.api.core;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,21 +29,31 @@ import com.google.gson.JsonParser;
 
 import dev.kurumidisciples.javadex.api.core.authentication.Token;
 import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.MDList;
 import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
 import dev.kurumidisciples.javadex.api.entities.User;
 import dev.kurumidisciples.javadex.api.entities.content.Manga;
 import dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType;
+import dev.kurumidisciples.javadex.api.entities.enums.ReadingStatus;
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
 import dev.kurumidisciples.javadex.api.exceptions.AuthorizationException;
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
 import dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction;
 import dev.kurumidisciples.javadex.internal.actions.retrieve.FollowsAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ListAction;
 import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaBatchAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.StatisticsAction;
 import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.cache.ReadStateIndex;
+import dev.kurumidisciples.javadex.internal.cache.ReadingStatusCache;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
-import dev.kurumidisciples.javadex.internal.utils.ErrorResponseChecker;
+import dev.kurumidisciples.javadex.internal.sync.BulkFollow;
+import dev.kurumidisciples.javadex.internal.sync.FeedSync;
+import dev.kurumidisciples.javadex.internal.sync.LibrarySnapshot;
+import dev.kurumidisciples.javadex.internal.sync.ReadMarkerBuffer;
 import dev.kurumidisciples.javadex.internal.annotations.Authenticated;
-import okhttp3.Response;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
 
 /**
  * Main class for interacting with the MangaDex API.
@@ -75,13 +87,18 @@ public class JavaDex implements AutoCloseable{
 
     private static final Logger logger = LogManager.getLogger(JavaDex.class);
     private static final Duration DEFAULT_REFRESH_RATE = Duration.ofMinutes(15);
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = EntityCodecs.GSON;
 
     private final Token token;
     private final Duration refreshRate;
     private final String clientId;
     private final String clientSecret;
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final ReadMarkerBuffer readMarkers;
+    private final ReadingStatusCache readingStatuses;
+    private final ReadStateIndex readState;
+    private final LibrarySnapshot mangaLibrary;
+    private final LibrarySnapshot groupLibrary;
     private final Mode mode;
 
     /**
@@ -100,6 +117,11 @@ public class JavaDex implements AutoCloseable{
         logger.debug("JavaDex instance created with access token: {}", token.getAccessToken());
         logger.info("JavaDex Object Built Successfully");
         scheduleTokenRefresh();
+        this.readMarkers = new ReadMarkerBuffer(token);
+        this.readingStatuses = new ReadingStatusCache(token);
+        this.readState = new ReadStateIndex(token);
+        this.mangaLibrary = new LibrarySnapshot(token, FollowingEntityType.SELF_MANGA);
+        this.groupLibrary = new LibrarySnapshot(token, FollowingEntityType.SELF_GROUP);
         this.mode = Mode.AUTHORIZED;
     }
 
@@ -111,6 +133,11 @@ public class JavaDex implements AutoCloseable{
         this.refreshRate = DEFAULT_REFRESH_RATE;
         this.clientId = null;
         this.clientSecret = null;
+        this.readMarkers = null;
+        this.readingStatuses = null;
+        this.readState = null;
+        this.mangaLibrary = null;
+        this.groupLibrary = null;
         logger.info("JavaDex Guest Object Built Successfully");
         this.mode = Mode.GUEST;
     }
@@ -173,6 +200,26 @@ public class JavaDex implements AutoCloseable{
         return MangaAction.getMangaById(id);
     }
 
+    /**
+     * Retrieves the ratings, follow counts and comment counts of many manga, 100 per request.
+     *
+     * @param mangaIds the manga to retrieve the statistics of.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.StatisticsAction} object
+     */
+    public StatisticsAction retrieveStatistics(@NotNull Collection<UUID> mangaIds) {
+        return new StatisticsAction(mangaIds);
+    }
+
+    /**
+     * Retrieves many manga by id, 100 per request, serving cached manga without one.
+     *
+     * @param mangaIds the manga to retrieve.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaBatchAction} object
+     */
+    public MangaBatchAction retrieveManga(@NotNull Collection<UUID> mangaIds) {
+        return new MangaBatchAction(mangaIds);
+    }
+
     /**
      * <b>{@link dev.kurumidisciples.javadex.internal.annotations.Authenticated} Method</b>
      * <b>Returns the access token.</b>
@@ -245,6 +292,7 @@ public class JavaDex implements AutoCloseable{
                 String response = HTTPRequest.post(url, Optional.of(token.getAccessToken()));
                 boolean success = response.contains("ok");
                 if (success) {
+                    mangaLibrary.apply(UUID.fromString(mangaId), true);
                     logger.debug("Successfully followed manga {}", mangaId);
                 } else {
                     logger.error("Failed to follow manga {}", mangaId);
@@ -257,11 +305,60 @@ public class JavaDex implements AutoCloseable{
         });
     }
 
+    /**
+     * Follows many manga, skipping the ones already followed.
+     * <p>Requests are paced at the library's request rate and transient failures are retried, see {@link BulkFollow}.</p>
+     *
+     * @param mangaIds the manga to follow.
+     * @return a {@link dev.kurumidisciples.javadex.internal.sync.BulkFollow} object
+     */
+    @Authenticated
+    public BulkFollow followManga(@NotNull Collection<UUID> mangaIds) {
+        return new BulkFollow(token, FollowingEntityType.SELF_MANGA, true, mangaIds).setSnapshot(mangaLibrary);
+    }
+
+    /**
+     * Unfollows many manga, skipping the ones not followed.
+     *
+     * @param mangaIds the manga to unfollow.
+     * @return a {@link dev.kurumidisciples.javadex.internal.sync.BulkFollow} object
+     * @see #followManga(Collection)
+     */
+    @Authenticated
+    public BulkFollow unfollowManga(@NotNull Collection<UUID> mangaIds) {
+        return new BulkFollow(token, FollowingEntityType.SELF_MANGA, false, mangaIds).setSnapshot(mangaLibrary);
+    }
+
+    /**
+     * Follows many scanlation groups, skipping the ones already followed.
+     *
+     * @param groupIds the groups to follow.
+     * @return a {@link dev.kurumidisciples.javadex.internal.sync.BulkFollow} object
+     * @see #followManga(Collection)
+     */
+    @Authenticated
+    public BulkFollow followGroups(@NotNull Collection<UUID> groupIds) {
+        return new BulkFollow(token, FollowingEntityType.SELF_GROUP, true, groupIds).setSnapshot(groupLibrary);
+    }
+
+    /**
+     * Unfollows many scanlation groups, skipping the ones not followed.
+     *
+     * @param groupIds the groups to unfollow.
+     * @return a {@link dev.kurumidisciples.javadex.internal.sync.BulkFollow} object
+     * @see #followManga(Collection)
+     */
+    @Authenticated
+    public BulkFollow unfollowGroups(@NotNull Collection<UUID> groupIds) {
+        return new BulkFollow(token, FollowingEntityType.SELF_GROUP, false, groupIds).setSnapshot(groupLibrary);
+    }
+
     /**
      * Retrieves a list of UUIDs representing the chapters read for a specific manga.
      *
      * <p>This method sends a GET request to the MangaDex API to retrieve the list of read chapters for the manga with the specified ID.
-     * The ID is appended to the URL of the request.</p>
+     * The ID is appended to the URL of the request. Read markers of the manga still waiting in the
+     * {@link #getReadMarkerBuffer() read marker buffer} are sent first, so the list includes them.</p>
      *
      * This method is asynchronous and returns a CompletableFuture that will be completed with the list of UUIDs when the
      * API response is received and parsed.
@@ -273,7 +370,7 @@ public class JavaDex implements AutoCloseable{
     public CompletableFuture<List<UUID>> retrieveReadChapters(@NotNull String mangaId) {
         final String url = "https://api.mangadex.org/manga/" + mangaId + "/read";
         
-        return CompletableFuture.supplyAsync(() -> {
+        return readMarkers.flush(UUID.fromString(mangaId)).thenApplyAsync(flushed -> {
             try {
                 String jsonResponse = HTTPRequest.get(url, Optional.of(token.getAccessToken()));
                 JsonArray chapters = JsonParser.parseString(jsonResponse)
@@ -294,34 +391,115 @@ public class JavaDex implements AutoCloseable{
     /**
      * Marks a specific chapter as read.
      *
-     * <p>This method sends a POST request to the MangaDex API to mark the specified chapter as read.
-     * The chapter ID is sent in the request body as a JSON object.</p>
+     * <p>The change goes through the {@link #getReadMarkerBuffer() read marker buffer}, which sends the read markers
+     * of a manga together in one POST request shortly after the last change.</p>
      *
      * This method is asynchronous and returns a CompletableFuture that will be completed when the
-     * API response is received and parsed.
+     * request carrying the change succeeds.
      *
      * @param chapter A {@link NotNull} Chapter object to mark as read.
      * @return A CompletableFuture that will be completed when the chapter is marked as read.
      */
     @Authenticated
     public CompletableFuture<Void> markChapterAsRead(@NotNull Chapter chapter) {
+        UUID mangaId = mangaIdOf(chapter);
+        return readMarkers.markRead(mangaId, chapter.getId()).thenRun(() -> readState.apply(mangaId, chapter.getId(), true));
+    }
+
+    /**
+     * Marks a specific chapter as unread.
+     *
+     * @param chapter A {@link NotNull} Chapter object to mark as unread.
+     * @return A CompletableFuture that will be completed when the chapter is marked as unread.
+     * @see #markChapterAsRead(Chapter)
+     */
+    @Authenticated
+    public CompletableFuture<Void> markChapterAsUnread(@NotNull Chapter chapter) {
+        UUID mangaId = mangaIdOf(chapter);
+        return readMarkers.markUnread(mangaId, chapter.getId()).thenRun(() -> readState.apply(mangaId, chapter.getId(), false));
+    }
+
+    /**
+     * Returns the buffer that batches the read markers of this instance.
+     * <p>Use it to tune the batching, to mark chapters by id, or to {@link ReadMarkerBuffer#flush() flush} before
+     * reading the markers back. It is flushed when this instance is closed.</p>
+     *
+     * @return a {@link dev.kurumidisciples.javadex.internal.sync.ReadMarkerBuffer} object
+     */
+    @Authenticated
+    public ReadMarkerBuffer getReadMarkerBuffer() {
+        return readMarkers;
+    }
+
+    /**
+     * Returns the reading statuses of the library of this user.
+     * <p>The whole library is loaded with one request and kept in memory, so looking up the status of many manga
+     * costs a single request. Status changes go through it, see {@link ReadingStatusCache}.</p>
+     *
+     * @return a {@link dev.kurumidisciples.javadex.internal.cache.ReadingStatusCache} object
+     */
+    @Authenticated
+    public ReadingStatusCache getReadingStatuses() {
+        return readingStatuses;
+    }
+
+    /**
+     * Returns the local read state of the library of this user.
+     * <p>Once the library is {@link ReadStateIndex#load(java.util.Collection) loaded}, unread counts and the next
+     * chapter to read are answered without requests. Chapters marked through this instance are applied to it.</p>
+     *
+     * @return a {@link dev.kurumidisciples.javadex.internal.cache.ReadStateIndex} object
+     */
+    @Authenticated
+    public ReadStateIndex getReadState() {
+        return readState;
+    }
+
+    /**
+     * Retrieves the reading status of a manga from the {@link #getReadingStatuses() reading status cache}.
+     *
+     * @param mangaId The manga.
+     * @return A CompletableFuture completed with the status, or {@code null} if the manga is not in the library.
+     */
+    @Authenticated
+    public CompletableFuture<ReadingStatus> retrieveReadingStatus(@NotNull UUID mangaId) {
         return CompletableFuture.supplyAsync(() -> {
-            JsonObject requestBody = new JsonObject();
-            JsonArray read = new JsonArray();
-            read.add(chapter.getIdRaw());
-            requestBody.add("chapterIdsRead", read);
-            requestBody.add("chapterIdsUnread", new JsonArray());
             try {
-                String response = HTTPRequest.post("https://api.mangadex.org/manga/" + chapter.getRelationshipMap().get(RelationshipType.MANGA) + "/read", requestBody.toString(), Optional.of(token.getAccessToken()));
-                logger.debug("Chapter {} marked as read with response {}", chapter.getId(), response);
+                return readingStatuses.get(mangaId);
+            } catch (HTTPRequestException e) {
+                logger.error("Error retrieving reading statuses", e);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Sets the reading status of a manga.
+     *
+     * @param mangaId The manga.
+     * @param status The new status, or {@code null} to remove the manga from the library.
+     * @return A CompletableFuture completed once the status was changed.
+     */
+    @Authenticated
+    public CompletableFuture<Void> setReadingStatus(@NotNull UUID mangaId, ReadingStatus status) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                readingStatuses.set(mangaId, status);
             } catch (HTTPRequestException e) {
-                logger.error("An error occured when attempting to mark the chapter as read", e);
+                logger.error("Error setting the reading status of manga {}", mangaId, e);
                 throw new CompletionException(e);
             }
-            return null;
         });
     }
 
+    private static UUID mangaIdOf(Chapter chapter) {
+        UUID manga = chapter.getRelationshipMap().getFirstId(RelationshipType.MANGA);
+        if (manga == null) {
+            throw new IllegalArgumentException("Chapter " + chapter.getId() + " has no manga relationship");
+        }
+        return manga;
+    }
+
     /**
      * Initiates a chapter search action.
      *
@@ -396,28 +574,17 @@ public class JavaDex implements AutoCloseable{
     
     /**
      * Checks if self is following a specific group.
+     * <p>Answered from the {@link #getGroupLibrary() group library}, which pulls every followed group once and
+     * then answers locally until it is stale.</p>
      *
-     * @return A CompletableFuture that will be completed with the list of ScanlationGroup objects
-     *         when the API response is received and parsed.
+     * @return A CompletableFuture that will be completed with {@code true} if the group is followed.
      * @param group The ScanlationGroup object to check if self is following.
      */
     @Authenticated
     public CompletableFuture<Boolean> checkIfFollowingGroup(@NotNull ScanlationGroup group){
       return CompletableFuture.supplyAsync(() -> {
           try {
-              String url = String.format("https://api.mangadex.org/user/follows/group/%s", group.getId());
-              Response response = HTTPRequest.getResponse(url, Optional.of(token.getAccessToken()));
-              int responseCode = response.code();
-  
-              switch (responseCode) {
-                  case 200:
-                      return true;
-                  case 404:
-                      return false;
-                  default:
-                      logger.error("Unexpected response code: {}", responseCode);
-                      throw ErrorResponseChecker.retrieveCorrectHTTPException(response);
-              }
+              return groupLibrary.isFollowing(group.getId());
           } catch (HTTPRequestException e) {
               logger.error("An HTTP exception occured while checking if self user was following given Scanlation Group", e);
               throw new CompletionException(e);
@@ -425,6 +592,48 @@ public class JavaDex implements AutoCloseable{
       });
     }
 
+    /**
+     * Checks if self is following a specific manga.
+     * <p>Answered from the {@link #getMangaLibrary() manga library}, see {@link #checkIfFollowingGroup(ScanlationGroup)}.</p>
+     *
+     * @param mangaId The manga.
+     * @return A CompletableFuture that will be completed with {@code true} if the manga is followed.
+     */
+    @Authenticated
+    public CompletableFuture<Boolean> checkIfFollowingManga(@NotNull UUID mangaId){
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return mangaLibrary.isFollowing(mangaId);
+            } catch (HTTPRequestException e) {
+                logger.error("An HTTP exception occured while checking if self user was following manga {}", mangaId, e);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns the snapshot of the manga this user follows.
+     * <p>Follows made through this instance are applied to it. Use {@link LibrarySnapshot#refresh()} to pull the
+     * library and get the changes since the previous pull.</p>
+     *
+     * @return a {@link dev.kurumidisciples.javadex.internal.sync.LibrarySnapshot} object
+     */
+    @Authenticated
+    public LibrarySnapshot getMangaLibrary() {
+        return mangaLibrary;
+    }
+
+    /**
+     * Returns the snapshot of the groups this user follows.
+     *
+     * @return a {@link dev.kurumidisciples.javadex.internal.sync.LibrarySnapshot} object
+     * @see #getMangaLibrary()
+     */
+    @Authenticated
+    public LibrarySnapshot getGroupLibrary() {
+        return groupLibrary;
+    }
+
     /**
      * Creates a new FollowsAction object to retrieve the manga that self is following.
      * @return a {@link FollowsAction} object
@@ -434,6 +643,67 @@ public class JavaDex implements AutoCloseable{
         return new FollowsAction(FollowingEntityType.SELF_MANGA, token);
     }
 
+    /**
+     * Creates a new FollowsAction object to retrieve the lists that self is following.
+     * @return a {@link FollowsAction} object
+     */
+    @Authenticated
+    public FollowsAction retrieveFollowingLists(){
+        return new FollowsAction(FollowingEntityType.SELF_LIST, token);
+    }
+
+    /**
+     * Creates a new ListAction object to retrieve the lists of self, private lists included.
+     * @return a {@link ListAction} object
+     */
+    @Authenticated
+    public ListAction retrieveLists(){
+        return new ListAction(token);
+    }
+
+    /**
+     * Creates a new ListAction object to retrieve the public lists of a user.
+     *
+     * @param userId the owner of the lists.
+     * @return a {@link ListAction} object
+     */
+    public ListAction retrieveLists(@NotNull UUID userId){
+        return new ListAction(userId, token);
+    }
+
+    /**
+     * Retrieves a list by its id. Private lists are only returned to their owner.
+     *
+     * @param listId the id of the list.
+     * @return A CompletableFuture that will be completed with the {@link MDList}.
+     */
+    public CompletableFuture<MDList> retrieveListById(@NotNull UUID listId){
+        return ListAction.getListById(listId, token);
+    }
+
+    /**
+     * Creates a ChapterAction over the chapter feed of a list, private lists of self included.
+     *
+     * @param listId the id of the list.
+     * @return a {@link ChapterAction} object
+     */
+    public ChapterAction retrieveListFeed(@NotNull UUID listId){
+        return ChapterAction.ofListFeed(listId, token);
+    }
+
+    /**
+     * Creates a {@link FeedSync} that mirrors the chapter feed of the followed manga incrementally.
+     * <p>The watermark and update history are kept in {@code stateFile}, so a restarted sync only fetches the
+     * chapters changed since the previous run.</p>
+     *
+     * @param stateFile the file the sync state is saved to.
+     * @return a {@link FeedSync} object
+     */
+    @Authenticated
+    public FeedSync syncFollowedFeed(@NotNull Path stateFile){
+        return new FeedSync(token, stateFile);
+    }
+
     /**
      * <Retrieves the current user's information from the MangaDex API.
      *
@@ -480,7 +750,7 @@ public class JavaDex implements AutoCloseable{
 
     try {
         String jsonResponse = HTTPRequest.postForm(refreshUrl, formData);
-        RefreshResponse refreshResponse = new Gson().fromJson(jsonResponse, RefreshResponse.class);
+        RefreshResponse refreshResponse = GSON.fromJson(jsonResponse, RefreshResponse.class);
         token.setAccessToken(refreshResponse.access_token);
         token.setRefreshToken(refreshResponse.refresh_token);
         logger.debug("Access token refreshed successfully. New access token: {}", token.getAccessToken());
@@ -502,6 +772,7 @@ public class JavaDex implements AutoCloseable{
     /** {@inheritDoc} */
     @Override
     public void close() throws IOException {
+        if (readMarkers != null) readMarkers.close();
         scheduler.shutdown(); // Disable new tasks from being submitted
         try {
             // Wait a while for existing tasks to terminate
@@ -14,6 +14,7 @@ import com.google.gson.Gson;
 
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
 
 /**
  * Builder class for creating JavaDex instances with specified configurations.
@@ -164,7 +165,7 @@ public class JavaDexBuilder {
         formData.put("password", password);
 
         String jsonResponse = HTTPRequest.postForm(loginUrl, formData);
-        Gson gson = new Gson();
+        Gson gson = EntityCodecs.GSON;
         LoginResponse loginResponse = gson.fromJson(jsonResponse, LoginResponse.class);
         logger.debug("Authentication successful. Access token: {}", loginResponse.access_token);
         return new String[]{loginResponse.access_token, loginResponse.refresh_token};
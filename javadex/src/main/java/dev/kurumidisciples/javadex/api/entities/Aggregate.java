@@ -0,0 +1,398 @@
+package dev.kurumidisciples.javadex.api.entities;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+/**
+ * The volume and chapter structure of a manga, as returned by {@code /manga/{id}/aggregate}.
+ * <p>Each chapter number maps to one chapter id and the ids of the other uploads of that number, for example
+ * other groups or, when several languages were requested, other languages. Volumes and chapters keep the order
+ * of the response. Lookups by volume or chapter number take constant time. A volume number that is sent twice is
+ * merged into one volume, and a chapter number that appears in several volumes resolves to the id of its first
+ * occurrence, with the uploads of the later ones among its others.</p>
+ *
+ * <pre>{@code
+ * Aggregate aggregate = manga.retrieveAggregate(Locale.ENGLISH, Locale.LATIN_AMERICAN_SPANISH).join();
+ * UUID first = aggregate.getChapter("1").getId();
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class Aggregate {
+
+    private final UUID mangaId;
+    private final List<Locale> languages;
+    private final Map<String, Volume> volumes;
+    private final Map<String, ChapterEntry> chapters;
+    private final int chapterCount;
+
+    /**
+     * A volume and its chapters.
+     */
+    public static final class Volume {
+
+        private final String volume;
+        private final int count;
+        private final List<ChapterEntry> chapters;
+
+        Volume(String volume, int count, List<ChapterEntry> chapters) {
+            this.volume = volume;
+            this.count = count;
+            this.chapters = Collections.unmodifiableList(chapters);
+        }
+
+        /**
+         * Combines two entries of the same volume number, merging chapters that share a number.
+         */
+        private Volume merge(Volume other) {
+            Map<String, ChapterEntry> merged = new LinkedHashMap<>();
+            for (ChapterEntry chapter : chapters) {
+                merged.merge(chapter.getChapterNumber(), chapter, ChapterEntry::merge);
+            }
+            for (ChapterEntry chapter : other.chapters) {
+                merged.merge(chapter.getChapterNumber(), chapter, ChapterEntry::merge);
+            }
+            int uploads = 0;
+            for (ChapterEntry chapter : merged.values()) {
+                uploads += chapter.getCount();
+            }
+            return new Volume(volume, uploads, new ArrayList<>(merged.values()));
+        }
+
+        /**
+         * <p>Getter for the field <code>volume</code>.</p>
+         *
+         * @return the volume number as sent by the API, {@code none} for chapters without a volume.
+         */
+        public String getVolume() {
+            return volume;
+        }
+
+        /**
+         * <p>Getter for the field <code>count</code>.</p>
+         *
+         * @return the number of uploads in the volume.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * <p>Getter for the field <code>chapters</code>.</p>
+         *
+         * @return the chapters of the volume.
+         */
+        public List<ChapterEntry> getChapters() {
+            return chapters;
+        }
+    }
+
+    /**
+     * One chapter number and its uploads.
+     */
+    public static final class ChapterEntry {
+
+        private final String chapter;
+        private final UUID id;
+        private final List<UUID> others;
+        private final int count;
+
+        ChapterEntry(String chapter, UUID id, List<UUID> others, int count) {
+            this.chapter = chapter;
+            this.id = id;
+            this.others = Collections.unmodifiableList(others);
+            this.count = count;
+        }
+
+        /**
+         * Keeps this id and adds the uploads of the other entry of the same number to the others, each once.
+         */
+        private ChapterEntry merge(ChapterEntry other) {
+            Set<UUID> uploads = new LinkedHashSet<>();
+            uploads.add(id);
+            uploads.addAll(others);
+            uploads.add(other.id);
+            uploads.addAll(other.others);
+            uploads.remove(id);
+            return new ChapterEntry(chapter, id, new ArrayList<>(uploads), uploads.size() + 1);
+        }
+
+        /**
+         * <p>getChapterNumber.</p>
+         *
+         * @return the chapter number as sent by the API, {@code none} for oneshots.
+         */
+        public String getChapterNumber() {
+            return chapter;
+        }
+
+        /**
+         * <p>Getter for the field <code>id</code>.</p>
+         *
+         * @return the id of the upload the API picked for this number.
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * <p>Getter for the field <code>others</code>.</p>
+         *
+         * @return the ids of the other uploads of this number.
+         */
+        public List<UUID> getOthers() {
+            return others;
+        }
+
+        /**
+         * <p>Getter for the field <code>count</code>.</p>
+         *
+         * @return the number of uploads of this number.
+         */
+        public int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * <p>Constructor for Aggregate.</p>
+     *
+     * @param mangaId the manga the aggregate belongs to.
+     * @param languages the languages it was requested for, empty for all.
+     * @param response the whole response object.
+     */
+    public Aggregate(UUID mangaId, List<Locale> languages, JsonObject response) {
+        this(mangaId, languages, JsonReaders.of(response));
+    }
+
+    /**
+     * Constructs an Aggregate by streaming the response.
+     *
+     * @param mangaId the manga the aggregate belongs to.
+     * @param languages the languages it was requested for, empty for all.
+     * @param in a reader positioned at the response object.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public Aggregate(UUID mangaId, List<Locale> languages, JsonReader in) {
+        Map<String, Volume> volumes = new LinkedHashMap<>();
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!"volumes".equals(in.nextName()) || in.peek() != JsonToken.BEGIN_OBJECT) {
+                    // An aggregate without chapters comes back as an empty array
+                    in.skipValue();
+                    continue;
+                }
+                in.beginObject();
+                while (in.hasNext()) {
+                    in.nextName();
+                    Volume volume = readVolume(in);
+                    volumes.merge(volume.getVolume(), volume, Volume::merge);
+                }
+                in.endObject();
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        Map<String, ChapterEntry> chapters = new HashMap<>();
+        int chapterCount = 0;
+        for (Volume volume : volumes.values()) {
+            for (ChapterEntry chapter : volume.getChapters()) {
+                chapters.merge(chapter.getChapterNumber(), chapter, ChapterEntry::merge);
+                chapterCount++;
+            }
+        }
+        this.mangaId = mangaId;
+        this.languages = List.copyOf(languages);
+        this.volumes = Collections.unmodifiableMap(volumes);
+        this.chapters = chapters;
+        this.chapterCount = chapterCount;
+    }
+
+    private static Volume readVolume(JsonReader in) throws IOException {
+        String number = null;
+        int count = 0;
+        List<ChapterEntry> chapters = new ArrayList<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "volume":
+                    number = JsonReaders.nextString(in);
+                    break;
+                case "count":
+                    count = JsonReaders.nextInt(in, 0);
+                    break;
+                case "chapters":
+                    if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                        in.skipValue();
+                        break;
+                    }
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        in.nextName();
+                        chapters.add(readChapter(in));
+                    }
+                    in.endObject();
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return new Volume(number, count, chapters);
+    }
+
+    private static ChapterEntry readChapter(JsonReader in) throws IOException {
+        String number = null;
+        UUID id = null;
+        List<UUID> others = new ArrayList<>();
+        int count = 0;
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "chapter":
+                    number = JsonReaders.nextString(in);
+                    break;
+                case "id":
+                    id = JsonReaders.nextUuid(in);
+                    break;
+                case "others":
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        others.add(JsonReaders.nextUuid(in));
+                    }
+                    in.endArray();
+                    break;
+                case "count":
+                    count = JsonReaders.nextInt(in, 0);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        in.endObject();
+        return new ChapterEntry(number, id, others, count);
+    }
+
+    /**
+     * <p>Getter for the field <code>mangaId</code>.</p>
+     *
+     * @return the manga id.
+     */
+    public UUID getMangaId() {
+        return mangaId;
+    }
+
+    /**
+     * <p>Getter for the field <code>languages</code>.</p>
+     *
+     * @return the languages the aggregate was requested for, empty for all.
+     */
+    public List<Locale> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * <p>Getter for the field <code>volumes</code>.</p>
+     *
+     * @return the volumes in response order.
+     */
+    public List<Volume> getVolumes() {
+        return new ArrayList<>(volumes.values());
+    }
+
+    /**
+     * <p>getVolume.</p>
+     *
+     * @param volume the volume number as sent by the API, {@code none} for chapters without a volume.
+     * @return the volume, or {@code null}.
+     */
+    public Volume getVolume(String volume) {
+        return volumes.get(volume);
+    }
+
+    /**
+     * <p>getChapter.</p>
+     *
+     * @param chapter the chapter number as sent by the API, such as {@code 12} or {@code 12.5}.
+     * @return the chapter, or {@code null}.
+     */
+    public ChapterEntry getChapter(String chapter) {
+        return chapters.get(chapter);
+    }
+
+    /**
+     * <p>getChapterCount.</p>
+     *
+     * @return the number of chapter entries over all volumes.
+     */
+    public int getChapterCount() {
+        return chapterCount;
+    }
+
+    /**
+     * Returns the id of every chapter entry, one per chapter number and volume, in response order.
+     *
+     * @return a new list of ids.
+     */
+    public List<UUID> getChapterIds() {
+        List<UUID> ids = new ArrayList<>(chapterCount);
+        for (Volume volume : volumes.values()) {
+            for (ChapterEntry chapter : volume.getChapters()) {
+                ids.add(chapter.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the ids of every upload, the other uploads of each number included.
+     *
+     * @return a new list of ids.
+     */
+    public List<UUID> getAllChapterIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (Volume volume : volumes.values()) {
+            for (ChapterEntry chapter : volume.getChapters()) {
+                ids.add(chapter.getId());
+                ids.addAll(chapter.getOthers());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the ids of every upload as a set, for checking many chapters against this manga.
+     *
+     * @return a new set of ids.
+     */
+    public UuidSet getAllChapterIdSet() {
+        UuidSet ids = new UuidSet(chapterCount);
+        for (Volume volume : volumes.values()) {
+            for (ChapterEntry chapter : volume.getChapters()) {
+                ids.add(chapter.getId());
+                ids.addAll(chapter.getOthers());
+            }
+        }
+        return ids;
+    }
+}
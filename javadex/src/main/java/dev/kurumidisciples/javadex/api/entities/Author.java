@@ -1,14 +1,18 @@
 package dev.kurumidisciples.javadex.api.entities;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import dev.kurumidisciples.javadex.api.entities.intermediate.Entity;
 import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 // TODO CreateUrl should be apart of its own utility class, add biography field
 
@@ -47,30 +51,138 @@ public class Author extends Entity implements ISnowflake {
      * @param jsonObject a {@link com.google.gson.JsonObject} object
      */
     public Author(JsonObject jsonObject) {
-        JsonObject data = jsonObject.getAsJsonObject("data");
-        this.id = UUID.fromString(data.get("id").getAsString());
-        JsonObject attributes = data.getAsJsonObject("attributes");
-        this.createdAt = OffsetDateTime.parse(attributes.get("createdAt").getAsString());
-        this.updatedAt = OffsetDateTime.parse(attributes.get("updatedAt").getAsString());
-        this.name = attributes.get("name").getAsString();
-        this.imageUrl = createURL(!attributes.get("imageUrl").isJsonNull() ? attributes.get("imageUrl").getAsString() : null);
-        this.twitter = attributes.has("twitter") && !attributes.get("twitter").isJsonNull() ? attributes.get("twitter").getAsString() : null;
-        this.pixiv = attributes.has("pixiv") ? attributes.get("pixiv").getAsString() : null;
-        this.melonBox = attributes.has("melonBox") ? attributes.get("melonBox").getAsString() : null;
-        this.fanbox = attributes.has("fanbox") ? attributes.get("fanbox").getAsString() : null;
-        this.nicoVideo = attributes.has("nicoVideo") ? attributes.get("nicoVideo").getAsString() : null;
-        this.booth = attributes.has("booth") ? attributes.get("booth").getAsString() : null;
-        this.skeb = attributes.has("skeb") ? attributes.get("skeb").getAsString() : null;
-        this.fantia = attributes.has("fantia") ? attributes.get("fantia").getAsString() : null;
-        this.tumblr = attributes.has("tumblr") ? attributes.get("tumblr").getAsString() : null;
-        this.youtube = attributes.has("youtube") ? attributes.get("youtube").getAsString() : null;
-        this.weibo = attributes.has("weibo") ? attributes.get("weibo").getAsString() : null;
-        this.naver = attributes.has("naver") ? attributes.get("naver").getAsString() : null;
-        this.website = createURL(attributes.has("website") ? attributes.get("website").getAsString() : null);
-        this.version = attributes.get("version").getAsInt();
-    }
-
-    private URL createURL(String urlStr) {
+        this(JsonReaders.of(jsonObject.getAsJsonObject("data")));
+    }
+
+    /**
+     * Constructs an Author by streaming its JSON data.
+     * <p>Unlike {@link #Author(JsonObject)}, the reader is positioned at the author object itself, not the response wrapping it.</p>
+     *
+     * @param in a reader positioned at the author object.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public Author(JsonReader in) {
+        UUID id = null;
+        OffsetDateTime createdAt = null;
+        OffsetDateTime updatedAt = null;
+        String name = null;
+        String imageUrl = null;
+        String twitter = null;
+        String pixiv = null;
+        String melonBox = null;
+        String fanbox = null;
+        String nicoVideo = null;
+        String booth = null;
+        String skeb = null;
+        String fantia = null;
+        String tumblr = null;
+        String youtube = null;
+        String weibo = null;
+        String naver = null;
+        String website = null;
+        int version = 1;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = JsonReaders.nextUuid(in);
+                        break;
+                    case "attributes":
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "createdAt":
+                                    createdAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "updatedAt":
+                                    updatedAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "name":
+                                    name = JsonReaders.nextString(in);
+                                    break;
+                                case "imageUrl":
+                                    imageUrl = JsonReaders.nextString(in);
+                                    break;
+                                case "twitter":
+                                    twitter = JsonReaders.nextString(in);
+                                    break;
+                                case "pixiv":
+                                    pixiv = JsonReaders.nextString(in);
+                                    break;
+                                case "melonBox":
+                                    melonBox = JsonReaders.nextString(in);
+                                    break;
+                                case "fanbox":
+                                    fanbox = JsonReaders.nextString(in);
+                                    break;
+                                case "nicoVideo":
+                                    nicoVideo = JsonReaders.nextString(in);
+                                    break;
+                                case "booth":
+                                    booth = JsonReaders.nextString(in);
+                                    break;
+                                case "skeb":
+                                    skeb = JsonReaders.nextString(in);
+                                    break;
+                                case "fantia":
+                                    fantia = JsonReaders.nextString(in);
+                                    break;
+                                case "tumblr":
+                                    tumblr = JsonReaders.nextString(in);
+                                    break;
+                                case "youtube":
+                                    youtube = JsonReaders.nextString(in);
+                                    break;
+                                case "weibo":
+                                    weibo = JsonReaders.nextString(in);
+                                    break;
+                                case "naver":
+                                    naver = JsonReaders.nextString(in);
+                                    break;
+                                case "website":
+                                    website = JsonReaders.nextString(in);
+                                    break;
+                                case "version":
+                                    version = JsonReaders.nextInt(in, 1);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        this.id = id;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.name = name;
+        this.imageUrl = createURL(imageUrl);
+        this.twitter = twitter;
+        this.pixiv = pixiv;
+        this.melonBox = melonBox;
+        this.fanbox = fanbox;
+        this.nicoVideo = nicoVideo;
+        this.booth = booth;
+        this.skeb = skeb;
+        this.fantia = fantia;
+        this.tumblr = tumblr;
+        this.youtube = youtube;
+        this.weibo = weibo;
+        this.naver = naver;
+        this.website = createURL(website);
+        this.version = version;
+    }
+
+    private static URL createURL(String urlStr) {
+        if (urlStr == null) return null;
         try {
             return new URL(urlStr);
         } catch (MalformedURLException e) {
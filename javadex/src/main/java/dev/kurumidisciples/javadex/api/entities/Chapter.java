@@ -14,7 +14,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import dev.kurumidisciples.javadex.api.core.JavaDex;
 import dev.kurumidisciples.javadex.api.entities.content.Manga;
@@ -30,6 +32,7 @@ import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction;
 import dev.kurumidisciples.javadex.internal.factory.GroupFactory;
 import dev.kurumidisciples.javadex.internal.factory.PageFactory;
 import dev.kurumidisciples.javadex.internal.factory.UserFactory;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 /**
  * Represents a Chapter entity. Chapters are uploaded by users and are associated with a Manga.
@@ -63,31 +66,117 @@ public class Chapter extends Entity implements ISnowflake, IPublishable {
      * @throws java.lang.IllegalArgumentException if the provided data does not represent a chapter.
      */
     public Chapter(@NotNull JsonObject data) {
-        if (!isChapterData(data)) throw new IllegalArgumentException("Invalid chapter data"); // TODO remove
+        this(JsonReaders.of(data));
+    }
 
-        JsonObject attributes = data.getAsJsonObject("attributes");
+    /**
+     * Constructs a Chapter object by streaming its JSON data.
+     *
+     * @param in a reader positioned at the chapter object.
+     * @throws java.lang.IllegalArgumentException if the provided data does not represent a chapter.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public Chapter(@NotNull JsonReader in) {
+        String type = null;
+        UUID id = null;
+        Number volume = 0;
+        Number chapter = BigInteger.ZERO;
+        String title = null;
+        int version = 1;
+        Locale translatedLanguage = null;
+        int pages = 0;
+        OffsetDateTime createdAt = null;
+        OffsetDateTime updatedAt = null;
+        OffsetDateTime publishedAt = null;
+        OffsetDateTime readableAt = null;
+        RelationshipMap relationshipMap = null;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = JsonReaders.nextUuid(in);
+                        break;
+                    case "type":
+                        type = JsonReaders.nextString(in);
+                        break;
+                    case "relationships":
+                        relationshipMap = new RelationshipMap(in);
+                        break;
+                    case "attributes":
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "volume":
+                                    Number volumeValue = JsonReaders.nextNumber(in);
+                                    volume = volumeValue != null ? volumeValue : 0;
+                                    break;
+                                case "chapter":
+                                    Number chapterValue = JsonReaders.nextNumber(in);
+                                    chapter = chapterValue != null ? chapterValue : BigInteger.ZERO;
+                                    break;
+                                case "title":
+                                    title = JsonReaders.nextString(in);
+                                    break;
+                                case "version":
+                                    version = JsonReaders.nextInt(in, 1);
+                                    break;
+                                case "translatedLanguage":
+                                    translatedLanguage = Locale.getByLanguage(JsonReaders.nextString(in));
+                                    break;
+                                case "pages":
+                                    pages = JsonReaders.nextInt(in, 0);
+                                    break;
+                                case "createdAt":
+                                    createdAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "updatedAt":
+                                    updatedAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "publishAt":
+                                    publishedAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "readableAt":
+                                    readableAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        if (!"chapter".equals(type)) throw new IllegalArgumentException("Invalid chapter data");
 
-        this.id = UUID.fromString(data.get("id").getAsString());
-        this.volume = attributes.has("volume") && !attributes.get("volume").isJsonNull() ? attributes.get("volume").getAsNumber() : 0;
-        this.chapter = attributes.has("chapter") && !attributes.get("chapter").isJsonNull() ? attributes.get("chapter").getAsNumber() : BigInteger.ZERO;
-        this.title = attributes.has("title") && !attributes.get("title").isJsonNull() ? attributes.get("title").getAsString() : null;
-        this.version = attributes.get("version").getAsInt();
-        this.translatedLanguage = Locale.getByLanguage(attributes.get("translatedLanguage").getAsString());
-        this.pages = attributes.get("pages").getAsInt();
-        this.createdAt = OffsetDateTime.parse(attributes.get("createdAt").getAsString());
-        this.updatedAt = OffsetDateTime.parse(attributes.get("updatedAt").getAsString());
-        this.publishedAt = OffsetDateTime.parse(attributes.get("publishAt").getAsString());
-        this.readableAt = OffsetDateTime.parse(attributes.get("readableAt").getAsString());
-        this.relationshipMap = new RelationshipMap(data.getAsJsonArray("relationships"));
+        this.id = id;
+        this.volume = volume;
+        this.chapter = chapter;
+        this.title = title;
+        this.version = version;
+        this.translatedLanguage = translatedLanguage;
+        this.pages = pages;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.publishedAt = publishedAt;
+        this.readableAt = readableAt;
+        this.relationshipMap = relationshipMap;
     }
 
     /**
      * Retrieves the associated Manga entity for this chapter.
+     * <p>Repeated calls are served from the manga cache and do not send a request.</p>
      *
      * @return A CompletableFuture containing the associated Manga.
      */
     public CompletableFuture<Manga> getAssociatedManga() {
-        return MangaAction.getMangaById(getRelationshipMap().get(RelationshipType.MANGA).get(0).toString());
+        return MangaAction.getMangaById(getRelationshipMap().get(RelationshipType.MANGA).get(0).getId().toString());
     }
 
     /**
@@ -193,10 +282,6 @@ public class Chapter extends Entity implements ISnowflake, IPublishable {
         return pages;
     }
 
-    private static boolean isChapterData(JsonObject data) {
-        return data.get("type").getAsString().equals("chapter");
-    }
-
     /**
      * Retrieves the pages of this chapter.
      *
@@ -258,19 +343,24 @@ public class Chapter extends Entity implements ISnowflake, IPublishable {
 
     /**
      * Marks this chapter as read for the given JavaDex instance.
+     * <p>The instance stays open; the change is batched with the other read markers of the manga.</p>
      *
      * @param loggedInInstance The JavaDex instance of the logged-in user.
      * @return A CompletableFuture containing a Boolean indicating whether the chapter was successfully marked as read.
+     * @see JavaDex#markChapterAsRead(Chapter)
      */
     public CompletableFuture<Boolean> markAsRead(JavaDex loggedInInstance){
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                loggedInInstance.markChapterAsRead(this).get();
-                loggedInInstance.close();
-                return true;
-            } catch (Exception e) {
-                return false;
-            }
-        });
+        return loggedInInstance.markChapterAsRead(this).handle((ignored, e) -> e == null);
+    }
+
+    /**
+     * Marks this chapter as unread for the given JavaDex instance.
+     *
+     * @param loggedInInstance The JavaDex instance of the logged-in user.
+     * @return A CompletableFuture containing a Boolean indicating whether the chapter was successfully marked as unread.
+     * @see JavaDex#markChapterAsUnread(Chapter)
+     */
+    public CompletableFuture<Boolean> markAsUnread(JavaDex loggedInInstance){
+        return loggedInInstance.markChapterAsUnread(this).handle((ignored, e) -> e == null);
     }
 }
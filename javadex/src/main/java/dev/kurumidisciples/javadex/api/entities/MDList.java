@@ -1,17 +1,25 @@
 package dev.kurumidisciples.javadex.api.entities;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import dev.kurumidisciples.javadex.api.entities.intermediate.Entity;
 import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaBatchAction;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 /**
  * Represents a user-created list in MangaDex.
@@ -51,14 +59,74 @@ public class MDList extends Entity implements ISnowflake {
      * @param data a {@link com.google.gson.JsonObject} object
      */
     public MDList(JsonObject data){
-        id = UUID.fromString(data.get("id").getAsString());
-        JsonObject attributes = data.getAsJsonObject("attributes");
-        name = attributes.get("name").getAsString();
-        version = attributes.get("version").getAsInt();
-        visibility = Visibility.fromString(attributes.get("visibility").getAsString());
-        createdAt = OffsetDateTime.parse(attributes.get("createdAt").getAsString());
-        updatedAt = OffsetDateTime.parse(attributes.get("updatedAt").getAsString());
-        relationshipMap = new RelationshipMap(data.getAsJsonArray("relationships"));
+        this(JsonReaders.of(data));
+    }
+
+    /**
+     * Constructs an MDList by streaming its JSON data.
+     *
+     * @param in a reader positioned at the list object.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public MDList(JsonReader in) {
+        UUID id = null;
+        RelationshipMap relationshipMap = null;
+        String name = null;
+        int version = 1;
+        Visibility visibility = Visibility.PRIVATE;
+        OffsetDateTime createdAt = null;
+        OffsetDateTime updatedAt = null;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = JsonReaders.nextUuid(in);
+                        break;
+                    case "relationships":
+                        relationshipMap = new RelationshipMap(in);
+                        break;
+                    case "attributes":
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "name":
+                                    name = JsonReaders.nextString(in);
+                                    break;
+                                case "version":
+                                    version = JsonReaders.nextInt(in, 1);
+                                    break;
+                                case "visibility":
+                                    String value = JsonReaders.nextString(in);
+                                    visibility = value != null ? Visibility.fromString(value) : Visibility.PRIVATE;
+                                    break;
+                                case "createdAt":
+                                    createdAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "updatedAt":
+                                    updatedAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        this.id = id;
+        this.name = name;
+        this.version = version;
+        this.visibility = visibility;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.relationshipMap = relationshipMap != null ? relationshipMap : new RelationshipMap(new JsonArray());
     }
 
     /** {@inheritDoc} */
@@ -145,11 +213,10 @@ public class MDList extends Entity implements ISnowflake {
     /**
      * <p>getCreatorId.</p>
      *
-     * @return a {@link java.util.UUID} object
+     * @return a {@link java.util.UUID} object, or {@code null} if the creator is not known
      */
     public UUID getCreatorId(){
-        RelationshipData creator = relationshipMap.get(RelationshipType.USER).get(0);
-        return creator.getId();
+        return relationshipMap.getFirstId(RelationshipType.USER);
     }
 
     /**
@@ -158,15 +225,47 @@ public class MDList extends Entity implements ISnowflake {
      * @return a {@link java.lang.String} object
      */
     public String getCreatorIdRaw(){
-        return getCreatorId().toString();
+        UUID creator = getCreatorId();
+        return creator != null ? creator.toString() : null;
     }
     
     /**
      * <p>getMangaIds.</p>
      *
-     * @return a {@link java.util.List} object
+     * @return a {@link java.util.List} object, in list order
      */
     public List<UUID> getMangaIds(){
-        return relationshipMap.get(RelationshipType.MANGA).stream().map(RelationshipData::getId).collect(Collectors.toList());
+        List<RelationshipData> manga = relationshipMap.get(RelationshipType.MANGA);
+        if (manga == null) return new ArrayList<>();
+        return manga.stream().map(RelationshipData::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * <p>getMangaCount.</p>
+     *
+     * @return the number of titles in the list
+     */
+    public int getMangaCount(){
+        return relationshipMap.count(RelationshipType.MANGA);
+    }
+
+    /**
+     * Retrieves the titles of the list, 100 per request.
+     * <p>See {@link MangaBatchAction}.</p>
+     *
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaBatchAction} object
+     */
+    public MangaBatchAction retrieveManga(){
+        return new MangaBatchAction(getMangaIds());
+    }
+
+    /**
+     * Retrieves the chapter feed of the list.
+     * <p>Only works for public lists; use {@link dev.kurumidisciples.javadex.api.core.JavaDex#retrieveListFeed(UUID)} for private ones.</p>
+     *
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction} object
+     */
+    public ChapterAction retrieveFeed(){
+        return ChapterAction.ofListFeed(id, null);
     }
 }
@@ -0,0 +1,213 @@
+package dev.kurumidisciples.javadex.api.entities;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
+
+/**
+ * The rating, follow count and comment count of a manga, as returned by {@code /statistics/manga}.
+ * <p>Statistics change constantly, so they are cached only briefly, see
+ * {@link dev.kurumidisciples.javadex.internal.cache.EntityCaches#STATISTICS}.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class MangaStatistics {
+
+    private final UUID mangaId;
+    private final Double averageRating;
+    private final Double bayesianRating;
+    private final int[] distribution;
+    private final int follows;
+    private final Long threadId;
+    private final int comments;
+
+    /**
+     * Constructs the statistics of one manga by streaming its entry of the {@code statistics} object.
+     *
+     * @param mangaId the manga, the key of the entry.
+     * @param in a reader positioned at the entry value.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public MangaStatistics(UUID mangaId, JsonReader in) {
+        Double averageRating = null;
+        Double bayesianRating = null;
+        int[] distribution = new int[10];
+        int follows = 0;
+        Long threadId = null;
+        int comments = 0;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "follows":
+                        follows = JsonReaders.nextInt(in, 0);
+                        break;
+                    case "rating":
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                            break;
+                        }
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "average":
+                                    averageRating = toDouble(JsonReaders.nextNumber(in));
+                                    break;
+                                case "bayesian":
+                                    bayesianRating = toDouble(JsonReaders.nextNumber(in));
+                                    break;
+                                case "distribution":
+                                    if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                                        in.skipValue();
+                                        break;
+                                    }
+                                    in.beginObject();
+                                    while (in.hasNext()) {
+                                        int score = Integer.parseInt(in.nextName());
+                                        int votes = JsonReaders.nextInt(in, 0);
+                                        if (score >= 1 && score <= 10) distribution[score - 1] = votes;
+                                    }
+                                    in.endObject();
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    case "comments":
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                            break;
+                        }
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "threadId":
+                                    threadId = JsonReaders.nextLong(in);
+                                    break;
+                                case "repliesCount":
+                                    comments = JsonReaders.nextInt(in, 0);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException | NumberFormatException e) {
+            throw new JsonIOException(e);
+        }
+        this.mangaId = mangaId;
+        this.averageRating = averageRating;
+        this.bayesianRating = bayesianRating;
+        this.distribution = distribution;
+        this.follows = follows;
+        this.threadId = threadId;
+        this.comments = comments;
+    }
+
+    private static Double toDouble(Number number) {
+        return number == null ? null : number.doubleValue();
+    }
+
+    /**
+     * <p>Getter for the field <code>mangaId</code>.</p>
+     *
+     * @return the manga id.
+     */
+    public UUID getMangaId() {
+        return mangaId;
+    }
+
+    /**
+     * <p>Getter for the field <code>averageRating</code>.</p>
+     *
+     * @return the mean rating from 1 to 10, or {@code null} if nobody rated the manga.
+     */
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    /**
+     * <p>Getter for the field <code>bayesianRating</code>.</p>
+     *
+     * @return the rating weighted towards the site average, the one MangaDex sorts by, or {@code null}.
+     */
+    public Double getBayesianRating() {
+        return bayesianRating;
+    }
+
+    /**
+     * <p>getVotes.</p>
+     *
+     * @param score a score from 1 to 10.
+     * @return the number of ratings with that score.
+     */
+    public int getVotes(int score) {
+        if (score < 1 || score > 10) throw new IllegalArgumentException("Score must be between 1 and 10");
+        return distribution[score - 1];
+    }
+
+    /**
+     * <p>getTotalVotes.</p>
+     *
+     * @return the number of ratings.
+     */
+    public int getTotalVotes() {
+        int total = 0;
+        for (int votes : distribution) {
+            total += votes;
+        }
+        return total;
+    }
+
+    /**
+     * <p>Getter for the field <code>follows</code>.</p>
+     *
+     * @return the number of users following the manga.
+     */
+    public int getFollows() {
+        return follows;
+    }
+
+    /**
+     * <p>Getter for the field <code>threadId</code>.</p>
+     *
+     * @return the forum thread of the manga, or {@code null} if it has none.
+     */
+    public Long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * <p>getCommentCount.</p>
+     *
+     * @return the number of replies in the forum thread.
+     */
+    public int getCommentCount() {
+        return comments;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "MangaStatistics{" +
+                "mangaId=" + mangaId +
+                ", bayesianRating=" + bayesianRating +
+                ", follows=" + follows +
+                ", comments=" + comments +
+                '}';
+    }
+}
@@ -1,5 +1,6 @@
 package dev.kurumidisciples.javadex.api.entities;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -8,13 +9,17 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import dev.kurumidisciples.javadex.api.entities.intermediate.Entity;
 import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 /**
  * Represents a ScanlationGroup entity.
@@ -50,25 +55,143 @@ public class ScanlationGroup extends Entity implements ISnowflake {
      * @param data a {@link com.google.gson.JsonObject} object
      */
     public ScanlationGroup(JsonObject data) {
-        this.id = UUID.fromString(data.get("id").getAsString());
-        JsonObject attributes = data.getAsJsonObject("attributes");
-        this.name = attributes.get("name").getAsString();
-        this.website = attributes.has("website") && !attributes.get("website").isJsonNull() ? attributes.get("website").getAsString() : null;
-        this.ircServer = attributes.has("ircServer") && !attributes.get("ircServer").isJsonNull() ? attributes.get("ircServer").getAsString() : null;
-        this.ircChannel = attributes.has("ircChannel") && !attributes.get("ircChannel").isJsonNull() ? attributes.get("ircChannel").getAsString() : null;
-        this.discord = attributes.has("discord") && !attributes.get("discord").isJsonNull() ? attributes.get("discord").getAsString() : null;
-        this.contactEmail = attributes.has("contactEmail") && !attributes.get("contactEmail").isJsonNull() ? attributes.get("contactEmail").getAsString() : null;
-        this.description = attributes.has("description") && !attributes.get("description").isJsonNull() ? attributes.get("description").getAsString() : null;
-        this.twitter = attributes.has("twitter") && !attributes.get("twitter").isJsonNull() ? attributes.get("twitter").getAsString() : null;
-        this.mangaUpdates = attributes.has("mangaUpdates") && !attributes.get("mangaUpdates").isJsonNull() ? attributes.get("mangaUpdates").getAsString() : null;
-        this.locked = attributes.get("locked").getAsBoolean();
-        this.official = attributes.get("official").getAsBoolean();
-        this.inactive = attributes.get("inactive").getAsBoolean();
-        this.version = attributes.get("version").getAsInt();
-        this.exLicensed = attributes.has("exLicensed") ? attributes.get("exLicensed").getAsBoolean() : false;
-        this.createdAt = OffsetDateTime.parse(attributes.get("createdAt").getAsString());
-        this.updatedAt = OffsetDateTime.parse(attributes.get("updatedAt").getAsString());
-        this.relationshipMap = new RelationshipMap(data.getAsJsonArray("relationships"));
+        this(JsonReaders.of(data));
+    }
+
+    /**
+     * Constructs a ScanlationGroup by streaming its JSON data.
+     *
+     * @param in a reader positioned at the group object.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public ScanlationGroup(JsonReader in) {
+        UUID id = null;
+        String name = null;
+        String website = null;
+        String ircServer = null;
+        String ircChannel = null;
+        String discord = null;
+        String contactEmail = null;
+        String description = null;
+        String twitter = null;
+        String mangaUpdates = null;
+        boolean locked = false;
+        boolean exLicensed = false;
+        boolean official = false;
+        boolean inactive = false;
+        Integer version = null;
+        OffsetDateTime createdAt = null;
+        OffsetDateTime updatedAt = null;
+        RelationshipMap relationshipMap = null;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = JsonReaders.nextUuid(in);
+                        break;
+                    case "relationships":
+                        relationshipMap = new RelationshipMap(in);
+                        break;
+                    case "attributes":
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "name":
+                                    name = JsonReaders.nextString(in);
+                                    break;
+                                case "website":
+                                    website = JsonReaders.nextString(in);
+                                    break;
+                                case "ircServer":
+                                    ircServer = JsonReaders.nextString(in);
+                                    break;
+                                case "ircChannel":
+                                    ircChannel = JsonReaders.nextString(in);
+                                    break;
+                                case "discord":
+                                    discord = JsonReaders.nextString(in);
+                                    break;
+                                case "contactEmail":
+                                    contactEmail = JsonReaders.nextString(in);
+                                    break;
+                                case "description":
+                                    description = JsonReaders.nextString(in);
+                                    break;
+                                case "twitter":
+                                    twitter = JsonReaders.nextString(in);
+                                    break;
+                                case "mangaUpdates":
+                                    mangaUpdates = JsonReaders.nextString(in);
+                                    break;
+                                case "focusedLanguages":
+                                    readFocusedLanguages(in);
+                                    break;
+                                case "locked":
+                                    locked = JsonReaders.nextBoolean(in, false);
+                                    break;
+                                case "exLicensed":
+                                    exLicensed = JsonReaders.nextBoolean(in, false);
+                                    break;
+                                case "official":
+                                    official = JsonReaders.nextBoolean(in, false);
+                                    break;
+                                case "inactive":
+                                    inactive = JsonReaders.nextBoolean(in, false);
+                                    break;
+                                case "version":
+                                    version = JsonReaders.nextInt(in, 1);
+                                    break;
+                                case "createdAt":
+                                    createdAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "updatedAt":
+                                    updatedAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        this.id = id;
+        this.name = name;
+        this.website = website;
+        this.ircServer = ircServer;
+        this.ircChannel = ircChannel;
+        this.discord = discord;
+        this.contactEmail = contactEmail;
+        this.description = description;
+        this.twitter = twitter;
+        this.mangaUpdates = mangaUpdates;
+        this.locked = locked;
+        this.exLicensed = exLicensed;
+        this.official = official;
+        this.inactive = inactive;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.relationshipMap = relationshipMap;
+    }
+
+    private void readFocusedLanguages(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return;
+        }
+        in.beginArray();
+        while (in.hasNext()) {
+            focusedLanguage.add(in.nextString());
+        }
+        in.endArray();
     }
 
     /**
@@ -1,14 +1,20 @@
 package dev.kurumidisciples.javadex.api.entities;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
-import com.google.gson.JsonArray;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import dev.kurumidisciples.javadex.api.entities.intermediate.Entity;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 /**
  * Represents a user in the MangaDex API.
@@ -52,13 +58,16 @@ public class User extends Entity{
           return id;
         }
       
-        public static Role getRole(String id) {
-          for (Role role : Role.values()) {
-            if (role.getId().equals(id)) {
-              return role;
+        private static final Map<String, Role> BY_ID = new HashMap<>();
+
+        static {
+            for (Role role : values()) {
+                if (role.getId() != null) BY_ID.putIfAbsent(role.getId(), role);
             }
-          }
-          return UNKNOWN;
+        }
+
+        public static Role getRole(String id) {
+          return BY_ID.getOrDefault(id, UNKNOWN);
         }
       
         @Override
@@ -68,8 +77,9 @@ public class User extends Entity{
     }
 
     private final List<Role> roles;
-    private UUID id;
+    private final UUID id;
     private final String username;
+    private final int version;
     private final RelationshipMap relationshipMap;
 
     /**
@@ -78,28 +88,75 @@ public class User extends Entity{
      * @param user a {@link com.google.gson.JsonObject} object
      */
     public User(JsonObject user) {
-        JsonObject original = user;
+        this(JsonReaders.of(user.has("data") && user.get("data").isJsonObject() ? user.getAsJsonObject("data") : user));
+    }
+
+    /**
+     * Constructs a User by streaming its JSON data.
+     *
+     * @param in a reader positioned at the user object.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public User(JsonReader in) {
+        UUID id = null;
+        RelationshipMap relationshipMap = null;
+        String username = null;
+        List<Role> roles = new ArrayList<>();
+        int version = 1;
         try {
-            user = user.getAsJsonObject("data");
-            this.id = UUID.fromString(user.get("id").getAsString());
-        } catch (Exception e) {
-            user = original;
-            this.id = UUID.fromString(user.get("id").getAsString());
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = JsonReaders.nextUuid(in);
+                        break;
+                    case "relationships":
+                        relationshipMap = new RelationshipMap(in);
+                        break;
+                    case "attributes":
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "username":
+                                    username = JsonReaders.nextString(in);
+                                    break;
+                                case "roles":
+                                    readRoles(in, roles);
+                                    break;
+                                case "version":
+                                    version = JsonReaders.nextInt(in, 1);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
         }
-
-        JsonObject attributes = user.getAsJsonObject("attributes");
-
-        this.username = attributes.get("username").getAsString();
-        this.roles = getRoles(attributes.getAsJsonArray("roles"));
-        this.relationshipMap = new RelationshipMap(user.getAsJsonArray("relationships"));
+        this.id = id;
+        this.username = username;
+        this.roles = roles;
+        this.version = version;
+        this.relationshipMap = relationshipMap;
     }
 
-    private static List<Role> getRoles(JsonArray jsonArray) {
-        List<Role> roles = new ArrayList<>();
-        for (int i = 0; i < jsonArray.size(); i++) {
-            roles.add(Role.getRole(jsonArray.get(i).getAsString()));
+    private static void readRoles(JsonReader in, List<Role> roles) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return;
         }
-        return roles;
+        in.beginArray();
+        while (in.hasNext()) {
+            roles.add(Role.getRole(in.nextString()));
+        }
+        in.endArray();
     }
 
     /**
@@ -129,6 +186,15 @@ public class User extends Entity{
         return username;
     }
 
+    /**
+     * <p>Getter for the field <code>version</code>.</p>
+     *
+     * @return a int
+     */
+    public int getVersion() {
+        return version;
+    }
+
     /**
      * <p>Getter for the field <code>relationshipMap</code>.</p>
      *
@@ -1,5 +1,6 @@
 package dev.kurumidisciples.javadex.api.entities.content;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -14,9 +15,16 @@ import org.jetbrains.annotations.NotNull;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import dev.kurumidisciples.javadex.api.core.JavaDex;
+import dev.kurumidisciples.javadex.api.entities.Author;
+import dev.kurumidisciples.javadex.api.entities.Aggregate;
 import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.MangaStatistics;
 import dev.kurumidisciples.javadex.api.entities.enums.*;
 import dev.kurumidisciples.javadex.api.entities.enums.Locale;
 import dev.kurumidisciples.javadex.api.entities.enums.manga.LinkType;
@@ -25,6 +33,7 @@ import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.Demographic;
 import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.Status;
 import dev.kurumidisciples.javadex.api.entities.intermediate.Entity;
 import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
@@ -32,8 +41,18 @@ import dev.kurumidisciples.javadex.api.proxies.CoverProxy;
 import dev.kurumidisciples.javadex.internal.annotations.MustNotBeUnknown;
 import dev.kurumidisciples.javadex.internal.annotations.NotLessThanOne;
 import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.StatisticsAction;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.parsers.TimestampParser;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
+import dev.kurumidisciples.javadex.internal.factory.AuthorFactory;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 import dev.kurumidisciples.javadex.internal.parsers.MangaParsers;
+import dev.kurumidisciples.javadex.internal.utils.Lazy;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
 
 /**
  * Represents a Manga entity in the MangaDex API.
@@ -433,6 +452,16 @@ public class Manga extends Entity implements ISnowflake {
         return id;
         }
     
+        private static final Map<String, Tag> BY_NAME = new HashMap<>();
+        private static final Map<UUID, Tag> BY_ID = new HashMap<>();
+
+        static {
+            for (Tag tag : values()) {
+                BY_NAME.putIfAbsent(tag.getName().toLowerCase(java.util.Locale.ROOT), tag);
+                BY_ID.putIfAbsent(tag.getId(), tag);
+            }
+        }
+
         /**
          * Gets the Tag enum by its name.
          *
@@ -440,12 +469,7 @@ public class Manga extends Entity implements ISnowflake {
          * @return the Tag enum, or null if not found
          */
         public static Tag getByName(String name) {
-        for (Tag tag : Tag.values()) {
-            if (tag.getName().equalsIgnoreCase(name)) {
-            return tag;
-            }
-        }
-        return null;
+        return name == null ? null : BY_NAME.get(name.toLowerCase(java.util.Locale.ROOT));
         }
     
         /**
@@ -455,26 +479,21 @@ public class Manga extends Entity implements ISnowflake {
          * @return the Tag enum, or null if not found
          */
         public static Tag getById(UUID id) {
-        for (Tag tag : Tag.values()) {
-            if (tag.getId().equals(id)) {
-            return tag;
-            }
-        }
-        return null;
+        return BY_ID.get(id);
         }
     }
 
 
     private static final Logger logger = LogManager.getLogger(Manga.class);
-    private static final Gson gson = new Gson();
+    private static final Gson gson = EntityCodecs.GSON;
 
-    private final Map<LinkType, String> links;
+    private final Lazy<Map<LinkType, String>> links;
     private final UUID id;
-    private final List<Tag> tags;
+    private final Lazy<List<Tag>> tags;
     private final String title;
     private final UUID author;
-    private final Map<Locale, String> description;
-    private final Map<Locale, List<String>> altTitles;
+    private final Lazy<Map<Locale, String>> description;
+    private final Lazy<Map<Locale, List<String>>> altTitles;
     private final boolean isLocked;
     private final Locale originalLanguage;
     private final Number lastVolume;
@@ -485,44 +504,234 @@ public class Manga extends Entity implements ISnowflake {
     private final ContentRating contentRating;
     private final State state;
     private final boolean chapterNumbersResetOnNewVolume;
-    private final OffsetDateTime createdAt;
-    private final OffsetDateTime updatedAt;
+    private final Lazy<OffsetDateTime> createdAt;
+    private final Lazy<OffsetDateTime> updatedAt;
     private final long version;
-    private final List<Locale> availableTranslatedLanguages;
+    private final Lazy<List<Locale>> availableTranslatedLanguages;
     private final String latestUploadedChapterId;
     private final RelationshipMap relationshipMap;
+    private final MangaProjection projection;
 
     /**
      * <p>Constructor for Manga.</p>
+     * <p>Descriptions, alternative titles, links, tags, languages and timestamps are kept as JSON and decoded on first access.</p>
      *
      * @param mangaJson a {@link com.google.gson.JsonObject} object
      */
     public Manga(@NotNull JsonObject mangaJson) {
-        JsonObject attributes = mangaJson.getAsJsonObject("attributes");
-        this.id = UUID.fromString(mangaJson.get("id").getAsString());
-        this.title = attributes.getAsJsonObject("title").has("en") ? attributes.getAsJsonObject("title").get("en").getAsString() : "No title";
-
-        this.description = MangaParsers.parseDescription(attributes.getAsJsonObject("description"));
-        this.altTitles = MangaParsers.parseAltTitles(attributes.getAsJsonArray("altTitles"));
-        this.isLocked = attributes.get("isLocked").getAsBoolean();
-        this.originalLanguage = Locale.getByLanguage(attributes.get("originalLanguage").getAsString());
-        this.lastVolume = attributes.has("lastVolume") && !attributes.get("lastVolume").isJsonNull() ? attributes.get("lastVolume").getAsNumber() : null;
-        this.lastChapter = attributes.has("lastChapter") && !attributes.get("lastChapter").isJsonNull() ? attributes.get("lastChapter").getAsNumber() : null;
-        this.publicationDemographic = Demographic.getDemographic(attributes.has("publicationDemographic") && !attributes.get("publicationDemographic").isJsonNull() ? attributes.get("publicationDemographic").getAsString() : "Unknown");
-        this.status = Status.getStatus(attributes.get("status").getAsString());
-        this.year = attributes.has("year") && !attributes.get("year").isJsonNull() ? attributes.get("year").getAsLong() : null;
-        this.contentRating = ContentRating.getContentRating(attributes.get("contentRating").getAsString());
-        this.state = State.getByValue(attributes.get("state").getAsString());
-        this.links = MangaParsers.parseLinks(attributes.getAsJsonObject("links"));
-        this.chapterNumbersResetOnNewVolume = attributes.get("chapterNumbersResetOnNewVolume").getAsBoolean();
-        this.createdAt = OffsetDateTime.parse(attributes.get("createdAt").getAsString());
-        this.updatedAt = OffsetDateTime.parse(attributes.get("updatedAt").getAsString());
-        this.version = attributes.get("version").getAsLong();
-        this.latestUploadedChapterId = attributes.has("latestUploadedChapter") && !attributes.get("latestUploadedChapter").isJsonNull() ? attributes.get("latestUploadedChapter").getAsString() : null;
-        this.tags = MangaParsers.parseTags(attributes.getAsJsonArray("tags"));
-        this.availableTranslatedLanguages = MangaParsers.parseAvailableTranslatedLanguages(attributes.getAsJsonArray("availableTranslatedLanguages"));
-        this.relationshipMap = new RelationshipMap(mangaJson.getAsJsonArray("relationships"));
-        this.author = relationshipMap.get(RelationshipType.AUTHOR).get(0).getId();
+        this(mangaJson, MangaProjection.FULL);
+    }
+
+    /**
+     * Constructs a Manga holding only the fields of the projection.
+     *
+     * @param mangaJson a {@link com.google.gson.JsonObject} object
+     * @param projection the fields to build, see {@link MangaProjection}.
+     */
+    public Manga(@NotNull JsonObject mangaJson, @NotNull MangaProjection projection) {
+        this(JsonReaders.of(mangaJson), projection);
+    }
+
+    /**
+     * Constructs a Manga by streaming its JSON data.
+     *
+     * @param in a reader positioned at the manga object.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public Manga(@NotNull JsonReader in) {
+        this(in, MangaProjection.FULL);
+    }
+
+    /**
+     * Constructs a Manga holding only the fields of the projection by streaming its JSON data.
+     * <p>Attributes outside of the projection are skipped without being decoded.</p>
+     *
+     * @param in a reader positioned at the manga object.
+     * @param projection the fields to build, see {@link MangaProjection}.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public Manga(@NotNull JsonReader in, @NotNull MangaProjection projection) {
+        boolean full = projection == MangaProjection.FULL;
+        boolean titles = projection != MangaProjection.ID_ONLY;
+        UUID id = null;
+        long version = 1;
+        String title = titles ? "No title" : null;
+        JsonElement descriptionElement = null;
+        JsonElement altTitleElement = null;
+        JsonElement linksElement = null;
+        JsonElement tagElement = null;
+        JsonElement languageElement = null;
+        String createdAtRaw = null;
+        String updatedAtRaw = null;
+        boolean isLocked = false;
+        Locale originalLanguage = null;
+        Number lastVolume = null;
+        Number lastChapter = null;
+        Demographic publicationDemographic = null;
+        Status status = null;
+        Long year = null;
+        ContentRating contentRating = null;
+        State state = null;
+        boolean chapterNumbersResetOnNewVolume = false;
+        String latestUploadedChapterId = null;
+        RelationshipMap relationshipMap = null;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (name.equals("id")) {
+                    id = JsonReaders.nextUuid(in);
+                } else if (name.equals("relationships") && full) {
+                    relationshipMap = new RelationshipMap(in);
+                } else if (name.equals("attributes")) {
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String attribute = in.nextName();
+                        if (attribute.equals("version")) {
+                            version = JsonReaders.nextInt(in, 1);
+                        } else if (attribute.equals("title") && titles) {
+                            String english = readEnglishTitle(in);
+                            title = english != null ? english : "No title";
+                        } else if (attribute.equals("altTitles") && titles) {
+                            altTitleElement = JsonReaders.nextElement(in);
+                        } else if (!full) {
+                            in.skipValue();
+                        } else {
+                            switch (attribute) {
+                                case "description":
+                                    descriptionElement = JsonReaders.nextElement(in);
+                                    break;
+                                case "links":
+                                    linksElement = JsonReaders.nextElement(in);
+                                    break;
+                                case "tags":
+                                    tagElement = JsonReaders.nextElement(in);
+                                    break;
+                                case "availableTranslatedLanguages":
+                                    languageElement = JsonReaders.nextElement(in);
+                                    break;
+                                case "isLocked":
+                                    isLocked = JsonReaders.nextBoolean(in, false);
+                                    break;
+                                case "originalLanguage":
+                                    originalLanguage = Locale.getByLanguage(JsonReaders.nextString(in));
+                                    break;
+                                case "lastVolume":
+                                    lastVolume = JsonReaders.nextNumber(in);
+                                    break;
+                                case "lastChapter":
+                                    lastChapter = JsonReaders.nextNumber(in);
+                                    break;
+                                case "publicationDemographic":
+                                    String demographic = JsonReaders.nextString(in);
+                                    publicationDemographic = Demographic.getDemographic(demographic != null ? demographic : "Unknown");
+                                    break;
+                                case "status":
+                                    status = Status.getStatus(JsonReaders.nextString(in));
+                                    break;
+                                case "year":
+                                    year = JsonReaders.nextLong(in);
+                                    break;
+                                case "contentRating":
+                                    contentRating = ContentRating.getContentRating(JsonReaders.nextString(in));
+                                    break;
+                                case "state":
+                                    state = State.getByValue(JsonReaders.nextString(in));
+                                    break;
+                                case "chapterNumbersResetOnNewVolume":
+                                    chapterNumbersResetOnNewVolume = JsonReaders.nextBoolean(in, false);
+                                    break;
+                                case "latestUploadedChapter":
+                                    latestUploadedChapterId = JsonReaders.nextString(in);
+                                    break;
+                                case "createdAt":
+                                    createdAtRaw = JsonReaders.nextString(in);
+                                    break;
+                                case "updatedAt":
+                                    updatedAtRaw = JsonReaders.nextString(in);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                    }
+                    in.endObject();
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+
+        this.id = id;
+        this.projection = projection;
+        this.version = version;
+        this.title = title;
+        JsonArray altTitleArray = asArray(altTitleElement);
+        this.altTitles = titles ? Lazy.of(() -> MangaParsers.parseAltTitles(altTitleArray)) : Lazy.value(null);
+        if (!full) {
+            this.description = Lazy.value(null);
+            this.links = Lazy.value(null);
+            this.tags = Lazy.value(null);
+            this.availableTranslatedLanguages = Lazy.value(null);
+            this.createdAt = Lazy.value(null);
+            this.updatedAt = Lazy.value(null);
+        } else {
+            JsonObject descriptionObject = asObject(descriptionElement);
+            this.description = Lazy.of(() -> MangaParsers.parseDescription(descriptionObject));
+            JsonObject linksObject = asObject(linksElement);
+            this.links = Lazy.of(() -> MangaParsers.parseLinks(linksObject));
+            JsonArray tagArray = asArray(tagElement);
+            this.tags = Lazy.of(() -> MangaParsers.parseTags(tagArray));
+            JsonArray languageArray = asArray(languageElement);
+            this.availableTranslatedLanguages = Lazy.of(() -> MangaParsers.parseAvailableTranslatedLanguages(languageArray));
+            String created = createdAtRaw;
+            this.createdAt = created != null ? Lazy.of(() -> TimestampParser.parse(created)) : Lazy.value(null);
+            String updated = updatedAtRaw;
+            this.updatedAt = updated != null ? Lazy.of(() -> TimestampParser.parse(updated)) : Lazy.value(null);
+        }
+        this.isLocked = isLocked;
+        this.originalLanguage = originalLanguage;
+        this.lastVolume = lastVolume;
+        this.lastChapter = lastChapter;
+        this.publicationDemographic = publicationDemographic;
+        this.status = status;
+        this.year = year;
+        this.contentRating = contentRating;
+        this.state = state;
+        this.chapterNumbersResetOnNewVolume = chapterNumbersResetOnNewVolume;
+        this.latestUploadedChapterId = latestUploadedChapterId;
+        this.relationshipMap = relationshipMap;
+        List<RelationshipData> authors = relationshipMap != null ? relationshipMap.get(RelationshipType.AUTHOR) : null;
+        this.author = authors != null && !authors.isEmpty() ? authors.get(0).getId() : null;
+    }
+
+    private static String readEnglishTitle(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            return null;
+        }
+        String english = null;
+        in.beginObject();
+        while (in.hasNext()) {
+            if (in.nextName().equals("en")) {
+                english = JsonReaders.nextString(in);
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return english;
+    }
+
+    private static JsonObject asObject(JsonElement element) {
+        return element != null && element.isJsonObject() ? element.getAsJsonObject() : new JsonObject();
+    }
+
+    private static JsonArray asArray(JsonElement element) {
+        return element != null && element.isJsonArray() ? element.getAsJsonArray() : new JsonArray();
     }
 
     /**
@@ -557,7 +766,7 @@ public class Manga extends Entity implements ISnowflake {
      * @return a list of available languages
      */
     public List<Locale> getAvailableTranslatedLanguages() {
-        return availableTranslatedLanguages;
+        return availableTranslatedLanguages.get();
     }
 
     /**
@@ -625,13 +834,13 @@ public class Manga extends Entity implements ISnowflake {
     /** {@inheritDoc} */
     @Override
     public OffsetDateTime getCreatedAt() {
-        return createdAt;
+        return createdAt.get();
     }
 
     /** {@inheritDoc} */
     @Override
     public OffsetDateTime getUpdatedAt() {
-        return updatedAt;
+        return updatedAt.get();
     }
 
     /**
@@ -655,7 +864,7 @@ public class Manga extends Entity implements ISnowflake {
      * @warn Not all links have the full URL, some are just the IDs or SLUGs of the resource.
      */
     public Map<LinkType, String> getLinks() {
-        return links;
+        return links.get();
     }
 
     /**
@@ -667,6 +876,18 @@ public class Manga extends Entity implements ISnowflake {
         return author;
     }
 
+    /**
+     * Retrieves the {@link Author} of the manga.
+     * <p>The author is served from the author cache when it has been seen recently.</p>
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} object
+     * @throws IllegalStateException if the manga was built with a projection other than {@link MangaProjection#FULL}.
+     */
+    public CompletableFuture<Author> retrieveAuthor() {
+        requireProjected("author");
+        return CompletableFuture.supplyAsync(() -> AuthorFactory.retrieveAuthor(author));
+    }
+
     /**
      * <p>Getter for the field <code>description</code>.</p>
      *
@@ -674,7 +895,8 @@ public class Manga extends Entity implements ISnowflake {
      * @return a {@link java.lang.String} object
      */
     public String getDescription(Locale lang) {
-        return description.get(lang);
+        Map<Locale, String> descriptions = description.get();
+        return descriptions == null ? null : descriptions.get(lang);
     }
 
     /**
@@ -683,7 +905,7 @@ public class Manga extends Entity implements ISnowflake {
      * @return a {@link java.util.Map} object
      */
     public Map<Locale, String> getDescriptions() {
-        return description;
+        return description.get();
     }
 
     /**
@@ -693,7 +915,7 @@ public class Manga extends Entity implements ISnowflake {
      * @return a {@link Map} object
      */
     public Map<Locale, List<String>> getAltTitles() {
-        return altTitles;
+        return altTitles.get();
     }
 
     /**
@@ -775,7 +997,7 @@ public class Manga extends Entity implements ISnowflake {
      * @return a {@link java.util.UUID} object
      */
     public UUID getLatestUploadedChapterId() {
-        return UUID.fromString(latestUploadedChapterId);
+        return latestUploadedChapterId == null ? null : UUID.fromString(latestUploadedChapterId);
     }
 
     /**
@@ -784,7 +1006,25 @@ public class Manga extends Entity implements ISnowflake {
      * @return a {@link java.util.List} object
      */
     public List<Tag> getTags() {
-        return tags;
+        return tags.get();
+    }
+
+    /**
+     * Returns the fields this manga was built with.
+     *
+     * @return a {@link MangaProjection} object
+     */
+    public MangaProjection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Returns the version of the entity. Indicating how many times the manga has been updated.
+     *
+     * @return a long
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -803,7 +1043,8 @@ public class Manga extends Entity implements ISnowflake {
                 JsonArray chapters = response.getAsJsonArray("data");
                 List<Chapter> chaptersList = new ArrayList<>();
                 for (JsonElement chapter : chapters) {
-                    chaptersList.add(new Chapter(chapter.getAsJsonObject()));
+                    EntityStores.write(StoredEntityType.CHAPTER, chapter.getAsJsonObject());
+                    chaptersList.add(EntityCaches.CHAPTER.put(new Chapter(chapter.getAsJsonObject())));
                 }
                 return chaptersList;
             } catch (HTTPRequestException e) {
@@ -814,25 +1055,59 @@ public class Manga extends Entity implements ISnowflake {
     }
 
     /**
-     * <p>retrieveChapterCount.</p>
+     * Retrieves the volume and chapter structure of the manga in the given languages with one request.
+     * <p>Aggregates are cached per language set in {@link EntityCaches#AGGREGATE} until a new chapter of the
+     * manga is seen.</p>
      *
-     * @param lang a {@link dev.kurumidisciples.javadex.api.entities.enums.Locale} object
+     * @param languages the languages to include, none for all.
      * @return a {@link java.util.concurrent.CompletableFuture} object
      */
-    public CompletableFuture<Integer> retrieveChapterCount(Locale lang) {
-        if (state == State.DRAFT) throw new UnsupportedOperationException("Cannot retrieve chapter count for a draft manga.");
+    public CompletableFuture<Aggregate> retrieveAggregate(Locale... languages) {
+        if (state == State.DRAFT) throw new UnsupportedOperationException("Cannot retrieve the aggregate of a draft manga.");
+        List<Locale> requested = List.of(languages);
         return CompletableFuture.supplyAsync(() -> {
             try {
-                JsonObject response = gson.fromJson(HTTPRequest.get("https://api.mangadex.org/manga/" + getId() + "/aggregate?translatedLanguage[]=" + lang.getLanguage()), JsonObject.class);
-                List<UUID> chaptersList = parseIds(response);
-                return chaptersList.size();
+                return EntityCaches.AGGREGATE.get(id, requested);
             } catch (HTTPRequestException e) {
-                logger.error("Error retrieving chapter count", e);
+                logger.error("Error retrieving aggregate", e);
                 throw new CompletionException(e);
             }
         });
     }
 
+    /**
+     * Retrieves the reading status of the manga for the given JavaDex instance.
+     *
+     * @param loggedInInstance The JavaDex instance of the logged-in user.
+     * @return a {@link java.util.concurrent.CompletableFuture} object, completed with {@code null} if the manga is not in the library.
+     * @see JavaDex#getReadingStatuses()
+     */
+    public CompletableFuture<ReadingStatus> retrieveReadingStatus(JavaDex loggedInInstance) {
+        return loggedInInstance.retrieveReadingStatus(id);
+    }
+
+    /**
+     * Retrieves the rating, follow count and comment count of the manga.
+     * <p>To show the statistics of many manga, use
+     * {@link dev.kurumidisciples.javadex.api.core.JavaDex#retrieveStatistics(java.util.Collection)}, which loads 100 per request.</p>
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} object, completed with {@code null} if the API has no statistics for the manga.
+     */
+    public CompletableFuture<MangaStatistics> retrieveStatistics() {
+        return new StatisticsAction(List.of(id)).submit().thenApply(statistics -> statistics.get(id));
+    }
+
+    /**
+     * <p>retrieveChapterCount.</p>
+     *
+     * @param lang a {@link dev.kurumidisciples.javadex.api.entities.enums.Locale} object
+     * @return a {@link java.util.concurrent.CompletableFuture} object
+     */
+    public CompletableFuture<Integer> retrieveChapterCount(Locale lang) {
+        if (state == State.DRAFT) throw new UnsupportedOperationException("Cannot retrieve chapter count for a draft manga.");
+        return retrieveAggregate(lang).thenApply(Aggregate::getChapterCount);
+    }
+
     /**
      * <p>retrieveChaptersIds.</p>
      *
@@ -841,19 +1116,25 @@ public class Manga extends Entity implements ISnowflake {
      */
     public CompletableFuture<List<UUID>> retrieveChaptersIds(Locale lang) {
         if (state == State.DRAFT) throw new UnsupportedOperationException("Cannot retrieve chapters for a draft manga.");
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                JsonObject response = gson.fromJson(HTTPRequest.get("https://api.mangadex.org/manga/" + getId() + "/aggregate?translatedLanguage[]=" + lang.getLanguage()), JsonObject.class);
-                List<UUID> chaptersList = parseIds(response);
-                Collections.reverse(chaptersList);
-                return chaptersList;
-            } catch (HTTPRequestException e) {
-                logger.error("Error retrieving chapter IDs", e);
-                throw new CompletionException(e);
-            }
+        return retrieveAggregate(lang).thenApply(aggregate -> {
+            List<UUID> chaptersList = aggregate.getChapterIds();
+            Collections.reverse(chaptersList);
+            return chaptersList;
         });
     }
 
+    /**
+     * Retrieves the ids of every upload of the manga in a language, the other uploads of each number included, as
+     * a set for membership checks.
+     *
+     * @param lang a {@link dev.kurumidisciples.javadex.api.entities.enums.Locale} object
+     * @return a {@link java.util.concurrent.CompletableFuture} object
+     */
+    public CompletableFuture<UuidSet> retrieveChapterIdSet(Locale lang) {
+        if (state == State.DRAFT) throw new UnsupportedOperationException("Cannot retrieve chapters for a draft manga.");
+        return retrieveAggregate(lang).thenApply(Aggregate::getAllChapterIdSet);
+    }
+
     /**
      * <p>retrieveChaptersOrdered.</p>
      *
@@ -867,9 +1148,12 @@ public class Manga extends Entity implements ISnowflake {
 
             List<CompletableFuture<Chapter>> chapterFutures = ids.stream().map(id ->
                     CompletableFuture.supplyAsync(() -> {
+                        Chapter cached = EntityCaches.CHAPTER.getIfPresent(id);
+                        if (cached != null) return cached;
                         try {
-                            JsonObject response = gson.fromJson(HTTPRequest.get("https://api.mangadex.org/chapter/" + id), JsonObject.class);
-                            return new Chapter(response.getAsJsonObject("data"));
+                            Chapter chapter = EntityStores.readThrough(StoredEntityType.CHAPTER, id, Chapter::new,
+                                    () -> gson.fromJson(HTTPRequest.get("https://api.mangadex.org/chapter/" + id), JsonObject.class).getAsJsonObject("data"));
+                            return EntityCaches.CHAPTER.put(chapter);
                         } catch (HTTPRequestException e) {
                             logger.error("An error occurred while attempting to retrieve chapter " + id, e);
                             throw new CompletionException(e);
@@ -901,7 +1185,8 @@ public class Manga extends Entity implements ISnowflake {
                 JsonArray chapterArray = response.getAsJsonArray("data");
                 if (chapterArray.size() == 0) logger.warn("No chapters found for manga " + id + " with number " + number + " in language " + lang.getLanguage() + ".");
                 for (JsonElement chapterElement : chapterArray) {
-                    chapters.add(new Chapter(chapterElement.getAsJsonObject()));
+                    EntityStores.write(StoredEntityType.CHAPTER, chapterElement.getAsJsonObject());
+                    chapters.add(EntityCaches.CHAPTER.put(new Chapter(chapterElement.getAsJsonObject())));
                 }
                 return chapters;
             } catch (HTTPRequestException e) {
@@ -915,8 +1200,10 @@ public class Manga extends Entity implements ISnowflake {
      * <p>retrieveCurrentCover.</p>
      *
      * @return a {@link java.util.concurrent.CompletableFuture} object
+     * @throws IllegalStateException if the manga was built with a projection other than {@link MangaProjection#FULL}.
      */
     public CompletableFuture<CoverProxy> retrieveCurrentCover() {
+        requireProjected("relationships");
         return CompletableFuture.supplyAsync(() -> {
             try {
                 String coverId = relationshipMap.get(RelationshipType.COVER_ART).get(0).getId().toString();
@@ -929,22 +1216,15 @@ public class Manga extends Entity implements ISnowflake {
         });
     }
 
-    private static boolean isError(JsonObject response) {
-        return response.get("result").getAsString().equals("error");
+    private void requireProjected(String field) {
+        if (projection != MangaProjection.FULL) {
+            throw new IllegalStateException("The " + field + " field of manga " + id + " is not part of the " + projection
+                    + " projection; retrieve it with MangaProjection.FULL");
+        }
     }
 
-    private static List<UUID> parseIds(JsonObject jsonObject) {
-        List<UUID> uuids = new ArrayList<>();
-        JsonObject volumes = jsonObject.getAsJsonObject("volumes");
-
-        for (Map.Entry<String, JsonElement> volumeEntry : volumes.entrySet()) {
-            JsonObject chapters = volumeEntry.getValue().getAsJsonObject().getAsJsonObject("chapters");
-            for (Map.Entry<String, JsonElement> chapterEntry : chapters.entrySet()) {
-                String id = chapterEntry.getValue().getAsJsonObject().get("id").getAsString();
-                uuids.add(UUID.fromString(id));
-            }
-        }
-        return uuids;
+    private static boolean isError(JsonObject response) {
+        return response.get("result").getAsString().equals("error");
     }
 
     /** {@inheritDoc} */
@@ -954,8 +1234,8 @@ public class Manga extends Entity implements ISnowflake {
                 "id=" + id +
                 ", title='" + title + '\'' +
                 ", author='" + author + '\'' +
-                ", description='" + description + '\'' +
-                ", altTitles=" + altTitles +
+                ", description='" + getDescriptions() + '\'' +
+                ", altTitles=" + getAltTitles() +
                 ", isLocked=" + isLocked +
                 ", originalLanguage='" + originalLanguage + '\'' +
                 ", lastVolume='" + lastVolume + '\'' +
@@ -966,10 +1246,10 @@ public class Manga extends Entity implements ISnowflake {
                 ", contentRating=" + contentRating +
                 ", state='" + state + '\'' +
                 ", chapterNumbersResetOnNewVolume=" + chapterNumbersResetOnNewVolume +
-                ", createdAt=" + createdAt +
-                ", updatedAt=" + updatedAt +
+                ", createdAt=" + getCreatedAt() +
+                ", updatedAt=" + getUpdatedAt() +
                 ", version=" + version +
-                ", availableTranslatedLanguages=" + availableTranslatedLanguages +
+                ", availableTranslatedLanguages=" + getAvailableTranslatedLanguages() +
                 ", latestUploadedChapterId='" + latestUploadedChapterId + '\'' +
                 ", relationshipMap=" + relationshipMap +
                 '}';
@@ -1,5 +1,9 @@
 package dev.kurumidisciples.javadex.api.entities.enums;
 
+import java.util.HashMap;
+import java.util.Map;
+
+
 /**
  * Enum representing various locales using ISO 639 language codes.
  * This enum is used to specify the language of content within the application.
@@ -106,6 +110,14 @@ public enum Locale {
         return language;
     }
 
+    private static final Map<String, Locale> BY_LANGUAGE = new HashMap<>();
+
+    static {
+        for (Locale locale : values()) {
+            if (locale.getLanguage() != null) BY_LANGUAGE.putIfAbsent(locale.getLanguage(), locale);
+        }
+    }
+
     /**
      * Retrieves a {@code Locale} instance by its ISO 639 language code.
      * If the language code does not match any locale, {@code UNKNOWN} is returned.
@@ -114,12 +126,7 @@ public enum Locale {
      * @return The {@code Locale} instance matching the language code, or {@code UNKNOWN} if not found.
      */
     public static Locale getByLanguage(String language) {
-        for (Locale locale : Locale.values()) {
-            if (locale.getLanguage().equals(language)) {
-                return locale;
-            }
-        }
-        return UNKNOWN;
+        return BY_LANGUAGE.getOrDefault(language, UNKNOWN);
     }
 
     /**
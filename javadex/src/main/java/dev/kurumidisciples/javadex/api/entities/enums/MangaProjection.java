@@ -0,0 +1,32 @@
+package dev.kurumidisciples.javadex.api.entities.enums;
+
+/**
+ * Selects which fields of a {@link dev.kurumidisciples.javadex.api.entities.content.Manga} are built from a
+ * listing response.
+ *
+ * <p>A narrower projection skips parsing and retaining the fields it leaves out, which matters for large
+ * listings. Getters of fields outside the projection return {@code null}, or {@code false} for boolean fields.
+ * {@code retrieveAuthor()} and {@code retrieveCurrentCover()} need the relationships, so they throw an
+ * {@link IllegalStateException} naming the missing field unless the projection is {@link #FULL}. Retrievals that
+ * only need the id, such as {@code retrieveFeed()} or {@code retrieveStatistics()}, work with every projection.
+ * Projected manga are not put into the manga cache.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public enum MangaProjection {
+    /**
+     * Every field. Descriptions, alternative titles, links, tags, languages and timestamps are decoded on first access.
+     */
+    FULL,
+    /**
+     * The id, version, default title and alternative titles.
+     * <p>Supports {@code getId()}, {@code getVersion()}, {@code getDefaultTitle()} and {@code getAltTitles()}.</p>
+     */
+    TITLES,
+    /**
+     * The id and version only.
+     * <p>Supports {@code getId()} and {@code getVersion()}.</p>
+     */
+    ID_ONLY
+}
@@ -1,5 +1,9 @@
 package dev.kurumidisciples.javadex.api.entities.enums;
 
+import java.util.HashMap;
+import java.util.Map;
+
+
 /**
  * <p>OriginalLanguage class.</p>
  *
@@ -44,6 +48,14 @@ public enum OriginalLanguage {
     return value;
   }
 
+  private static final Map<String, OriginalLanguage> BY_VALUE = new HashMap<>();
+
+  static {
+    for (OriginalLanguage originalLanguage : values()) {
+      if (originalLanguage.getValue() != null) BY_VALUE.putIfAbsent(originalLanguage.getValue(), originalLanguage);
+    }
+  }
+
   /**
    * <p>getLanguage.</p>
    *
@@ -51,12 +63,7 @@ public enum OriginalLanguage {
    * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.OriginalLanguage} object
    */
   public static OriginalLanguage getLanguage(String value) {
-    for (OriginalLanguage language : OriginalLanguage.values()) {
-      if (language.getValue().equals(value)) {
-        return language;
-      }
-    }
-    return null;
+    return BY_VALUE.get(value);
   }
 
 
@@ -1,5 +1,9 @@
 package dev.kurumidisciples.javadex.api.entities.enums;
 
+import java.util.HashMap;
+import java.util.Map;
+
+
 /**
  * <p>ReadingStatus class.</p>
  *
@@ -29,6 +33,14 @@ public enum ReadingStatus {
         return status;
     }
 
+    private static final Map<String, ReadingStatus> BY_STATUS = new HashMap<>();
+
+    static {
+        for (ReadingStatus readingStatus : values()) {
+            if (readingStatus.getStatus() != null) BY_STATUS.putIfAbsent(readingStatus.getStatus(), readingStatus);
+        }
+    }
+
     /**
      * <p>fromString.</p>
      *
@@ -36,11 +48,6 @@ public enum ReadingStatus {
      * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.ReadingStatus} object
      */
     public static ReadingStatus fromString(String status) {
-        for (ReadingStatus s : values()) {
-            if (s.getStatus().equals(status)) {
-                return s;
-            }
-        }
-        return null;
+        return BY_STATUS.get(status);
     }
 }
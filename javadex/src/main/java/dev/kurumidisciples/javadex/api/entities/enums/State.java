@@ -1,5 +1,8 @@
 package dev.kurumidisciples.javadex.api.entities.enums;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import dev.kurumidisciples.javadex.api.entities.content.Manga;
 
 /**
@@ -30,6 +33,14 @@ public enum State {
     return value;
   }
 
+  private static final Map<String, State> BY_VALUE = new HashMap<>();
+
+  static {
+    for (State state : values()) {
+      if (state.getValue() != null) BY_VALUE.putIfAbsent(state.getValue(), state);
+    }
+  }
+
   /**
    * <p>getByValue.</p>
    *
@@ -37,11 +48,6 @@ public enum State {
    * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.State} object
    */
   public static State getByValue(String value) {
-    for (State state : values()) {
-      if (state.getValue().equals(value)) {
-        return state;
-      }
-    }
-    return null;
+    return BY_VALUE.get(value);
   }
 }
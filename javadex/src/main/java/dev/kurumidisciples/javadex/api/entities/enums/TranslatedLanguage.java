@@ -1,5 +1,8 @@
 package dev.kurumidisciples.javadex.api.entities.enums; 
 
+import java.util.HashMap;
+import java.util.Map;
+
 import dev.kurumidisciples.javadex.api.entities.enums.Locale; 
 /**
  * <p>TranslatedLanguage class.</p>
@@ -43,6 +46,14 @@ public enum TranslatedLanguage {
     return language;
   }
 
+  private static final Map<String, TranslatedLanguage> BY_LANGUAGE = new HashMap<>();
+
+  static {
+    for (TranslatedLanguage translatedLanguage : values()) {
+      if (translatedLanguage.getLanguage() != null) BY_LANGUAGE.putIfAbsent(translatedLanguage.getLanguage(), translatedLanguage);
+    }
+  }
+
   /**
    * <p>getByLanguage.</p>
    *
@@ -50,12 +61,7 @@ public enum TranslatedLanguage {
    * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.TranslatedLanguage} object
    */
   public static TranslatedLanguage getByLanguage(String language) {
-    for (TranslatedLanguage translatedLanguage : TranslatedLanguage.values()) {
-      if (translatedLanguage.getLanguage().equals(language)) {
-        return translatedLanguage;
-      }
-    }
-    return null;
+    return BY_LANGUAGE.get(language);
   }
   
   /** {@inheritDoc} */
@@ -1,5 +1,8 @@
 package dev.kurumidisciples.javadex.api.entities.enums.manga;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import dev.kurumidisciples.javadex.api.entities.content.Manga;
 
 /**
@@ -54,6 +57,14 @@ public enum LinkType {
         return type;
     }
 
+    private static final Map<String, LinkType> BY_TYPE = new HashMap<>();
+
+    static {
+        for (LinkType linkType : values()) {
+            if (linkType.getType() != null) BY_TYPE.putIfAbsent(linkType.getType(), linkType);
+        }
+    }
+
     /**
      * <p>getByType.</p>
      *
@@ -61,11 +72,6 @@ public enum LinkType {
      * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.manga.LinkType} object
      */
     public static LinkType getByType(String type) {
-        for (LinkType linkType : LinkType.values()) {
-            if (linkType.getType().equals(type)) {
-                return linkType;
-            }
-        }
-        return UNKNOWN;
+        return BY_TYPE.getOrDefault(type, UNKNOWN);
     }
 }
@@ -1,5 +1,9 @@
 package dev.kurumidisciples.javadex.api.entities.enums.manga.filters;
 
+import java.util.HashMap;
+import java.util.Map;
+
+
 /**
  * <p>ContentRating class.</p>
  *
@@ -29,6 +33,14 @@ public enum ContentRating {
     return value;
   }
   
+  private static final Map<String, ContentRating> BY_VALUE = new HashMap<>();
+
+  static {
+    for (ContentRating contentRating : values()) {
+      if (contentRating.getValue() != null) BY_VALUE.putIfAbsent(contentRating.getValue(), contentRating);
+    }
+  }
+
   /**
    * <p>getContentRating.</p>
    *
@@ -36,12 +48,7 @@ public enum ContentRating {
    * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.manga.filters.ContentRating} object
    */
   public static ContentRating getContentRating(String value) {
-    for (ContentRating contentRating : ContentRating.values()) {
-      if (contentRating.getValue().equals(value)) {
-        return contentRating;
-      }
-    }
-    return ContentRating.NONE;
+    return BY_VALUE.getOrDefault(value, ContentRating.NONE);
   }
 
   /** {@inheritDoc} */
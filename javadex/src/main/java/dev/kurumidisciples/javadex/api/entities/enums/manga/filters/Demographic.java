@@ -1,5 +1,8 @@
 package dev.kurumidisciples.javadex.api.entities.enums.manga.filters;
 
+import java.util.HashMap;
+import java.util.Map;
+
 
 /**
  * <p>Demographic class.</p>
@@ -30,6 +33,14 @@ public enum Demographic {
     return value;
   }
   
+  private static final Map<String, Demographic> BY_VALUE = new HashMap<>();
+
+  static {
+    for (Demographic demographic : values()) {
+      if (demographic.getValue() != null) BY_VALUE.putIfAbsent(demographic.getValue(), demographic);
+    }
+  }
+
   /**
    * <p>getDemographic.</p>
    *
@@ -37,11 +48,6 @@ public enum Demographic {
    * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.manga.filters.Demographic} object
    */
   public static Demographic getDemographic(String value) {
-    for (Demographic demographic : Demographic.values()) {
-      if (demographic.getValue().equals(value)) {
-        return demographic;
-      }
-    }
-    return Demographic.NONE;
-}
+    return BY_VALUE.getOrDefault(value, Demographic.NONE);
+  }
 }
@@ -1,5 +1,9 @@
 package dev.kurumidisciples.javadex.api.entities.enums.manga.filters;
 
+import java.util.HashMap;
+import java.util.Map;
+
+
 /**
  * <p>Status class.</p>
  * @author Hacking Pancakez
@@ -41,6 +45,14 @@ public enum Status {
     return value;
   }
 
+  private static final Map<String, Status> BY_VALUE = new HashMap<>();
+
+  static {
+    for (Status status : values()) {
+      if (status.getValue() != null) BY_VALUE.putIfAbsent(status.getValue(), status);
+    }
+  }
+
   /**
    * <p>getStatus.</p>
    *
@@ -48,11 +60,6 @@ public enum Status {
    * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.manga.filters.Status} object
    */
   public static Status getStatus(String value) {
-    for (Status status : Status.values()) {
-      if (status.getValue().equals(value)) {
-        return status;
-      }
-    }
-    return null;
+    return BY_VALUE.get(value);
   }
 }
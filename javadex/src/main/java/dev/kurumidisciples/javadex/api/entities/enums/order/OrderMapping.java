@@ -1,16 +1,52 @@
 package dev.kurumidisciples.javadex.api.entities.enums.order;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * <p>OrderMapping class.</p>
+ * The sort order of a list request, as {@code order[option]=value} pairs.
+ * <p>Options are applied in the order they were put, the first one sorting first.</p>
+ *
+ * <pre>{@code
+ * javadex.search().setOrder(OrderMapping.of(OrderMapping.Option.CREATED_AT, OrderMapping.Value.ASCENDING));
+ * }</pre>
  *
  * @author Hacking Pancakez
  * @version $Id: $Id
  */
-public class OrderMapping extends HashMap<OrderMapping.Option, OrderMapping.Value> {
+public class OrderMapping extends LinkedHashMap<OrderMapping.Option, OrderMapping.Value> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an order over a single option.
+     *
+     * @param option the field to sort by.
+     * @param value the direction.
+     * @return the order.
+     * @since 0.1.5
+     */
+    public static OrderMapping of(Option option, Value value) {
+        OrderMapping order = new OrderMapping();
+        order.put(option, value);
+        return order;
+    }
+
+    /**
+     * Builds the {@code order[option]=value} query parameters, each followed by {@code &}.
+     *
+     * @return the query parameters, empty if no option is set.
+     * @since 0.1.5
+     */
+    public String toQuery() {
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<Option, Value> entry : entrySet()) {
+            query.append("order[").append(entry.getKey().getValue()).append("]=").append(entry.getValue().getValue()).append("&");
+        }
+        return query.toString();
+    }
 
-    enum Value {
+    public enum Value {
   
         ASCENDING("asc"),
         DESCENDING("desc");
@@ -27,7 +63,7 @@ public class OrderMapping extends HashMap<OrderMapping.Option, OrderMapping.Valu
         
     }
 
-    enum Option {
+    public enum Option {
       TITLE("title"),
       YEAR("year"),
       CREATED_AT("createdAt"),
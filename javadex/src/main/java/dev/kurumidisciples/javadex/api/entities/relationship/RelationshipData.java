@@ -1,11 +1,17 @@
 package dev.kurumidisciples.javadex.api.entities.relationship;
 
+import java.io.IOException;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipRelated;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 /**
  * This class represents the relationship data in the application.
@@ -39,6 +45,39 @@ public class RelationshipData {
         this(id, RelationshipRelated.UNKNOWN);
     }
     
+    /**
+     * Constructs a new RelationshipData by streaming a single relationship object.
+     * The "type" and expanded attributes of the object are skipped.
+     *
+     * @param in a reader positioned at the relationship object.
+     * @throws com.google.gson.JsonIOException if the object cannot be read.
+     */
+    public RelationshipData(@NotNull JsonReader in) {
+        UUID id = null;
+        RelationshipRelated related = RelationshipRelated.UNKNOWN;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = JsonReaders.nextUuid(in);
+                        break;
+                    case "related":
+                        String value = JsonReaders.nextString(in);
+                        related = value != null ? RelationshipRelated.fromString(value) : RelationshipRelated.UNKNOWN;
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        this.id = id;
+        this.related = related;
+    }
+
     /**
      * Returns the ID of this relationship.
      *
@@ -58,4 +97,32 @@ public class RelationshipData {
     public RelationshipRelated getRelated() {
         return related;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Two relationships are equal if they have the same ID and related entity.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RelationshipData)) return false;
+        RelationshipData other = (RelationshipData) o;
+        return Objects.equals(id, other.id) && related == other.related;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, related);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "RelationshipData{" +
+                "id=" + id +
+                ", related=" + related +
+                '}';
+    }
 }
@@ -1,27 +1,55 @@
 package dev.kurumidisciples.javadex.api.entities.relationship;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
 
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipRelated;
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
+import dev.kurumidisciples.javadex.internal.parsers.UuidParser;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
 
 /**
  * Represents a mapping of relationship types to lists of relationship data.
- * <p>This class extends {@link java.util.HashMap} to map {@link dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType} to {@link java.util.List} of {@link dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData}.</p>
- * <p>It is constructed using a {@link com.google.gson.JsonArray} which is converted into the map structure.</p>
+ * <p>This class is a read-only {@link java.util.Map} of {@link dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType} to {@link java.util.List} of {@link dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData}.</p>
+ * <p>It is constructed by streaming a relationship array, either from a {@link com.google.gson.stream.JsonReader} or from a parsed {@link com.google.gson.JsonArray}.</p>
+ * <p>Every entity carries one, so the relationships are not kept as lists of objects. They are grouped by type
+ * into a flat array of id halves and an array of {@link RelationshipRelated} ordinals, with a table of offsets
+ * indexed by the type ordinal, the layout of an {@link java.util.EnumMap}. The lists returned by {@link #get(Object)}
+ * are views that create the {@link RelationshipData} of an element when it is read; {@link #getFirstId(RelationshipType)},
+ * {@link #count(RelationshipType)} and {@link #contains(RelationshipType, UUID)} read the arrays directly.</p>
  *
  * @author Hacking Pancakez
  * @version $Id: $Id
  */
-public class RelationshipMap extends HashMap<RelationshipType, List<RelationshipData>> {
+public class RelationshipMap extends AbstractMap<RelationshipType, List<RelationshipData>> {
+
+    private static final RelationshipType[] TYPES = RelationshipType.values();
+    private static final RelationshipRelated[] RELATED = RelationshipRelated.values();
+    /** The slot of relationships whose type is not a {@link RelationshipType}, kept under the {@code null} key */
+    private static final int UNKNOWN_TYPE = TYPES.length;
+    private static final byte UNKNOWN_RELATED = (byte) RelationshipRelated.UNKNOWN.ordinal();
+
+    /** Relationships of slot {@code t} are {@code offsets[t]} until {@code offsets[t + 1]} */
+    private final int[] offsets = new int[TYPES.length + 2];
+    /** Two longs per relationship */
+    private final long[] ids;
+    /** One ordinal per relationship, {@code null} if none has a related value */
+    private final byte[] related;
+
+    private transient Set<Entry<RelationshipType, List<RelationshipData>>> entrySet;
 
     /**
      * Constructs a new RelationshipMap from a JSON array.
@@ -31,39 +59,253 @@ public class RelationshipMap extends HashMap<RelationshipType, List<Relationship
      * @param relationshipArray The JSON array containing relationship objects.
      */
     public RelationshipMap(JsonArray relationshipArray) {
-        this.putAll(convertToMap(relationshipArray));
+        this(JsonReaders.of(relationshipArray));
     }
 
     /**
-     * Converts a JSON array of relationship objects into a map of relationship types to lists of relationship data.
-     * Each object in the array is expected to have a "type" and an "id", and optionally a "related" field.
-     * The "type" is used as the key in the map, and the "id" (and optionally "related") are used to construct {@link RelationshipData} objects.
+     * Constructs a new RelationshipMap by streaming a JSON array of relationship objects.
+     * Each object is expected to have a "type" and an "id", and optionally a "related" field.
+     * Expanded attributes are skipped, as are relationships without an id.
      *
-     * @param relationshipArray The JSON array containing relationship objects.
-     * @return A map of {@link RelationshipType} to lists of {@link RelationshipData}.
+     * @param in a reader positioned at the relationship array.
+     * @throws com.google.gson.JsonIOException if the array cannot be read.
      */
-    private static Map<RelationshipType, List<RelationshipData>> convertToMap(JsonArray relationshipArray) {
-        Map<RelationshipType, List<RelationshipData>> relationshipMap = new HashMap<>();
-
-        for (JsonElement element : relationshipArray){
-            JsonObject relationship = element.getAsJsonObject();
-            RelationshipType type = RelationshipType.fromString(relationship.get("type").getAsString());
-
-            RelationshipData data;
-            if (relationship.has("related")){
-                data = new RelationshipData(UUID.fromString(relationship.get("id").getAsString()), RelationshipRelated.fromString(relationship.get("related").getAsString()));
-            } else {
-                data = new RelationshipData(UUID.fromString(relationship.get("id").getAsString()));
+    public RelationshipMap(JsonReader in) {
+        // Read in response order first, then grouped by type with a counting sort
+        long[] readIds = new long[8];
+        byte[] readSlots = new byte[4];
+        byte[] readRelated = new byte[4];
+        boolean anyRelated = false;
+        int count = 0;
+        try {
+            in.beginArray();
+            while (in.hasNext()) {
+                String id = null;
+                RelationshipType type = null;
+                String relatedValue = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "id":
+                            id = JsonReaders.nextString(in);
+                            break;
+                        case "type":
+                            type = RelationshipType.fromString(in.nextString());
+                            break;
+                        case "related":
+                            relatedValue = JsonReaders.nextString(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+                if (id == null) continue;
+
+                if (count == readSlots.length) {
+                    readIds = Arrays.copyOf(readIds, count * 4);
+                    readSlots = Arrays.copyOf(readSlots, count * 2);
+                    readRelated = Arrays.copyOf(readRelated, count * 2);
+                }
+                readIds[2 * count] = UuidParser.mostSignificantBits(id);
+                readIds[2 * count + 1] = UuidParser.leastSignificantBits(id);
+                readSlots[count] = (byte) (type != null ? type.ordinal() : UNKNOWN_TYPE);
+                readRelated[count] = relatedValue != null ? (byte) RelationshipRelated.fromString(relatedValue).ordinal() : UNKNOWN_RELATED;
+                anyRelated |= relatedValue != null;
+                count++;
             }
+            in.endArray();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+
+        for (int i = 0; i < count; i++) {
+            offsets[readSlots[i] + 1]++;
+        }
+        for (int slot = 1; slot < offsets.length; slot++) {
+            offsets[slot] += offsets[slot - 1];
+        }
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        this.ids = new long[2 * count];
+        this.related = anyRelated ? new byte[count] : null;
+        for (int i = 0; i < count; i++) {
+            int to = next[readSlots[i]]++;
+            ids[2 * to] = readIds[2 * i];
+            ids[2 * to + 1] = readIds[2 * i + 1];
+            if (related != null) related[to] = readRelated[i];
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Returns a view of the relationships of the given type in response order, or {@code null} if there are none.
+     * Relationships whose type is unknown are returned for the {@code null} key.
+     */
+    @Override
+    public List<RelationshipData> get(Object key) {
+        int slot = slotOf(key);
+        if (slot < 0 || offsets[slot] == offsets[slot + 1]) return null;
+        return new Relationships(offsets[slot], offsets[slot + 1]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = slotOf(key);
+        return slot >= 0 && offsets[slot] != offsets[slot + 1];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        int size = 0;
+        for (int slot = 0; slot < offsets.length - 1; slot++) {
+            if (offsets[slot] != offsets[slot + 1]) size++;
+        }
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The entries are ordered by type.
+     */
+    @Override
+    public Set<Entry<RelationshipType, List<RelationshipData>>> entrySet() {
+        if (entrySet == null) entrySet = new Entries();
+        return entrySet;
+    }
+
+    /**
+     * Returns the number of relationships of the given type.
+     *
+     * @param type the relationship type.
+     * @return the number of relationships, 0 if there are none.
+     */
+    public int count(RelationshipType type) {
+        int slot = slotOf(type);
+        return offsets[slot + 1] - offsets[slot];
+    }
+
+    /**
+     * Returns the id of the first relationship of the given type, such as the manga of a chapter.
+     *
+     * @param type the relationship type.
+     * @return the id, or {@code null} if there is no such relationship.
+     */
+    public UUID getFirstId(RelationshipType type) {
+        int slot = slotOf(type);
+        return offsets[slot] == offsets[slot + 1] ? null : idAt(offsets[slot]);
+    }
+
+    /**
+     * Returns whether the given id is related with the given type.
+     *
+     * @param type the relationship type.
+     * @param id the id.
+     * @return {@code true} if the relationship exists.
+     */
+    public boolean contains(RelationshipType type, UUID id) {
+        int slot = slotOf(type);
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        for (int i = offsets[slot]; i < offsets[slot + 1]; i++) {
+            if (ids[2 * i] == most && ids[2 * i + 1] == least) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the ids related with the given type as a set.
+     *
+     * @param type the relationship type.
+     * @return a new set of ids, empty if there is no such relationship.
+     */
+    public UuidSet getIds(RelationshipType type) {
+        int slot = slotOf(type);
+        UuidSet set = new UuidSet(offsets[slot + 1] - offsets[slot]);
+        for (int i = offsets[slot]; i < offsets[slot + 1]; i++) {
+            set.add(ids[2 * i], ids[2 * i + 1]);
+        }
+        return set;
+    }
+
+    private static int slotOf(Object key) {
+        if (key == null) return UNKNOWN_TYPE;
+        return key instanceof RelationshipType ? ((RelationshipType) key).ordinal() : -1;
+    }
+
+    private UUID idAt(int index) {
+        return new UUID(ids[2 * index], ids[2 * index + 1]);
+    }
+
+    private RelationshipData dataAt(int index) {
+        return new RelationshipData(idAt(index), related != null ? RELATED[related[index]] : RelationshipRelated.UNKNOWN);
+    }
+
+    /** The relationships of one type. */
+    private final class Relationships extends AbstractList<RelationshipData> {
+
+        private final int from;
+        private final int to;
+
+        Relationships(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public RelationshipData get(int index) {
+            if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            return dataAt(from + index);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    private final class Entries extends AbstractSet<Entry<RelationshipType, List<RelationshipData>>> {
+
+        @Override
+        public Iterator<Entry<RelationshipType, List<RelationshipData>>> iterator() {
+            return new Iterator<>() {
+                private int slot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < offsets.length - 1;
+                }
+
+                @Override
+                public Entry<RelationshipType, List<RelationshipData>> next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    RelationshipType type = slot < UNKNOWN_TYPE ? TYPES[slot] : null;
+                    Entry<RelationshipType, List<RelationshipData>> entry = new SimpleImmutableEntry<>(type, new Relationships(offsets[slot], offsets[slot + 1]));
+                    slot = advance(slot + 1);
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return RelationshipMap.this.size();
+        }
 
-            if (relationshipMap.containsKey(type)){
-                relationshipMap.get(type).add(data);
-            } else {
-                List<RelationshipData> ids = new ArrayList<>();
-                ids.add(data);
-                relationshipMap.put(type, ids);
+        private int advance(int slot) {
+            while (slot < offsets.length - 1 && offsets[slot] == offsets[slot + 1]) {
+                slot++;
             }
+            return slot;
         }
-        return relationshipMap;
     }
 }
@@ -1,5 +1,8 @@
 package dev.kurumidisciples.javadex.api.entities.relationship.enums;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
 
 /**
@@ -64,6 +67,14 @@ public enum RelationshipRelated {
         return related;
     }
 
+    private static final Map<String, RelationshipRelated> BY_RELATED = new HashMap<>();
+
+    static {
+        for (RelationshipRelated relationshipRelated : values()) {
+            if (relationshipRelated.getRelated() != null) BY_RELATED.putIfAbsent(relationshipRelated.getRelated(), relationshipRelated);
+        }
+    }
+
     /**
      * <p>fromString.</p>
      *
@@ -71,11 +82,6 @@ public enum RelationshipRelated {
      * @return a {@link dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipRelated} object
      */
     public static RelationshipRelated fromString(String text) {
-        for (RelationshipRelated b : RelationshipRelated.values()) {
-            if (b.getRelated() != null && b.getRelated().equals(text)) {
-                return b;
-            }
-        }
-        return UNKNOWN;
+        return BY_RELATED.getOrDefault(text, UNKNOWN);
     }
 }
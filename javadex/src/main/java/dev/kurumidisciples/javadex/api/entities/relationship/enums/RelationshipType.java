@@ -1,5 +1,9 @@
 package dev.kurumidisciples.javadex.api.entities.relationship.enums;
 
+import java.util.HashMap;
+import java.util.Map;
+
+
 /**
  * This enum represents the different types of relationships that can exist in the application.
  * Each enum constant corresponds to a specific type of relationship.
@@ -37,6 +41,14 @@ public enum RelationshipType {
         return type;
     }
 
+    private static final Map<String, RelationshipType> BY_TYPE = new HashMap<>();
+
+    static {
+        for (RelationshipType relationshipType : values()) {
+            if (relationshipType.getType() != null) BY_TYPE.putIfAbsent(relationshipType.getType(), relationshipType);
+        }
+    }
+
     /**
      * Returns the RelationshipType that corresponds to the specified type, or null if there is none.
      *
@@ -44,12 +56,7 @@ public enum RelationshipType {
      * @return the RelationshipType that corresponds to the specified type, or null if there is none
      */
     public static RelationshipType fromString(String type) {
-        for (RelationshipType t : values()) {
-            if (t.getType().equals(type)) {
-                return t;
-            }
-        }
-        return null;
+        return BY_TYPE.get(type);
     }
 
     /**
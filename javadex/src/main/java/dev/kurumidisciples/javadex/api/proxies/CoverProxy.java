@@ -9,15 +9,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 /**
  * Represents a CoverProxy entity.
@@ -45,17 +50,86 @@ public class CoverProxy implements ISnowflake {
      * @param data a {@link com.google.gson.JsonObject} object
      */
     public CoverProxy(JsonObject data) {
-        this.coverId = UUID.fromString(data.get("id").getAsString());
-        JsonObject attributes = data.getAsJsonObject("attributes");
-        this.description = attributes.has("description") ? attributes.get("description").getAsString() : null;
-        this.volume = attributes.has("volume") && !attributes.get("volume").isJsonNull() ? attributes.get("volume").getAsDouble() : null;
-        this.locale = attributes.has("locale") ? attributes.get("locale").getAsString() : null;
-        this.fileName = attributes.get("fileName").getAsString();
-        this.updatedAt = OffsetDateTime.parse(attributes.get("updatedAt").getAsString());
-        this.createdAt = OffsetDateTime.parse(attributes.get("createdAt").getAsString());
-        this.version = attributes.get("version").getAsInt();
-        this.relationshipMap = new RelationshipMap(data.getAsJsonArray("relationships"));
-        this.mangaId = relationshipMap.get(RelationshipType.MANGA).get(0).getId();
+        this(JsonReaders.of(data));
+    }
+
+    /**
+     * Constructs a CoverProxy by streaming its JSON data.
+     *
+     * @param in a reader positioned at the cover object.
+     * @throws com.google.gson.JsonIOException if the data cannot be read.
+     */
+    public CoverProxy(JsonReader in) {
+        UUID coverId = null;
+        RelationshipMap relationshipMap = null;
+        String description = null;
+        Double volume = null;
+        String locale = null;
+        String fileName = null;
+        OffsetDateTime updatedAt = null;
+        OffsetDateTime createdAt = null;
+        int version = 1;
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        coverId = JsonReaders.nextUuid(in);
+                        break;
+                    case "relationships":
+                        relationshipMap = new RelationshipMap(in);
+                        break;
+                    case "attributes":
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            switch (in.nextName()) {
+                                case "description":
+                                    description = JsonReaders.nextString(in);
+                                    break;
+                                case "volume":
+                                    Number value = JsonReaders.nextNumber(in);
+                                    volume = value != null ? value.doubleValue() : null;
+                                    break;
+                                case "locale":
+                                    locale = JsonReaders.nextString(in);
+                                    break;
+                                case "fileName":
+                                    fileName = JsonReaders.nextString(in);
+                                    break;
+                                case "updatedAt":
+                                    updatedAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "createdAt":
+                                    createdAt = JsonReaders.nextDateTime(in);
+                                    break;
+                                case "version":
+                                    version = JsonReaders.nextInt(in, 1);
+                                    break;
+                                default:
+                                    in.skipValue();
+                            }
+                        }
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        this.coverId = coverId;
+        this.description = description;
+        this.volume = volume;
+        this.locale = locale;
+        this.fileName = fileName;
+        this.updatedAt = updatedAt;
+        this.createdAt = createdAt;
+        this.version = version;
+        this.relationshipMap = relationshipMap;
+        List<RelationshipData> manga = relationshipMap != null ? relationshipMap.get(RelationshipType.MANGA) : null;
+        this.mangaId = manga != null && !manga.isEmpty() ? manga.get(0).getId() : null;
     }
 
     
@@ -3,6 +3,7 @@ package dev.kurumidisciples.javadex.internal.actions;
 import java.util.concurrent.CompletableFuture;
 
 import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
+import dev.kurumidisciples.javadex.api.entities.enums.order.OrderMapping;
 
 /**
  * Represents an action that can be completed and submitted.
@@ -11,7 +12,6 @@ import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
  * @author Hacking Pancakez
  * @version $Id: $Id
  */
-// TODO Add Order to actions
 public abstract class Action<T> {
 
     /**
@@ -57,4 +57,16 @@ public abstract class Action<T> {
      * @return the action
      */
     public abstract Action<T> setIncludes(IncludesType... includes);
+
+    /**
+     * Sets the sort order of the results.
+     * <p>Actions that cannot be ordered throw {@link UnsupportedOperationException}.</p>
+     *
+     * @param order the order.
+     * @return the action
+     * @since 0.1.5
+     */
+    public Action<T> setOrder(OrderMapping order) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
 }
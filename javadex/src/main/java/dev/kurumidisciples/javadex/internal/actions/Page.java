@@ -0,0 +1,70 @@
+package dev.kurumidisciples.javadex.internal.actions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a collection response: the entities and where they sit in the whole result set.
+ *
+ * @param <T> the entity type.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final int offset;
+    private final int limit;
+    private final int total;
+
+    /**
+     * <p>Constructor for Page.</p>
+     *
+     * @param items the entities on the page.
+     * @param offset the offset the page was requested at.
+     * @param limit the page size it was requested with.
+     * @param total the size of the whole result set as reported by the API.
+     */
+    public Page(List<T> items, int offset, int limit, int total) {
+        this.items = Collections.unmodifiableList(items);
+        this.offset = offset;
+        this.limit = limit;
+        this.total = total;
+    }
+
+    /**
+     * <p>Getter for the field <code>items</code>.</p>
+     *
+     * @return the entities on the page.
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * <p>Getter for the field <code>offset</code>.</p>
+     *
+     * @return the requested offset.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * <p>Getter for the field <code>limit</code>.</p>
+     *
+     * @return the requested page size.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * <p>Getter for the field <code>total</code>.</p>
+     *
+     * @return the size of the whole result set.
+     */
+    public int getTotal() {
+        return total;
+    }
+}
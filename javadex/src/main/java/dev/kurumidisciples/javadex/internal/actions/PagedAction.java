@@ -0,0 +1,25 @@
+package dev.kurumidisciples.javadex.internal.actions;
+
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+
+/**
+ * An action over a paginated collection endpoint.
+ * <p>{@link #completePage(int, int)} fetches any page with the action's filters without changing the action, so one
+ * action can be shared by threads fetching different pages at once.</p>
+ *
+ * @param <T> the entity type.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public interface PagedAction<T> {
+
+    /**
+     * Fetches one page, ignoring the limit and offset set on the action.
+     *
+     * @param offset the number of entities to skip.
+     * @param limit the page size, at most 100.
+     * @return the page.
+     * @throws HTTPRequestException if the request fails.
+     */
+    Page<T> completePage(int offset, int limit) throws HTTPRequestException;
+}
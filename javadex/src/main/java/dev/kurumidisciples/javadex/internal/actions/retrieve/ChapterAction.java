@@ -3,17 +3,23 @@ package dev.kurumidisciples.javadex.internal.actions.retrieve;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
 import dev.kurumidisciples.javadex.api.entities.Chapter;
 import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
 import dev.kurumidisciples.javadex.api.entities.User;
@@ -21,19 +27,29 @@ import dev.kurumidisciples.javadex.api.entities.content.Manga;
 import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
 import dev.kurumidisciples.javadex.api.entities.enums.Locale;
 import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.ContentRating;
+import dev.kurumidisciples.javadex.api.entities.enums.order.OrderMapping;
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
 import dev.kurumidisciples.javadex.internal.actions.Action;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.actions.PagedAction;
 import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
 
 /**
  * <p>ChapterAction is responsible for handling GET chapter endpoints on the MangaDex platform.</p>
+ * <p>The API takes 100 values per array filter. When more than 100 chapter or group ids are added, the action is
+ * split into sub-queries of at most 100 of each, which run {@link #setConcurrency(int) concurrently}. Such a split
+ * action returns every match from {@link #complete()}, deduplicated, and ignores the limit and offset. The order is
+ * kept within each sub-query only, unless {@link #setPreserveIdOrder(boolean)} orders the result by chapter id.</p>
  *
  * See <a href="https://api.mangadex.org/docs/swagger.html#/Chapter/get-chapter"> MangaDex Chapter Endpoint</a>
  * @author Hacking Pancakez
  * @version $Id: $Id
  */
-public class ChapterAction extends Action<List<Chapter>> {
+public class ChapterAction extends Action<List<Chapter>> implements PagedAction<Chapter> {
     
     private Integer limit;
     private Integer offset;
@@ -43,14 +59,14 @@ public class ChapterAction extends Action<List<Chapter>> {
     private String title;
     private Short chapter;
 
-    private List<String> groupIds;
-    private List<ContentRating> contentRating;
-    private List<Integer> volume;
-    private List<String> chapterIds;
-    private List<Locale> translatedLanguages;
-    private List<Locale> originalLanguage;
-    private List<Locale> excludedOriginalLanguages;
-    private List<String> excludedGroupIds;
+    private final Set<String> groupIds = new LinkedHashSet<>();
+    private final Set<ContentRating> contentRating = new LinkedHashSet<>();
+    private final Set<Integer> volume = new LinkedHashSet<>();
+    private final Set<String> chapterIds = new LinkedHashSet<>();
+    private final Set<Locale> translatedLanguages = new LinkedHashSet<>();
+    private final Set<Locale> originalLanguage = new LinkedHashSet<>();
+    private final Set<Locale> excludedOriginalLanguages = new LinkedHashSet<>();
+    private final Set<String> excludedGroupIds = new LinkedHashSet<>();
 
     private boolean includeFutureUpdates;
     private boolean includeEmptyPages;
@@ -61,6 +77,14 @@ public class ChapterAction extends Action<List<Chapter>> {
     private OffsetDateTime updatedAtSince;
     private OffsetDateTime publishAtSince;
 
+    private OrderMapping order;
+    private boolean preserveIdOrder;
+    private int concurrency = 4;
+    private final SplitQuery.Memo<Chapter> split = new SplitQuery.Memo<>();
+
+    private final String endpoint;
+    private final Token authorization;
+
     private final static IncludesType[] AVAILABLE_INCLUDES  = new IncludesType[]{
             IncludesType.MANGA,
             IncludesType.SCANLATION_GROUP,
@@ -75,10 +99,29 @@ public class ChapterAction extends Action<List<Chapter>> {
      * <p>Constructor for ChapterAction.</p>
      */
     public ChapterAction() {
+        this(API_ENDPOINT, null);
+    }
+
+    private ChapterAction(String endpoint, Token authorization) {
+        this.endpoint = endpoint;
+        this.authorization = authorization;
         this.limit = 10;
         this.offset = 0;
     }
 
+    /**
+     * Creates an action over the chapter feed of a custom list, {@code /list/{id}/feed}.
+     * <p>The feed takes the same filters as the chapter search, except the manga, title, chapter, group and uploader
+     * filters. It pages like any other search, so {@link PageFanOut} can pull a whole list feed.</p>
+     *
+     * @param listId the id of the list.
+     * @param authorization the token of the owner for a private list, or {@code null}.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction} object
+     */
+    public static ChapterAction ofListFeed(@NotNull UUID listId, @Nullable Token authorization) {
+        return new ChapterAction("https://api.mangadex.org/list/" + listId + "/feed", authorization);
+    }
+
     /**
      * <p>addCreatedAtSince.</p>
      *
@@ -435,6 +478,24 @@ public class ChapterAction extends Action<List<Chapter>> {
         return this;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ChapterAction setOrder(OrderMapping order) {
+        this.order = order;
+        return this;
+    }
+
+    /**
+     * Sets the sort order of the results to a single option.
+     *
+     * @param option the field to sort by.
+     * @param value the direction.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction} object
+     */
+    public ChapterAction setOrder(OrderMapping.Option option, OrderMapping.Value value) {
+        return setOrder(OrderMapping.of(option, value));
+    }
+
     /** {@inheritDoc} */
     @Override
     public ChapterAction setIncludes(IncludesType... includes) {
@@ -485,16 +546,94 @@ public class ChapterAction extends Action<List<Chapter>> {
         return this;
     }
 
+    /**
+     * Returns the results of a chapter id search in the order the ids were added, instead of the order of the API.
+     * <p>Default is {@code false}.</p>
+     *
+     * @param preserveIdOrder whether to keep the order of the ids.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction} object
+     */
+    public ChapterAction setPreserveIdOrder(boolean preserveIdOrder){
+        this.preserveIdOrder = preserveIdOrder;
+        return this;
+    }
+
+    /**
+     * Sets how many sub-queries of a split id filter may be in flight at once.
+     * <p>Default is {@code 4}.</p>
+     *
+     * @param concurrency at least 1.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction} object
+     */
+    public ChapterAction setConcurrency(@Size(min=1) int concurrency){
+        this.concurrency = concurrency;
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<Chapter> complete() throws HTTPRequestException{
-        String response = HTTPRequest.get(API_ENDPOINT + toQuery());
+        if (isSplit()) return new ArrayList<>(split.get(splitKey(), true, this::completeSplit));
+        List<Chapter> chapters = fetch(toQuery()).getItems();
+        return preserveIdOrder && !chapterIds.isEmpty() ? SplitQuery.merge(List.of(chapters), chapterIdOrder()) : chapters;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Page<Chapter> completePage(int offset, int limit) throws HTTPRequestException {
+        if (isSplit()) {
+            // The total is only known once every sub-query ran, so the first page runs them and later pages reuse it
+            return SplitQuery.Memo.page(split.get(splitKey(), offset == 0, this::completeSplit), offset, limit);
+        }
+        return fetch(toQuery(limit, offset));
+    }
+
+    private boolean isSplit() {
+        return chapterIds.size() > SplitQuery.MAX_IDS || groupIds.size() > SplitQuery.MAX_IDS;
+    }
+
+    private String splitKey() {
+        return endpoint + toQuery(null, null) + "#" + preserveIdOrder;
+    }
+
+    /**
+     * Runs one sub-query per pair of chapter id and group id chunks, each paged to the end.
+     */
+    private List<Chapter> completeSplit() throws HTTPRequestException {
+        List<Map.Entry<List<String>, List<String>>> queries = new ArrayList<>();
+        for (List<String> ids : SplitQuery.chunk(chapterIds)) {
+            for (List<String> groups : SplitQuery.chunk(groupIds)) {
+                queries.add(Map.entry(ids, groups));
+            }
+        }
+        logger.debug("Splitting {} chapter ids and {} group ids into {} queries", chapterIds.size(), groupIds.size(), queries.size());
+        List<List<Chapter>> results = SplitQuery.run(queries, query -> {
+            PagedAction<Chapter> pages = (offset, limit) -> fetch(toQuery(limit, offset, query.getKey(), query.getValue()));
+            return new PageFanOut<>(pages, PageFanOut.MAX_WINDOW).setConcurrency(1).complete();
+        }, concurrency, "javadex-split-query");
+        return SplitQuery.merge(results, preserveIdOrder ? chapterIdOrder() : null);
+    }
+
+    private List<UUID> chapterIdOrder() {
+        List<UUID> order = new ArrayList<>(chapterIds.size());
+        for (String id : chapterIds) {
+            order.add(UUID.fromString(id));
+        }
+        return order;
+    }
+
+    private Page<Chapter> fetch(String query) throws HTTPRequestException {
+        String response = HTTPRequest.get(endpoint + query, ListAction.bearer(authorization));
         JsonObject chapterResponse = JsonParser.parseString(response).getAsJsonObject();
         List<Chapter> chapters = new ArrayList<>();
         chapterResponse.getAsJsonArray("data").forEach(chapter -> {
-            chapters.add(new Chapter(chapter.getAsJsonObject()));
+            EntityStores.write(StoredEntityType.CHAPTER, chapter.getAsJsonObject());
+            chapters.add(EntityCaches.CHAPTER.put(new Chapter(chapter.getAsJsonObject())));
         });
-        return chapters;
+        int total = chapterResponse.has("total") ? chapterResponse.get("total").getAsInt() : chapters.size();
+        int pageOffset = chapterResponse.has("offset") ? chapterResponse.get("offset").getAsInt() : 0;
+        int pageLimit = chapterResponse.has("limit") ? chapterResponse.get("limit").getAsInt() : chapters.size();
+        return new Page<>(chapters, pageOffset, pageLimit, total);
     }
 
     /** {@inheritDoc} */
@@ -516,6 +655,14 @@ public class ChapterAction extends Action<List<Chapter>> {
      * @return a {@link java.lang.String} object
      */
     public String toQuery(){
+        return toQuery(limit, offset);
+    }
+
+    private String toQuery(Integer limit, Integer offset){
+        return toQuery(limit, offset, chapterIds, groupIds);
+    }
+
+    private String toQuery(Integer limit, Integer offset, Collection<String> chapterIds, Collection<String> groupIds){
         StringBuilder query = new StringBuilder("?");
         query.append("limit=").append(limit).append("&");
         query.append("offset=").append(offset).append("&");
@@ -524,21 +671,22 @@ public class ChapterAction extends Action<List<Chapter>> {
         if (mangaId != null) query.append("manga=").append(mangaId).append("&");
         if (title != null) query.append("title=").append(title).append("&");
         if (chapter != null) query.append("chapter=").append(chapter).append("&");
-        if (groupIds != null) query.append(arrayToQuery("groups[]", groupIds));
-        if (contentRating != null) query.append(arrayToQuery("contentRating[]", contentRating));
-        if (volume != null) query.append(arrayToQuery("volume[]", volume));
-        if (chapterIds != null) query.append(arrayToQuery("chapter[]", chapterIds));
-        if (translatedLanguages != null) query.append(arrayToQuery("translatedLanguage[]", translatedLanguages));
-        if (originalLanguage != null) query.append(arrayToQuery("originalLanguage[]", originalLanguage));
-        if (excludedOriginalLanguages != null) query.append(arrayToQuery("excludedOriginalLanguage[]", excludedOriginalLanguages));
-        if (excludedGroupIds != null) query.append(arrayToQuery("excludedGroups[]", excludedGroupIds));
+        query.append(arrayToQuery("groups[]", groupIds));
+        query.append(arrayToQuery("contentRating[]", contentRating));
+        query.append(arrayToQuery("volume[]", volume));
+        query.append(arrayToQuery("ids[]", chapterIds));
+        query.append(arrayToQuery("translatedLanguage[]", translatedLanguages));
+        query.append(arrayToQuery("originalLanguage[]", originalLanguage));
+        query.append(arrayToQuery("excludedOriginalLanguage[]", excludedOriginalLanguages));
+        query.append(arrayToQuery("excludedGroups[]", excludedGroupIds));
         query.append("includeFutureUpdates=").append(toInteger(includeFutureUpdates)).append("&");
         query.append("includeEmptyPages=").append(toInteger(includeEmptyPages)).append("&");
         query.append("includeFuturePublishAt=").append(toInteger(includeFuturePublishAt)).append("&");
         query.append("includeExternalUrl=").append(toInteger(includeExternalUrl)).append("&");
-        if (createdAtSince != null) query.append("createdAtSince=").append(createdAtSince.toString()).append("&");
-        if (updatedAtSince != null) query.append("updatedAtSince=").append(updatedAtSince.toString()).append("&");
-        if (publishAtSince != null) query.append("publishAtSince=").append(publishAtSince.toString()).append("&");
+        if (createdAtSince != null) query.append("createdAtSince=").append(MangaAction.formatSince(createdAtSince)).append("&");
+        if (updatedAtSince != null) query.append("updatedAtSince=").append(MangaAction.formatSince(updatedAtSince)).append("&");
+        if (publishAtSince != null) query.append("publishAtSince=").append(MangaAction.formatSince(publishAtSince)).append("&");
+        if (order != null) query.append(order.toQuery());
         return query.toString();
     }
 
@@ -546,7 +694,7 @@ public class ChapterAction extends Action<List<Chapter>> {
         return bool ? 1 : 0;
     }
 
-    private String arrayToQuery(String key, List<?> list){
+    private String arrayToQuery(String key, Collection<?> list){
         StringBuilder query = new StringBuilder();
         list.forEach(item -> {
             query.append(key).append("=").append(item.toString()).append("&");
@@ -1,6 +1,7 @@
 package dev.kurumidisciples.javadex.internal.actions.retrieve;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -14,20 +15,32 @@ import org.jetbrains.annotations.NotNull;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.MDList;
 import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
 import dev.kurumidisciples.javadex.api.entities.User;
 import dev.kurumidisciples.javadex.api.entities.content.Manga;
 import dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType;
 import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
+import dev.kurumidisciples.javadex.api.entities.enums.MangaProjection;
 import dev.kurumidisciples.javadex.api.entities.intermediate.Entity;
+import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
 import dev.kurumidisciples.javadex.api.entities.intermediate.middlemen.EntityMiddleman;
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
 import dev.kurumidisciples.javadex.internal.actions.Action;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.actions.PagedAction;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
 
 /**
  * <p>FollowsAction is responsible for handling the follow actions for different entities
@@ -37,13 +50,14 @@ import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
  * @version $Id: $Id
  */
 @SuppressWarnings("unused")
-public class FollowsAction extends Action<List<EntityMiddleman>> {
+public class FollowsAction extends Action<List<EntityMiddleman>> implements PagedAction<ISnowflake> {
 
     private int limit;
     private int offset;
     private final FollowingEntityType followingType;
     private IncludesType[] includes = null;
     private Token authorization;
+    private MangaProjection projection = MangaProjection.FULL;
 
     private static final String BASE_URL = "https://api.mangadex.org";
 
@@ -115,6 +129,18 @@ public class FollowsAction extends Action<List<EntityMiddleman>> {
         return this;
     }
 
+    /**
+     * Sets which fields of the returned manga are built. Only used when following manga.
+     * <p>Narrower projections skip parsing the other fields and are not cached. Default is {@link MangaProjection#FULL}.</p>
+     *
+     * @param projection a {@link dev.kurumidisciples.javadex.api.entities.enums.MangaProjection} object
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.FollowsAction} object
+     */
+    public FollowsAction setProjection(@NotNull MangaProjection projection) {
+        this.projection = projection;
+        return this;
+    }
+
     /**
      * Validates if the provided include type is valid for the current following type.
      * @param include the include type to validate.
@@ -149,39 +175,103 @@ public class FollowsAction extends Action<List<EntityMiddleman>> {
      */
     @Override
     public List<EntityMiddleman> complete() throws HTTPRequestException {
-        String query = toString();
-        String response = HTTPRequest.get(query, Optional.of(authorization.getAccessToken()));
-        switch (followingType) {
-            case SELF_MANGA:
-                JsonObject mangaResponse = JsonParser.parseString(response).getAsJsonObject();
-                JsonArray mangaData = mangaResponse.getAsJsonArray("data");
-                List<EntityMiddleman> mangaList = new ArrayList<>();
-                for (JsonElement manga : mangaData) {
-                    mangaList.add(new EntityMiddleman(new Manga(manga.getAsJsonObject())));
-                }
-                return mangaList;
-            case SELF_GROUP:
-                JsonObject groupResponse = JsonParser.parseString(response).getAsJsonObject();
-                JsonArray groupData = groupResponse.getAsJsonArray("data");
-                List<EntityMiddleman> groupList = new ArrayList<>();
-                for (JsonElement group : groupData) {
-                    groupList.add(new EntityMiddleman(new ScanlationGroup(group.getAsJsonObject())));
+        List<EntityMiddleman> entities = new ArrayList<>();
+        for (Entity entity : fetch(limit, offset).getItems()) {
+            entities.add(new EntityMiddleman(entity));
+        }
+        return entities;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Followed manga, groups and lists can be paged, so {@link PageFanOut} can pull a whole library.
+     */
+    @Override
+    public Page<ISnowflake> completePage(int offset, int limit) throws HTTPRequestException {
+        if (followingType == FollowingEntityType.SELF_USER) {
+            throw new UnsupportedOperationException("This method is not supported for this action.");
+        }
+        Page<Entity> page = fetch(limit, offset);
+        List<ISnowflake> items = new ArrayList<>(page.getItems().size());
+        for (Entity entity : page.getItems()) {
+            items.add((ISnowflake) entity);
+        }
+        return new Page<>(items, page.getOffset(), page.getLimit(), page.getTotal());
+    }
+
+    private Page<Entity> fetch(int limit, int offset) throws HTTPRequestException {
+        String response = HTTPRequest.get(buildUrl(limit, offset), Optional.of(authorization.getAccessToken()));
+        JsonObject json = JsonParser.parseString(response).getAsJsonObject();
+        JsonArray data = json.getAsJsonArray("data");
+        List<Entity> entities = new ArrayList<>(data.size());
+        for (JsonElement element : data) {
+            JsonObject entity = element.getAsJsonObject();
+            switch (followingType) {
+                case SELF_MANGA:
+                    EntityStores.write(StoredEntityType.MANGA, entity);
+                    Manga manga = new Manga(entity, projection);
+                    entities.add(projection == MangaProjection.FULL ? EntityCaches.MANGA.put(manga) : manga);
+                    break;
+                case SELF_GROUP:
+                    EntityStores.write(StoredEntityType.SCANLATION_GROUP, entity);
+                    entities.add(EntityCaches.GROUP.put(new ScanlationGroup(entity)));
+                    break;
+                case SELF_USER:
+                    entities.add(EntityCaches.USER.put(new User(entity)));
+                    break;
+                case SELF_LIST:
+                    entities.add(new MDList(entity));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new Page<>(entities, intOrDefault(json, "offset", offset), intOrDefault(json, "limit", limit),
+                intOrDefault(json, "total", entities.size()));
+    }
+
+    private static int intOrDefault(JsonObject response, String key, int fallback) {
+        return response.has(key) && !response.get(key).isJsonNull() ? response.get(key).getAsInt() : fallback;
+    }
+
+    /**
+     * Fetches only the ids of the followed entities of this page.
+     * <p>The ids are parsed straight into a {@link UuidSet}; no entity is built, cached or stored. Useful for
+     * checking many ids against the follows, see {@link #setLimit(Integer)} and {@link #setOffset(Integer)} to
+     * page.</p>
+     *
+     * @return the ids of this page.
+     * @throws HTTPRequestException if the request fails.
+     */
+    public UuidSet completeIds() throws HTTPRequestException {
+        UuidSet ids = new UuidSet(limit);
+        try (JsonReader in = new JsonReader(new StringReader(HTTPRequest.get(toString(), Optional.of(authorization.getAccessToken()))))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!"data".equals(in.nextName())) {
+                    in.skipValue();
+                    continue;
                 }
-                return groupList;
-            case SELF_USER:
-                JsonObject userResponse = JsonParser.parseString(response).getAsJsonObject();
-                JsonArray userData = userResponse.getAsJsonArray("data");
-                List<EntityMiddleman> userList = new ArrayList<>();
-                for (JsonElement user : userData) {
-                    userList.add(new EntityMiddleman(new User(user.getAsJsonObject())));
+                in.beginArray();
+                while (in.hasNext()) {
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        if ("id".equals(in.nextName()) && in.peek() == JsonToken.STRING) {
+                            ids.add(in.nextString());
+                        } else {
+                            in.skipValue();
+                        }
+                    }
+                    in.endObject();
                 }
-                return userList;
-            case SELF_LIST:
-                // TODO implement list support
-                throw new UnsupportedOperationException("Lists are not supported yet.");
-            default:
-                return null;
+                in.endArray();
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
         }
+        return ids;
     }
 
     /**
@@ -208,6 +298,10 @@ public class FollowsAction extends Action<List<EntityMiddleman>> {
      */
     @Override
     public String toString() {
+        return buildUrl(limit, offset);
+    }
+
+    private String buildUrl(int limit, int offset) {
         StringBuilder builder = new StringBuilder();
         builder.append(BASE_URL).append(followingType.getEndpoint());
         builder.append("?limit=").append(limit);
@@ -0,0 +1,165 @@
+package dev.kurumidisciples.javadex.internal.actions.retrieve;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.MDList;
+import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.actions.Action;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.actions.PagedAction;
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
+
+/**
+ * Retrieves the custom lists of a user, either the logged in user's own lists from {@code /user/list}, private ones
+ * included, or the public lists of any user from {@code /user/{id}/list}.
+ * <p>A list only carries the ids of its titles; see {@link MDList#retrieveManga()} to retrieve them and
+ * {@link ChapterAction#ofListFeed(UUID, Token)} for the chapters of the list.</p>
+ *
+ * <pre>{@code
+ * for (MDList list : javadex.retrieveLists().setLimit(100).complete()) {
+ *     List<Manga> manga = list.retrieveManga().complete();
+ * }
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class ListAction extends Action<List<MDList>> implements PagedAction<MDList> {
+
+    private static final Logger logger = LogManager.getLogger(ListAction.class);
+    private static final String BASE_URL = "https://api.mangadex.org";
+
+    private final String endpoint;
+    private final Token authorization;
+    private int limit = 10;
+    private int offset = 0;
+
+    /**
+     * Creates an action over the lists of the logged in user.
+     *
+     * @param authorization the token of the user.
+     */
+    public ListAction(@NotNull Token authorization) {
+        this.endpoint = BASE_URL + "/user/list";
+        this.authorization = authorization;
+    }
+
+    /**
+     * Creates an action over the public lists of the given user.
+     *
+     * @param userId the owner of the lists.
+     * @param authorization a token to send along, or {@code null}.
+     */
+    public ListAction(@NotNull UUID userId, @Nullable Token authorization) {
+        this.endpoint = BASE_URL + "/user/" + userId + "/list";
+        this.authorization = authorization;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Sets the number of lists to fetch, at most 100.
+     */
+    @Override
+    public ListAction setLimit(@Size(min=0, max=100) Integer limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ListAction setOffset(@Size(min=0) Integer offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ListAction setIncludes(IncludesType... includes) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<MDList> complete() throws HTTPRequestException {
+        return completePage(offset, limit).getItems();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Page<MDList> completePage(int offset, int limit) throws HTTPRequestException {
+        JsonObject response = EntityCodecs.parse(HTTPRequest.get(endpoint + "?limit=" + limit + "&offset=" + offset, bearer(authorization)));
+        JsonArray data = response.getAsJsonArray("data");
+        List<MDList> lists = new ArrayList<>(data.size());
+        for (JsonElement element : data) {
+            lists.add(new MDList(element.getAsJsonObject()));
+        }
+        return new Page<>(lists, intOrDefault(response, "offset", offset), intOrDefault(response, "limit", limit),
+                intOrDefault(response, "total", lists.size()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<MDList>> submit() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return complete();
+            } catch (HTTPRequestException e) {
+                logger.error("Error retrieving lists", e);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Retrieves a single list from {@code /list/{id}}.
+     * <p>Private lists are only returned to their owner.</p>
+     *
+     * @param id the id of the list.
+     * @param authorization a token to send along, or {@code null} for public lists.
+     * @return the list.
+     */
+    public static CompletableFuture<MDList> getListById(@NotNull UUID id, @Nullable Token authorization) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                logger.debug("Retrieving list by ID: {}", id);
+                return new MDList(EntityCodecs.parse(HTTPRequest.get(BASE_URL + "/list/" + id, bearer(authorization))).getAsJsonObject("data"));
+            } catch (HTTPRequestException e) {
+                logger.error("Unable to retrieve list with ID: {}", id, e);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return endpoint + "?limit=" + limit + "&offset=" + offset;
+    }
+
+    static Optional<String> bearer(@Nullable Token authorization) {
+        return authorization == null ? Optional.empty() : Optional.of(authorization.getAccessToken());
+    }
+
+    private static int intOrDefault(JsonObject response, String key, int fallback) {
+        return response.has(key) && !response.get(key).isJsonNull() ? response.get(key).getAsInt() : fallback;
+    }
+}
@@ -1,10 +1,15 @@
 package dev.kurumidisciples.javadex.internal.actions.retrieve;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -13,38 +18,49 @@ import java.util.concurrent.CompletionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 import dev.kurumidisciples.javadex.api.entities.content.Manga;
 import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
 import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.enums.MangaProjection;
 import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.Demographic;
 import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.Status;
 import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.Mode;
+import dev.kurumidisciples.javadex.api.entities.enums.order.OrderMapping;
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
 import dev.kurumidisciples.javadex.internal.actions.Action;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.actions.PagedAction;
 import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
-import dev.kurumidisciples.javadex.internal.http.adapters.OffsetDateTimeTypeAdapter;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
 
 /**
  * The MangaAction class provides methods for searching MangaDex API for manga titles and retrieving manga by ID.
+ * <p>An id filter longer than the 100 ids the API accepts is split into sub-queries of 100 that run concurrently,
+ * see {@link #addMangaIds(Collection)}.</p>
  *
  * @author Hacking Pancakez
  * @version $Id: $Id
  */
-public class MangaAction extends Action<List<Manga>>{
+public class MangaAction extends Action<List<Manga>> implements PagedAction<Manga> {
 
     private static final Logger logger = LogManager.getLogger(MangaAction.class);
     private static final String API_BASE_URL = "https://api.mangadex.org/manga";
+    private static final DateTimeFormatter SINCE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
     private Integer limit;
     private Integer offset;
     private String title;
-    private List<UUID> mangaIds = new ArrayList<>(); //limited to 100 per request
+    private List<UUID> mangaIds = new ArrayList<>(); //split into requests of 100
     private UUID authorOrArtist;
     private List<UUID> authors = new ArrayList<>();
     private List<UUID> artists = new ArrayList<>();
@@ -60,6 +76,13 @@ public class MangaAction extends Action<List<Manga>>{
     private List<Demographic> demographic = new ArrayList<>();
     private List<String> contentRatings = new ArrayList<>();
     private Boolean hasAvailableChapters;
+    private MangaProjection projection = MangaProjection.FULL;
+    private OrderMapping order;
+    private OffsetDateTime createdAtSince;
+    private OffsetDateTime updatedAtSince;
+    private boolean preserveIdOrder;
+    private int concurrency = 4;
+    private final SplitQuery.Memo<Manga> split = new SplitQuery.Memo<>();
 
     /**
      * <p>Constructor for MangaAction.</p>
@@ -114,14 +137,50 @@ public class MangaAction extends Action<List<Manga>>{
 
     /**
      * Add a id to the list of {@link Manga}'s to search for.
-     * <p><b>WARNING: This method is limited to 100 manga ids per request.</b></p>
+     * <p>See {@link #addMangaIds(Collection)} for more than 100 ids.</p>
      * @param id The id of the manga to add to the search.
      * @return The current instance of the MangaAction.
      */
     public MangaAction addMangaId(UUID id) {
-        if (mangaIds.size() < 100) {
-            mangaIds.add(id);
-        }
+        mangaIds.add(id);
+        return this;
+    }
+
+    /**
+     * Adds ids to the list of {@link Manga}'s to search for.
+     * <p>The API takes 100 ids per request. With more, {@link #complete()} splits the ids into sub-queries of 100,
+     * runs them {@link #setConcurrency(int) concurrently} and returns every match, deduplicated, ignoring the limit and
+     * offset.</p>
+     *
+     * @param ids The ids of the manga to add to the search.
+     * @return The current instance of the MangaAction.
+     */
+    public MangaAction addMangaIds(Collection<UUID> ids) {
+        mangaIds.addAll(ids);
+        return this;
+    }
+
+    /**
+     * Returns the results of an id search in the order the ids were added, instead of the order of the API.
+     * <p>Default is {@code false}.</p>
+     *
+     * @param preserveIdOrder whether to keep the order of the ids.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction} object
+     */
+    public MangaAction setPreserveIdOrder(boolean preserveIdOrder) {
+        this.preserveIdOrder = preserveIdOrder;
+        return this;
+    }
+
+    /**
+     * Sets how many sub-queries of a split id filter may be in flight at once.
+     * <p>Default is {@code 4}.</p>
+     *
+     * @param concurrency at least 1.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction} object
+     */
+    public MangaAction setConcurrency(@Size(min=1) int concurrency) {
+        this.concurrency = concurrency;
         return this;
     }
 
@@ -359,6 +418,60 @@ public class MangaAction extends Action<List<Manga>>{
         return this;
     }
 
+    /**
+     * Sets which fields of the returned manga are built.
+     * <p>Narrower projections skip parsing the other fields and are not cached. Default is {@link MangaProjection#FULL}.</p>
+     *
+     * @param projection a {@link dev.kurumidisciples.javadex.api.entities.enums.MangaProjection} object
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction} object
+     */
+    public MangaAction setProjection(MangaProjection projection) {
+        this.projection = projection;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MangaAction setOrder(OrderMapping order) {
+        this.order = order;
+        return this;
+    }
+
+    /**
+     * Sets the sort order of the results to a single option.
+     *
+     * @param option the field to sort by.
+     * @param value the direction.
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction} object
+     */
+    public MangaAction setOrder(OrderMapping.Option option, OrderMapping.Value value) {
+        return setOrder(OrderMapping.of(option, value));
+    }
+
+    /**
+     * Only returns manga created at or after the given time. It is sent in UTC, to the second.
+     *
+     * @param createdAtSince a {@link java.time.OffsetDateTime} object
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction} object
+     */
+    public MangaAction setCreatedAtSince(OffsetDateTime createdAtSince) {
+        this.createdAtSince = createdAtSince;
+        return this;
+    }
+
+    /**
+     * Only returns manga updated at or after the given time. It is sent in UTC, to the second.
+     *
+     * @param updatedAtSince a {@link java.time.OffsetDateTime} object
+     * @return a {@link dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction} object
+     */
+    public MangaAction setUpdatedAtSince(OffsetDateTime updatedAtSince) {
+        this.updatedAtSince = updatedAtSince;
+        return this;
+    }
+
     /**
      * <p>Setter for the field <code>originalLanguages</code>.</p>
      *
@@ -585,16 +698,13 @@ public class MangaAction extends Action<List<Manga>>{
      */
     public List<Manga> complete() throws HTTPRequestException {
         logger.debug("Submitting search request with parameters: {}", this);
-        String queryString = buildQueryString();
-        Gson gson = new GsonBuilder()
-                .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter())
-                .create();
-
-        JsonObject response = gson.fromJson(HTTPRequest.get(API_BASE_URL + "?" + queryString), JsonObject.class);
-        JsonArray data = response.getAsJsonArray("data");
-        List<Manga> mangaList = new ArrayList<>();
-
-        data.forEach(element -> mangaList.add(new Manga(element.getAsJsonObject())));
+        List<Manga> mangaList;
+        if (mangaIds.size() > SplitQuery.MAX_IDS) {
+            mangaList = new ArrayList<>(split.get(splitKey(), true, this::completeSplit));
+        } else {
+            mangaList = fetch(buildQueryString()).getItems();
+            if (preserveIdOrder && !mangaIds.isEmpty()) mangaList = SplitQuery.merge(List.of(mangaList), mangaIds);
+        }
 
         if (mangaList.isEmpty()) {
             logger.warn("No manga entities found for the search query: {}", title);
@@ -605,22 +715,114 @@ public class MangaAction extends Action<List<Manga>>{
         return mangaList;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Page<Manga> completePage(int offset, int limit) throws HTTPRequestException {
+        if (mangaIds.size() > SplitQuery.MAX_IDS) {
+            // The total is only known once every sub-query ran, so the first page runs them and later pages reuse it
+            return SplitQuery.Memo.page(split.get(splitKey(), offset == 0, this::completeSplit), offset, limit);
+        }
+        return fetch(buildQueryString(limit, offset));
+    }
+
+    private String splitKey() {
+        return buildQueryString(null, null) + "#" + preserveIdOrder + "#" + projection;
+    }
+
+    /**
+     * Runs one sub-query per 100 distinct ids. A chunk of ids matches at most as many manga, so each takes one request.
+     */
+    private List<Manga> completeSplit() throws HTTPRequestException {
+        List<List<UUID>> chunks = SplitQuery.chunk(new LinkedHashSet<>(mangaIds));
+        logger.debug("Splitting {} manga ids into {} requests", mangaIds.size(), chunks.size());
+        List<List<Manga>> results = SplitQuery.run(chunks, chunk -> fetch(buildQueryString(chunk.size(), 0, chunk)).getItems(),
+                concurrency, "javadex-split-query");
+        return SplitQuery.merge(results, preserveIdOrder ? mangaIds : null);
+    }
+
+    private Page<Manga> fetch(String queryString) throws HTTPRequestException {
+        String body = HTTPRequest.get(API_BASE_URL + "?" + queryString);
+        // The store keeps whole entities, so the tree is only worth building for a full manga or a store write
+        if (projection != MangaProjection.FULL && EntityStores.get() == null) return fetchProjected(body);
+        JsonObject response = EntityCodecs.parse(body);
+        JsonArray data = response.getAsJsonArray("data");
+        List<Manga> mangaList = new ArrayList<>(data.size());
+
+        data.forEach(element -> {
+            EntityStores.write(StoredEntityType.MANGA, element.getAsJsonObject());
+            Manga manga = new Manga(element.getAsJsonObject(), projection);
+            mangaList.add(projection == MangaProjection.FULL ? EntityCaches.MANGA.put(manga) : manga);
+        });
+
+        return new Page<>(mangaList, intOrDefault(response, "offset", 0), intOrDefault(response, "limit", data.size()),
+                intOrDefault(response, "total", mangaList.size()));
+    }
+
+    /**
+     * Streams the {@code data} array straight into projected manga, skipping the attributes they do not hold.
+     */
+    private Page<Manga> fetchProjected(String body) {
+        List<Manga> mangaList = new ArrayList<>();
+        int offset = 0;
+        int limit = -1;
+        int total = -1;
+        try (JsonReader in = new JsonReader(new StringReader(body))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "data":
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            mangaList.add(new Manga(in, projection));
+                        }
+                        in.endArray();
+                        break;
+                    case "offset":
+                        offset = JsonReaders.nextInt(in, 0);
+                        break;
+                    case "limit":
+                        limit = JsonReaders.nextInt(in, -1);
+                        break;
+                    case "total":
+                        total = JsonReaders.nextInt(in, -1);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return new Page<>(mangaList, offset, limit < 0 ? mangaList.size() : limit, total < 0 ? mangaList.size() : total);
+    }
+
+    private static int intOrDefault(JsonObject response, String key, int fallback) {
+        return response.has(key) && !response.get(key).isJsonNull() ? response.get(key).getAsInt() : fallback;
+    }
+
 
     /**
      * Retrieves a Manga object for the specified ID from MangaDex API.
+     * <p>The manga is served from {@link EntityCaches#MANGA} when it has been seen recently, without sending a request.</p>
+     * <p>When an {@link EntityStores entity store} is open, a stored copy is used until it is due for revalidation,
+     * and as a fallback if the request fails.</p>
      *
      * @param id A String representing the manga ID.
      * @return A CompletableFuture containing the Manga object.
      */
     public static CompletableFuture<Manga> getMangaById(String id) {
+        Manga cached = getCachedManga(id);
+        if (cached != null) {
+            logger.debug("Serving manga {} from cache", id);
+            return CompletableFuture.completedFuture(cached);
+        }
         return CompletableFuture.supplyAsync(() -> {
             try {
                 logger.debug("Retrieving manga by ID: {}", id);
-                Gson gson = new GsonBuilder()
-                        .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter())
-                        .create();
-                JsonObject response = gson.fromJson(HTTPRequest.get("https://api.mangadex.org/manga/" + id), JsonObject.class);
-                return new Manga(response.getAsJsonObject("data"));
+                Manga manga = EntityStores.readThrough(StoredEntityType.MANGA, UUID.fromString(id), Manga::new,
+                        () -> EntityCodecs.parse(HTTPRequest.get("https://api.mangadex.org/manga/" + id)).getAsJsonObject("data"));
+                return EntityCaches.MANGA.put(manga);
             } catch (Exception e) {
                 logger.error("Unable to retrieve Manga with ID: {}", id, e);
                 return null;
@@ -628,12 +830,28 @@ public class MangaAction extends Action<List<Manga>>{
         });
     }
 
+    private static Manga getCachedManga(String id) {
+        try {
+            return EntityCaches.MANGA.getIfPresent(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
-     * Builds the query string for the GET request.
+     * Builds the query string for the GET request, without the leading {@code ?}.
      *
      * @return The query string.
      */
     private String buildQueryString() {
+        return buildQueryString(limit, offset);
+    }
+
+    private String buildQueryString(Integer limit, Integer offset) {
+        return buildQueryString(limit, offset, mangaIds);
+    }
+
+    private String buildQueryString(Integer limit, Integer offset, List<UUID> mangaIds) {
         StringBuilder queryString = new StringBuilder();
         if (title != null) queryString.append("title=").append(encodeValue(title)).append("&");
         if (limit != null) queryString.append("limit=").append(limit).append("&");
@@ -673,6 +891,9 @@ public class MangaAction extends Action<List<Manga>>{
         for (String contentRating : contentRatings) {
             queryString.append("contentRating[]=").append(encodeValue(contentRating)).append("&");
         }
+        if (createdAtSince != null) queryString.append("createdAtSince=").append(formatSince(createdAtSince)).append("&");
+        if (updatedAtSince != null) queryString.append("updatedAtSince=").append(formatSince(updatedAtSince)).append("&");
+        if (order != null) queryString.append(order.toQuery());
 
         // Remove the last "&" if present
         if (queryString.length() > 0 && queryString.charAt(queryString.length() - 1) == '&') {
@@ -693,6 +914,16 @@ public class MangaAction extends Action<List<Manga>>{
         //return input.replace(" ", "%20");
     }
 
+    /**
+     * Formats a {@code *Since} filter the way the API accepts it, in UTC and without an offset.
+     *
+     * @param since the time.
+     * @return the formatted time.
+     */
+    static String formatSince(OffsetDateTime since) {
+        return since.atZoneSameInstant(ZoneOffset.UTC).format(SINCE_FORMAT);
+    }
+
     /**
      * Encodes a value to be used in a URL query string.
      *
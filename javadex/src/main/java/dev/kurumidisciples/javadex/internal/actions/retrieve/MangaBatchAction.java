@@ -0,0 +1,146 @@
+package dev.kurumidisciples.javadex.internal.actions.retrieve;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
+import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.ContentRating;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.actions.Action;
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.utils.UuidObjectMap;
+
+/**
+ * Retrieves many manga by id at once from {@code /manga?ids[]=}, such as the titles of a
+ * {@link dev.kurumidisciples.javadex.api.entities.MDList}.
+ * <p>Manga in {@link EntityCaches#MANGA} are served without a request. The rest are sent in chunks of 100, and up to
+ * {@link #setConcurrency(int) concurrency} chunks are in flight at once, so a list of 2,000 titles costs 20 requests
+ * instead of 2,000. Every content rating is requested, since the search endpoint leaves pornographic titles out by
+ * default.</p>
+ *
+ * <pre>{@code
+ * MDList list = javadex.retrieveListById(listId).join();
+ * List<Manga> manga = list.retrieveManga().complete();
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class MangaBatchAction extends Action<List<Manga>> {
+
+    private static final Logger logger = LogManager.getLogger(MangaBatchAction.class);
+    /** The most ids the search endpoint accepts in one request */
+    public static final int BATCH_SIZE = SplitQuery.MAX_IDS;
+
+    private final List<UUID> mangaIds;
+    private int concurrency = 4;
+
+    /**
+     * <p>Constructor for MangaBatchAction.</p>
+     *
+     * @param mangaIds the manga to retrieve; repeated ids are retrieved once.
+     */
+    public MangaBatchAction(@NotNull Collection<UUID> mangaIds) {
+        this.mangaIds = new ArrayList<>(new LinkedHashSet<>(mangaIds));
+    }
+
+    /**
+     * Sets how many chunks may be in flight at once.
+     * <p>Default is {@code 4}.</p>
+     *
+     * @param concurrency at least 1.
+     * @return this action.
+     */
+    public MangaBatchAction setConcurrency(@Size(min=1) int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the manga in the order of the ids; ids the API does not know are left out.
+     */
+    @Override
+    public List<Manga> complete() throws HTTPRequestException {
+        UuidObjectMap<Manga> found = new UuidObjectMap<>(mangaIds.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : mangaIds) {
+            Manga cached = EntityCaches.MANGA.getIfPresent(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        List<List<UUID>> chunks = missing.isEmpty() ? List.of() : SplitQuery.chunk(missing);
+        logger.debug("Retrieving {} manga, {} cached, in {} requests", mangaIds.size(), found.size(), chunks.size());
+
+        List<List<Manga>> fetched = chunks.isEmpty() ? List.of()
+                : SplitQuery.run(chunks, MangaBatchAction::fetch, concurrency, "javadex-manga-batch");
+        for (List<Manga> chunk : fetched) {
+            for (Manga manga : chunk) {
+                found.put(manga.getId(), manga);
+            }
+        }
+        List<Manga> result = new ArrayList<>(found.size());
+        for (UUID id : mangaIds) {
+            Manga manga = found.get(id);
+            if (manga != null) result.add(manga);
+        }
+        if (result.size() < mangaIds.size()) {
+            logger.debug("{} of {} manga could not be found", mangaIds.size() - result.size(), mangaIds.size());
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<List<Manga>> submit() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return complete();
+            } catch (HTTPRequestException e) {
+                logger.error("Error retrieving manga", e);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Action<List<Manga>> setLimit(Integer limit) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Action<List<Manga>> setOffset(Integer offset) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Action<List<Manga>> setIncludes(IncludesType... includes) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
+
+    private static List<Manga> fetch(List<UUID> chunk) throws HTTPRequestException {
+        MangaAction action = new MangaAction().addMangaIds(chunk);
+        for (ContentRating rating : ContentRating.values()) {
+            if (rating != ContentRating.NONE) action.addContentRating(rating.getValue());
+        }
+        return action.completePage(0, chunk.size()).getItems();
+    }
+}
@@ -0,0 +1,214 @@
+package dev.kurumidisciples.javadex.internal.actions.retrieve;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.actions.PagedAction;
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+/**
+ * Pulls a large result set by fetching its offset pages concurrently instead of one after the other.
+ *
+ * <p>The first page is fetched alone to learn the total; the remaining pages up to the target are then planned up
+ * front and fetched by at most {@link #setConcurrency(int) concurrency} threads at once. Requests still pass through
+ * the library's rate limiter, so a bulk pull takes as long as the request budget allows rather than the latency of
+ * every page added up.</p>
+ * <p>Offset pagination is not a snapshot: an entity inserted ahead of the scan pushes the others back by one, and the
+ * last entity of a page shows up again at the start of the next. Such repeats are dropped by id. Entities that move
+ * towards the front during the scan can still be missed, as with serial paging.</p>
+ * <p>MangaDex rejects {@code offset + limit} above 10,000 on list endpoints, so the target is capped there.</p>
+ *
+ * <pre>{@code
+ * List<Manga> all = new PageFanOut<>(javadex.search("isekai"), 5_000).setConcurrency(8).complete();
+ *
+ * new PageFanOut<>(javadex.retrieveChapters().setMangaId(id), 10_000)
+ *         .stream(chapter -> index(chapter));
+ * }</pre>
+ *
+ * @param <T> the entity type.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class PageFanOut<T extends ISnowflake> {
+
+    private static final Logger logger = LogManager.getLogger(PageFanOut.class);
+
+    /** MangaDex rejects offset + limit above this for list endpoints */
+    public static final int MAX_WINDOW = 10_000;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PagedAction<T> action;
+    private final int target;
+    private int pageSize = MAX_PAGE_SIZE;
+    private int concurrency = 4;
+    private final AtomicInteger duplicates = new AtomicInteger();
+
+    /**
+     * <p>Constructor for PageFanOut.</p>
+     *
+     * @param action the search or feed to pull; its own limit and offset are ignored.
+     * @param target how many entities to pull at most.
+     */
+    public PageFanOut(PagedAction<T> action, int target) {
+        if (target < 1) throw new IllegalArgumentException("Target must be at least 1");
+        this.action = action;
+        this.target = Math.min(target, MAX_WINDOW);
+    }
+
+    /**
+     * Sets the page size. Fewer, larger pages use less of the request budget.
+     * <p>Default is {@code 100}, the most the API returns.</p>
+     *
+     * @param pageSize between 1 and 100.
+     * @return this fan-out.
+     */
+    public PageFanOut<T> setPageSize(@Size(min=1, max=100) int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Sets how many pages may be in flight at once.
+     * <p>Default is {@code 4}.</p>
+     *
+     * @param concurrency at least 1.
+     * @return this fan-out.
+     */
+    public PageFanOut<T> setConcurrency(@Size(min=1) int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * <p>getDuplicates.</p>
+     *
+     * @return how many repeated entities the last run dropped.
+     */
+    public int getDuplicates() {
+        return duplicates.get();
+    }
+
+    /**
+     * Pulls the result set and returns it in API order.
+     *
+     * @return up to {@code target} distinct entities.
+     * @throws HTTPRequestException if any page fails; the pages still in flight are cancelled.
+     */
+    public List<T> complete() throws HTTPRequestException {
+        Map<UUID, T> ordered = new LinkedHashMap<>();
+        run(page -> {
+            for (T item : page.getItems()) {
+                if (ordered.size() < target && ordered.putIfAbsent(item.getId(), item) != null) {
+                    duplicates.incrementAndGet();
+                }
+            }
+        }, true);
+        return new ArrayList<>(ordered.values());
+    }
+
+    /**
+     * Pulls the result set and hands each entity to the consumer as soon as its page arrives, in no particular order.
+     * <p>The consumer is never called concurrently.</p>
+     *
+     * @param consumer receives every distinct entity once.
+     * @return the number of entities delivered.
+     * @throws HTTPRequestException if any page fails; entities already delivered stay delivered.
+     */
+    public int stream(Consumer<? super T> consumer) throws HTTPRequestException {
+        UuidSet seen = new UuidSet(Math.min(target, 1 << 16));
+        run(page -> {
+            for (T item : page.getItems()) {
+                if (seen.size() >= target) {
+                    return;
+                }
+                if (seen.add(item.getId())) {
+                    consumer.accept(item);
+                } else {
+                    duplicates.incrementAndGet();
+                }
+            }
+        }, false);
+        return seen.size();
+    }
+
+    /**
+     * Runs {@link #complete()} on a background thread.
+     *
+     * @return the pulled entities.
+     */
+    public CompletableFuture<List<T>> submit() {
+        return CompletableFuture.supplyAsync(this::complete);
+    }
+
+    /**
+     * Fetches the first page, plans the rest and delivers every page to {@code sink}, under its lock.
+     * With {@code ordered} set pages are delivered in offset order, otherwise as they complete.
+     */
+    private void run(Consumer<Page<T>> sink, boolean ordered) throws HTTPRequestException {
+        duplicates.set(0);
+        Page<T> first = action.completePage(0, Math.min(pageSize, target));
+        sink.accept(first);
+        int goal = Math.min(target, first.getTotal());
+        List<Integer> offsets = new ArrayList<>();
+        for (int offset = first.getItems().size() < pageSize ? goal : pageSize; offset < goal; offset += pageSize) {
+            offsets.add(offset);
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+        logger.debug("Fanning out {} pages of {} over {} threads for {} of {} entities",
+                offsets.size(), pageSize, concurrency, goal, first.getTotal());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, offsets.size()), runnable -> {
+            Thread thread = new Thread(runnable, "javadex-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<Page<T>>> pages = new ArrayList<>(offsets.size());
+        try {
+            for (int offset : offsets) {
+                int limit = Math.min(pageSize, goal - offset);
+                CompletableFuture<Page<T>> page = CompletableFuture.supplyAsync(() -> action.completePage(offset, limit), executor);
+                if (!ordered) {
+                    page = page.thenApply(completed -> {
+                        synchronized (sink) {
+                            sink.accept(completed);
+                        }
+                        return completed;
+                    });
+                }
+                pages.add(page);
+            }
+            for (CompletableFuture<Page<T>> page : pages) {
+                Page<T> completed = page.join();
+                if (ordered) {
+                    sink.accept(completed);
+                }
+            }
+        } catch (CompletionException e) {
+            pages.forEach(page -> page.cancel(true));
+            if (e.getCause() instanceof HTTPRequestException) {
+                throw (HTTPRequestException) e.getCause();
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
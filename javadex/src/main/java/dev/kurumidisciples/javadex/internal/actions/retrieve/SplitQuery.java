@@ -0,0 +1,156 @@
+package dev.kurumidisciples.javadex.internal.actions.retrieve;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.utils.UuidLongMap;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+/**
+ * Plans an id filter that is too long for one request into sub-queries of at most {@link #MAX_IDS} ids, runs them
+ * concurrently and merges their results.
+ * <p>The sub-queries still pass through the library's rate limiter, so a filter of 5,000 ids takes as long as 50
+ * requests are allowed to, rather than 50 round trips one after the other.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+final class SplitQuery {
+
+    /** The most values MangaDex accepts in one array filter */
+    static final int MAX_IDS = 100;
+
+    private SplitQuery() {}
+
+    /**
+     * The merged result of the last split run of one action, so that paging a split action runs its sub-queries once
+     * rather than once per page.
+     * <p>The result is keyed by the action's query without limit and offset, so it is dropped as soon as a filter
+     * changes. A page at offset 0 starts a new scan and runs the sub-queries again; later pages reuse the result of
+     * that run. Concurrent page requests wait for the run in flight.</p>
+     */
+    static final class Memo<T> {
+
+        private String key;
+        private List<T> result;
+
+        /**
+         * @param key the query of the action without limit and offset.
+         * @param refresh whether to run again even if the key matches.
+         * @param run runs every sub-query and merges the results.
+         * @return the merged result.
+         */
+        synchronized List<T> get(String key, boolean refresh, Supplier<List<T>> run) {
+            if (refresh || result == null || !key.equals(this.key)) {
+                result = null;
+                List<T> fresh = run.get();
+                this.key = key;
+                this.result = fresh;
+            }
+            return result;
+        }
+
+        /**
+         * Slices a page out of the merged result.
+         */
+        static <T> Page<T> page(List<T> all, int offset, int limit) {
+            int from = Math.min(all.size(), offset);
+            return new Page<>(new ArrayList<>(all.subList(from, Math.min(all.size(), from + limit))),
+                    offset, limit, all.size());
+        }
+    }
+
+    /**
+     * Splits the values into chunks of at most {@link #MAX_IDS}, keeping their order.
+     *
+     * @return the chunks; a single empty chunk if there are no values, so a query without the filter still runs once.
+     */
+    static <V> List<List<V>> chunk(Collection<V> values) {
+        List<V> list = new ArrayList<>(values);
+        List<List<V>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += MAX_IDS) {
+            chunks.add(list.subList(from, Math.min(list.size(), from + MAX_IDS)));
+        }
+        if (chunks.isEmpty()) chunks.add(List.of());
+        return chunks;
+    }
+
+    /**
+     * Runs every sub-query, at most {@code concurrency} at once.
+     *
+     * @return the results in the order of the sub-queries.
+     * @throws HTTPRequestException if any sub-query fails; the ones still in flight are cancelled.
+     */
+    static <Q, R> List<R> run(List<Q> queries, Function<Q, R> fetch, int concurrency, String threadName) throws HTTPRequestException {
+        if (queries.size() == 1) {
+            return List.of(fetch.apply(queries.get(0)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, queries.size())), runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<R>> pending = new ArrayList<>(queries.size());
+        try {
+            for (Q query : queries) {
+                pending.add(CompletableFuture.supplyAsync(() -> fetch.apply(query), executor));
+            }
+            List<R> results = new ArrayList<>(queries.size());
+            for (CompletableFuture<R> result : pending) {
+                results.add(result.join());
+            }
+            return results;
+        } catch (CompletionException e) {
+            pending.forEach(result -> result.cancel(true));
+            if (e.getCause() instanceof HTTPRequestException) {
+                throw (HTTPRequestException) e.getCause();
+            }
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Concatenates the results of the sub-queries, dropping entities returned by more than one.
+     *
+     * @param results the results in the order of the sub-queries.
+     * @param order the ids to order the entities by, or {@code null} to keep the order of the sub-queries.
+     * @return the distinct entities.
+     */
+    static <T extends ISnowflake> List<T> merge(List<List<T>> results, Collection<UUID> order) {
+        int size = 0;
+        for (List<T> result : results) {
+            size += result.size();
+        }
+        UuidSet seen = new UuidSet(size);
+        List<T> merged = new ArrayList<>(size);
+        for (List<T> result : results) {
+            for (T entity : result) {
+                if (seen.add(entity.getId())) merged.add(entity);
+            }
+        }
+        if (order != null) {
+            UuidLongMap positions = new UuidLongMap(order.size(), Long.MAX_VALUE);
+            long position = 0;
+            for (UUID id : order) {
+                if (!positions.containsKey(id)) positions.put(id, position);
+                position++;
+            }
+            merged.sort(Comparator.comparingLong(entity -> positions.get(entity.getId())));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,131 @@
+package dev.kurumidisciples.javadex.internal.actions.retrieve;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.api.entities.MangaStatistics;
+import dev.kurumidisciples.javadex.api.entities.enums.IncludesType;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.actions.Action;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.cache.StatisticsCache;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+/**
+ * Retrieves the statistics of many manga at once from {@code /statistics/manga?manga[]=}.
+ * <p>Ids are sent in chunks of 100, so the statistics of a whole result page cost one request. Recently loaded
+ * statistics are served from {@link EntityCaches#STATISTICS}, and ids already being loaded by another action are
+ * waited for rather than requested twice.</p>
+ *
+ * <pre>{@code
+ * List<Manga> page = javadex.search("isekai").setLimit(100).complete();
+ * Map<UUID, MangaStatistics> statistics = javadex.retrieveStatistics(page.stream().map(Manga::getId).toList()).complete();
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class StatisticsAction extends Action<Map<UUID, MangaStatistics>> {
+
+    private static final Logger logger = LogManager.getLogger(StatisticsAction.class);
+    private static final String API_ENDPOINT = "https://api.mangadex.org/statistics/manga";
+
+    private final List<UUID> mangaIds;
+
+    /**
+     * <p>Constructor for StatisticsAction.</p>
+     *
+     * @param mangaIds the manga to retrieve the statistics of.
+     */
+    public StatisticsAction(@NotNull Collection<UUID> mangaIds) {
+        this.mangaIds = new ArrayList<>(new LinkedHashSet<>(mangaIds));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the statistics in the order of the ids; unknown ids are left out.
+     */
+    @Override
+    public Map<UUID, MangaStatistics> complete() throws HTTPRequestException {
+        return EntityCaches.STATISTICS.getAll(mangaIds, StatisticsAction::fetch);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Map<UUID, MangaStatistics>> submit() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return complete();
+            } catch (HTTPRequestException e) {
+                logger.error("Error retrieving statistics", e);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Action<Map<UUID, MangaStatistics>> setLimit(Integer limit) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Action<Map<UUID, MangaStatistics>> setOffset(Integer offset) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Action<Map<UUID, MangaStatistics>> setIncludes(IncludesType... includes) {
+        throw new UnsupportedOperationException("This method is not supported for this action.");
+    }
+
+    private static Map<UUID, MangaStatistics> fetch(List<UUID> mangaIds) throws HTTPRequestException {
+        if (mangaIds.size() > StatisticsCache.BATCH_SIZE) throw new IllegalArgumentException("At most " + StatisticsCache.BATCH_SIZE + " ids per request");
+        StringBuilder url = new StringBuilder(API_ENDPOINT);
+        for (int i = 0; i < mangaIds.size(); i++) {
+            url.append(i == 0 ? '?' : '&').append("manga[]=").append(mangaIds.get(i));
+        }
+        String response = HTTPRequest.get(url.toString());
+        Map<UUID, MangaStatistics> statistics = new HashMap<>();
+        try (JsonReader in = new JsonReader(new StringReader(response))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!"statistics".equals(in.nextName()) || in.peek() != JsonToken.BEGIN_OBJECT) {
+                    in.skipValue();
+                    continue;
+                }
+                in.beginObject();
+                while (in.hasNext()) {
+                    UUID id = UUID.fromString(in.nextName());
+                    statistics.put(id, new MangaStatistics(id, in));
+                }
+                in.endObject();
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        logger.debug("Retrieved statistics of {} manga", statistics.size());
+        return statistics;
+    }
+}
@@ -0,0 +1,260 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+
+import dev.kurumidisciples.javadex.api.entities.Aggregate;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+/**
+ * Caches {@link Aggregate}s by manga and requested language set.
+ *
+ * <p>Concurrent requests for the same key share one load. An aggregate is served until it expires or a chapter
+ * of its manga shows up in a feed, see {@link #invalidate(Chapter)}; the chapter tailer and feed sync report
+ * every chapter they deliver. When the cache is full the entry loaded first is dropped.</p>
+ *
+ * <p>This class is an internal utility class and should not be used directly.</p>
+ * @see EntityCaches#AGGREGATE
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class AggregateCache {
+
+    /**
+     * Loads an aggregate on a miss.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        Aggregate load() throws HTTPRequestException;
+    }
+
+    private static final String API_ENDPOINT = "https://api.mangadex.org/manga/";
+
+    private final ConcurrentHashMap<Key, Node> entries = new ConcurrentHashMap<>();
+    private volatile long maximumSize;
+    private volatile long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new AggregateCache.
+     *
+     * @param maximumSize the maximum number of aggregates to hold.
+     * @param expireAfterWrite how long an aggregate may be served after it was loaded, or {@code null} for no expiry.
+     */
+    public AggregateCache(long maximumSize, @Nullable Duration expireAfterWrite) {
+        setMaximumSize(maximumSize);
+        setExpireAfterWrite(expireAfterWrite);
+    }
+
+    /**
+     * Returns the aggregate of a manga in the given languages, requesting {@code /manga/{id}/aggregate} on a miss.
+     *
+     * @param mangaId the manga.
+     * @param languages the requested languages in any order, empty for all.
+     * @return the aggregate.
+     * @throws HTTPRequestException if the request fails; failed loads are not cached.
+     */
+    public Aggregate get(@NotNull UUID mangaId, @NotNull Collection<Locale> languages) throws HTTPRequestException {
+        List<Locale> requested = List.copyOf(languages);
+        return get(mangaId, requested, () -> {
+            StringBuilder url = new StringBuilder(API_ENDPOINT).append(mangaId).append("/aggregate");
+            for (int i = 0; i < requested.size(); i++) {
+                url.append(i == 0 ? '?' : '&').append("translatedLanguage[]=").append(requested.get(i).getLanguage());
+            }
+            try (JsonReader in = new JsonReader(new StringReader(HTTPRequest.get(url.toString())))) {
+                return new Aggregate(mangaId, requested, in);
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns the aggregate of a manga in the given languages, loading it on a miss.
+     *
+     * @param mangaId the manga.
+     * @param languages the requested languages in any order, empty for all.
+     * @param loader loads the aggregate.
+     * @return the aggregate.
+     * @throws HTTPRequestException if the load fails; failed loads are not cached.
+     */
+    public Aggregate get(@NotNull UUID mangaId, @NotNull Collection<Locale> languages, @NotNull Loader loader) throws HTTPRequestException {
+        Key key = new Key(mangaId, languages);
+        long now = System.nanoTime();
+        Node node = entries.get(key);
+        if (node != null && !node.isExpired(now, ttlNanos)) {
+            hits.increment();
+            return await(node.future);
+        }
+        if (node != null) entries.remove(key, node);
+
+        Node created = new Node(now);
+        node = entries.putIfAbsent(key, created);
+        if (node != null) {
+            hits.increment();
+            return await(node.future);
+        }
+        misses.increment();
+        try {
+            Aggregate aggregate = loader.load();
+            created.future.complete(aggregate);
+            evictIfFull();
+            return aggregate;
+        } catch (Throwable e) {
+            // Waiters on the claimed entry must fail too, whatever was thrown, or they would wait forever
+            entries.remove(key, created);
+            created.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops every aggregate of a manga.
+     *
+     * @param mangaId the manga.
+     */
+    public void invalidate(@NotNull UUID mangaId) {
+        entries.keySet().removeIf(key -> key.mangaId.equals(mangaId));
+    }
+
+    /**
+     * Drops every aggregate of the manga a chapter belongs to.
+     *
+     * @param chapter a new or updated chapter.
+     */
+    public void invalidate(@NotNull Chapter chapter) {
+        List<RelationshipData> manga = chapter.getRelationshipMap().get(RelationshipType.MANGA);
+        if (manga == null) return;
+        for (RelationshipData data : manga) {
+            invalidate(data.getId());
+        }
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Sets the maximum number of aggregates to hold.
+     *
+     * @param maximumSize at least 1.
+     */
+    public void setMaximumSize(long maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be at least 1");
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Sets how long an aggregate may be served after it was loaded.
+     *
+     * @param expireAfterWrite the lifetime, or {@code null} for no expiry.
+     */
+    public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+        this.ttlNanos = expireAfterWrite == null ? 0 : expireAfterWrite.toNanos();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return a {@link CacheStats} object
+     */
+    public CacheStats stats() {
+        return new CacheStats("aggregate", hits.sum(), misses.sum(), evictions.sum(), 0, 0, entries.size());
+    }
+
+    private void evictIfFull() {
+        while (entries.size() > maximumSize) {
+            Map.Entry<Key, Node> oldest = null;
+            for (Iterator<Map.Entry<Key, Node>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Key, Node> entry = it.next();
+                if (oldest == null || entry.getValue().loadedAt < oldest.getValue().loadedAt) oldest = entry;
+            }
+            if (oldest == null || !entries.remove(oldest.getKey(), oldest.getValue())) return;
+            evictions.increment();
+        }
+    }
+
+    private static Aggregate await(CompletableFuture<Aggregate> future) throws HTTPRequestException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an aggregate", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static final class Key {
+
+        private final UUID mangaId;
+        private final String languages;
+
+        Key(UUID mangaId, Collection<Locale> languages) {
+            this.mangaId = mangaId;
+            TreeSet<String> codes = new TreeSet<>();
+            for (Locale language : languages) {
+                codes.add(language.getLanguage());
+            }
+            this.languages = String.join(",", codes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return mangaId.equals(other.mangaId) && languages.equals(other.languages);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mangaId, languages);
+        }
+    }
+
+    private static final class Node {
+
+        private final long loadedAt;
+        private final CompletableFuture<Aggregate> future = new CompletableFuture<>();
+
+        Node(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isExpired(long now, long ttlNanos) {
+            return ttlNanos > 0 && future.isDone() && now - loadedAt > ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+/**
+ * An immutable snapshot of the counters of an {@link EntityCache}.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class CacheStats {
+
+    private final String name;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long rejectionCount;
+    private final long staleWriteCount;
+    private final long size;
+
+    CacheStats(String name, long hitCount, long missCount, long evictionCount, long rejectionCount, long staleWriteCount, long size) {
+        this.name = name;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.rejectionCount = rejectionCount;
+        this.staleWriteCount = staleWriteCount;
+        this.size = size;
+    }
+
+    /**
+     * <p>Getter for the field <code>name</code>.</p>
+     *
+     * @return the name of the cache.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of lookups that were served from the cache.
+     *
+     * @return a long
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that had to go to the API.
+     *
+     * @return a long
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries removed to make room for others.
+     *
+     * @return a long
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of new entries the admission policy refused because they were less popular than the entry they would replace.
+     *
+     * @return a long
+     */
+    public long getRejectionCount() {
+        return rejectionCount;
+    }
+
+    /**
+     * Returns the number of writes ignored because the cached copy had a newer {@code version}.
+     *
+     * @return a long
+     */
+    public long getStaleWriteCount() {
+        return staleWriteCount;
+    }
+
+    /**
+     * Returns the number of entries in the cache when the snapshot was taken.
+     *
+     * @return a long
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the ratio of lookups served from the cache, or {@code 1.0} if there have been no lookups.
+     *
+     * @return a double between 0 and 1
+     */
+    public double hitRatio() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "name='" + name + '\'' +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", hitRatio=" + hitRatio() +
+                ", evictionCount=" + evictionCount +
+                ", rejectionCount=" + rejectionCount +
+                ", staleWriteCount=" + staleWriteCount +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,319 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A bounded, thread-safe cache of entities keyed by their {@link UUID}.
+ *
+ * <p>The cache is split into independently locked stripes so lookups of different ids rarely contend.
+ * Each stripe follows the W-TinyLFU design: new entries land in a small LRU window, and when the window
+ * overflows its oldest entry only replaces the least recently used entry of the main area if the
+ * {@link FrequencySketch} says it has been requested more often. One-off lookups (a search result that is
+ * never opened again) therefore cannot flush the entries that are actually hot.</p>
+ *
+ * <p>Every entity carries a {@code version} that MangaDex increments on each edit. A write only replaces
+ * the cached copy if its version is at least as new, so a slow response can never overwrite fresher data.</p>
+ *
+ * <p>This class is an internal utility class and should not be used directly.</p>
+ * @param <T> the type of entity stored.
+ * @see EntityCaches
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class EntityCache<T> {
+
+    private static final int STRIPES = 16;
+
+    private final String name;
+    private final Function<T, UUID> idFunction;
+    private final ToLongFunction<T> versionFunction;
+    private final FrequencySketch sketch;
+    private final Stripe<T>[] stripes;
+
+    private volatile long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder staleWrites = new LongAdder();
+
+    /**
+     * Constructs a new EntityCache.
+     *
+     * @param name the name of the cache, used in {@link CacheStats}.
+     * @param idFunction extracts the id of an entity.
+     * @param versionFunction extracts the version of an entity.
+     * @param maximumSize the maximum number of entities to hold.
+     * @param expireAfterWrite how long an entity may be served after it was written, or {@code null} for no expiry.
+     */
+    @SuppressWarnings("unchecked")
+    public EntityCache(@NotNull String name, @NotNull Function<T, UUID> idFunction, @NotNull ToLongFunction<T> versionFunction,
+                       long maximumSize, @Nullable Duration expireAfterWrite) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be at least 1");
+        this.name = name;
+        this.idFunction = idFunction;
+        this.versionFunction = versionFunction;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        setMaximumSize(maximumSize);
+        setExpireAfterWrite(expireAfterWrite);
+    }
+
+    /**
+     * Returns the cached entity with the given id, or {@code null} if it is absent or expired.
+     *
+     * @param id the id of the entity.
+     * @return the cached entity or {@code null}.
+     */
+    @Nullable
+    public T getIfPresent(@NotNull UUID id) {
+        sketch.increment(id);
+        Stripe<T> stripe = stripeFor(id);
+        synchronized (stripe) {
+            Node<T> node = stripe.find(id);
+            if (node != null && node.isExpired(System.nanoTime())) {
+                stripe.remove(id);
+                node = null;
+            }
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return node.value;
+        }
+    }
+
+    /**
+     * Returns the cached entity with the given id, loading and caching it on a miss.
+     *
+     * <p>The loader runs outside of any lock. If it returns {@code null} nothing is cached.</p>
+     *
+     * @param id the id of the entity.
+     * @param loader loads the entity when it is not cached.
+     * @return the cached or loaded entity, or {@code null} if the loader returned {@code null}.
+     */
+    @Nullable
+    public T get(@NotNull UUID id, @NotNull Function<UUID, T> loader) {
+        T cached = getIfPresent(id);
+        if (cached != null) return cached;
+        T loaded = loader.apply(id);
+        return loaded == null ? null : put(loaded);
+    }
+
+    /**
+     * Caches the entity unless a copy with a newer version is already cached.
+     *
+     * @param entity the entity to cache.
+     * @return the entity now held by the cache; this is the already cached copy if the given one was older.
+     */
+    @NotNull
+    public T put(@NotNull T entity) {
+        UUID id = idFunction.apply(entity);
+        long version = versionFunction.applyAsLong(entity);
+        long now = System.nanoTime();
+        long ttl = ttlNanos;
+        long expiresAt = ttl > 0 ? now + ttl : 0;
+
+        Stripe<T> stripe = stripeFor(id);
+        synchronized (stripe) {
+            Node<T> existing = stripe.find(id);
+            if (existing != null && !existing.isExpired(now)) {
+                if (version < existing.version) {
+                    staleWrites.increment();
+                    return existing.value;
+                }
+                existing.value = entity;
+                existing.version = version;
+                existing.expiresAt = expiresAt;
+                return entity;
+            }
+            if (existing != null) {
+                stripe.remove(id);
+            }
+            stripe.window.put(id, new Node<>(entity, version, expiresAt));
+            while (stripe.window.size() > stripe.windowCapacity) {
+                Map.Entry<UUID, Node<T>> candidate = pollEldest(stripe.window);
+                admit(stripe, candidate.getKey(), candidate.getValue(), now);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Caches all given entities.
+     *
+     * @param entities the entities to cache.
+     */
+    public void putAll(@NotNull Iterable<? extends T> entities) {
+        for (T entity : entities) {
+            put(entity);
+        }
+    }
+
+    /**
+     * Removes the entity with the given id.
+     *
+     * @param id the id of the entity.
+     */
+    public void invalidate(@NotNull UUID id) {
+        Stripe<T> stripe = stripeFor(id);
+        synchronized (stripe) {
+            stripe.remove(id);
+        }
+    }
+
+    /**
+     * Removes every entity from the cache. Statistics are kept.
+     */
+    public void invalidateAll() {
+        for (Stripe<T> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.window.clear();
+                stripe.main.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entities currently held, including ones that have expired but were not yet removed.
+     *
+     * @return a long
+     */
+    public long estimatedSize() {
+        long size = 0;
+        for (Stripe<T> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.window.size() + stripe.main.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Changes the maximum number of entities the cache holds. A smaller size is enforced on the next writes.
+     *
+     * @param maximumSize the new maximum size, at least 1.
+     */
+    public void setMaximumSize(long maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be at least 1");
+        int perStripe = (int) Math.min(Integer.MAX_VALUE, (maximumSize + STRIPES - 1) / STRIPES);
+        int window = Math.max(1, perStripe / 100);
+        for (Stripe<T> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.windowCapacity = window;
+                stripe.mainCapacity = Math.max(1, perStripe - window);
+            }
+        }
+    }
+
+    /**
+     * Changes how long an entity may be served after it was written.
+     *
+     * @param expireAfterWrite the time to live, or {@code null} for no expiry.
+     */
+    public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+        this.ttlNanos = expireAfterWrite == null ? 0 : expireAfterWrite.toNanos();
+    }
+
+    /**
+     * <p>Getter for the field <code>name</code>.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return a {@link CacheStats} object
+     */
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), rejections.sum(), staleWrites.sum(), estimatedSize());
+    }
+
+    private void admit(Stripe<T> stripe, UUID candidateId, Node<T> candidate, long now) {
+        if (candidate.isExpired(now)) {
+            return;
+        }
+        if (stripe.main.size() < stripe.mainCapacity) {
+            stripe.main.put(candidateId, candidate);
+            return;
+        }
+        Map.Entry<UUID, Node<T>> victim = stripe.main.entrySet().iterator().next();
+        if (victim.getValue().isExpired(now) || sketch.frequency(candidateId) > sketch.frequency(victim.getKey())) {
+            pollEldest(stripe.main);
+            stripe.main.put(candidateId, candidate);
+            evictions.increment();
+        } else {
+            rejections.increment();
+        }
+        while (stripe.main.size() > stripe.mainCapacity) {
+            pollEldest(stripe.main);
+            evictions.increment();
+        }
+    }
+
+    private static <V> Map.Entry<UUID, V> pollEldest(LinkedHashMap<UUID, V> map) {
+        Iterator<Map.Entry<UUID, V>> iterator = map.entrySet().iterator();
+        Map.Entry<UUID, V> eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+
+    private Stripe<T> stripeFor(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe<T> {
+        final LinkedHashMap<UUID, Node<T>> window = new LinkedHashMap<>(16, 0.75f, true);
+        final LinkedHashMap<UUID, Node<T>> main = new LinkedHashMap<>(16, 0.75f, true);
+        int windowCapacity;
+        int mainCapacity;
+
+        Node<T> find(UUID id) {
+            Node<T> node = window.get(id);
+            return node != null ? node : main.get(id);
+        }
+
+        void remove(UUID id) {
+            if (window.remove(id) == null) {
+                main.remove(id);
+            }
+        }
+    }
+
+    private static final class Node<T> {
+        T value;
+        long version;
+        long expiresAt;
+
+        Node(T value, long version, long expiresAt) {
+            this.value = value;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.kurumidisciples.javadex.api.entities.Author;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
+import dev.kurumidisciples.javadex.api.entities.User;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+
+/**
+ * Holds the shared {@link EntityCache} of every entity type.
+ *
+ * <p>Every {@code getXById} and factory path reads through these caches, and every listing response writes
+ * into them, so an entity that was seen recently costs no request. Sizes and lifetimes can be tuned per type:</p>
+ * <pre>{@code
+ * EntityCaches.MANGA.setMaximumSize(50_000);
+ * EntityCaches.CHAPTER.setExpireAfterWrite(Duration.ofMinutes(5));
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class EntityCaches {
+
+    /** Cache of {@link Manga} entities. */
+    public static final EntityCache<Manga> MANGA = new EntityCache<>("manga", Manga::getId, Manga::getVersion, 10_000, Duration.ofMinutes(30));
+    /** Cache of {@link Chapter} entities. */
+    public static final EntityCache<Chapter> CHAPTER = new EntityCache<>("chapter", Chapter::getId, Chapter::getVersion, 50_000, Duration.ofMinutes(30));
+    /** Cache of {@link ScanlationGroup} entities. */
+    public static final EntityCache<ScanlationGroup> GROUP = new EntityCache<>("scanlation_group", ScanlationGroup::getId, ScanlationGroup::getVersion, 5_000, Duration.ofHours(1));
+    /** Cache of {@link User} entities. */
+    public static final EntityCache<User> USER = new EntityCache<>("user", User::getId, User::getVersion, 5_000, Duration.ofHours(1));
+    /** Cache of {@link Author} entities. */
+    public static final EntityCache<Author> AUTHOR = new EntityCache<>("author", Author::getId, Author::getVersion, 5_000, Duration.ofHours(1));
+    /** Cache of manga {@link dev.kurumidisciples.javadex.api.entities.Aggregate}s, per requested language set. */
+    public static final AggregateCache AGGREGATE = new AggregateCache(2_000, Duration.ofMinutes(10));
+    /** Cache of {@link dev.kurumidisciples.javadex.api.entities.MangaStatistics}, kept briefly since they change constantly. */
+    public static final StatisticsCache STATISTICS = new StatisticsCache(20_000, Duration.ofMinutes(5));
+
+    private EntityCaches() {
+    }
+
+    /**
+     * Returns the statistics of every cache.
+     *
+     * @return a list of {@link CacheStats}, one per entity type.
+     */
+    public static List<CacheStats> stats() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (EntityCache<?> cache : all()) {
+            stats.add(cache.stats());
+        }
+        stats.add(AGGREGATE.stats());
+        stats.add(STATISTICS.stats());
+        return stats;
+    }
+
+    /**
+     * Empties every cache.
+     */
+    public static void invalidateAll() {
+        for (EntityCache<?> cache : all()) {
+            cache.invalidateAll();
+        }
+        AGGREGATE.invalidateAll();
+        STATISTICS.invalidateAll();
+    }
+
+    private static List<EntityCache<?>> all() {
+        return List.of(MANGA, CHAPTER, GROUP, USER, AUTHOR);
+    }
+}
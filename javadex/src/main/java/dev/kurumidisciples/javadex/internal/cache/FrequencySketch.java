@@ -0,0 +1,116 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Count-Min sketch of 4-bit counters used to estimate how often an id has been requested.
+ * <p>Counters are halved once the number of recorded accesses reaches ten times the cache size, so
+ * the sketch forgets old popularity and favours what is hot right now (TinyLFU aging).</p>
+ *
+ * <p>This class is an internal utility class and should not be used directly.</p>
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+final class FrequencySketch {
+
+    private static final long[] SEED = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * Creates a sketch sized for a cache holding at most {@code maximumSize} entries.
+     *
+     * @param maximumSize the maximum size of the cache the sketch is backing.
+     */
+    FrequencySketch(long maximumSize) {
+        int maximum = (int) Math.min(Math.max(maximumSize, 16), 1 << 28);
+        int length = Integer.highestOneBit(maximum - 1) << 1;
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * maximum;
+    }
+
+    /**
+     * Returns the estimated number of times the id has been seen, capped at 15.
+     *
+     * @param id the id to look up.
+     * @return the estimated frequency.
+     */
+    int frequency(UUID id) {
+        int hash = spread(id);
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((table.get(indexOf(hash, i)) >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the id.
+     *
+     * @param id the id that was accessed.
+     */
+    void increment(UUID id) {
+        int hash = spread(id);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && additions.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        while (true) {
+            long current = table.get(index);
+            if ((current & mask) == mask) {
+                return false;
+            }
+            if (table.compareAndSet(index, current, current + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized void reset() {
+        if (additions.get() < sampleSize) {
+            return;
+        }
+        for (int i = 0; i < table.length(); i++) {
+            long current;
+            do {
+                current = table.get(i);
+            } while (!table.compareAndSet(i, current, (current >>> 1) & RESET_MASK));
+        }
+        additions.set(additions.get() >>> 1);
+    }
+
+    private int indexOf(int item, int i) {
+        long hash = (item + SEED[i]) * SEED[i];
+        hash += (hash >>> 32);
+        return ((int) hash) & tableMask;
+    }
+
+    private static int spread(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int x = (int) (bits ^ (bits >>> 32));
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -0,0 +1,367 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.Aggregate;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.parsers.UuidParser;
+
+/**
+ * Answers read state questions for a whole library locally, such as unread counts and the next chapter to read.
+ *
+ * <p>{@link #load(Collection)} numbers the chapters of every manga in reading order from its
+ * {@link Aggregate}, served by {@link EntityCaches#AGGREGATE}, and then loads the read markers of 100 manga per
+ * {@code /manga/read?grouped=true} request. Read state is kept as one bit per chapter number, and every upload of
+ * a number, in any language or by any group, maps to the same bit. The markers are streamed straight into the bits,
+ * so no list of chapter ids is kept; counts and lookups afterwards take microseconds and send no request.</p>
+ *
+ * <p>Chapters are ordered by their number; chapters without a number come last. Read markers of chapters that are
+ * not in the aggregate, for example uploads newer than the cached aggregate, are ignored until the manga is loaded
+ * again.</p>
+ *
+ * <pre>{@code
+ * ReadStateIndex index = javadex.getReadState();
+ * index.load(libraryIds);
+ * int unread = index.getUnreadCount(mangaId);
+ * Aggregate.ChapterEntry next = index.getNextUnread(mangaId);
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class ReadStateIndex {
+
+    private static final Logger logger = LogManager.getLogger(ReadStateIndex.class);
+
+    /** The number of manga whose read markers are requested at once */
+    public static final int BATCH_SIZE = 100;
+    private static final String API_ENDPOINT = "https://api.mangadex.org/manga/read";
+
+    private final Token token;
+    private final Map<UUID, MangaState> states = new ConcurrentHashMap<>();
+    private volatile List<Locale> languages = List.of();
+
+    /**
+     * Creates an empty index for the user of the token.
+     *
+     * @param token the token of the user.
+     */
+    public ReadStateIndex(@NotNull Token token) {
+        this.token = token;
+    }
+
+    /**
+     * Sets the languages whose chapters are counted by manga loaded from now on. Default is every language.
+     *
+     * @param languages the languages, none for all.
+     * @return this index.
+     */
+    public ReadStateIndex setLanguages(Locale... languages) {
+        this.languages = List.of(languages);
+        return this;
+    }
+
+    /**
+     * Loads or reloads the chapters and read markers of the given manga.
+     * <p>This sends one request per {@value #BATCH_SIZE} manga for the read markers, plus one per manga whose
+     * aggregate is not cached.</p>
+     *
+     * @param mangaIds the manga, duplicates are ignored.
+     * @throws HTTPRequestException if a request fails; manga loaded before the failure stay loaded.
+     */
+    public void load(@NotNull Collection<UUID> mangaIds) throws HTTPRequestException {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(mangaIds));
+        List<Locale> requested = languages;
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE));
+            Map<UUID, MangaState> loaded = new HashMap<>();
+            for (UUID id : chunk) {
+                loaded.put(id, new MangaState(EntityCaches.AGGREGATE.get(id, requested)));
+            }
+            StringBuilder url = new StringBuilder(API_ENDPOINT).append("?grouped=true");
+            for (UUID id : chunk) {
+                url.append("&ids[]=").append(id);
+            }
+            readMarkers(HTTPRequest.get(url.toString(), Optional.of(token.getAccessToken())), loaded);
+            states.putAll(loaded);
+        }
+        logger.debug("Loaded the read state of {} manga", ids.size());
+    }
+
+    /**
+     * <p>isLoaded.</p>
+     *
+     * @param mangaId the manga.
+     * @return {@code true} if the manga was loaded.
+     */
+    public boolean isLoaded(@NotNull UUID mangaId) {
+        return states.containsKey(mangaId);
+    }
+
+    /**
+     * <p>getChapterCount.</p>
+     *
+     * @param mangaId a loaded manga.
+     * @return the number of distinct chapter numbers.
+     * @throws IllegalArgumentException if the manga is not loaded.
+     */
+    public int getChapterCount(@NotNull UUID mangaId) {
+        return state(mangaId).chapters.length;
+    }
+
+    /**
+     * <p>getReadCount.</p>
+     *
+     * @param mangaId a loaded manga.
+     * @return the number of chapter numbers with at least one read upload.
+     * @throws IllegalArgumentException if the manga is not loaded.
+     */
+    public int getReadCount(@NotNull UUID mangaId) {
+        MangaState state = state(mangaId);
+        synchronized (state) {
+            return state.read.cardinality();
+        }
+    }
+
+    /**
+     * <p>getUnreadCount.</p>
+     *
+     * @param mangaId a loaded manga.
+     * @return the number of chapter numbers without a read upload.
+     * @throws IllegalArgumentException if the manga is not loaded.
+     */
+    public int getUnreadCount(@NotNull UUID mangaId) {
+        MangaState state = state(mangaId);
+        synchronized (state) {
+            return state.chapters.length - state.read.cardinality();
+        }
+    }
+
+    /**
+     * Returns the unread count of every loaded manga.
+     *
+     * @return the unread counts by manga id.
+     */
+    public Map<UUID, Integer> getUnreadCounts() {
+        Map<UUID, Integer> counts = new LinkedHashMap<>();
+        states.forEach((id, state) -> {
+            synchronized (state) {
+                counts.put(id, state.chapters.length - state.read.cardinality());
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Returns the chapter to continue with: the first unread chapter after the furthest read one, or the first
+     * chapter if none was read.
+     *
+     * @param mangaId a loaded manga.
+     * @return the chapter, or {@code null} if the furthest read chapter is the last one.
+     * @throws IllegalArgumentException if the manga is not loaded.
+     */
+    public Aggregate.ChapterEntry getNextUnread(@NotNull UUID mangaId) {
+        MangaState state = state(mangaId);
+        int next;
+        synchronized (state) {
+            next = state.read.nextClearBit(state.read.length());
+        }
+        return next < state.chapters.length ? state.chapters[next] : null;
+    }
+
+    /**
+     * <p>isRead.</p>
+     *
+     * @param mangaId a loaded manga.
+     * @param chapterId any upload of the chapter.
+     * @return {@code true} if an upload of the same chapter number was read.
+     * @throws IllegalArgumentException if the manga is not loaded.
+     */
+    public boolean isRead(@NotNull UUID mangaId, @NotNull UUID chapterId) {
+        MangaState state = state(mangaId);
+        int ordinal = state.ordinal(chapterId);
+        if (ordinal < 0) return false;
+        synchronized (state) {
+            return state.read.get(ordinal);
+        }
+    }
+
+    /**
+     * Records a read marker change made elsewhere, such as through
+     * {@link dev.kurumidisciples.javadex.internal.sync.ReadMarkerBuffer}. Manga that are not loaded and unknown
+     * chapters are ignored.
+     *
+     * @param mangaId the manga.
+     * @param chapterId the chapter.
+     * @param read the new state.
+     */
+    public void apply(@NotNull UUID mangaId, @NotNull UUID chapterId, boolean read) {
+        MangaState state = states.get(mangaId);
+        if (state == null) return;
+        int ordinal = state.ordinal(chapterId);
+        if (ordinal < 0) return;
+        synchronized (state) {
+            state.read.set(ordinal, read);
+        }
+    }
+
+    /**
+     * Drops a manga from the index.
+     *
+     * @param mangaId the manga.
+     */
+    public void invalidate(@NotNull UUID mangaId) {
+        states.remove(mangaId);
+    }
+
+    /**
+     * Empties the index.
+     */
+    public void invalidateAll() {
+        states.clear();
+    }
+
+    private MangaState state(UUID mangaId) {
+        MangaState state = states.get(mangaId);
+        if (state == null) throw new IllegalArgumentException("The read state of manga " + mangaId + " is not loaded");
+        return state;
+    }
+
+    /** Streams a grouped read marker response into the bits of the loaded manga. */
+    private static void readMarkers(String response, Map<UUID, MangaState> loaded) {
+        try (JsonReader in = new JsonReader(new StringReader(response))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!"data".equals(in.nextName()) || in.peek() != JsonToken.BEGIN_OBJECT) {
+                    // Nothing read comes back as an empty array
+                    in.skipValue();
+                    continue;
+                }
+                in.beginObject();
+                while (in.hasNext()) {
+                    MangaState state = loaded.get(UUID.fromString(in.nextName()));
+                    if (state == null) {
+                        in.skipValue();
+                        continue;
+                    }
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        String chapter = in.nextString();
+                        int ordinal = state.ordinal(UuidParser.mostSignificantBits(chapter), UuidParser.leastSignificantBits(chapter));
+                        if (ordinal >= 0) state.read.set(ordinal);
+                    }
+                    in.endArray();
+                }
+                in.endObject();
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * The chapters of one manga in reading order, the uploads of each as sorted id halves for lookups without
+     * hashing, and one read bit per chapter.
+     */
+    private static final class MangaState {
+
+        private final Aggregate.ChapterEntry[] chapters;
+        private final long[] mostSignificant;
+        private final long[] leastSignificant;
+        private final int[] ordinals;
+        private final BitSet read;
+
+        MangaState(Aggregate aggregate) {
+            Map<String, List<Aggregate.ChapterEntry>> byNumber = new LinkedHashMap<>();
+            for (Aggregate.Volume volume : aggregate.getVolumes()) {
+                for (Aggregate.ChapterEntry chapter : volume.getChapters()) {
+                    byNumber.computeIfAbsent(chapter.getChapterNumber(), number -> new ArrayList<>(1)).add(chapter);
+                }
+            }
+            List<String> numbers = new ArrayList<>(byNumber.keySet());
+            numbers.sort((a, b) -> Double.compare(sortKey(a), sortKey(b)));
+
+            chapters = new Aggregate.ChapterEntry[numbers.size()];
+            List<long[]> uploads = new ArrayList<>();
+            for (int ordinal = 0; ordinal < numbers.size(); ordinal++) {
+                List<Aggregate.ChapterEntry> entries = byNumber.get(numbers.get(ordinal));
+                chapters[ordinal] = entries.get(0);
+                for (Aggregate.ChapterEntry entry : entries) {
+                    uploads.add(upload(entry.getId(), ordinal));
+                    for (UUID other : entry.getOthers()) {
+                        uploads.add(upload(other, ordinal));
+                    }
+                }
+            }
+            uploads.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+            mostSignificant = new long[uploads.size()];
+            leastSignificant = new long[uploads.size()];
+            ordinals = new int[uploads.size()];
+            for (int i = 0; i < uploads.size(); i++) {
+                mostSignificant[i] = uploads.get(i)[0];
+                leastSignificant[i] = uploads.get(i)[1];
+                ordinals[i] = (int) uploads.get(i)[2];
+            }
+            read = new BitSet(chapters.length);
+        }
+
+        /** Returns the ordinal of the chapter an upload belongs to, or -1. */
+        int ordinal(UUID chapterId) {
+            return ordinal(chapterId.getMostSignificantBits(), chapterId.getLeastSignificantBits());
+        }
+
+        int ordinal(long msb, long lsb) {
+            int low = 0;
+            int high = ordinals.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int compare = mostSignificant[mid] != msb ? Long.compare(mostSignificant[mid], msb) : Long.compare(leastSignificant[mid], lsb);
+                if (compare < 0) {
+                    low = mid + 1;
+                } else if (compare > 0) {
+                    high = mid - 1;
+                } else {
+                    return ordinals[mid];
+                }
+            }
+            return -1;
+        }
+
+        private static long[] upload(UUID id, int ordinal) {
+            return new long[] {id.getMostSignificantBits(), id.getLeastSignificantBits(), ordinal};
+        }
+
+        private static double sortKey(String number) {
+            if (number == null) return Double.MAX_VALUE;
+            try {
+                return Double.parseDouble(number);
+            } catch (NumberFormatException e) {
+                return Double.MAX_VALUE;
+            }
+        }
+    }
+}
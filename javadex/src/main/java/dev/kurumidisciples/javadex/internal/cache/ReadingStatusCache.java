@@ -0,0 +1,220 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.enums.ReadingStatus;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.utils.RefreshState;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+/**
+ * The reading status of every manga in the library of one user, loaded with a single {@code /manga/status} request.
+ *
+ * <p>Lookups are served from memory once the library is loaded, so a library view showing thousands of titles
+ * costs one request instead of one per manga. Status changes made through {@link #set(UUID, ReadingStatus)} are sent
+ * to the API and written to the map right away. The map is pulled again when it is older than
+ * {@link #setMaxAge(Duration) maxAge}, or on {@link #refresh()}; the API offers no delta query, so a refresh pulls
+ * the whole library in one request and applies only the differences. Changes made through this cache while a
+ * refresh is in flight are kept over the pulled values.</p>
+ *
+ * <pre>{@code
+ * ReadingStatusCache statuses = javadex.getReadingStatuses();
+ * for (Manga manga : library) {
+ *     render(manga, statuses.get(manga.getId()));
+ * }
+ * statuses.set(mangaId, ReadingStatus.COMPLETED);
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class ReadingStatusCache {
+
+    private static final Logger logger = LogManager.getLogger(ReadingStatusCache.class);
+
+    private static final String API_ENDPOINT = "https://api.mangadex.org/manga/";
+
+    private final Token token;
+    private final Map<UUID, ReadingStatus> statuses = new ConcurrentHashMap<>();
+    /** Guarded by this cache, like the writes to {@link #statuses} */
+    private final RefreshState refreshState = new RefreshState(Duration.ofMinutes(5));
+
+    /**
+     * Creates an empty cache for the user of the token.
+     *
+     * @param token the token of the user.
+     */
+    public ReadingStatusCache(@NotNull Token token) {
+        this.token = token;
+    }
+
+    /**
+     * Sets how long the pulled statuses are served before the next lookup pulls them again.
+     *
+     * @param maxAge the age, or {@code null} to pull only on {@link #refresh()}.
+     * @return this cache.
+     */
+    public ReadingStatusCache setMaxAge(@Nullable Duration maxAge) {
+        refreshState.setMaxAge(maxAge);
+        return this;
+    }
+
+    /**
+     * Returns the reading status of a manga.
+     *
+     * @param mangaId the manga.
+     * @return the status, or {@code null} if the manga is not in the library.
+     * @throws HTTPRequestException if the library has to be pulled and the request fails.
+     */
+    public ReadingStatus get(@NotNull UUID mangaId) throws HTTPRequestException {
+        ensureFresh();
+        return statuses.get(mangaId);
+    }
+
+    /**
+     * Returns the reading status of every manga in the library.
+     *
+     * @return an unmodifiable copy of the statuses by manga id.
+     * @throws HTTPRequestException if the library has to be pulled and the request fails.
+     */
+    public Map<UUID, ReadingStatus> getAll() throws HTTPRequestException {
+        ensureFresh();
+        return Collections.unmodifiableMap(new HashMap<>(statuses));
+    }
+
+    /**
+     * Returns the manga with the given reading status.
+     *
+     * @param status the status.
+     * @return the manga ids.
+     * @throws HTTPRequestException if the library has to be pulled and the request fails.
+     */
+    public Set<UUID> getAll(@NotNull ReadingStatus status) throws HTTPRequestException {
+        ensureFresh();
+        UuidSet ids = new UuidSet();
+        statuses.forEach((id, value) -> {
+            if (value == status) ids.add(id);
+        });
+        return ids;
+    }
+
+    /**
+     * Changes the reading status of a manga and writes it to the cache once the API accepted it.
+     *
+     * @param mangaId the manga.
+     * @param status the new status, or {@code null} to remove the manga from the library.
+     * @throws HTTPRequestException if the request fails; the cache is left unchanged.
+     */
+    public void set(@NotNull UUID mangaId, @Nullable ReadingStatus status) throws HTTPRequestException {
+        JsonObject body = new JsonObject();
+        body.addProperty("status", status != null ? status.getStatus() : null);
+        HTTPRequest.post(API_ENDPOINT + mangaId + "/status", body.toString(), Optional.of(token.getAccessToken()));
+        synchronized (this) {
+            refreshState.recordWrite(mangaId);
+            if (status != null) {
+                statuses.put(mangaId, status);
+            } else {
+                statuses.remove(mangaId);
+            }
+        }
+        logger.debug("Reading status of manga {} set to {}", mangaId, status);
+    }
+
+    /**
+     * Pulls the whole library and applies the differences to the cache.
+     *
+     * @return the ids of the manga whose status changed.
+     * @throws HTTPRequestException if the request fails; the cache is left unchanged.
+     */
+    public Set<UUID> refresh() throws HTTPRequestException {
+        return refreshState.refresh(this::pull);
+    }
+
+    /**
+     * Drops the pulled statuses; the next lookup pulls the library again.
+     */
+    public void invalidate() {
+        refreshState.invalidate();
+    }
+
+    private void ensureFresh() throws HTTPRequestException {
+        refreshState.refreshIfStale(this::pull);
+    }
+
+    private Set<UUID> pull() throws HTTPRequestException {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = refreshState.getGeneration();
+        }
+        Map<UUID, ReadingStatus> pulled = parse(HTTPRequest.get(API_ENDPOINT + "status", Optional.of(token.getAccessToken())));
+
+        UuidSet changed = new UuidSet();
+        synchronized (this) {
+            for (Map.Entry<UUID, ReadingStatus> entry : pulled.entrySet()) {
+                if (refreshState.isWrittenAfter(entry.getKey(), startGeneration)) continue;
+                if (statuses.put(entry.getKey(), entry.getValue()) != entry.getValue()) changed.add(entry.getKey());
+            }
+            for (Iterator<UUID> it = statuses.keySet().iterator(); it.hasNext(); ) {
+                UUID id = it.next();
+                if (!pulled.containsKey(id) && !refreshState.isWrittenAfter(id, startGeneration)) {
+                    it.remove();
+                    changed.add(id);
+                }
+            }
+            refreshState.pruneWrites(startGeneration);
+        }
+        logger.debug("Pulled {} reading statuses, {} changed", pulled.size(), changed.size());
+        return changed;
+    }
+
+    /** Parses the {@code statuses} object, which the API sends as an empty array for an empty library. */
+    static Map<UUID, ReadingStatus> parse(String response) {
+        Map<UUID, ReadingStatus> statuses = new HashMap<>();
+        try (JsonReader in = new JsonReader(new StringReader(response))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!"statuses".equals(in.nextName()) || in.peek() != JsonToken.BEGIN_OBJECT) {
+                    in.skipValue();
+                    continue;
+                }
+                in.beginObject();
+                while (in.hasNext()) {
+                    UUID id = UUID.fromString(in.nextName());
+                    if (in.peek() != JsonToken.STRING) {
+                        in.skipValue();
+                        continue;
+                    }
+                    ReadingStatus status = ReadingStatus.fromString(in.nextString());
+                    if (status != null) statuses.put(id, status);
+                }
+                in.endObject();
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return statuses;
+    }
+}
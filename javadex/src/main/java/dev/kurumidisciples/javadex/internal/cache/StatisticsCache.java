@@ -0,0 +1,220 @@
+package dev.kurumidisciples.javadex.internal.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.kurumidisciples.javadex.api.entities.MangaStatistics;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+
+/**
+ * A short-lived cache of {@link MangaStatistics}, loaded in batches.
+ *
+ * <p>{@link #getAll(Collection, BatchLoader)} serves the fresh ids from the cache and loads the others in
+ * chunks of {@link #BATCH_SIZE}, one request per chunk. An id that another thread is already loading is waited
+ * for instead of being requested again, so overlapping pages share their requests.</p>
+ *
+ * <p>This class is an internal utility class and should not be used directly.</p>
+ * @see EntityCaches#STATISTICS
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class StatisticsCache {
+
+    /** The most ids {@code /statistics/manga} accepts per request */
+    public static final int BATCH_SIZE = 100;
+
+    /**
+     * Loads the statistics of up to {@link #BATCH_SIZE} manga with one request.
+     */
+    @FunctionalInterface
+    public interface BatchLoader {
+        /**
+         * @param mangaIds the ids to load.
+         * @return the statistics by id; ids the API does not know are left out.
+         * @throws HTTPRequestException if the request fails.
+         */
+        Map<UUID, MangaStatistics> load(List<UUID> mangaIds) throws HTTPRequestException;
+    }
+
+    private final ConcurrentHashMap<UUID, Node> entries = new ConcurrentHashMap<>();
+    private volatile long maximumSize;
+    private volatile long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new StatisticsCache.
+     *
+     * @param maximumSize the maximum number of entries to hold.
+     * @param expireAfterWrite how long statistics may be served after they were loaded, or {@code null} for no expiry.
+     */
+    public StatisticsCache(long maximumSize, @Nullable Duration expireAfterWrite) {
+        setMaximumSize(maximumSize);
+        setExpireAfterWrite(expireAfterWrite);
+    }
+
+    /**
+     * Returns the statistics of the given manga, loading the missing ones.
+     *
+     * @param mangaIds the manga, duplicates are ignored.
+     * @param loader loads one chunk of missing ids.
+     * @return the statistics in the order of the ids; unknown ids are left out.
+     * @throws HTTPRequestException if a load fails. Failed loads are not cached.
+     */
+    public Map<UUID, MangaStatistics> getAll(@NotNull Collection<UUID> mangaIds, @NotNull BatchLoader loader) throws HTTPRequestException {
+        long now = System.nanoTime();
+        Map<UUID, Node> waiting = new LinkedHashMap<>();
+        Map<UUID, Node> claimed = new LinkedHashMap<>();
+        for (UUID id : mangaIds) {
+            if (waiting.containsKey(id)) continue;
+            Node node = entries.get(id);
+            if (node != null && node.isExpired(now, ttlNanos)) {
+                entries.remove(id, node);
+                node = null;
+            }
+            if (node == null) {
+                Node created = new Node(now);
+                node = entries.putIfAbsent(id, created);
+                if (node == null) {
+                    node = created;
+                    claimed.put(id, created);
+                }
+            }
+            if (claimed.get(id) == node) misses.increment();
+            else hits.increment();
+            waiting.put(id, node);
+        }
+
+        load(claimed, loader);
+        evictIfFull();
+
+        Map<UUID, MangaStatistics> result = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Node> entry : waiting.entrySet()) {
+            MangaStatistics statistics = await(entry.getValue().future);
+            if (statistics != null) result.put(entry.getKey(), statistics);
+        }
+        return result;
+    }
+
+    /**
+     * Drops the statistics of a manga.
+     *
+     * @param mangaId the manga.
+     */
+    public void invalidate(@NotNull UUID mangaId) {
+        entries.remove(mangaId);
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Sets the maximum number of entries to hold.
+     *
+     * @param maximumSize at least 1.
+     */
+    public void setMaximumSize(long maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be at least 1");
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Sets how long statistics may be served after they were loaded.
+     *
+     * @param expireAfterWrite the lifetime, or {@code null} for no expiry.
+     */
+    public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+        this.ttlNanos = expireAfterWrite == null ? 0 : expireAfterWrite.toNanos();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return a {@link CacheStats} object
+     */
+    public CacheStats stats() {
+        return new CacheStats("statistics", hits.sum(), misses.sum(), evictions.sum(), 0, 0, entries.size());
+    }
+
+    private void load(Map<UUID, Node> claimed, BatchLoader loader) throws HTTPRequestException {
+        List<UUID> ids = new ArrayList<>(claimed.keySet());
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE));
+            Map<UUID, MangaStatistics> loaded;
+            try {
+                loaded = loader.load(chunk);
+            } catch (Throwable e) {
+                // Waiters on the claimed ids must fail too, whatever was thrown, or they would wait forever
+                for (UUID id : ids.subList(from, ids.size())) {
+                    Node node = claimed.get(id);
+                    entries.remove(id, node);
+                    node.future.completeExceptionally(e);
+                }
+                throw e;
+            }
+            for (UUID id : chunk) {
+                Node node = claimed.get(id);
+                MangaStatistics statistics = loaded.get(id);
+                if (statistics == null) entries.remove(id, node);
+                node.future.complete(statistics);
+            }
+        }
+    }
+
+    private void evictIfFull() {
+        int excess = (int) Math.min(Integer.MAX_VALUE, entries.size() - maximumSize);
+        if (excess <= 0) return;
+        List<Map.Entry<UUID, Node>> oldest = new ArrayList<>(entries.entrySet());
+        oldest.sort(Comparator.comparingLong(entry -> entry.getValue().loadedAt));
+        for (int i = 0; i < excess && i < oldest.size(); i++) {
+            if (entries.remove(oldest.get(i).getKey(), oldest.get(i).getValue())) evictions.increment();
+        }
+    }
+
+    private static MangaStatistics await(CompletableFuture<MangaStatistics> future) throws HTTPRequestException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for statistics", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static final class Node {
+
+        private final long loadedAt;
+        private final CompletableFuture<MangaStatistics> future = new CompletableFuture<>();
+
+        Node(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isExpired(long now, long ttlNanos) {
+            return ttlNanos > 0 && future.isDone() && now - loadedAt > ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package dev.kurumidisciples.javadex.internal.export;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonWriter;
+
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+
+/**
+ * Writes entities to rolling NDJSON or binary row files on a thread of its own.
+ *
+ * <p>The exporter is a {@link Consumer}, so it plugs straight into the streaming paths of the library, such as
+ * {@link dev.kurumidisciples.javadex.internal.sync.CatalogCrawler#crawl(Consumer)} or
+ * {@link dev.kurumidisciples.javadex.internal.actions.retrieve.PageFanOut#stream(Consumer)}. Entities are handed
+ * to the writer thread through a bounded queue: when the disk falls behind, {@link #accept(Object)} blocks, which
+ * slows the fetching down instead of buffering the catalog in memory.</p>
+ * <p>Files are named {@code prefix-00000.ndjson.gz} and so on. A new file is started once the current one reaches
+ * the size limit, measured after compression. Files are written as {@code .part} and renamed once complete, so a
+ * reader watching the directory never picks up half a file.</p>
+ *
+ * <pre>{@code
+ * try (EntityExporter<Manga> exporter = new EntityExporter<>(dir, "manga", ExportSchema.MANGA, ExportFormat.NDJSON)
+ *         .setCompression(ExportCompression.GZIP)) {
+ *     CatalogCrawler.manga(checkpoint, CatalogCrawler.Key.CREATED_AT, null).crawl(exporter);
+ * }
+ * }</pre>
+ *
+ * @param <T> the entity type.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class EntityExporter<T> implements Consumer<T>, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(EntityExporter.class);
+
+    private static final Object END = new Object();
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private final Path directory;
+    private final String prefix;
+    private final ExportSchema<T> schema;
+    private final ExportFormat format;
+    private ExportCompression compression = ExportCompression.NONE;
+    private long maxFileBytes = 256L << 20;
+    private int queueCapacity = 10_000;
+
+    private BlockingQueue<Object> queue;
+    private Thread writer;
+    private volatile Throwable failure;
+    private boolean closed;
+    private final AtomicLong records = new AtomicLong();
+    private final List<Path> files = Collections.synchronizedList(new ArrayList<>());
+
+    // Owned by the writer thread
+    private CountingOutputStream file;
+    private OutputStream stream;
+    private JsonWriter json;
+    private Writer text;
+    private DataOutputStream rows;
+    private Path partPath;
+    private int fileIndex;
+
+    /**
+     * <p>Constructor for EntityExporter.</p>
+     *
+     * @param directory the directory the files are written to; it is created if needed.
+     * @param prefix the start of every file name.
+     * @param schema the columns written for each entity.
+     * @param format the file layout.
+     */
+    public EntityExporter(@NotNull Path directory, @NotNull String prefix, @NotNull ExportSchema<T> schema, @NotNull ExportFormat format) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.schema = schema;
+        this.format = format;
+    }
+
+    /**
+     * Sets the compression of the files.
+     * <p>Default is {@link ExportCompression#NONE}.</p>
+     *
+     * @param compression the compression.
+     * @return this exporter.
+     * @throws IllegalStateException if the exporter has started writing.
+     */
+    public synchronized EntityExporter<T> setCompression(@NotNull ExportCompression compression) {
+        checkNotStarted();
+        this.compression = compression;
+        return this;
+    }
+
+    /**
+     * Sets the size after which a new file is started. Files end at a record boundary, so they run slightly over.
+     * <p>Default is {@code 256 MiB}.</p>
+     *
+     * @param maxFileBytes at least 1.
+     * @return this exporter.
+     * @throws IllegalStateException if the exporter has started writing.
+     */
+    public synchronized EntityExporter<T> setMaxFileBytes(long maxFileBytes) {
+        if (maxFileBytes < 1) throw new IllegalArgumentException("Max file size must be at least 1");
+        checkNotStarted();
+        this.maxFileBytes = maxFileBytes;
+        return this;
+    }
+
+    /**
+     * Sets how many entities may wait for the writer before {@link #accept(Object)} blocks.
+     * <p>Default is {@code 10,000}.</p>
+     *
+     * @param queueCapacity at least 1.
+     * @return this exporter.
+     * @throws IllegalStateException if the exporter has started writing.
+     */
+    public synchronized EntityExporter<T> setQueueCapacity(@Size(min=1) int queueCapacity) {
+        checkNotStarted();
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Queues an entity for writing, blocking while the queue is full. The writer thread starts with the first entity.
+     *
+     * @param entity the entity.
+     * @throws UncheckedIOException if the writer has failed.
+     * @throws IllegalStateException if the exporter is closed.
+     */
+    @Override
+    public void accept(@NotNull T entity) {
+        BlockingQueue<Object> target = start();
+        try {
+            while (!target.offer(entity, 100, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the export writer", e);
+        }
+        checkFailure();
+    }
+
+    /**
+     * <p>getRecords.</p>
+     *
+     * @return the number of entities written so far.
+     */
+    public long getRecords() {
+        return records.get();
+    }
+
+    /**
+     * <p>Getter for the field <code>files</code>.</p>
+     *
+     * @return the files completed so far, in the order they were written.
+     */
+    public List<Path> getFiles() {
+        synchronized (files) {
+            return new ArrayList<>(files);
+        }
+    }
+
+    /**
+     * Writes the queued entities, completes the last file and stops the writer thread.
+     *
+     * @throws IOException if writing failed at any point.
+     */
+    @Override
+    public void close() throws IOException {
+        Thread thread;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            thread = writer;
+        }
+        if (thread != null) {
+            try {
+                while (!queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                    if (!thread.isAlive()) break;
+                }
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                thread.interrupt();
+                throw new IOException("Interrupted while waiting for the export writer", e);
+            }
+        }
+        if (failure != null) {
+            throw failure instanceof IOException ? (IOException) failure : new IOException("Export failed", failure);
+        }
+    }
+
+    private synchronized BlockingQueue<Object> start() {
+        if (closed) throw new IllegalStateException("Exporter is closed");
+        if (writer == null) {
+            queue = new ArrayBlockingQueue<>(queueCapacity);
+            writer = new Thread(this::drain, "javadex-exporter-" + prefix);
+            writer.setDaemon(true);
+            writer.start();
+        }
+        return queue;
+    }
+
+    private synchronized void checkNotStarted() {
+        if (writer != null) throw new IllegalStateException("Exporter has already started writing");
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure;
+        if (cause != null) {
+            throw cause instanceof IOException ? new UncheckedIOException((IOException) cause)
+                    : new UncheckedIOException(new IOException("Export failed", cause));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        try {
+            Files.createDirectories(directory);
+            while (true) {
+                Object next = queue.take();
+                if (next == END) break;
+                if (file == null) openFile();
+                write((T) next);
+                records.incrementAndGet();
+                if (file.count >= maxFileBytes) finishFile();
+            }
+            if (file != null) finishFile();
+        } catch (Throwable e) {
+            abandonFile(e);
+            failure = e;
+            logger.error("Export to {} failed after {} records", directory, records.get(), e);
+            queue.clear();
+        }
+    }
+
+    private void openFile() throws IOException {
+        String name = String.format("%s-%05d%s%s", prefix, fileIndex++, format.getExtension(), compression.getExtension());
+        partPath = directory.resolve(name + ".part");
+        file = new CountingOutputStream(Files.newOutputStream(partPath));
+        stream = new BufferedOutputStream(compression.wrap(file), 64 * 1024);
+        switch (format) {
+            case NDJSON:
+                text = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+                json = new JsonWriter(text);
+                json.setStrictness(Strictness.LENIENT);
+                json.setSerializeNulls(true);
+                break;
+            case ROWS:
+                rows = new DataOutputStream(stream);
+                RowFileReader.writeHeader(rows, schema);
+                break;
+        }
+    }
+
+    private void finishFile() throws IOException {
+        switch (format) {
+            case NDJSON:
+                text.flush();
+                break;
+            case ROWS:
+                rows.flush();
+                break;
+        }
+        stream.close();
+        Path complete = directory.resolve(partPath.getFileName().toString().replaceFirst("\\.part$", ""));
+        Files.move(partPath, complete, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        files.add(complete);
+        logger.debug("Exported {} ({} bytes)", complete, file.count);
+        partPath = null;
+        file = null;
+        stream = null;
+        json = null;
+        text = null;
+        rows = null;
+    }
+
+    /**
+     * Closes and deletes the file being written when the export fails, so no {@code .part} file is left behind.
+     */
+    private void abandonFile(Throwable failure) {
+        try {
+            if (stream != null) {
+                stream.close();
+            } else if (file != null) {
+                file.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+        try {
+            if (partPath != null) Files.deleteIfExists(partPath);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+        partPath = null;
+        file = null;
+        stream = null;
+        json = null;
+        text = null;
+        rows = null;
+    }
+
+    private void write(T entity) throws IOException {
+        switch (format) {
+            case NDJSON:
+                writeJson(entity);
+                break;
+            case ROWS:
+                writeRow(entity);
+                break;
+        }
+    }
+
+    private void writeJson(T entity) throws IOException {
+        json.beginObject();
+        for (ExportSchema.Column<T> column : schema.getColumns()) {
+            json.name(column.getName());
+            Object value = column.get(entity);
+            if (value == null) {
+                json.nullValue();
+                continue;
+            }
+            switch (column.getType()) {
+                case STRING:
+                    json.value((String) value);
+                    break;
+                case LONG:
+                    json.value(((Number) value).longValue());
+                    break;
+                case DOUBLE:
+                    json.value(((Number) value).doubleValue());
+                    break;
+                case BOOLEAN:
+                    json.value((Boolean) value);
+                    break;
+                case TIMESTAMP:
+                    json.value(TIMESTAMP_FORMAT.format((OffsetDateTime) value));
+                    break;
+                case UUID:
+                    json.value(value.toString());
+                    break;
+            }
+        }
+        json.endObject();
+        text.write('\n');
+    }
+
+    private void writeRow(T entity) throws IOException {
+        List<ExportSchema.Column<T>> columns = schema.getColumns();
+        Object[] values = new Object[columns.size()];
+        byte[] nulls = new byte[(values.length + 7) / 8];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns.get(i).get(entity);
+            if (values[i] == null) nulls[i >> 3] |= (byte) (1 << (i & 7));
+        }
+        rows.write(nulls);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) continue;
+            switch (columns.get(i).getType()) {
+                case STRING:
+                    byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                    RowFileReader.writeVarLong(rows, bytes.length);
+                    rows.write(bytes);
+                    break;
+                case LONG:
+                    RowFileReader.writeVarLong(rows, RowFileReader.zigZag(((Number) value).longValue()));
+                    break;
+                case DOUBLE:
+                    rows.writeDouble(((Number) value).doubleValue());
+                    break;
+                case BOOLEAN:
+                    rows.writeBoolean((Boolean) value);
+                    break;
+                case TIMESTAMP:
+                    RowFileReader.writeVarLong(rows, RowFileReader.zigZag(((OffsetDateTime) value).toInstant().toEpochMilli()));
+                    break;
+                case UUID:
+                    rows.writeLong(((UUID) value).getMostSignificantBits());
+                    rows.writeLong(((UUID) value).getLeastSignificantBits());
+                    break;
+            }
+        }
+    }
+
+    /** Counts the bytes that reach the file, after compression. */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package dev.kurumidisciples.javadex.internal.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression applied to exported files.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public enum ExportCompression {
+
+    NONE("") {
+        @Override
+        OutputStream wrap(OutputStream out) {
+            return out;
+        }
+    },
+    GZIP(".gz") {
+        @Override
+        OutputStream wrap(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, 64 * 1024);
+        }
+    };
+
+    private final String extension;
+
+    ExportCompression(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    abstract OutputStream wrap(OutputStream out) throws IOException;
+}
@@ -0,0 +1,28 @@
+package dev.kurumidisciples.javadex.internal.export;
+
+/**
+ * The file layouts an {@link EntityExporter} can write.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public enum ExportFormat {
+
+    /** One JSON object per line, keyed by column name. */
+    NDJSON(".ndjson"),
+    /**
+     * A typed header followed by one binary row per entity, see {@link RowFileReader}. Integers are
+     * variable-length, so rows are typically a third of the size of the NDJSON line.
+     */
+    ROWS(".rows");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
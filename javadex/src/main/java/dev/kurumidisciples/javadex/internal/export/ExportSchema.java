@@ -0,0 +1,223 @@
+package dev.kurumidisciples.javadex.internal.export;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+
+/**
+ * The flat columns an {@link EntityExporter} writes for each entity.
+ * <p>Columns are written in the order they were added. A getter may return {@code null} for a missing value;
+ * NDJSON writes it as {@code null} and the row format sets the column's null bit.</p>
+ *
+ * <pre>{@code
+ * ExportSchema<Manga> schema = new ExportSchema<Manga>("manga")
+ *         .addUuid("id", Manga::getId)
+ *         .addString("title", Manga::getDefaultTitle)
+ *         .addLong("year", Manga::getYear);
+ * }</pre>
+ *
+ * @param <T> the entity type.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class ExportSchema<T> {
+
+    /** The columns of a manga: identity, titles and the attributes most analyses filter on. */
+    public static final ExportSchema<Manga> MANGA = new ExportSchema<Manga>("manga")
+            .addUuid("id", Manga::getId)
+            .addString("title", Manga::getDefaultTitle)
+            .addString("originalLanguage", manga -> manga.getOriginalLanguage() == null ? null : manga.getOriginalLanguage().getLanguage())
+            .addString("status", manga -> manga.getStatus() == null ? null : manga.getStatus().getValue())
+            .addString("contentRating", manga -> manga.getContentRating() == null ? null : manga.getContentRating().getValue())
+            .addString("demographic", manga -> manga.getPublicationDemographic() == null ? null : manga.getPublicationDemographic().getValue())
+            .addLong("year", Manga::getYear)
+            .addDouble("lastVolume", Manga::getLastVolume)
+            .addDouble("lastChapter", Manga::getLastChapter)
+            .addUuid("author", Manga::getAuthor)
+            .addUuid("latestUploadedChapter", Manga::getLatestUploadedChapterId)
+            .addTimestamp("createdAt", Manga::getCreatedAt)
+            .addTimestamp("updatedAt", Manga::getUpdatedAt)
+            .addLong("version", Manga::getVersion);
+
+    /** The columns of a chapter, with the id of its manga. */
+    public static final ExportSchema<Chapter> CHAPTER = new ExportSchema<Chapter>("chapter")
+            .addUuid("id", Chapter::getId)
+            .addUuid("manga", chapter -> firstRelated(chapter, RelationshipType.MANGA))
+            .addUuid("scanlationGroup", chapter -> firstRelated(chapter, RelationshipType.SCANLATION_GROUP))
+            .addString("title", Chapter::getTitle)
+            .addDouble("volume", Chapter::getVolume)
+            .addDouble("chapter", Chapter::getChapterNumber)
+            .addString("translatedLanguage", chapter -> chapter.getTranslatedLanguage() == null ? null : chapter.getTranslatedLanguage().getLanguage())
+            .addLong("pages", Chapter::getPages)
+            .addTimestamp("publishAt", Chapter::getPublishAt)
+            .addTimestamp("readableAt", Chapter::getReadableAt)
+            .addTimestamp("createdAt", Chapter::getCreatedAt)
+            .addTimestamp("updatedAt", Chapter::getUpdatedAt)
+            .addLong("version", Chapter::getVersion);
+
+    /**
+     * The value types a column can hold.
+     */
+    public enum Type {
+        STRING,
+        LONG,
+        DOUBLE,
+        BOOLEAN,
+        /** An {@link OffsetDateTime}, ISO-8601 in NDJSON and epoch milliseconds in rows. */
+        TIMESTAMP,
+        UUID;
+
+        static Type fromCode(int code) {
+            Type[] types = values();
+            if (code < 0 || code >= types.length) throw new IllegalArgumentException("Unknown column type " + code);
+            return types[code];
+        }
+    }
+
+    /**
+     * One named, typed column.
+     *
+     * @param <T> the entity type.
+     */
+    public static final class Column<T> {
+
+        private final String name;
+        private final Type type;
+        private final Function<? super T, ?> getter;
+
+        Column(String name, Type type, Function<? super T, ?> getter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        Object get(T entity) {
+            return getter.apply(entity);
+        }
+    }
+
+    private final String name;
+    private final List<Column<T>> columns = new ArrayList<>();
+
+    /**
+     * <p>Constructor for ExportSchema.</p>
+     *
+     * @param name the name written to the header of row files.
+     */
+    public ExportSchema(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds a string column.
+     *
+     * @param name the column name.
+     * @param getter reads the value from an entity.
+     * @return this schema.
+     */
+    public ExportSchema<T> addString(@NotNull String name, @NotNull Function<? super T, String> getter) {
+        return add(name, Type.STRING, getter);
+    }
+
+    /**
+     * Adds an integer column.
+     *
+     * @param name the column name.
+     * @param getter reads the value from an entity.
+     * @return this schema.
+     */
+    public ExportSchema<T> addLong(@NotNull String name, @NotNull Function<? super T, ? extends Number> getter) {
+        return add(name, Type.LONG, getter);
+    }
+
+    /**
+     * Adds a floating point column.
+     *
+     * @param name the column name.
+     * @param getter reads the value from an entity.
+     * @return this schema.
+     */
+    public ExportSchema<T> addDouble(@NotNull String name, @NotNull Function<? super T, ? extends Number> getter) {
+        return add(name, Type.DOUBLE, getter);
+    }
+
+    /**
+     * Adds a boolean column.
+     *
+     * @param name the column name.
+     * @param getter reads the value from an entity.
+     * @return this schema.
+     */
+    public ExportSchema<T> addBoolean(@NotNull String name, @NotNull Function<? super T, Boolean> getter) {
+        return add(name, Type.BOOLEAN, getter);
+    }
+
+    /**
+     * Adds a timestamp column.
+     *
+     * @param name the column name.
+     * @param getter reads the value from an entity.
+     * @return this schema.
+     */
+    public ExportSchema<T> addTimestamp(@NotNull String name, @NotNull Function<? super T, OffsetDateTime> getter) {
+        return add(name, Type.TIMESTAMP, getter);
+    }
+
+    /**
+     * Adds a UUID column.
+     *
+     * @param name the column name.
+     * @param getter reads the value from an entity.
+     * @return this schema.
+     */
+    public ExportSchema<T> addUuid(@NotNull String name, @NotNull Function<? super T, UUID> getter) {
+        return add(name, Type.UUID, getter);
+    }
+
+    /**
+     * <p>Getter for the field <code>name</code>.</p>
+     *
+     * @return the schema name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * <p>Getter for the field <code>columns</code>.</p>
+     *
+     * @return the columns in write order.
+     */
+    public List<Column<T>> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    private ExportSchema<T> add(String name, Type type, Function<? super T, ?> getter) {
+        for (Column<T> column : columns) {
+            if (column.name.equals(name)) throw new IllegalArgumentException("Duplicate column " + name);
+        }
+        columns.add(new Column<>(name, type, getter));
+        return this;
+    }
+
+    private static UUID firstRelated(Chapter chapter, RelationshipType type) {
+        return chapter.getRelationshipMap().getFirstId(type);
+    }
+}
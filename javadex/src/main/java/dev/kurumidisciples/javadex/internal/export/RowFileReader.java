@@ -0,0 +1,186 @@
+package dev.kurumidisciples.javadex.internal.export;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reads a file written by {@link EntityExporter} in the {@link ExportFormat#ROWS} format.
+ *
+ * <p>A file starts with the magic {@code JDXR}, a format version, the schema name and the name and type of every
+ * column. Each row follows as a bitmap of its null columns and the values of the others: strings as a varint
+ * length and UTF-8 bytes, longs and timestamps (epoch milliseconds) as zig-zag varints, doubles as 8 bytes,
+ * booleans as 1 byte and UUIDs as 16 bytes.</p>
+ *
+ * <pre>{@code
+ * try (RowFileReader reader = RowFileReader.open(Path.of("manga-00000.rows.gz"))) {
+ *     for (Object[] row = reader.next(); row != null; row = reader.next()) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class RowFileReader implements AutoCloseable {
+
+    static final int MAGIC = 0x4a445852; // JDXR
+    static final int FORMAT = 1;
+
+    private final DataInputStream in;
+    private final String schemaName;
+    private final List<String> names = new ArrayList<>();
+    private final List<ExportSchema.Type> types = new ArrayList<>();
+
+    private RowFileReader(DataInputStream in) throws IOException {
+        this.in = in;
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+            throw new IOException("Not an exported row file");
+        }
+        schemaName = in.readUTF();
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            names.add(in.readUTF());
+            types.add(ExportSchema.Type.fromCode(in.readUnsignedByte()));
+        }
+    }
+
+    /**
+     * Opens a row file, decompressing it if its name ends with {@code .gz}.
+     *
+     * @param file the file.
+     * @return the reader, positioned before the first row.
+     * @throws IOException if the file cannot be read or is not a row file.
+     */
+    public static RowFileReader open(@NotNull Path file) throws IOException {
+        InputStream raw = Files.newInputStream(file);
+        try {
+            InputStream in = file.getFileName().toString().endsWith(ExportCompression.GZIP.getExtension())
+                    ? new GZIPInputStream(raw, 64 * 1024) : raw;
+            return new RowFileReader(new DataInputStream(new BufferedInputStream(in, 64 * 1024)));
+        } catch (IOException | RuntimeException e) {
+            raw.close();
+            throw e;
+        }
+    }
+
+    /**
+     * <p>Getter for the field <code>schemaName</code>.</p>
+     *
+     * @return the name of the schema the file was written with.
+     */
+    public String getSchemaName() {
+        return schemaName;
+    }
+
+    /**
+     * <p>getColumnNames.</p>
+     *
+     * @return the column names, in row order.
+     */
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Reads the next row. Values are {@link String}, {@link Long}, {@link Double}, {@link Boolean},
+     * {@link OffsetDateTime} in UTC, {@link UUID} or {@code null}.
+     *
+     * @return the values in column order, or {@code null} at the end of the file.
+     * @throws IOException if the file cannot be read or ends inside a row.
+     */
+    public Object[] next() throws IOException {
+        byte[] nulls = new byte[(types.size() + 7) / 8];
+        int first = in.read();
+        if (first < 0) return null;
+        nulls[0] = (byte) first;
+        in.readFully(nulls, 1, nulls.length - 1);
+        Object[] row = new Object[types.size()];
+        for (int i = 0; i < row.length; i++) {
+            if ((nulls[i >> 3] & (1 << (i & 7))) != 0) continue;
+            switch (types.get(i)) {
+                case STRING:
+                    byte[] bytes = new byte[(int) readVarLong(in)];
+                    in.readFully(bytes);
+                    row[i] = new String(bytes, StandardCharsets.UTF_8);
+                    break;
+                case LONG:
+                    row[i] = unZigZag(readVarLong(in));
+                    break;
+                case DOUBLE:
+                    row[i] = in.readDouble();
+                    break;
+                case BOOLEAN:
+                    row[i] = in.readBoolean();
+                    break;
+                case TIMESTAMP:
+                    row[i] = OffsetDateTime.ofInstant(Instant.ofEpochMilli(unZigZag(readVarLong(in))), ZoneOffset.UTC);
+                    break;
+                case UUID:
+                    row[i] = new UUID(in.readLong(), in.readLong());
+                    break;
+            }
+        }
+        return row;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    static void writeHeader(DataOutputStream out, ExportSchema<?> schema) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT);
+        out.writeUTF(schema.getName());
+        out.writeShort(schema.getColumns().size());
+        for (ExportSchema.Column<?> column : schema.getColumns()) {
+            out.writeUTF(column.getName());
+            out.writeByte(column.getType().ordinal());
+        }
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new EOFException("Malformed varint");
+    }
+}
@@ -0,0 +1,47 @@
+package dev.kurumidisciples.javadex.internal.factory;
+
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+
+import dev.kurumidisciples.javadex.api.entities.Author;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
+
+/**
+ * <p>AuthorFactory class.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class AuthorFactory {
+
+    private static final String AUTHOR_API = "https://api.mangadex.org/author/";
+
+    private static final Logger logger = LogManager.getLogger(AuthorFactory.class);
+
+    /**
+     * Builds an Author object from the given id.
+     * <p>The author is served from {@link EntityCaches#AUTHOR} when it has been seen recently.</p>
+     *
+     * @param authorId The id of the author.
+     * @return The author, or null if the request failed.
+     */
+    public static Author retrieveAuthor(@NotNull UUID authorId) {
+        Author cached = EntityCaches.AUTHOR.getIfPresent(authorId);
+        if (cached != null) return cached;
+        String jsonResponse;
+        try {
+            jsonResponse = HTTPRequest.get(AUTHOR_API + authorId);
+        } catch (HTTPRequestException e) {
+            logger.error("Could not retrieve the requested author from the id: {}", authorId, e);
+            return null;
+        }
+        return EntityCaches.AUTHOR.put(new Author(EntityCodecs.parse(jsonResponse)));
+    }
+}
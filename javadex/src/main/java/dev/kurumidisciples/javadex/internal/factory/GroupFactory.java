@@ -5,13 +5,15 @@ import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 
 import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
 
 /**
  * <p>GroupFactory class.</p>
@@ -27,6 +29,8 @@ public class GroupFactory {
 
     /**
      * Builds a group from relationship data
+     * <p>The group is served from {@link EntityCaches#GROUP} when it has been seen recently, and from the
+     * {@link EntityStores entity store} when one is open.</p>
      *
      * @return ScanlationGroup object
      * @param data a {@link dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData} object
@@ -34,17 +38,19 @@ public class GroupFactory {
      * @throws java.lang.InterruptedException if any.
      */
     public static ScanlationGroup getScanlationGroup(RelationshipData data) throws IOException, InterruptedException{
+            ScanlationGroup cached = EntityCaches.GROUP.getIfPresent(data.getId());
+            if (cached != null) return cached;
             String groupId = data.getId().toString();
-            String jsonResponse;
+            ScanlationGroup group;
             try {
-                jsonResponse = HTTPRequest.get(GROUP_API + groupId);
+                group = EntityStores.readThrough(StoredEntityType.SCANLATION_GROUP, data.getId(), ScanlationGroup::new,
+                        () -> EntityCodecs.parse(HTTPRequest.get(GROUP_API + groupId)).getAsJsonObject("data"));
             } catch (HTTPRequestException e) {
                 // Handle the exception here
                 logger.error("Request was unable to be completed", e);
                 return null; // Or handle the exception in a different way
             }
-            Gson gson = new Gson();
-            return new ScanlationGroup(gson.fromJson(jsonResponse, JsonObject.class).get("data").getAsJsonObject());
+            return EntityCaches.GROUP.put(group);
     }
 
 }
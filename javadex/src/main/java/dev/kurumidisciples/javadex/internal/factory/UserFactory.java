@@ -1,18 +1,20 @@
 package dev.kurumidisciples.javadex.internal.factory;
 
+import java.util.UUID;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 
 import dev.kurumidisciples.javadex.api.entities.Chapter;
 import dev.kurumidisciples.javadex.api.entities.User;
 import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
 import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
 import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
 
 /**
  * <p>UserFactory class.</p>
@@ -28,13 +30,17 @@ public class UserFactory {
 
     /**
      * Builds a User object from the given Chapter object.
+     * <p>The user is served from {@link EntityCaches#USER} when it has been seen recently.</p>
      *
      * @param chapter The Chapter object from which to build the User object.
      * @return The uploader of the chapter object.
      */
     public static User retrieveUploader(@NotNull Chapter chapter){
         RelationshipMap relationshipMap = chapter.getRelationshipMap();
-        String uploaderId = relationshipMap.get(RelationshipType.USER).get(0).toString();
+        UUID uploader = relationshipMap.get(RelationshipType.USER).get(0).getId();
+        User cached = EntityCaches.USER.getIfPresent(uploader);
+        if (cached != null) return cached;
+        String uploaderId = uploader.toString();
         String jsonResponse = null;
         try {
             jsonResponse = HTTPRequest.get(USER_API + uploaderId);
@@ -42,7 +48,6 @@ public class UserFactory {
             logger.error("Could not retrieve the requested user from the id: {}", uploaderId, e);
             return null; 
         }
-        Gson gson = new Gson();
-        return new User(gson.fromJson(jsonResponse, JsonObject.class));
+        return EntityCaches.USER.put(new User(EntityCodecs.parse(jsonResponse)));
     }
 }
@@ -2,8 +2,10 @@ package dev.kurumidisciples.javadex.internal.http;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
@@ -19,6 +21,7 @@ import dev.kurumidisciples.javadex.api.exceptions.http.HTTPUnexpectedStatusCodeE
 import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
 import dev.kurumidisciples.javadex.internal.utils.ErrorResponseChecker;
 import okhttp3.FormBody;
+import okhttp3.Interceptor;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -38,17 +41,78 @@ public class HTTPRequest {
 
     private static final Logger logger = LogManager.getLogger(HTTPRequest.class);
 
-    private static final OkHttpClient httpClient = new OkHttpClient.Builder()
+    private static final OkHttpClient defaultClient = new OkHttpClient.Builder()
                     .connectTimeout(10, TimeUnit.SECONDS)
                     .writeTimeout(10, TimeUnit.SECONDS)
                     .readTimeout(30, TimeUnit.SECONDS)
                     .build();
+    private static final List<Interceptor> interceptors = new CopyOnWriteArrayList<>();
+    private static volatile OkHttpClient httpClient = defaultClient;
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
 
-    private static final int MAX_REQUESTS_PER_MINUTE = 100; // Adjust this value as needed
-    private static final Semaphore rateLimiter = new Semaphore(MAX_REQUESTS_PER_MINUTE);
+    /** The default number of requests started per minute, see {@link #setRequestsPerMinute(int)}. */
+    private static final int MAX_REQUESTS_PER_MINUTE = 100;
+    private static volatile Semaphore rateLimiter = new Semaphore(MAX_REQUESTS_PER_MINUTE);
+    private static volatile int requestsPerMinute = MAX_REQUESTS_PER_MINUTE;
     private static final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
 
+    /**
+     * Adds an interceptor to every request sent by the library.
+     * <p>An interceptor may answer a request itself without calling {@code chain.proceed}, which is how tests and
+     * benchmarks serve recorded responses in-process instead of reaching the API.</p>
+     *
+     * @param interceptor the interceptor, called after the ones already added.
+     */
+    public static synchronized void addInterceptor(Interceptor interceptor) {
+        interceptors.add(interceptor);
+        rebuildClient();
+    }
+
+    /**
+     * Removes an interceptor added with {@link #addInterceptor(Interceptor)}.
+     *
+     * @param interceptor the interceptor to remove.
+     */
+    public static synchronized void removeInterceptor(Interceptor interceptor) {
+        interceptors.remove(interceptor);
+        rebuildClient();
+    }
+
+    /**
+     * Sets how many requests may be started per minute.
+     * <p>Requests over the limit block until a permit is returned, one minute after it was taken.
+     * The limit is global: it applies to every {@link dev.kurumidisciples.javadex.api.core.JavaDex} instance and
+     * every request the library sends in this JVM. Raising it above the default risks being rate limited or banned
+     * by MangaDex; a very high limit is only meant for running against a local stub.</p>
+     *
+     * @param requestsPerMinute the limit, {@value #MAX_REQUESTS_PER_MINUTE} by default.
+     * @throws IllegalArgumentException if the limit is not positive.
+     */
+    public static void setRequestsPerMinute(int requestsPerMinute) {
+        if (requestsPerMinute < 1) throw new IllegalArgumentException("Requests per minute must be at least 1");
+        rateLimiter = new Semaphore(requestsPerMinute);
+        HTTPRequest.requestsPerMinute = requestsPerMinute;
+    }
+
+    /**
+     * Returns how many requests may be started per minute.
+     *
+     * @return the limit.
+     */
+    public static int getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    private static void rebuildClient() {
+        if (interceptors.isEmpty()) {
+            httpClient = defaultClient;
+            return;
+        }
+        OkHttpClient.Builder builder = defaultClient.newBuilder();
+        interceptors.forEach(builder::addInterceptor);
+        httpClient = builder.build();
+    }
+
 
     /**
      * Sends a POST request to the specified URL with the specified JSON payload.
@@ -96,8 +160,9 @@ public class HTTPRequest {
      * @throws HTTPRequestException if the request fails
      */
     private static String postWithBearer(String url, String json, Optional<String> bearer) throws HTTPRequestException {
+        Semaphore permits = rateLimiter;
         try {
-            rateLimiter.acquire();
+            permits.acquire();
             logger.debug("Sending POST request to URL: {} with JSON payload", url);
             RequestBody body = RequestBody.create(json, JSON);
             Request.Builder requestBuilder = new Request.Builder()
@@ -111,13 +176,26 @@ public class HTTPRequest {
             Thread.currentThread().interrupt();
             throw new HTTPInterruptedException(e.getMessage(), e);
         } finally {
-            executor.schedule((Runnable) rateLimiter::release, 1, TimeUnit.MINUTES);
+            executor.schedule((Runnable) permits::release, 1, TimeUnit.MINUTES);
         }
     }
 
+    /**
+     * Sends a DELETE request to the specified URL with an optional bearer token.
+     *
+     * @param url the URL to send the request to
+     * @param bearer the bearer token to use for authorization
+     * @return the response body as a string
+     * @throws dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException if the request fails
+     */
+    public static String delete(String url, Optional<String> bearer) throws HTTPRequestException {
+        return deleteWithBearer(url, bearer);
+    }
+
     private static String deleteWithBearer(String url, Optional<String> bearer) throws HTTPRequestException {
+        Semaphore permits = rateLimiter;
         try {
-            rateLimiter.acquire();
+            permits.acquire();
             logger.debug("Sending DELETE request to URL: {}", url);
             Request.Builder requestBuilder = new Request.Builder()
                     .url(url)
@@ -130,7 +208,7 @@ public class HTTPRequest {
             Thread.currentThread().interrupt();
             throw new HTTPInterruptedException(e.getMessage(), e);
         } finally {
-            executor.schedule((Runnable) rateLimiter::release, 1, TimeUnit.MINUTES);
+            executor.schedule((Runnable) permits::release, 1, TimeUnit.MINUTES);
         }
     }
 
@@ -144,8 +222,9 @@ public class HTTPRequest {
      * @throws dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException if any.
      */
     public static Response postResponse(String url, String json, Optional<String> bearer) throws HTTPRequestException {
+        Semaphore permits = rateLimiter;
         try {
-            rateLimiter.acquire();
+            permits.acquire();
             logger.debug("Sending POST request to URL: {} with JSON payload and authorization", url);
             RequestBody body = RequestBody.create(json, JSON);
             Request.Builder requestBuilder = new Request.Builder()
@@ -159,7 +238,7 @@ public class HTTPRequest {
             Thread.currentThread().interrupt();
             throw new HTTPInterruptedException(e.getMessage(), e);
         } finally {
-            executor.schedule((Runnable) rateLimiter::release, 1, TimeUnit.MINUTES);
+            executor.schedule((Runnable) permits::release, 1, TimeUnit.MINUTES);
         }
     }
 
@@ -207,8 +286,9 @@ public class HTTPRequest {
      * @throws InterruptedException if the request is interrupted
      */
     private static String getWithBearer(String url, Optional<String> json, Optional<String> bearer) throws HTTPRequestException {
+        Semaphore permits = rateLimiter;
         try {
-            rateLimiter.acquire();
+            permits.acquire();
             logger.debug("Sending GET request to URL: {} with optional payload and authorization", url);
             Request.Builder requestBuilder = new Request.Builder()
                     .url(url)
@@ -222,7 +302,7 @@ public class HTTPRequest {
             Thread.currentThread().interrupt();
             throw new HTTPInterruptedException(e.getMessage(), e);
         } finally {
-            executor.schedule((Runnable) rateLimiter::release, 1, TimeUnit.MINUTES);
+            executor.schedule((Runnable) permits::release, 1, TimeUnit.MINUTES);
         }
     }
 
@@ -235,8 +315,9 @@ public class HTTPRequest {
      * @throws dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException if the request fails
      */
     public static Response getResponse(String url, Optional<String> bearer) throws HTTPRequestException {
+        Semaphore permits = rateLimiter;
         try {
-            rateLimiter.acquire();
+            permits.acquire();
             logger.debug("Sending GET request to URL: {} with authorization", url);
             Request.Builder requestBuilder = new Request.Builder()
                     .url(url)
@@ -249,7 +330,7 @@ public class HTTPRequest {
             Thread.currentThread().interrupt();
             throw new HTTPInterruptedException(e.getMessage(), e);
         } finally {
-            executor.schedule((Runnable) rateLimiter::release, 1, TimeUnit.MINUTES);
+            executor.schedule((Runnable) permits::release, 1, TimeUnit.MINUTES);
         }
     }
 
@@ -262,8 +343,9 @@ public class HTTPRequest {
      * @throws dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException if the request fails
      */
     public static String postForm(String url, Map<String, String> formData) throws HTTPRequestException {
+        Semaphore permits = rateLimiter;
         try {
-            rateLimiter.acquire();
+            permits.acquire();
             logger.debug("Sending POST request to URL: {} with form data", url);
             FormBody.Builder formBuilder = new FormBody.Builder();
             for (Map.Entry<String, String> entry : formData.entrySet()) {
@@ -281,7 +363,7 @@ public class HTTPRequest {
             Thread.currentThread().interrupt();
             throw new HTTPInterruptedException(e.getMessage(), e);
         } finally {
-            executor.schedule((Runnable) rateLimiter::release, 1, TimeUnit.MINUTES);
+            executor.schedule((Runnable) permits::release, 1, TimeUnit.MINUTES);
         }
     }
 
@@ -0,0 +1,84 @@
+package dev.kurumidisciples.javadex.internal.http.adapters;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.function.Function;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import dev.kurumidisciples.javadex.api.entities.Author;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.MDList;
+import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
+import dev.kurumidisciples.javadex.api.entities.User;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
+import dev.kurumidisciples.javadex.api.proxies.CoverProxy;
+
+/**
+ * Registry of the streaming {@link TypeAdapter}s of every entity type, and the one {@link Gson} they are registered on.
+ * <p>Each entity decodes itself from a {@link JsonReader} with a switch over the field names, so no reflection is involved
+ * and an unknown field costs a single skip. The public {@code JsonObject} constructors read their tree through the same code
+ * via {@link JsonReaders#of(com.google.gson.JsonElement)}.</p>
+ * <pre>{@code
+ * Manga manga = EntityCodecs.GSON.fromJson(reader, Manga.class);
+ * }</pre>
+ * <p>Entity adapters are read-only, entities are never sent back to the API.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class EntityCodecs {
+
+    /** The Gson instance shared by the whole library. It is immutable and thread-safe. */
+    public static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter())
+            .registerTypeAdapter(Manga.class, readOnly(Manga::new))
+            .registerTypeAdapter(Chapter.class, readOnly(Chapter::new))
+            .registerTypeAdapter(ScanlationGroup.class, readOnly(ScanlationGroup::new))
+            .registerTypeAdapter(User.class, readOnly(User::new))
+            .registerTypeAdapter(Author.class, readOnly(Author::new))
+            .registerTypeAdapter(CoverProxy.class, readOnly(CoverProxy::new))
+            .registerTypeAdapter(MDList.class, readOnly(MDList::new))
+            .registerTypeAdapter(RelationshipData.class, readOnly(RelationshipData::new))
+            .registerTypeAdapter(RelationshipMap.class, readOnly(RelationshipMap::new))
+            .create();
+
+    private EntityCodecs() {
+    }
+
+    /**
+     * Parses a response body into a tree with the shared instance.
+     *
+     * @param json the response body.
+     * @return the parsed object.
+     */
+    public static JsonObject parse(String json) {
+        return GSON.fromJson(json, JsonObject.class);
+    }
+
+    private static <T> TypeAdapter<T> readOnly(Function<JsonReader, T> decoder) {
+        return new TypeAdapter<T>() {
+            @Override
+            public void write(JsonWriter out, T value) {
+                throw new UnsupportedOperationException("Entities are read-only and cannot be serialized");
+            }
+
+            @Override
+            public T read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return decoder.apply(in);
+            }
+        };
+    }
+}
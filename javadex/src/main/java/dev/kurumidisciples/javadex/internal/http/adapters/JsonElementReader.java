@@ -0,0 +1,234 @@
+package dev.kurumidisciples.javadex.internal.http.adapters;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A {@link JsonReader} over an already parsed {@link JsonElement}.
+ * <p>Lets the streaming entity decoders read trees handed to the public {@code JsonObject} constructors,
+ * so every entity has exactly one decoding path. Values are not copied: containers are walked in place
+ * and {@link #nextJsonElement()} hands back the subtree itself.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+final class JsonElementReader extends JsonReader {
+
+    private static final Reader UNREADABLE = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /** Containers being walked are followed by their iterator; pending values sit on top. */
+    private Object[] stack = new Object[32];
+    private int size;
+
+    JsonElementReader(JsonElement element) {
+        super(UNREADABLE);
+        push(element);
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(((JsonArray) top()).iterator());
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        pop();
+        pop();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(((JsonObject) top()).entrySet().iterator());
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        pop();
+        pop();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (size == 0) {
+            return JsonToken.END_DOCUMENT;
+        }
+        Object top = top();
+        if (top instanceof Iterator) {
+            boolean inObject = stack[size - 2] instanceof JsonObject;
+            Iterator<?> iterator = (Iterator<?>) top;
+            if (!iterator.hasNext()) {
+                return inObject ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            }
+            if (inObject) {
+                return JsonToken.NAME;
+            }
+            push(iterator.next());
+            return peek();
+        }
+        if (top instanceof JsonObject) {
+            return JsonToken.BEGIN_OBJECT;
+        }
+        if (top instanceof JsonArray) {
+            return JsonToken.BEGIN_ARRAY;
+        }
+        if (top instanceof JsonPrimitive) {
+            JsonPrimitive primitive = (JsonPrimitive) top;
+            if (primitive.isBoolean()) {
+                return JsonToken.BOOLEAN;
+            }
+            return primitive.isNumber() ? JsonToken.NUMBER : JsonToken.STRING;
+        }
+        if (top instanceof JsonNull) {
+            return JsonToken.NULL;
+        }
+        throw new IllegalStateException("Unexpected " + top.getClass().getSimpleName() + " in JSON tree");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        Map.Entry<String, JsonElement> entry = ((Iterator<Map.Entry<String, JsonElement>>) top()).next();
+        push(entry.getValue());
+        return entry.getKey();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected " + JsonToken.STRING + " but was " + token);
+        }
+        return ((JsonPrimitive) pop()).getAsString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        return ((JsonPrimitive) pop()).getAsBoolean();
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        pop();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return nextPrimitive().getAsDouble();
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        return nextPrimitive().getAsLong();
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        return nextPrimitive().getAsInt();
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.NAME) {
+            nextName();
+        } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY || token == JsonToken.END_DOCUMENT) {
+            throw new IllegalStateException("Expected a value but was " + token);
+        }
+        pop();
+    }
+
+    /**
+     * Returns the next value as the element it was read from, without copying it.
+     *
+     * @return the next value.
+     * @throws IOException never, declared for symmetry with the other readers.
+     */
+    JsonElement nextJsonElement() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.NAME || token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY || token == JsonToken.END_DOCUMENT) {
+            throw new IllegalStateException("Expected a value but was " + token);
+        }
+        return (JsonElement) pop();
+    }
+
+    @Override
+    public void close() {
+        Arrays.fill(stack, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public String getPath() {
+        return "$";
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private JsonPrimitive nextPrimitive() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            throw new IllegalStateException("Expected " + JsonToken.NUMBER + " but was " + token);
+        }
+        return (JsonPrimitive) pop();
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        JsonToken token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token);
+        }
+    }
+
+    private Object top() {
+        return stack[size - 1];
+    }
+
+    private Object pop() {
+        Object value = stack[--size];
+        stack[size] = null;
+        return value;
+    }
+
+    private void push(Object value) {
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, size * 2);
+        }
+        stack[size++] = value;
+    }
+}
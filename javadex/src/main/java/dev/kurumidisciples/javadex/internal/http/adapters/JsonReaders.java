@@ -0,0 +1,149 @@
+package dev.kurumidisciples.javadex.internal.http.adapters;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.internal.parsers.TimestampParser;
+
+/**
+ * Null-tolerant value readers shared by the streaming entity decoders.
+ * <p>MangaDex sends {@code null} for most optional attributes, so every reader here consumes a {@code null}
+ * token and returns {@code null} or the given default instead.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class JsonReaders {
+
+    private JsonReaders() {
+    }
+
+    /**
+     * Returns a reader over an already parsed element.
+     *
+     * @param element the element to read.
+     * @return a {@link JsonReader} walking the element in place.
+     */
+    public static JsonReader of(JsonElement element) {
+        return new JsonElementReader(element);
+    }
+
+    /**
+     * Reads the next value as a subtree. Trees are handed back without copying them.
+     *
+     * @param in the reader.
+     * @return the next value, {@link com.google.gson.JsonNull} for {@code null}.
+     * @throws IOException if the value cannot be read.
+     */
+    public static JsonElement nextElement(JsonReader in) throws IOException {
+        if (in instanceof JsonElementReader) {
+            return ((JsonElementReader) in).nextJsonElement();
+        }
+        return JsonParser.parseReader(in);
+    }
+
+    /**
+     * <p>nextString.</p>
+     *
+     * @param in the reader.
+     * @return the next string, or {@code null}.
+     * @throws IOException if the value cannot be read.
+     */
+    public static String nextString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Reads a number the way {@link JsonPrimitive#getAsNumber()} would, accepting numeric strings.
+     *
+     * @param in the reader.
+     * @return the next number, or {@code null}.
+     * @throws IOException if the value cannot be read.
+     */
+    public static Number nextNumber(JsonReader in) throws IOException {
+        String value = nextString(in);
+        return value == null ? null : new JsonPrimitive(value).getAsNumber();
+    }
+
+    /**
+     * <p>nextInt.</p>
+     *
+     * @param in the reader.
+     * @param fallback the value returned for {@code null}.
+     * @return the next int.
+     * @throws IOException if the value cannot be read.
+     */
+    public static int nextInt(JsonReader in, int fallback) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return fallback;
+        }
+        return in.nextInt();
+    }
+
+    /**
+     * <p>nextLong.</p>
+     *
+     * @param in the reader.
+     * @return the next long, or {@code null}.
+     * @throws IOException if the value cannot be read.
+     */
+    public static Long nextLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextLong();
+    }
+
+    /**
+     * <p>nextBoolean.</p>
+     *
+     * @param in the reader.
+     * @param fallback the value returned for {@code null}.
+     * @return the next boolean.
+     * @throws IOException if the value cannot be read.
+     */
+    public static boolean nextBoolean(JsonReader in, boolean fallback) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return fallback;
+        }
+        return in.nextBoolean();
+    }
+
+    /**
+     * <p>nextUuid.</p>
+     *
+     * @param in the reader.
+     * @return the next UUID, or {@code null}.
+     * @throws IOException if the value cannot be read.
+     */
+    public static UUID nextUuid(JsonReader in) throws IOException {
+        String value = nextString(in);
+        return value == null ? null : UUID.fromString(value);
+    }
+
+    /**
+     * <p>nextDateTime.</p>
+     *
+     * @param in the reader.
+     * @return the next timestamp, or {@code null}.
+     * @throws IOException if the value cannot be read.
+     */
+    public static OffsetDateTime nextDateTime(JsonReader in) throws IOException {
+        String value = nextString(in);
+        return value == null ? null : TimestampParser.parse(value);
+    }
+}
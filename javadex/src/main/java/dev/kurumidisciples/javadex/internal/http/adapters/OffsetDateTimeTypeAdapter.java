@@ -8,6 +8,8 @@ import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 
+import dev.kurumidisciples.javadex.internal.parsers.TimestampParser;
+
 /**
  * Type adapter for OffsetDateTime.
  * <p> This class is used to serialize and deserialize OffsetDateTime objects to and from JSON.
@@ -46,7 +48,7 @@ public class OffsetDateTimeTypeAdapter extends TypeAdapter<OffsetDateTime> {
             in.nextNull();
             return null;
         } else {
-            return OffsetDateTime.parse(in.nextString(), formatter);
+            return TimestampParser.parse(in.nextString());
         }
     }
 }
@@ -0,0 +1,299 @@
+package dev.kurumidisciples.javadex.internal.http.cassette;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A recorded set of HTTP interactions, memory-mapped for replay.
+ * <p>A cassette file is a magic header followed by one record per interaction:</p>
+ * <pre>
+ * utf  method
+ * utf  url
+ * int  status
+ * int  header count, then utf name / utf value pairs
+ * byte 1 if the body is gzip compressed
+ * int  body length, then the body
+ * </pre>
+ * <p>Opening a cassette maps the file read-only and indexes it by method and URL. Bodies below
+ * {@value #COMPRESSION_THRESHOLD} bytes are stored as-is and served as read-only views of the mapping. Larger bodies
+ * are stored gzip compressed; each is inflated into a heap buffer the first time it is served and that copy is kept
+ * and served from then on. Either way {@link #body(String, String)} copies nothing after the first call, so
+ * parser-bound benchmarks can replay without an HTTP stack.</p>
+ * <p>When a request was recorded several times, the recordings are replayed in order and the last one repeats.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class Cassette implements Closeable {
+
+    /** Identifies cassette files and their format version. */
+    static final byte[] MAGIC = "JDXCASSETTE1\n".getBytes(StandardCharsets.US_ASCII);
+    /** Bodies smaller than this are stored as-is, compressing them costs more than it saves. */
+    static final int COMPRESSION_THRESHOLD = 256;
+
+    private final FileChannel channel;
+    private final Map<String, Track> tracks;
+
+    private Cassette(FileChannel channel, Map<String, Track> tracks) {
+        this.channel = channel;
+        this.tracks = tracks;
+    }
+
+    /**
+     * Maps and indexes a cassette file.
+     *
+     * @param file the cassette.
+     * @return the opened cassette.
+     * @throws IOException if the file cannot be read or is not a cassette.
+     */
+    public static Cassette open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] magic = new byte[MAGIC.length];
+            if (buffer.remaining() < magic.length) {
+                throw new IOException(file + " is not a cassette");
+            }
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException(file + " is not a cassette");
+            }
+            Map<String, Track> tracks = new HashMap<>();
+            while (buffer.hasRemaining()) {
+                Interaction interaction = readInteraction(buffer);
+                tracks.computeIfAbsent(key(interaction.method, interaction.url), k -> new Track()).interactions.add(interaction);
+            }
+            return new Cassette(channel, tracks);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException(file + " is truncated or corrupt", e);
+        }
+    }
+
+    /**
+     * Returns the next recorded interaction for a request.
+     *
+     * @param method the HTTP method.
+     * @param url the full URL, including the query string.
+     * @return the interaction, or {@code null} if the request was never recorded.
+     */
+    public Interaction next(String method, String url) {
+        Track track = tracks.get(key(method, url));
+        return track == null ? null : track.next();
+    }
+
+    /**
+     * Returns the body of the next recorded interaction for a request.
+     *
+     * @param method the HTTP method.
+     * @param url the full URL, including the query string.
+     * @return a read-only view of the body, or {@code null} if the request was never recorded.
+     * @see Interaction#body()
+     */
+    public ByteBuffer body(String method, String url) {
+        Interaction interaction = next(method, url);
+        return interaction == null ? null : interaction.body();
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return the number of distinct requests on the cassette.
+     */
+    public int size() {
+        return tracks.size();
+    }
+
+    /**
+     * Closes the file. The mapping is not released until its buffers are garbage collected, so bodies already
+     * handed out, and further calls to {@link #body(String, String)}, keep working.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    static String key(String method, String url) {
+        return method + ' ' + url;
+    }
+
+    static void writeInteraction(DataOutputStream out, String method, String url, int status,
+                                 List<String[]> headers, byte[] body) throws IOException {
+        out.writeUTF(method);
+        out.writeUTF(url);
+        out.writeInt(status);
+        out.writeInt(headers.size());
+        for (String[] header : headers) {
+            out.writeUTF(header[0]);
+            out.writeUTF(header[1]);
+        }
+        boolean compress = body.length >= COMPRESSION_THRESHOLD;
+        byte[] stored = compress ? gzip(body) : body;
+        out.writeByte(compress ? 1 : 0);
+        out.writeInt(stored.length);
+        out.write(stored);
+    }
+
+    private static Interaction readInteraction(ByteBuffer buffer) {
+        String method = readUtf(buffer);
+        String url = readUtf(buffer);
+        int status = buffer.getInt();
+        int headerCount = buffer.getInt();
+        List<String[]> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new String[] {readUtf(buffer), readUtf(buffer)});
+        }
+        boolean compressed = buffer.get() == 1;
+        int length = buffer.getInt();
+        ByteBuffer body = buffer.slice();
+        body.limit(length);
+        buffer.position(buffer.position() + length);
+        return new Interaction(method, url, status, Collections.unmodifiableList(headers), body.asReadOnlyBuffer(), compressed);
+    }
+
+    /** Reads a {@link java.io.DataInput#readUTF()} string; the cassette only holds ASCII URLs and header values in practice. */
+    private static String readUtf(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xffff;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(ByteBuffer compressed) {
+        byte[] bytes = new byte[compressed.remaining()];
+        compressed.duplicate().get(bytes);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** The recordings of one request, replayed in order. */
+    private static final class Track {
+
+        private final List<Interaction> interactions = new ArrayList<>(1);
+        private final AtomicInteger played = new AtomicInteger();
+
+        private Interaction next() {
+            if (interactions.size() == 1) {
+                return interactions.get(0);
+            }
+            int index = played.getAndIncrement();
+            return interactions.get(Math.min(index, interactions.size() - 1));
+        }
+    }
+
+    /**
+     * One recorded response.
+     */
+    public static final class Interaction {
+
+        private final String method;
+        private final String url;
+        private final int status;
+        private final List<String[]> headers;
+        private final ByteBuffer stored;
+        private final boolean compressed;
+        private volatile ByteBuffer body;
+
+        private Interaction(String method, String url, int status, List<String[]> headers, ByteBuffer stored, boolean compressed) {
+            this.method = method;
+            this.url = url;
+            this.status = status;
+            this.headers = headers;
+            this.stored = stored;
+            this.compressed = compressed;
+            this.body = compressed ? null : stored;
+        }
+
+        /**
+         * <p>Getter for the field <code>method</code>.</p>
+         *
+         * @return the HTTP method.
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * <p>Getter for the field <code>url</code>.</p>
+         *
+         * @return the URL.
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * <p>Getter for the field <code>status</code>.</p>
+         *
+         * @return the status code.
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * <p>Getter for the field <code>headers</code>.</p>
+         *
+         * @return the scrubbed response headers as name/value pairs.
+         */
+        public List<String[]> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Returns the response body. An uncompressed body is a view of the mapped file; a compressed one is
+         * inflated into the heap on first use and the inflated copy is kept.
+         *
+         * @return a read-only view of the body, positioned at its start.
+         */
+        public ByteBuffer body() {
+            ByteBuffer inflated = body;
+            if (inflated == null) {
+                inflated = ByteBuffer.wrap(gunzip(stored)).asReadOnlyBuffer();
+                body = inflated;
+            }
+            return inflated.duplicate();
+        }
+
+        /**
+         * <p>isCompressed.</p>
+         *
+         * @return whether the body is stored gzip compressed.
+         */
+        public boolean isCompressed() {
+            return compressed;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package dev.kurumidisciples.javadex.internal.http.cassette;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Answers every request the library sends from a {@link Cassette}, without touching the network.
+ * <pre>{@code
+ * try (CassettePlayer player = CassettePlayer.start(Path.of("search.cassette"))) {
+ *     List<Manga> manga = javadex.search("Dungeon Meshi").complete();
+ * }
+ * }</pre>
+ * <p>A request that was never recorded fails with {@link CassetteMissException} instead of falling through to the
+ * network, so a replayed test cannot silently go online.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class CassettePlayer implements Interceptor, Closeable {
+
+    private final Cassette cassette;
+
+    /**
+     * Creates a player over an opened cassette, without registering it.
+     *
+     * @param cassette the cassette to replay.
+     */
+    public CassettePlayer(Cassette cassette) {
+        this.cassette = cassette;
+    }
+
+    /**
+     * Opens a cassette and replays it for every request the library sends.
+     *
+     * @param file the cassette to replay.
+     * @return the player; close it to go back to the network.
+     * @throws IOException if the cassette cannot be opened.
+     */
+    public static CassettePlayer start(Path file) throws IOException {
+        CassettePlayer player = new CassettePlayer(Cassette.open(file));
+        HTTPRequest.addInterceptor(player);
+        return player;
+    }
+
+    /**
+     * <p>Getter for the field <code>cassette</code>.</p>
+     *
+     * @return the cassette being replayed.
+     */
+    public Cassette getCassette() {
+        return cassette;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Cassette.Interaction interaction = cassette.next(request.method(), request.url().toString());
+        if (interaction == null) {
+            throw new CassetteMissException(request.method() + " " + request.url() + " is not on the cassette");
+        }
+        Headers.Builder headers = new Headers.Builder();
+        for (String[] header : interaction.getHeaders()) {
+            headers.add(header[0], header[1]);
+        }
+        String contentType = headers.get("Content-Type");
+        ByteBuffer body = interaction.body();
+        byte[] bytes = new byte[body.remaining()];
+        body.get(bytes);
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(interaction.getStatus())
+                .message("")
+                .headers(headers.build())
+                .body(ResponseBody.create(bytes, contentType == null ? null : MediaType.parse(contentType)))
+                .build();
+    }
+
+    /**
+     * Stops replaying and closes the cassette file. The mapping itself is released once it is garbage collected.
+     *
+     * @throws IOException if the cassette cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        HTTPRequest.removeInterceptor(this);
+        cassette.close();
+    }
+
+    /**
+     * Thrown when a replayed request was not recorded.
+     */
+    public static final class CassetteMissException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * <p>Constructor for CassetteMissException.</p>
+         *
+         * @param message the request that missed.
+         */
+        public CassetteMissException(String message) {
+            super(message);
+        }
+    }
+}
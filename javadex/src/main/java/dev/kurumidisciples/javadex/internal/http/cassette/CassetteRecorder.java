@@ -0,0 +1,123 @@
+package dev.kurumidisciples.javadex.internal.http.cassette;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Records every exchange the library makes with the API into a {@link Cassette} file.
+ * <pre>{@code
+ * try (CassetteRecorder recorder = CassetteRecorder.start(Path.of("search.cassette"))) {
+ *     javadex.search("Dungeon Meshi").complete();
+ * }
+ * }</pre>
+ * <p>Requests are recorded as the recorder sees them, so start it before adding any interceptor that rewrites
+ * requests, such as a redirect to a local server.</p>
+ * <p>Credentials never reach the file: request bodies and headers are not recorded, the {@code Set-Cookie} and
+ * authorization headers are dropped from responses, and token values in JSON bodies are replaced.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class CassetteRecorder implements Interceptor, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(CassetteRecorder.class);
+
+    /** Response headers left out of recordings, lower case. */
+    private static final Set<String> SCRUBBED_HEADERS = Set.of("set-cookie", "authorization", "proxy-authorization", "www-authenticate");
+    private static final Pattern TOKEN_FIELD = Pattern.compile("\"(access_token|refresh_token|id_token|session|refresh)\"\\s*:\\s*\"[^\"]*\"");
+
+    private final DataOutputStream out;
+    private int recorded;
+
+    private CassetteRecorder(Path file) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.write(Cassette.MAGIC);
+    }
+
+    /**
+     * Starts recording every request the library sends, replacing the file.
+     *
+     * @param file the cassette to write.
+     * @return the recorder; close it to stop recording and flush the file.
+     * @throws IOException if the file cannot be created.
+     */
+    public static CassetteRecorder start(Path file) throws IOException {
+        CassetteRecorder recorder = new CassetteRecorder(file);
+        HTTPRequest.addInterceptor(recorder);
+        return recorder;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        ResponseBody body = response.body();
+        MediaType contentType = body.contentType();
+        byte[] bytes = body.bytes();
+
+        List<String[]> headers = new ArrayList<>();
+        Headers responseHeaders = response.headers();
+        for (int i = 0; i < responseHeaders.size(); i++) {
+            if (!SCRUBBED_HEADERS.contains(responseHeaders.name(i).toLowerCase(Locale.ROOT))) {
+                headers.add(new String[] {responseHeaders.name(i), responseHeaders.value(i)});
+            }
+        }
+        byte[] stored = scrub(bytes, contentType);
+        synchronized (this) {
+            Cassette.writeInteraction(out, chain.request().method(), chain.request().url().toString(), response.code(), headers, stored);
+            recorded++;
+        }
+        return response.newBuilder().body(ResponseBody.create(bytes, contentType)).build();
+    }
+
+    /**
+     * <p>getRecorded.</p>
+     *
+     * @return the number of interactions recorded so far.
+     */
+    public synchronized int getRecorded() {
+        return recorded;
+    }
+
+    /**
+     * Stops recording and flushes the cassette.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        HTTPRequest.removeInterceptor(this);
+        synchronized (this) {
+            out.close();
+        }
+        logger.debug("Recorded {} interactions", recorded);
+    }
+
+    private static byte[] scrub(byte[] body, MediaType contentType) {
+        if (contentType == null || !"json".equals(contentType.subtype())) {
+            return body;
+        }
+        String text = new String(body, StandardCharsets.UTF_8);
+        String scrubbed = TOKEN_FIELD.matcher(text).replaceAll("\"$1\":\"scrubbed\"");
+        return scrubbed.equals(text) ? body : scrubbed.getBytes(StandardCharsets.UTF_8);
+    }
+}
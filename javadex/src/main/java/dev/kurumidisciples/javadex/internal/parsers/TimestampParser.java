@@ -0,0 +1,168 @@
+package dev.kurumidisciples.javadex.internal.parsers;
+
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+
+/**
+ * Parses the fixed timestamp layout MangaDex sends, {@code 2018-11-21T04:53:12+00:00}, without {@link java.time.format.DateTimeFormatter}.
+ * <p>Fractional seconds and a trailing {@code Z} are accepted as well. Anything else, including out of range fields,
+ * is handed to {@link OffsetDateTime#parse(CharSequence)}, so malformed input fails exactly as it did before.</p>
+ * <p>{@link #parseEpochSecond(CharSequence)} and {@link #parseEpochMilli(CharSequence)} skip building the
+ * {@link OffsetDateTime} altogether, for callers that only compare or store instants.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class TimestampParser {
+
+    /** Length of {@code yyyy-MM-ddTHH:mm:ss}. */
+    private static final int SECONDS_END = 19;
+
+    private TimestampParser() {
+    }
+
+    /**
+     * Parses a timestamp.
+     *
+     * @param text the timestamp.
+     * @return the parsed timestamp, keeping its offset.
+     * @throws java.time.format.DateTimeParseException if the text is not an ISO-8601 offset timestamp.
+     */
+    public static OffsetDateTime parse(CharSequence text) {
+        int end = fieldsEnd(text);
+        if (end < 0) {
+            return OffsetDateTime.parse(text);
+        }
+        return OffsetDateTime.of(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2),
+                digits(text, 11, 2), digits(text, 14, 2), digits(text, 17, 2), nanos(text, end),
+                ZoneOffset.ofTotalSeconds(offsetSeconds(text, end)));
+    }
+
+    /**
+     * Parses a timestamp into seconds since the epoch.
+     *
+     * @param text the timestamp.
+     * @return the instant in epoch seconds.
+     * @throws java.time.format.DateTimeParseException if the text is not an ISO-8601 offset timestamp.
+     */
+    public static long parseEpochSecond(CharSequence text) {
+        int end = fieldsEnd(text);
+        if (end < 0) {
+            return OffsetDateTime.parse(text).toEpochSecond();
+        }
+        long days = epochDay(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+        return days * 86_400 + digits(text, 11, 2) * 3_600L + digits(text, 14, 2) * 60L + digits(text, 17, 2)
+                - offsetSeconds(text, end);
+    }
+
+    /**
+     * Parses a timestamp into milliseconds since the epoch.
+     *
+     * @param text the timestamp.
+     * @return the instant in epoch milliseconds.
+     * @throws java.time.format.DateTimeParseException if the text is not an ISO-8601 offset timestamp.
+     */
+    public static long parseEpochMilli(CharSequence text) {
+        int end = fieldsEnd(text);
+        if (end < 0) {
+            return OffsetDateTime.parse(text).toInstant().toEpochMilli();
+        }
+        return parseEpochSecond(text) * 1_000 + nanos(text, end) / 1_000_000;
+    }
+
+    /**
+     * Validates the layout and returns the index just past the seconds and their fraction, or -1 if the
+     * text has to take the slow path.
+     */
+    private static int fieldsEnd(CharSequence text) {
+        int length = text.length();
+        if (length < SECONDS_END + 1
+                || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return -1;
+        }
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        int year = digits(text, 0, 4);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        int end = SECONDS_END;
+        if (text.charAt(end) == '.') {
+            end++;
+            while (end < length && isDigit(text.charAt(end))) {
+                end++;
+            }
+            if (end == SECONDS_END + 1 || end > SECONDS_END + 10) {
+                return -1;
+            }
+        }
+        if (end == length - 1 && text.charAt(end) == 'Z') {
+            return end;
+        }
+        if (end == length - 6 && (text.charAt(end) == '+' || text.charAt(end) == '-') && text.charAt(end + 3) == ':') {
+            int offsetHours = digits(text, end + 1, 2);
+            int offsetMinutes = digits(text, end + 4, 2);
+            if (offsetHours >= 0 && offsetHours <= 18 && offsetMinutes >= 0 && offsetMinutes <= 59) {
+                return end;
+            }
+        }
+        return -1;
+    }
+
+    private static int nanos(CharSequence text, int end) {
+        if (end == SECONDS_END) {
+            return 0;
+        }
+        int nanos = 0;
+        int i = SECONDS_END + 1;
+        for (; i < end; i++) {
+            nanos = nanos * 10 + (text.charAt(i) - '0');
+        }
+        for (; i < SECONDS_END + 10; i++) {
+            nanos *= 10;
+        }
+        return nanos;
+    }
+
+    private static int offsetSeconds(CharSequence text, int end) {
+        if (text.charAt(end) == 'Z') {
+            return 0;
+        }
+        int seconds = digits(text, end + 1, 2) * 3_600 + digits(text, end + 4, 2) * 60;
+        return text.charAt(end) == '-' ? -seconds : seconds;
+    }
+
+    /** Days since 1970-01-01 of a proleptic Gregorian date, see {@link java.time.LocalDate#toEpochDay()}. */
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /** Returns the decimal value of {@code count} digits, or -1 if one of them is not a digit. */
+    private static int digits(CharSequence text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,447 @@
+package dev.kurumidisciples.javadex.internal.store;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A persistent store of raw entity data, used to warm up after a restart and to serve entities while MangaDex
+ * cannot be reached.
+ *
+ * <p>Records are appended to {@code entities.log}; a record is never modified once written. Each record holds
+ * the type, id and version of the entity and its {@code data} object in the binary encoding of {@link StoreCodec},
+ * compressed with Deflate. The position
+ * of the latest record of every id is kept in {@code entities.idx}, a hash table that is memory-mapped so a
+ * lookup costs a few memory reads and one positional file read. When superseded records make up more than half
+ * of the log it is compacted into a new file on the next write.</p>
+ *
+ * <p>Nothing is read from disk until the first operation. If the index is missing, belongs to another log or was
+ * not closed cleanly it is rebuilt by scanning the log, and a record torn by a crash is cut off the end. A log
+ * written in an older format is discarded, as the store only ever holds copies of remote data.</p>
+ *
+ * <p>This class is an internal utility class and should not be used directly.</p>
+ * @see EntityStores
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class EntityStore implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(EntityStore.class);
+
+    private static final int MAGIC = 0x4a445853; // JDXS
+    private static final int FORMAT = 2;
+    private static final int LOG_HEADER = 16;
+    /** length and crc, followed by the body the crc is computed over */
+    private static final int RECORD_PREFIX = 8;
+    /** type, msb, lsb, version, storedAt, rawLength */
+    private static final int BODY_HEADER = 1 + 8 + 8 + 8 + 8 + 4;
+    private static final int MAX_BODY = 64 << 20;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long MIN_COMPACTION_BYTES = 1 << 20;
+
+    private final Path logPath;
+    private final Path indexPath;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FileChannel log;
+    private StoreIndex index;
+    private volatile boolean opened;
+    private boolean closed;
+
+    /**
+     * Creates a store in the given directory. The directory and its files are created on first use.
+     *
+     * @param directory the directory holding the store files.
+     */
+    public EntityStore(@NotNull Path directory) {
+        this.logPath = directory.resolve("entities.log");
+        this.indexPath = directory.resolve("entities.idx");
+    }
+
+    /**
+     * Returns the latest record of the entity.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     * @return the record, or {@code null} if the entity was never stored.
+     * @throws java.io.IOException if the store cannot be read.
+     */
+    @Nullable
+    public StoredRecord get(@NotNull StoredEntityType type, @NotNull UUID id) throws IOException {
+        ensureOpen();
+        lock.readLock().lock();
+        try {
+            checkNotClosed();
+            int slot = index.find(type.getCode(), id);
+            if (slot < 0) return null;
+            ByteBuffer body = readBody(index.offset(slot), Long.MAX_VALUE);
+            if (body == null) {
+                logger.warn("Corrupt record for {} {} in {}", type, id, logPath);
+                return null;
+            }
+            JsonObject data = StoreCodec.decode(ByteBuffer.wrap(inflate(body)));
+            return new StoredRecord(type, id, index.version(slot), Instant.ofEpochMilli(index.storedAt(slot)), data);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the entity unless a newer version is already stored. Storing the same version again only marks the
+     * stored copy as up to date.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     * @param version the MangaDex version of the entity.
+     * @param data the {@code data} object of the API response.
+     * @return true if a new record was written.
+     * @throws java.io.IOException if the store cannot be written.
+     */
+    public boolean put(@NotNull StoredEntityType type, @NotNull UUID id, long version, @NotNull JsonObject data) throws IOException {
+        ensureOpen();
+        long now = System.currentTimeMillis();
+        byte[] payload = StoreCodec.encode(data);
+        byte[] compressed = deflate(payload);
+
+        lock.writeLock().lock();
+        try {
+            checkNotClosed();
+            int slot = index.find(type.getCode(), id);
+            if (slot >= 0 && index.version(slot) >= version) {
+                if (index.version(slot) == version) index.storedAt(slot, now);
+                return false;
+            }
+            long previousSize = slot >= 0 ? recordSize(index.offset(slot)) : 0;
+
+            ByteBuffer record = ByteBuffer.allocate(RECORD_PREFIX + BODY_HEADER + compressed.length);
+            record.putInt(BODY_HEADER + compressed.length).putInt(0)
+                    .put(type.getCode())
+                    .putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits())
+                    .putLong(version).putLong(now)
+                    .putInt(payload.length).put(compressed);
+            CRC32 crc = new CRC32();
+            crc.update(record.array(), RECORD_PREFIX, record.capacity() - RECORD_PREFIX);
+            record.putInt(4, (int) crc.getValue());
+            record.flip();
+
+            long offset = index.logLength();
+            writeFully(log, record, offset);
+            if (index.isFull()) growIndex();
+            index.put(type.getCode(), id.getMostSignificantBits(), id.getLeastSignificantBits(), offset, version, now);
+            index.logLength(offset + record.capacity());
+            index.liveBytes(index.liveBytes() - previousSize + record.capacity());
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entities in the store.
+     *
+     * @return an int
+     * @throws java.io.IOException if the store cannot be opened.
+     */
+    public int size() throws IOException {
+        ensureOpen();
+        lock.readLock().lock();
+        try {
+            checkNotClosed();
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log so it only holds the latest record of every entity.
+     *
+     * @throws java.io.IOException if the store cannot be written.
+     */
+    public void compact() throws IOException {
+        ensureOpen();
+        lock.writeLock().lock();
+        try {
+            checkNotClosed();
+            rewrite();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes the log and the index to disk and closes the store.
+     *
+     * @throws java.io.IOException if the files cannot be flushed.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) return;
+            closed = true;
+            if (!opened) return;
+            log.force(true);
+            index.clean(true);
+            index.force();
+            index.close();
+            log.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (opened) return;
+        lock.writeLock().lock();
+        try {
+            if (opened) return;
+            checkNotClosed();
+            open();
+            opened = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(logPath.getParent());
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            load();
+        } catch (IOException | RuntimeException e) {
+            try {
+                if (index != null) index.close();
+                log.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            index = null;
+            log = null;
+            throw e;
+        }
+        logger.debug("Opened entity store {} with {} entities", logPath, index.size());
+    }
+
+    private void load() throws IOException {
+        long generation;
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER);
+        if (log.size() >= LOG_HEADER) {
+            readFully(log, header, 0);
+            if (header.getInt(0) != MAGIC) throw new IOException(logPath + " is not an entity store");
+        }
+        if (log.size() < LOG_HEADER || header.getInt(4) != FORMAT) {
+            if (log.size() >= LOG_HEADER) logger.info("Discarding {}, written in format {}", logPath, header.getInt(4));
+            generation = ThreadLocalRandom.current().nextLong();
+            log.truncate(0);
+            writeFully(log, logHeader(generation), 0);
+        } else {
+            generation = header.getLong(8);
+        }
+
+        index = StoreIndex.open(indexPath);
+        if (index != null && index.isClean() && index.generation() == generation && index.logLength() <= log.size()) {
+            index.clean(false);
+            replay(index.logLength());
+        } else {
+            if (index != null) index.close();
+            logger.info("Rebuilding the index of {}", logPath);
+            index = StoreIndex.create(indexPath, INITIAL_CAPACITY, generation);
+            index.logLength(LOG_HEADER);
+            replay(LOG_HEADER);
+        }
+    }
+
+    /**
+     * Indexes every record from {@code position} to the end of the log, cutting off a torn record at the end.
+     */
+    private void replay(long position) throws IOException {
+        long end = log.size();
+        while (position < end) {
+            ByteBuffer body = readBody(position, end);
+            if (body == null) {
+                logger.warn("Truncating {} at {} after an incomplete record", logPath, position);
+                log.truncate(position);
+                break;
+            }
+            StoredEntityType type = StoredEntityType.fromCode(body.get(0));
+            long size = RECORD_PREFIX + body.capacity();
+            if (type != null) {
+                long msb = body.getLong(1);
+                long lsb = body.getLong(9);
+                long version = body.getLong(17);
+                int slot = index.find(type.getCode(), new UUID(msb, lsb));
+                if (slot < 0 || index.version(slot) <= version) {
+                    long previousSize = slot >= 0 ? recordSize(index.offset(slot)) : 0;
+                    if (index.isFull()) growIndex();
+                    index.put(type.getCode(), msb, lsb, position, version, body.getLong(25));
+                    index.liveBytes(index.liveBytes() - previousSize + size);
+                }
+            }
+            position += size;
+        }
+        index.logLength(position);
+    }
+
+    private void compactIfNeeded() throws IOException {
+        long logBytes = index.logLength() - LOG_HEADER;
+        if (logBytes >= MIN_COMPACTION_BYTES && logBytes > 2 * index.liveBytes()) {
+            rewrite();
+        }
+    }
+
+    /**
+     * Copies the live records into a new log with a new generation, then swaps it in together with a new index.
+     */
+    private void rewrite() throws IOException {
+        long generation = ThreadLocalRandom.current().nextLong();
+        Path compactLog = logPath.resolveSibling(logPath.getFileName() + ".compact");
+        Path compactIndex = indexPath.resolveSibling(indexPath.getFileName() + ".compact");
+        long before = index.logLength();
+
+        StoreIndex rewritten = StoreIndex.create(compactIndex, index.capacity(), generation);
+        try (FileChannel target = FileChannel.open(compactLog, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(target, logHeader(generation), 0);
+            long[] position = {LOG_HEADER};
+            index.forEach(slot -> {
+                long offset = index.offset(slot);
+                long size = recordSize(offset);
+                long copied = 0;
+                while (copied < size) {
+                    copied += log.transferTo(offset + copied, size - copied, target.position(position[0] + copied));
+                }
+                rewritten.put(index.type(slot), index.msb(slot), index.lsb(slot), position[0], index.version(slot), index.storedAt(slot));
+                position[0] += size;
+            });
+            target.force(true);
+            rewritten.logLength(position[0]);
+            rewritten.liveBytes(position[0] - LOG_HEADER);
+        }
+
+        log.close();
+        index.close();
+        Files.move(compactLog, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(compactIndex, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = rewritten;
+        logger.debug("Compacted {} from {} to {} bytes", logPath, before, index.logLength());
+    }
+
+    private void growIndex() throws IOException {
+        if (index.capacity() >= StoreIndex.MAX_CAPACITY) throw new IOException("Entity store index is full");
+        Path grownPath = indexPath.resolveSibling(indexPath.getFileName() + ".grow");
+        StoreIndex grown = StoreIndex.create(grownPath, index.capacity() << 1, index.generation());
+        index.forEach(slot -> grown.put(index.type(slot), index.msb(slot), index.lsb(slot), index.offset(slot), index.version(slot), index.storedAt(slot)));
+        grown.logLength(index.logLength());
+        grown.liveBytes(index.liveBytes());
+        index.close();
+        Files.move(grownPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        index = grown;
+    }
+
+    /**
+     * Reads and verifies the body of the record at {@code position}.
+     *
+     * @return the body, or {@code null} if the record is incomplete or corrupt.
+     */
+    private ByteBuffer readBody(long position, long end) throws IOException {
+        if (position + RECORD_PREFIX > Math.min(end, log.size())) return null;
+        ByteBuffer prefix = ByteBuffer.allocate(RECORD_PREFIX);
+        readFully(log, prefix, position);
+        int length = prefix.getInt(0);
+        if (length < BODY_HEADER || length > MAX_BODY || position + RECORD_PREFIX + length > Math.min(end, log.size())) return null;
+        ByteBuffer body = ByteBuffer.allocate(length);
+        readFully(log, body, position + RECORD_PREFIX);
+        CRC32 crc = new CRC32();
+        crc.update(body.array());
+        return (int) crc.getValue() == prefix.getInt(4) ? body : null;
+    }
+
+    private long recordSize(long offset) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        readFully(log, length, offset);
+        return RECORD_PREFIX + length.getInt(0);
+    }
+
+    private void checkNotClosed() {
+        if (closed) throw new IllegalStateException("Entity store " + logPath + " is closed");
+    }
+
+    private static ByteBuffer logHeader(long generation) {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER);
+        header.putInt(MAGIC).putInt(FORMAT).putLong(generation).flip();
+        return header;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 16);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(ByteBuffer body) throws IOException {
+        int rawLength = body.getInt(BODY_HEADER - 4);
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(body.array(), BODY_HEADER, body.capacity() - BODY_HEADER);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += n;
+            }
+            if (read != rawLength) throw new IOException("Truncated record payload");
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt record payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) throw new IOException("Unexpected end of " + channel);
+            position += read;
+        }
+    }
+}
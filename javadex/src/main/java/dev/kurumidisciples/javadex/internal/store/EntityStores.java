@@ -0,0 +1,184 @@
+package dev.kurumidisciples.javadex.internal.store;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+
+/**
+ * Holds the {@link EntityStore} shared by the entity APIs. No store is used until {@link #open(Path)} is called.
+ *
+ * <pre>{@code
+ * EntityStores.open(Path.of("cache"));
+ * EntityStores.setRevalidateAfter(Duration.ofHours(6));
+ * }</pre>
+ *
+ * <p>Entities that are retrieved by id are served from the store while their record is younger than the
+ * revalidation age. Older records are refreshed from MangaDex, and are still served if the request fails, so a
+ * warm store keeps working while the API is unreachable.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class EntityStores {
+
+    private static final Logger logger = LogManager.getLogger(EntityStores.class);
+
+    private static volatile EntityStore store;
+    private static volatile Duration revalidateAfter = Duration.ofMinutes(30);
+    private static Thread shutdownHook;
+
+    private EntityStores() {
+    }
+
+    /**
+     * Uses the store in the given directory, closing the previous one. The files are opened on first use.
+     *
+     * @param directory the directory of the store.
+     */
+    public static synchronized void open(@NotNull Path directory) {
+        close();
+        store = new EntityStore(directory);
+        if (shutdownHook == null) {
+            shutdownHook = new Thread(EntityStores::close, "javadex-store-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    /**
+     * Closes the current store, if any. Entities are no longer persisted afterwards.
+     */
+    public static synchronized void close() {
+        EntityStore current = store;
+        store = null;
+        if (current == null) return;
+        try {
+            current.close();
+        } catch (IOException e) {
+            logger.error("Unable to close the entity store", e);
+        }
+    }
+
+    /**
+     * Returns the current store.
+     *
+     * @return the store, or {@code null} if none is open.
+     */
+    @Nullable
+    public static EntityStore get() {
+        return store;
+    }
+
+    /**
+     * <p>Getter for the field <code>revalidateAfter</code>.</p>
+     *
+     * @return a {@link java.time.Duration} object
+     */
+    public static Duration getRevalidateAfter() {
+        return revalidateAfter;
+    }
+
+    /**
+     * Sets how long a stored entity is served before it is refreshed from MangaDex.
+     *
+     * @param revalidateAfter the maximum age of a record served without a request.
+     */
+    public static void setRevalidateAfter(@NotNull Duration revalidateAfter) {
+        EntityStores.revalidateAfter = revalidateAfter;
+    }
+
+    /**
+     * Persists the {@code data} object of an API response. Does nothing if no store is open.
+     *
+     * @param type the type of the entity.
+     * @param data the {@code data} object, holding {@code id} and {@code attributes.version}.
+     */
+    public static void write(@NotNull StoredEntityType type, @NotNull JsonObject data) {
+        EntityStore current = store;
+        if (current == null) return;
+        try {
+            UUID id = UUID.fromString(data.get("id").getAsString());
+            current.put(type, id, versionOf(data), data);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to persist {} {}", type, data.get("id"), e);
+        }
+    }
+
+    /**
+     * Reads an entity from the store.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     * @return the record, or {@code null} if no store is open, the entity is not stored or cannot be read.
+     */
+    @Nullable
+    public static StoredRecord read(@NotNull StoredEntityType type, @NotNull UUID id) {
+        EntityStore current = store;
+        if (current == null) return null;
+        try {
+            return current.get(type, id);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to read {} {} from the entity store", type, id, e);
+            return null;
+        }
+    }
+
+    /**
+     * Builds an entity from the store if its record is fresh, otherwise fetches and persists it. If the fetch
+     * fails and a stale record exists, the stale record is used instead.
+     *
+     * @param type the type of the entity.
+     * @param id the id of the entity.
+     * @param constructor builds the entity from its {@code data} object.
+     * @param fetcher requests the {@code data} object from MangaDex.
+     * @param <T> the entity type.
+     * @return the entity.
+     * @throws HTTPRequestException if the fetch failed and nothing is stored.
+     */
+    public static <T> T readThrough(@NotNull StoredEntityType type, @NotNull UUID id, @NotNull Function<JsonObject, T> constructor,
+                                    @NotNull Fetcher fetcher) throws HTTPRequestException {
+        StoredRecord stored = read(type, id);
+        if (stored != null && stored.isFresh(revalidateAfter)) {
+            return constructor.apply(stored.getData());
+        }
+        JsonObject data;
+        try {
+            data = fetcher.fetch();
+        } catch (HTTPRequestException e) {
+            if (stored == null) throw e;
+            logger.warn("Serving {} {} from the entity store after a failed request: {}", type, id, e.getMessage());
+            return constructor.apply(stored.getData());
+        }
+        write(type, data);
+        return constructor.apply(data);
+    }
+
+    private static long versionOf(JsonObject data) {
+        JsonObject attributes = data.getAsJsonObject("attributes");
+        JsonElement version = attributes == null ? null : attributes.get("version");
+        return version == null || version.isJsonNull() ? 1 : version.getAsLong();
+    }
+
+    /**
+     * Requests the {@code data} object of an entity from MangaDex.
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        /**
+         * @return the {@code data} object of the response.
+         * @throws HTTPRequestException if the request failed.
+         */
+        JsonObject fetch() throws HTTPRequestException;
+    }
+}
@@ -0,0 +1,242 @@
+package dev.kurumidisciples.javadex.internal.store;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The binary encoding of the {@code data} objects in an {@link EntityStore}.
+ *
+ * <p>A payload starts with the distinct object keys of the entity, each written once; objects then refer to their
+ * keys by index. Every value is a tag byte followed by its content. Lengths, counts and integers are varints, and
+ * strings holding a UUID in its canonical form, which make up most of the relationships, take 16 bytes instead of
+ * 36. Decoding builds the {@link JsonObject} directly, without going through JSON text.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+final class StoreCodec {
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte STRING = 3;
+    private static final byte UUID_STRING = 4;
+    /** an integer that fits a long, zigzag encoded */
+    private static final byte INTEGER = 5;
+    /** any other number, kept as its decimal text */
+    private static final byte DECIMAL = 6;
+    private static final byte ARRAY = 7;
+    private static final byte OBJECT = 8;
+
+    private StoreCodec() {
+    }
+
+    static byte[] encode(JsonObject data) {
+        Map<String, Integer> keys = new HashMap<>();
+        collectKeys(data, keys);
+        String[] ordered = new String[keys.size()];
+        keys.forEach((key, index) -> ordered[index] = key);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        writeVarint(out, ordered.length);
+        for (String key : ordered) {
+            writeString(out, key);
+        }
+        writeValue(out, data, keys);
+        return out.toByteArray();
+    }
+
+    static JsonObject decode(ByteBuffer in) throws IOException {
+        try {
+            int keyCount = readVarint(in);
+            List<String> keys = new ArrayList<>(keyCount);
+            for (int i = 0; i < keyCount; i++) {
+                keys.add(readString(in));
+            }
+            JsonElement data = readValue(in, keys);
+            if (!data.isJsonObject() || in.hasRemaining()) throw new IOException("Corrupt record payload");
+            return data.getAsJsonObject();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt record payload", e);
+        }
+    }
+
+    private static void collectKeys(JsonElement element, Map<String, Integer> keys) {
+        if (element.isJsonObject()) {
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                keys.putIfAbsent(entry.getKey(), keys.size());
+                collectKeys(entry.getValue(), keys);
+            }
+        } else if (element.isJsonArray()) {
+            for (JsonElement item : element.getAsJsonArray()) {
+                collectKeys(item, keys);
+            }
+        }
+    }
+
+    private static void writeValue(ByteArrayOutputStream out, JsonElement element, Map<String, Integer> keys) {
+        if (element.isJsonNull()) {
+            out.write(NULL);
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            out.write(OBJECT);
+            writeVarint(out, object.size());
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                writeVarint(out, keys.get(entry.getKey()));
+                writeValue(out, entry.getValue(), keys);
+            }
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            out.write(ARRAY);
+            writeVarint(out, array.size());
+            for (JsonElement item : array) {
+                writeValue(out, item, keys);
+            }
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                out.write(primitive.getAsBoolean() ? TRUE : FALSE);
+            } else if (primitive.isNumber()) {
+                writeNumber(out, primitive.getAsNumber().toString());
+            } else {
+                String value = primitive.getAsString();
+                UUID id = asUuid(value);
+                if (id != null) {
+                    out.write(UUID_STRING);
+                    writeLong(out, id.getMostSignificantBits());
+                    writeLong(out, id.getLeastSignificantBits());
+                } else {
+                    out.write(STRING);
+                    writeString(out, value);
+                }
+            }
+        }
+    }
+
+    private static JsonElement readValue(ByteBuffer in, List<String> keys) throws IOException {
+        byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return JsonNull.INSTANCE;
+            case FALSE:
+                return new JsonPrimitive(false);
+            case TRUE:
+                return new JsonPrimitive(true);
+            case STRING:
+                return new JsonPrimitive(readString(in));
+            case UUID_STRING:
+                return new JsonPrimitive(new UUID(in.getLong(), in.getLong()).toString());
+            case INTEGER:
+                long zigzag = readVarlong(in);
+                return new JsonPrimitive((zigzag >>> 1) ^ -(zigzag & 1));
+            case DECIMAL:
+                return new JsonPrimitive(new BigDecimal(readString(in)));
+            case ARRAY:
+                int length = readVarint(in);
+                JsonArray array = new JsonArray(length);
+                for (int i = 0; i < length; i++) {
+                    array.add(readValue(in, keys));
+                }
+                return array;
+            case OBJECT:
+                int size = readVarint(in);
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    String key = keys.get(readVarint(in));
+                    object.add(key, readValue(in, keys));
+                }
+                return object;
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeNumber(ByteArrayOutputStream out, String text) {
+        try {
+            long value = Long.parseLong(text);
+            // only if the text reads back the same, so "01" or "-0" keep their form
+            if (Long.toString(value).equals(text)) {
+                out.write(INTEGER);
+                writeVarlong(out, (value << 1) ^ (value >> 63));
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // not an integer
+        }
+        out.write(DECIMAL);
+        writeString(out, text);
+    }
+
+    /** Returns the UUID if {@code value} is one in canonical lower case form, which is the form it decodes back to. */
+    private static UUID asUuid(String value) {
+        if (value.length() != 36 || value.charAt(8) != '-') return null;
+        try {
+            UUID id = UUID.fromString(value);
+            return id.toString().equals(value) ? id : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarint(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        writeVarlong(out, value & 0xffffffffL);
+    }
+
+    private static void writeVarlong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7fL) != 0) {
+            out.write((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        long value = readVarlong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) throw new IllegalArgumentException("Length out of range");
+        return (int) value;
+    }
+
+    private static long readVarlong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+}
@@ -0,0 +1,225 @@
+package dev.kurumidisciples.javadex.internal.store;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * A memory-mapped open-addressing hash table from {@code (type, id)} to the position of the latest record in
+ * the log of an {@link EntityStore}.
+ *
+ * <p>Layout: a 48 byte header ({@code magic, format, generation, capacity, size, logLength, liveBytes, clean})
+ * followed by {@code capacity} slots of 40 bytes ({@code msb, lsb, type << 56 | offset + 1, version, storedAt}).
+ * A slot whose third field is {@code 0} is empty. The capacity is always a power of two.</p>
+ *
+ * <p>This class is not thread-safe, {@link EntityStore} guards every access.</p>
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+final class StoreIndex {
+
+    static final int MAGIC = 0x4a445849; // JDXI
+    static final int FORMAT = 1;
+    static final int HEADER = 48;
+    static final int SLOT = 40;
+    static final int MAX_CAPACITY = 1 << 25;
+
+    private static final long OFFSET_MASK = (1L << 56) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private StoreIndex(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates an empty index file, replacing any existing file at {@code path}.
+     */
+    static StoreIndex create(Path path, int capacity, long generation) throws IOException {
+        Files.deleteIfExists(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + (long) capacity * SLOT);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT);
+            buffer.putLong(8, generation);
+            buffer.putInt(16, capacity);
+            return new StoreIndex(channel, buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps an existing index file.
+     *
+     * @return the index, or {@code null} if the file is missing or not a valid index.
+     */
+    static StoreIndex open(Path path) throws IOException {
+        if (!Files.exists(path) || Files.size(path) < HEADER) return null;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER);
+            int capacity = header.getInt(16);
+            boolean valid = header.getInt(0) == MAGIC && header.getInt(4) == FORMAT
+                    && capacity > 0 && capacity <= MAX_CAPACITY && Integer.bitCount(capacity) == 1
+                    && channel.size() == HEADER + (long) capacity * SLOT;
+            if (!valid) {
+                channel.close();
+                return null;
+            }
+            return new StoreIndex(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + (long) capacity * SLOT), capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    long generation() {
+        return buffer.getLong(8);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return buffer.getInt(20);
+    }
+
+    long logLength() {
+        return buffer.getLong(24);
+    }
+
+    void logLength(long logLength) {
+        buffer.putLong(24, logLength);
+    }
+
+    long liveBytes() {
+        return buffer.getLong(32);
+    }
+
+    void liveBytes(long liveBytes) {
+        buffer.putLong(32, liveBytes);
+    }
+
+    boolean isClean() {
+        return buffer.getInt(40) == 1;
+    }
+
+    void clean(boolean clean) {
+        buffer.putInt(40, clean ? 1 : 0);
+    }
+
+    boolean isFull() {
+        return size() >= capacity - (capacity >>> 2);
+    }
+
+    /**
+     * Returns the byte position of the slot holding the id, or {@code -1}.
+     */
+    int find(byte type, UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int mask = capacity - 1;
+        for (int i = spread(msb, lsb, type) & mask; ; i = (i + 1) & mask) {
+            int position = HEADER + i * SLOT;
+            long meta = buffer.getLong(position + 16);
+            if (meta == 0) return -1;
+            if (buffer.getLong(position) == msb && buffer.getLong(position + 8) == lsb && (byte) (meta >>> 56) == type) {
+                return position;
+            }
+        }
+    }
+
+    /**
+     * Points the id at a new record, inserting a slot if needed. The caller makes sure the index is not full.
+     */
+    void put(byte type, long msb, long lsb, long offset, long version, long storedAt) {
+        int mask = capacity - 1;
+        for (int i = spread(msb, lsb, type) & mask; ; i = (i + 1) & mask) {
+            int position = HEADER + i * SLOT;
+            long meta = buffer.getLong(position + 16);
+            if (meta == 0) {
+                buffer.putLong(position, msb);
+                buffer.putLong(position + 8, lsb);
+                buffer.putInt(20, size() + 1);
+            } else if (buffer.getLong(position) != msb || buffer.getLong(position + 8) != lsb || (byte) (meta >>> 56) != type) {
+                continue;
+            }
+            buffer.putLong(position + 16, ((long) type << 56) | (offset + 1));
+            buffer.putLong(position + 24, version);
+            buffer.putLong(position + 32, storedAt);
+            return;
+        }
+    }
+
+    byte type(int position) {
+        return (byte) (buffer.getLong(position + 16) >>> 56);
+    }
+
+    long msb(int position) {
+        return buffer.getLong(position);
+    }
+
+    long lsb(int position) {
+        return buffer.getLong(position + 8);
+    }
+
+    long offset(int position) {
+        return (buffer.getLong(position + 16) & OFFSET_MASK) - 1;
+    }
+
+    long version(int position) {
+        return buffer.getLong(position + 24);
+    }
+
+    long storedAt(int position) {
+        return buffer.getLong(position + 32);
+    }
+
+    void storedAt(int position, long storedAt) {
+        buffer.putLong(position + 32, storedAt);
+    }
+
+    /**
+     * Calls the visitor with the position of every occupied slot.
+     */
+    void forEach(SlotVisitor visitor) throws IOException {
+        for (int i = 0; i < capacity; i++) {
+            int position = HEADER + i * SLOT;
+            if (buffer.getLong(position + 16) != 0) visitor.visit(position);
+        }
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    private static int spread(long msb, long lsb, byte type) {
+        long bits = msb ^ lsb ^ type;
+        int x = (int) (bits ^ (bits >>> 32));
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    /**
+     * Receives the position of an occupied slot.
+     */
+    interface SlotVisitor {
+        void visit(int position) throws IOException;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.kurumidisciples.javadex.internal.store;
+
+/**
+ * The entity types that can be persisted in an {@link EntityStore}.
+ * <p>The code of a type is written into every record and must never change.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public enum StoredEntityType {
+    MANGA((byte) 1),
+    CHAPTER((byte) 2),
+    SCANLATION_GROUP((byte) 3);
+
+    private final byte code;
+
+    StoredEntityType(byte code) {
+        this.code = code;
+    }
+
+    /**
+     * <p>Getter for the field <code>code</code>.</p>
+     *
+     * @return the byte written into the store for this type.
+     */
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the type with the given code.
+     *
+     * @param code the code read from the store.
+     * @return the type, or {@code null} if the code is unknown.
+     */
+    public static StoredEntityType fromCode(byte code) {
+        for (StoredEntityType type : values()) {
+            if (type.code == code) return type;
+        }
+        return null;
+    }
+}
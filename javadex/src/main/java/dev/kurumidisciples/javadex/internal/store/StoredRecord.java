@@ -0,0 +1,85 @@
+package dev.kurumidisciples.javadex.internal.store;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A single entity read back from an {@link EntityStore}.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class StoredRecord {
+
+    private final StoredEntityType type;
+    private final UUID id;
+    private final long version;
+    private final Instant storedAt;
+    private final JsonObject data;
+
+    StoredRecord(StoredEntityType type, UUID id, long version, Instant storedAt, JsonObject data) {
+        this.type = type;
+        this.id = id;
+        this.version = version;
+        this.storedAt = storedAt;
+        this.data = data;
+    }
+
+    /**
+     * <p>Getter for the field <code>type</code>.</p>
+     *
+     * @return a {@link StoredEntityType} object
+     */
+    public StoredEntityType getType() {
+        return type;
+    }
+
+    /**
+     * <p>Getter for the field <code>id</code>.</p>
+     *
+     * @return a {@link java.util.UUID} object
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * <p>Getter for the field <code>version</code>.</p>
+     *
+     * @return the MangaDex version of the stored entity.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns when the entity was last written or confirmed up to date.
+     *
+     * @return a {@link java.time.Instant} object
+     */
+    public Instant getStoredAt() {
+        return storedAt;
+    }
+
+    /**
+     * Returns the {@code data} object of the API response, as passed to the entity constructor.
+     *
+     * @return a {@link com.google.gson.JsonObject} object
+     */
+    public JsonObject getData() {
+        return data;
+    }
+
+    /**
+     * Returns whether the record was stored less than {@code maxAge} ago.
+     *
+     * @param maxAge the age after which the record should be revalidated.
+     * @return true if the record can be served without revalidation.
+     */
+    public boolean isFresh(Duration maxAge) {
+        return storedAt.plus(maxAge).isAfter(Instant.now());
+    }
+}
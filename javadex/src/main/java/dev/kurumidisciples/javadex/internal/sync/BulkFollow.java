@@ -0,0 +1,377 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType;
+import dev.kurumidisciples.javadex.api.exceptions.NetworkErrorException;
+import dev.kurumidisciples.javadex.api.exceptions.http.HTTPClientErrorException;
+import dev.kurumidisciples.javadex.api.exceptions.http.HTTPInterruptedException;
+import dev.kurumidisciples.javadex.api.exceptions.http.HTTPServerErrorException;
+import dev.kurumidisciples.javadex.api.exceptions.http.HTTPTimeoutException;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.adapters.JsonReaders;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+/**
+ * Follows or unfollows many manga or scanlation groups, such as when importing a library from another site.
+ *
+ * <p>The current follows are fetched first, 100 per request, and ids already in the requested state are skipped
+ * without a request. The rest are sent by {@link #setConcurrency(int) concurrency} threads that share one pacer,
+ * which spaces the requests evenly at the {@link HTTPRequest#getRequestsPerMinute() library's request rate}
+ * instead of spending the whole minute's budget in a burst, so a large import runs at the allowed rate without
+ * being rate limited. If the API answers 429 anyway, every thread pauses until the time given by
+ * {@code X-RateLimit-Retry-After}. Server errors, timeouts and network errors are retried with exponential
+ * backoff; other client errors, such as an unknown id, fail the item at once.</p>
+ *
+ * <pre>{@code
+ * BulkFollowResult result = javadex.followManga(importedIds).complete();
+ * result.getFailures().forEach(item -> logger.warn("Could not follow {}", item));
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class BulkFollow {
+
+    private static final Logger logger = LogManager.getLogger(BulkFollow.class);
+
+    private static final String BASE_URL = "https://api.mangadex.org";
+    private static final int PAGE_SIZE = 100;
+    /** MangaDex rejects offset + limit above this for list endpoints */
+    private static final int MAX_WINDOW = 10_000;
+
+    private final Token token;
+    private final FollowingEntityType type;
+    private final boolean follow;
+    private final List<UUID> ids;
+
+    private boolean skipCurrent = true;
+    private int concurrency = 4;
+    private int maxAttempts = 5;
+    private Integer requestsPerMinute;
+    private Duration backoff = Duration.ofSeconds(1);
+    private LibrarySnapshot snapshot;
+
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+    private final AtomicLong pausedUntil = new AtomicLong(System.nanoTime());
+    private volatile long interval;
+
+    /**
+     * Creates a bulk follow or unfollow.
+     *
+     * @param token the token of the user.
+     * @param type {@link FollowingEntityType#SELF_MANGA} or {@link FollowingEntityType#SELF_GROUP}.
+     * @param follow {@code true} to follow the ids, {@code false} to unfollow them.
+     * @param ids the ids, duplicates are sent once.
+     */
+    public BulkFollow(@NotNull Token token, @NotNull FollowingEntityType type, boolean follow, @NotNull Collection<UUID> ids) {
+        if (type != FollowingEntityType.SELF_MANGA && type != FollowingEntityType.SELF_GROUP) {
+            throw new IllegalArgumentException("Only manga and groups can be followed in bulk");
+        }
+        this.token = token;
+        this.type = type;
+        this.follow = follow;
+        this.ids = new ArrayList<>(new LinkedHashSet<>(ids));
+    }
+
+    /**
+     * Sets whether the current follows are fetched first to skip ids already in the requested state. Default is
+     * {@code true}.
+     *
+     * @param skipCurrent whether to skip.
+     * @return this bulk follow.
+     */
+    public BulkFollow setSkipCurrent(boolean skipCurrent) {
+        this.skipCurrent = skipCurrent;
+        return this;
+    }
+
+    /**
+     * Sets how many requests may be in flight at once. Default is 4.
+     *
+     * @param concurrency at least 1.
+     * @return this bulk follow.
+     */
+    public BulkFollow setConcurrency(@Size(min=1) int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets how many requests are sent for one id before it fails. Default is 5.
+     *
+     * @param maxAttempts at least 1.
+     * @return this bulk follow.
+     */
+    public BulkFollow setMaxAttempts(@Size(min=1) int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets the rate the requests are spaced at. Defaults to {@link HTTPRequest#getRequestsPerMinute()}.
+     *
+     * @param requestsPerMinute the rate, or zero to send as fast as the threads allow.
+     * @return this bulk follow.
+     */
+    public BulkFollow setRequestsPerMinute(@Size(min=0) int requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+        return this;
+    }
+
+    /**
+     * Sets the delay before the first retry of a failed request, doubled on every further retry. Default is one
+     * second. It is also the pause after a 429 that does not say when to retry.
+     *
+     * @param backoff the delay.
+     * @return this bulk follow.
+     */
+    public BulkFollow setBackoff(@NotNull Duration backoff) {
+        if (backoff.isNegative()) throw new IllegalArgumentException("Backoff must not be negative");
+        this.backoff = backoff;
+        return this;
+    }
+
+    /**
+     * Sets a snapshot of the same library to update with the ids that reached the requested state.
+     *
+     * @param snapshot the snapshot, or {@code null}.
+     * @return this bulk follow.
+     */
+    public BulkFollow setSnapshot(LibrarySnapshot snapshot) {
+        if (snapshot != null && snapshot.getType() != type) {
+            throw new IllegalArgumentException("The snapshot is not of followed " + type.getType());
+        }
+        this.snapshot = snapshot;
+        return this;
+    }
+
+    /**
+     * Runs the bulk follow and waits for every id.
+     *
+     * @return the outcome of every id in request order.
+     * @throws HTTPRequestException if the current follows cannot be fetched. Failures of single ids are reported
+     *                              in the result instead.
+     */
+    public BulkFollowResult complete() throws HTTPRequestException {
+        int rate = requestsPerMinute != null ? requestsPerMinute : HTTPRequest.getRequestsPerMinute();
+        interval = rate > 0 ? TimeUnit.MINUTES.toNanos(1) / rate : 0;
+        nextSlot.set(System.nanoTime());
+        pausedUntil.set(System.nanoTime());
+
+        Set<UUID> current = skipCurrent ? fetchCurrent() : Set.of();
+        List<CompletableFuture<BulkFollowResult.Item>> items = new ArrayList<>(ids.size());
+        List<UUID> pending = new ArrayList<>();
+        for (UUID id : ids) {
+            if (skipCurrent && current.contains(id) == follow) {
+                items.add(CompletableFuture.completedFuture(new BulkFollowResult.Item(id, BulkFollowResult.Status.SKIPPED, 0, null)));
+            } else {
+                items.add(null);
+                pending.add(id);
+            }
+        }
+        logger.debug("{} {} {}, {} already {}", follow ? "Following" : "Unfollowing", pending.size(), type.getType(),
+                ids.size() - pending.size(), follow ? "followed" : "not followed");
+
+        if (!pending.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, pending.size()), runnable -> {
+                Thread thread = new Thread(runnable, "javadex-bulk-follow");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                for (int i = 0; i < items.size(); i++) {
+                    if (items.get(i) == null) {
+                        UUID id = ids.get(i);
+                        items.set(i, CompletableFuture.supplyAsync(() -> send(id), executor));
+                    }
+                }
+                CompletableFuture.allOf(items.toArray(new CompletableFuture[0])).join();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        List<BulkFollowResult.Item> result = new ArrayList<>(items.size());
+        items.forEach(item -> result.add(item.join()));
+        if (snapshot != null) {
+            for (BulkFollowResult.Item item : result) {
+                if (item.getStatus() != BulkFollowResult.Status.FAILED) snapshot.apply(item.getId(), follow);
+            }
+        }
+        return new BulkFollowResult(result);
+    }
+
+    /**
+     * Runs {@link #complete()} on a background thread.
+     *
+     * @return the outcome of every id.
+     */
+    public CompletableFuture<BulkFollowResult> submit() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return complete();
+            } catch (HTTPRequestException e) {
+                logger.error("Could not fetch the current follows", e);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private Set<UUID> fetchCurrent() throws HTTPRequestException {
+        UuidSet current = new UuidSet();
+        int total = Integer.MAX_VALUE;
+        for (int offset = 0; offset < total && offset < MAX_WINDOW; offset += PAGE_SIZE) {
+            String url = BASE_URL + type.getEndpoint() + "?limit=" + PAGE_SIZE + "&offset=" + offset;
+            int before = current.size();
+            total = readIds(HTTPRequest.get(url, Optional.of(token.getAccessToken())), current);
+            if (current.size() == before) break;
+        }
+        if (total > MAX_WINDOW) {
+            logger.warn("Only the first {} of {} follows could be fetched, the others are not skipped", MAX_WINDOW, total);
+        }
+        return current;
+    }
+
+    /** Adds the ids of a follows page to {@code ids} and returns the total. */
+    private static int readIds(String response, UuidSet ids) {
+        int total = 0;
+        try (JsonReader in = new JsonReader(new StringReader(response))) {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "data":
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            in.beginObject();
+                            while (in.hasNext()) {
+                                if ("id".equals(in.nextName()) && in.peek() == JsonToken.STRING) {
+                                    ids.add(in.nextString());
+                                } else {
+                                    in.skipValue();
+                                }
+                            }
+                            in.endObject();
+                        }
+                        in.endArray();
+                        break;
+                    case "total":
+                        total = JsonReaders.nextInt(in, 0);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return total;
+    }
+
+    private BulkFollowResult.Item send(UUID id) {
+        String url = BASE_URL + "/" + type.getType() + "/" + id + "/follow";
+        Exception last = null;
+        int attempts = 0;
+        try {
+            while (attempts < maxAttempts) {
+                awaitSlot();
+                attempts++;
+                try {
+                    if (follow) {
+                        HTTPRequest.post(url, Optional.of(token.getAccessToken()));
+                    } else {
+                        HTTPRequest.delete(url, Optional.of(token.getAccessToken()));
+                    }
+                    return new BulkFollowResult.Item(id, BulkFollowResult.Status.DONE, attempts, null);
+                } catch (HTTPClientErrorException e) {
+                    if (e.getResponse() == null || e.getResponse().code() != 429) {
+                        return new BulkFollowResult.Item(id, BulkFollowResult.Status.FAILED, attempts, e);
+                    }
+                    last = e;
+                    pause(e.getResponse().header("X-RateLimit-Retry-After"));
+                } catch (HTTPServerErrorException | HTTPTimeoutException | NetworkErrorException e) {
+                    last = e;
+                    sleep(backoff.toNanos() << Math.min(attempts - 1, 16));
+                }
+            }
+        } catch (HTTPInterruptedException e) {
+            Thread.currentThread().interrupt();
+            last = e;
+        } catch (RuntimeException e) {
+            last = e;
+        }
+        logger.debug("Could not {} {} {} after {} attempts", follow ? "follow" : "unfollow", type.getType(), id, attempts, last);
+        return new BulkFollowResult.Item(id, BulkFollowResult.Status.FAILED, attempts, last);
+    }
+
+    /** Waits out a rate limit pause, then for the next free slot of the pacer. */
+    private void awaitSlot() {
+        while (true) {
+            long paused = pausedUntil.get() - System.nanoTime();
+            if (paused > 0) {
+                sleep(paused);
+                continue;
+            }
+            if (interval == 0) return;
+            long now = System.nanoTime();
+            long slot = nextSlot.getAndAccumulate(now, (next, time) -> Math.max(next, time) + interval);
+            sleep(Math.max(slot, now) - now);
+            if (pausedUntil.get() - System.nanoTime() <= 0) return;
+        }
+    }
+
+    /** Pauses every thread until the epoch second in {@code retryAfter}, or for the backoff if it is missing. */
+    private void pause(String retryAfter) {
+        long delay = backoff.toNanos();
+        if (retryAfter != null) {
+            try {
+                delay = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(retryAfter.trim()) * 1000 - System.currentTimeMillis());
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring malformed X-RateLimit-Retry-After {}", retryAfter);
+            }
+        }
+        long until = System.nanoTime() + Math.max(0, delay);
+        pausedUntil.accumulateAndGet(until, Math::max);
+        // Requests queued behind the pause resume at the paced rate instead of all at once
+        nextSlot.accumulateAndGet(until, Math::max);
+        logger.warn("Rate limited while {} {}, pausing for {} ms", follow ? "following" : "unfollowing", type.getType(),
+                TimeUnit.NANOSECONDS.toMillis(delay));
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HTTPInterruptedException("Interrupted while waiting to send a follow request", e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The outcome of a {@link BulkFollow}, one {@link Item} per requested id in request order.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class BulkFollowResult {
+
+    /**
+     * What happened to one id.
+     */
+    public enum Status {
+        /** The follow or unfollow request succeeded. */
+        DONE,
+        /** The id was already in the requested state, no request was sent. */
+        SKIPPED,
+        /** The request failed permanently or ran out of attempts. */
+        FAILED
+    }
+
+    /**
+     * The outcome for one id.
+     */
+    public static final class Item {
+
+        private final UUID id;
+        private final Status status;
+        private final int attempts;
+        private final Exception error;
+
+        Item(UUID id, Status status, int attempts, Exception error) {
+            this.id = id;
+            this.status = status;
+            this.attempts = attempts;
+            this.error = error;
+        }
+
+        /**
+         * <p>Getter for the field <code>id</code>.</p>
+         *
+         * @return the manga or group id.
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * <p>Getter for the field <code>status</code>.</p>
+         *
+         * @return a {@link Status} object
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * <p>Getter for the field <code>attempts</code>.</p>
+         *
+         * @return the number of requests sent for the id, rate limited ones included.
+         */
+        public int getAttempts() {
+            return attempts;
+        }
+
+        /**
+         * <p>Getter for the field <code>error</code>.</p>
+         *
+         * @return the last error of a failed id, otherwise {@code null}.
+         */
+        public Exception getError() {
+            return error;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return id + "=" + status + (error != null ? " (" + error.getMessage() + ")" : "");
+        }
+    }
+
+    private final List<Item> items;
+
+    BulkFollowResult(List<Item> items) {
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    /**
+     * <p>Getter for the field <code>items</code>.</p>
+     *
+     * @return every item in request order.
+     */
+    public List<Item> getItems() {
+        return items;
+    }
+
+    /**
+     * <p>getCount.</p>
+     *
+     * @param status the status to count.
+     * @return the number of items with that status.
+     */
+    public int getCount(Status status) {
+        int count = 0;
+        for (Item item : items) {
+            if (item.getStatus() == status) count++;
+        }
+        return count;
+    }
+
+    /**
+     * <p>getFailures.</p>
+     *
+     * @return the failed items in request order.
+     */
+    public List<Item> getFailures() {
+        List<Item> failures = new ArrayList<>();
+        for (Item item : items) {
+            if (item.getStatus() == Status.FAILED) failures.add(item);
+        }
+        return failures;
+    }
+
+    /**
+     * <p>isSuccessful.</p>
+     *
+     * @return {@code true} if no item failed.
+     */
+    public boolean isSuccessful() {
+        return getCount(Status.FAILED) == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "BulkFollowResult{" +
+                "done=" + getCount(Status.DONE) +
+                ", skipped=" + getCount(Status.SKIPPED) +
+                ", failed=" + getCount(Status.FAILED) +
+                '}';
+    }
+}
@@ -0,0 +1,311 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.order.OrderMapping;
+import dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.actions.PagedAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction;
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+
+/**
+ * Walks a whole collection, past the 10,000 entity ceiling MangaDex puts on offset paging, and hands every entity
+ * to a consumer once.
+ *
+ * <p>The collection is read in ascending order of a timestamp key and split into windows. Each window is the query
+ * {@code keySince = cursor}, paged by offset until the ceiling is near; the cursor then moves to the last second the
+ * window reached, minus one since the API only filters to the second, and paging starts again at offset 0. Entities
+ * the previous window already delivered at or after the new cursor are remembered and skipped, so a window boundary
+ * that falls inside a run of equal timestamps neither loses nor repeats entities. Windows are as wide as the data
+ * allows: a dense stretch of the catalog moves the cursor a few minutes, a sparse one years.</p>
+ * <p>The cursor, the offset and the remembered ids are checkpointed to disk after every page, so a crawl that fails
+ * or is stopped resumes where it left off. A finished crawl keeps its cursor: crawling again with
+ * {@link Key#CREATED_AT} then only delivers entities created since. With {@link Key#UPDATED_AT} an entity that is
+ * updated while the crawl runs moves ahead of the cursor and is delivered again with its new state.</p>
+ *
+ * <pre>{@code
+ * CatalogCrawler<Manga> crawler = CatalogCrawler.manga(Path.of("catalog.ckpt"), CatalogCrawler.Key.CREATED_AT,
+ *         search -> search.addContentRatings(List.of("safe", "suggestive", "erotica", "pornographic")));
+ * long count = crawler.crawl(manga -> index(manga));
+ * }</pre>
+ *
+ * @param <T> the entity type.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class CatalogCrawler<T extends ISnowflake> {
+
+    private static final Logger logger = LogManager.getLogger(CatalogCrawler.class);
+
+    /** MangaDex rejects offset + limit above this for list endpoints */
+    public static final int MAX_WINDOW = 10_000;
+    private static final int CHECKPOINT_MAGIC = 0x4a444343; // JDCC
+    private static final int CHECKPOINT_FORMAT = 1;
+    private static final int PAGE_SIZE = 100;
+    private static final long NO_CURSOR = Long.MIN_VALUE;
+
+    /**
+     * The timestamp a crawl is ordered and windowed by.
+     */
+    public enum Key {
+        CREATED_AT(OrderMapping.Option.CREATED_AT),
+        UPDATED_AT(OrderMapping.Option.UPDATED_AT);
+
+        private final OrderMapping.Option option;
+
+        Key(OrderMapping.Option option) {
+            this.option = option;
+        }
+
+        public OrderMapping.Option getOption() {
+            return option;
+        }
+    }
+
+    private final Path checkpointPath;
+    private final Function<OffsetDateTime, PagedAction<T>> windows;
+    private final Function<T, OffsetDateTime> keyOf;
+    private int window = MAX_WINDOW;
+
+    private boolean loaded;
+    private long cursor = NO_CURSOR;
+    private int offset;
+    /** Ids delivered by earlier windows whose key is at or after the cursor. */
+    private Set<UUID> boundary = new HashSet<>();
+    /** Ids of the current window within a second of its last key, in the order they were read. */
+    private final LinkedHashMap<UUID, Long> tail = new LinkedHashMap<>();
+    private long last = NO_CURSOR;
+
+    /**
+     * <p>Constructor for CatalogCrawler.</p>
+     *
+     * @param checkpointPath the file the crawl position is saved to.
+     * @param windows returns the query for a window starting at the given time, or at the very start for {@code null}.
+     *                The query must be ordered ascending by the key and filtered with its {@code Since} parameter.
+     * @param keyOf reads the key from an entity.
+     */
+    public CatalogCrawler(@NotNull Path checkpointPath, @NotNull Function<OffsetDateTime, PagedAction<T>> windows,
+                          @NotNull Function<T, OffsetDateTime> keyOf) {
+        this.checkpointPath = checkpointPath;
+        this.windows = windows;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Creates a crawler over every manga.
+     *
+     * @param checkpointPath the file the crawl position is saved to.
+     * @param key the timestamp to order and window by.
+     * @param filters applies further filters to each window's search, or {@code null}; limit, offset, order and
+     *                the key's {@code Since} filter are overwritten.
+     * @return the crawler.
+     */
+    public static CatalogCrawler<Manga> manga(@NotNull Path checkpointPath, @NotNull Key key, Consumer<MangaAction> filters) {
+        return new CatalogCrawler<>(checkpointPath, since -> {
+            MangaAction action = new MangaAction();
+            if (filters != null) filters.accept(action);
+            action.setOrder(key.getOption(), OrderMapping.Value.ASCENDING);
+            if (since != null) {
+                if (key == Key.CREATED_AT) action.setCreatedAtSince(since);
+                else action.setUpdatedAtSince(since);
+            }
+            return action;
+        }, key == Key.CREATED_AT ? Manga::getCreatedAt : Manga::getUpdatedAt);
+    }
+
+    /**
+     * Creates a crawler over every chapter.
+     *
+     * @param checkpointPath the file the crawl position is saved to.
+     * @param key the timestamp to order and window by.
+     * @param filters applies further filters to each window's query, or {@code null}; limit, offset, order and
+     *                the key's {@code Since} filter are overwritten.
+     * @return the crawler.
+     */
+    public static CatalogCrawler<Chapter> chapters(@NotNull Path checkpointPath, @NotNull Key key, Consumer<ChapterAction> filters) {
+        return new CatalogCrawler<>(checkpointPath, since -> {
+            ChapterAction action = new ChapterAction();
+            if (filters != null) filters.accept(action);
+            action.setOrder(key.getOption(), OrderMapping.Value.ASCENDING);
+            if (since != null) {
+                if (key == Key.CREATED_AT) action.addCreatedAtSince(since);
+                else action.addUpdatedAtSince(since);
+            }
+            return action;
+        }, key == Key.CREATED_AT ? Chapter::getCreatedAt : Chapter::getUpdatedAt);
+    }
+
+    /**
+     * Sets how many entities one window pages through before the cursor moves on.
+     * <p>Default is {@code 10,000}, the most the API allows.</p>
+     *
+     * @param window between 100 and 10,000.
+     * @return this crawler.
+     */
+    public CatalogCrawler<T> setWindow(@Size(min=100, max=MAX_WINDOW) int window) {
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>cursor</code>.</p>
+     *
+     * @return the start of the current window, or {@code null} before the first window has been read past.
+     * @throws java.io.IOException if the checkpoint cannot be read.
+     */
+    public synchronized OffsetDateTime getCursor() throws IOException {
+        loadCheckpoint();
+        return cursor == NO_CURSOR ? null : toDateTime(cursor);
+    }
+
+    /**
+     * Crawls from the checkpoint, or from the start, to the end of the collection.
+     *
+     * @param consumer receives each entity on the calling thread, in key order.
+     * @return the number of entities delivered.
+     * @throws HTTPRequestException if a page cannot be retrieved; the crawl can be resumed from the last page.
+     * @throws java.io.IOException if the checkpoint cannot be read or written.
+     * @throws IllegalStateException if more entities than fit in one window share two consecutive seconds.
+     */
+    public synchronized long crawl(@NotNull Consumer<? super T> consumer) throws HTTPRequestException, IOException {
+        loadCheckpoint();
+        long delivered = 0;
+        while (true) {
+            PagedAction<T> action = windows.apply(cursor == NO_CURSOR ? null : toDateTime(cursor));
+            Page<T> page = action.completePage(offset, PAGE_SIZE);
+            for (T item : page.getItems()) {
+                if (!boundary.contains(item.getId())) {
+                    consumer.accept(item);
+                    delivered++;
+                }
+                OffsetDateTime key = keyOf.apply(item);
+                remember(item.getId(), key == null ? last : key.toEpochSecond());
+            }
+            offset += page.getItems().size();
+            boolean finished = page.getItems().size() < PAGE_SIZE || offset >= page.getTotal();
+            if (finished || offset + PAGE_SIZE > window) {
+                slide(finished);
+            }
+            saveCheckpoint();
+            if (finished) {
+                logger.debug("Catalog crawl delivered {} entities", delivered);
+                return delivered;
+            }
+        }
+    }
+
+    private void remember(UUID id, long second) {
+        if (second > last) {
+            last = second;
+            Iterator<Map.Entry<UUID, Long>> entries = tail.entrySet().iterator();
+            while (entries.hasNext() && entries.next().getValue() < last - 1) {
+                entries.remove();
+            }
+        }
+        tail.put(id, second);
+    }
+
+    /**
+     * Starts the next window just before the last key read; what this window read from there on becomes the
+     * boundary the next one skips.
+     */
+    private void slide(boolean finished) {
+        if (tail.isEmpty() || last == NO_CURSOR) return;
+        long next = Math.max(cursor, last - 1);
+        if (next == cursor && !finished) {
+            throw new IllegalStateException("More than " + window + " entities share the keys around "
+                    + toDateTime(cursor) + ", the crawl cannot page past them");
+        }
+        Set<UUID> read = new HashSet<>();
+        for (Map.Entry<UUID, Long> entry : tail.entrySet()) {
+            if (entry.getValue() >= next) read.add(entry.getKey());
+        }
+        if (next == cursor) read.addAll(boundary);
+        logger.debug("Catalog crawl moving from {} to {} after {} entities", cursor == NO_CURSOR ? null : toDateTime(cursor),
+                toDateTime(next), offset);
+        cursor = next;
+        boundary = read;
+        offset = 0;
+        tail.clear();
+        last = NO_CURSOR;
+    }
+
+    private static OffsetDateTime toDateTime(long epochSecond) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+    }
+
+    private void loadCheckpoint() throws IOException {
+        if (loaded) return;
+        loaded = true;
+        if (!Files.exists(checkpointPath)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointPath)))) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CHECKPOINT_FORMAT) {
+                throw new IOException(checkpointPath + " is not a catalog crawler checkpoint");
+            }
+            cursor = in.readLong();
+            offset = in.readInt();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                boundary.add(new UUID(in.readLong(), in.readLong()));
+            }
+            size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                UUID id = new UUID(in.readLong(), in.readLong());
+                long second = in.readLong();
+                tail.put(id, second);
+                last = Math.max(last, second);
+            }
+        }
+    }
+
+    private void saveCheckpoint() throws IOException {
+        Path parent = checkpointPath.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CHECKPOINT_FORMAT);
+            out.writeLong(cursor);
+            out.writeInt(offset);
+            out.writeInt(boundary.size());
+            for (UUID id : boundary) {
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+            }
+            out.writeInt(tail.size());
+            for (Map.Entry<UUID, Long> entry : tail.entrySet()) {
+                out.writeLong(entry.getKey().getMostSignificantBits());
+                out.writeLong(entry.getKey().getLeastSignificantBits());
+                out.writeLong(entry.getValue());
+            }
+        }
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,320 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.ContentRating;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.utils.RotatingBloomFilter;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+/**
+ * Follows the global list of newly readable chapters and pushes every chapter it has not seen before to its
+ * subscribers.
+ *
+ * <p>Each poll reads {@code /chapter} newest first and pages back until a page contains a chapter that was
+ * already delivered, then delivers the new chapters oldest first. Delivered ids are kept in an exact window of the most
+ * recent ids; ids that leave it move to two exact generations of older ids, fronted by a {@link RotatingBloomFilter}
+ * that rotates with them, so memory stays bounded however long the tailer runs. Only the recent window stops paging.
+ * A Bloom filter hit is confirmed against the older generations before a chapter is suppressed, so a false positive
+ * costs one set lookup, never a chapter. Everything is checkpointed to disk after every poll, so a restarted tailer
+ * neither misses nor repeats chapters.</p>
+ *
+ * <pre>{@code
+ * try (ChapterTailer tailer = new ChapterTailer(Path.of("tailer.ckpt"))) {
+ *     tailer.subscribe(chapter -> index(chapter), 10_000);
+ *     tailer.start();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class ChapterTailer implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ChapterTailer.class);
+
+    private static final String API_ENDPOINT = "https://api.mangadex.org/chapter";
+    private static final int CHECKPOINT_MAGIC = 0x4a445443; // JDTC
+    private static final int CHECKPOINT_FORMAT = 2;
+    private static final int PAGE_SIZE = 100;
+    /** MangaDex rejects offset + limit above this for list endpoints */
+    private static final int MAX_WINDOW = 10_000;
+    private static final int RECENT_WINDOW = 20_000;
+    /** Ids per generation of older ids */
+    private static final int BLOOM_CAPACITY = 200_000;
+
+    private final Path checkpointPath;
+    private final List<TailerSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "javadex-chapter-tailer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ArrayDeque<UUID> recentOrder = new ArrayDeque<>();
+    private final Set<UUID> recent = new HashSet<>();
+    private UuidSet older = new UuidSet();
+    private UuidSet oldest = new UuidSet();
+    private RotatingBloomFilter seen = new RotatingBloomFilter(BLOOM_CAPACITY);
+    private boolean loaded;
+
+    private Duration pollInterval = Duration.ofSeconds(30);
+    private ScheduledFuture<?> task;
+
+    /**
+     * Creates a tailer that checkpoints to the given file.
+     *
+     * @param checkpointPath the file the seen ids are saved to.
+     */
+    public ChapterTailer(@NotNull Path checkpointPath) {
+        this.checkpointPath = checkpointPath;
+    }
+
+    /**
+     * Sets the time between two polls.
+     * <p>Default is {@code 30 seconds}.</p>
+     *
+     * @param pollInterval the interval.
+     * @return this tailer.
+     */
+    public ChapterTailer setPollInterval(@NotNull Duration pollInterval) {
+        if (pollInterval.isNegative() || pollInterval.isZero()) throw new IllegalArgumentException("Poll interval must be positive");
+        this.pollInterval = pollInterval;
+        return this;
+    }
+
+    /**
+     * Subscribes to new chapters.
+     *
+     * @param consumer receives each new chapter on the subscription's own thread.
+     * @param queueCapacity the number of chapters buffered for this subscriber before the oldest are dropped.
+     * @return the subscription, close it to unsubscribe.
+     */
+    public TailerSubscription subscribe(@NotNull Consumer<Chapter> consumer, int queueCapacity) {
+        if (queueCapacity < 1) throw new IllegalArgumentException("Queue capacity must be at least 1");
+        TailerSubscription subscription = new TailerSubscription(this, consumer, queueCapacity);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Starts polling in the background. The first poll runs immediately.
+     */
+    public synchronized void start() {
+        if (task != null) return;
+        task = scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Chapter tailer poll failed, retrying later", e);
+            }
+        }, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling.
+     */
+    public synchronized void stop() {
+        if (task != null) task.cancel(false);
+        task = null;
+    }
+
+    /**
+     * Polls once and delivers the new chapters.
+     *
+     * <p>On the very first run, without a checkpoint, only the newest page is delivered.</p>
+     *
+     * @return the number of new chapters.
+     * @throws HTTPRequestException if a page cannot be retrieved; nothing from the poll is delivered.
+     * @throws java.io.IOException if the checkpoint cannot be read or written.
+     */
+    public synchronized int poll() throws HTTPRequestException, IOException {
+        boolean firstRun = !loadCheckpoint();
+        List<JsonObject> fresh = new ArrayList<>();
+        Set<UUID> inPoll = new HashSet<>();
+        for (int offset = 0; offset + PAGE_SIZE <= MAX_WINDOW; offset += PAGE_SIZE) {
+            JsonArray page = fetchPage(offset);
+            boolean reachedSeen = false;
+            for (JsonElement element : page) {
+                JsonObject data = element.getAsJsonObject();
+                UUID id = UUID.fromString(data.get("id").getAsString());
+                if (recent.contains(id)) {
+                    reachedSeen = true;
+                } else if (!isRetired(id) && inPoll.add(id)) {
+                    fresh.add(data);
+                }
+            }
+            if (reachedSeen || firstRun || page.size() < PAGE_SIZE) break;
+        }
+
+        Collections.reverse(fresh);
+        for (JsonObject data : fresh) {
+            Chapter chapter = new Chapter(data);
+            EntityStores.write(StoredEntityType.CHAPTER, data);
+            chapter = EntityCaches.CHAPTER.put(chapter);
+            EntityCaches.AGGREGATE.invalidate(chapter);
+            markSeen(chapter.getId());
+            for (TailerSubscription subscription : subscriptions) {
+                subscription.offer(chapter);
+            }
+        }
+        saveCheckpoint();
+        if (!fresh.isEmpty()) logger.debug("Chapter tailer delivered {} new chapters", fresh.size());
+        return fresh.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        stop();
+        scheduler.shutdown();
+        for (TailerSubscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    void unsubscribe(TailerSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Checks an id that is not in the recent window. The Bloom filter answers no for most new ids without touching
+     * the older generations; its yes may be a false positive, so only the generations decide.
+     */
+    private boolean isRetired(UUID id) {
+        return seen.mightContain(id) && (older.contains(id) || oldest.contains(id));
+    }
+
+    private void markSeen(UUID id) {
+        if (!recent.add(id)) return;
+        recentOrder.addLast(id);
+        if (recentOrder.size() > RECENT_WINDOW) {
+            UUID retired = recentOrder.pollFirst();
+            recent.remove(retired);
+            retire(retired);
+        }
+    }
+
+    private void retire(UUID id) {
+        // Rotates exactly when the Bloom filter does, so both forget the same generation
+        if (older.size() >= BLOOM_CAPACITY) {
+            oldest = older;
+            older = new UuidSet();
+        }
+        older.add(id);
+        seen.put(id);
+    }
+
+    private JsonArray fetchPage(int offset) throws HTTPRequestException {
+        StringBuilder query = new StringBuilder(API_ENDPOINT)
+                .append("?limit=").append(PAGE_SIZE)
+                .append("&offset=").append(offset)
+                .append("&order[readableAt]=desc");
+        for (ContentRating rating : ContentRating.values()) {
+            if (rating != ContentRating.NONE) query.append("&contentRating[]=").append(rating.getValue());
+        }
+        String response = HTTPRequest.get(query.toString());
+        return JsonParser.parseString(response).getAsJsonObject().getAsJsonArray("data");
+    }
+
+    /**
+     * @return true if a checkpoint exists.
+     */
+    private boolean loadCheckpoint() throws IOException {
+        if (loaded) return true;
+        if (!Files.exists(checkpointPath)) {
+            loaded = true;
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointPath)))) {
+            int format = in.readInt() == CHECKPOINT_MAGIC ? in.readInt() : -1;
+            if (format != 1 && format != CHECKPOINT_FORMAT) {
+                throw new IOException(checkpointPath + " is not a chapter tailer checkpoint");
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                UUID id = new UUID(in.readLong(), in.readLong());
+                if (recent.add(id)) recentOrder.addLast(id);
+            }
+            if (format == 1) {
+                // The first format kept no exact record behind its filter, so its hits cannot be confirmed
+                RotatingBloomFilter.read(in);
+            } else {
+                older = readIds(in);
+                oldest = readIds(in);
+                seen = RotatingBloomFilter.read(in);
+            }
+        }
+        loaded = true;
+        return true;
+    }
+
+    private void saveCheckpoint() throws IOException {
+        Path parent = checkpointPath.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(CHECKPOINT_FORMAT);
+            writeIds(out, recentOrder);
+            writeIds(out, older);
+            writeIds(out, oldest);
+            seen.write(out);
+        }
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeIds(DataOutputStream out, Collection<UUID> ids) throws IOException {
+        out.writeInt(ids.size());
+        for (UUID id : ids) {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+    }
+
+    private static UuidSet readIds(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        UuidSet ids = new UuidSet(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(in.readLong(), in.readLong());
+        }
+        return ids;
+    }
+}
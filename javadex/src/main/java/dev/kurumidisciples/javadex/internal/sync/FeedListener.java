@@ -0,0 +1,29 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+
+/**
+ * Receives the chapter changes found by a {@link FeedSync}.
+ * <p>Methods are called on the sync thread, in ascending {@code updatedAt} order.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public interface FeedListener {
+
+    /**
+     * Called for a chapter that was created since the previous sync.
+     *
+     * @param chapter the new chapter.
+     */
+    default void onChapterAdded(Chapter chapter) {
+    }
+
+    /**
+     * Called for a chapter that already existed and was edited since the previous sync.
+     *
+     * @param chapter the chapter as it is now.
+     */
+    default void onChapterUpdated(Chapter chapter) {
+    }
+}
@@ -0,0 +1,357 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.enums.manga.filters.ContentRating;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+
+/**
+ * Keeps a local mirror of the followed-manga feed current by fetching only the chapters changed since the last run.
+ *
+ * <p>The feed is read in ascending {@code updatedAt} order starting at a watermark that is saved to disk after every
+ * page, so an interrupted sync resumes where it stopped. MangaDex includes chapters updated exactly at
+ * {@code updatedAtSince}, so the ids seen at the watermark are remembered and skipped on the next page.</p>
+ *
+ * <p>When started, the next poll is scheduled from the update history of the followed manga: shortly after the
+ * earliest expected next release, bounded by {@link #setPollInterval(Duration, Duration)}. Series that update
+ * weekly therefore do not cause polling every minute, and a burst of activity is followed up quickly.</p>
+ *
+ * <pre>{@code
+ * FeedSync sync = javadex.syncFollowedFeed(Path.of("feed-sync.json"));
+ * sync.addListener(new FeedListener() {
+ *     public void onChapterAdded(Chapter chapter) { ... }
+ * });
+ * sync.start();
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class FeedSync implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(FeedSync.class);
+
+    private static final String FEED_ENDPOINT = "https://api.mangadex.org/user/follows/manga/feed";
+    private static final DateTimeFormatter SINCE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final int PAGE_SIZE = 500;
+    /** MangaDex rejects offset + limit above this for list endpoints */
+    private static final int MAX_WINDOW = 10_000;
+    /** updates of one manga closer together than this belong to the same release */
+    private static final long BURST_SECONDS = TimeUnit.HOURS.toSeconds(1);
+    private static final double SMOOTHING = 0.3;
+
+    private final Token token;
+    private final Path statePath;
+    private final List<FeedListener> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "javadex-feed-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FeedSyncState state;
+    private Duration minInterval = Duration.ofMinutes(1);
+    private Duration maxInterval = Duration.ofMinutes(30);
+    private ScheduledFuture<?> next;
+    private volatile boolean running;
+
+    /**
+     * Creates a sync for the feed of the authenticated user.
+     *
+     * @param token the token of the user.
+     * @param statePath the file the watermark and update history are kept in.
+     */
+    public FeedSync(@NotNull Token token, @NotNull Path statePath) {
+        this.token = token;
+        this.statePath = statePath;
+    }
+
+    /**
+     * Registers a listener for chapter changes.
+     *
+     * @param listener the listener.
+     * @return this sync.
+     */
+    public FeedSync addListener(@NotNull FeedListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener.
+     * @return this sync.
+     */
+    public FeedSync removeListener(@NotNull FeedListener listener) {
+        listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * Sets the bounds of the adaptive poll interval.
+     * <p>Default is 1 minute to 30 minutes.</p>
+     *
+     * @param min the shortest time between two polls.
+     * @param max the longest time between two polls.
+     * @return this sync.
+     */
+    public FeedSync setPollInterval(@NotNull Duration min, @NotNull Duration max) {
+        if (min.isNegative() || min.isZero() || max.compareTo(min) < 0) throw new IllegalArgumentException("Invalid poll interval bounds");
+        this.minInterval = min;
+        this.maxInterval = max;
+        return this;
+    }
+
+    /**
+     * Starts from the given time instead of the beginning of the feed if no watermark has been saved yet.
+     *
+     * @param since the oldest {@code updatedAt} to sync.
+     * @return this sync.
+     * @throws java.io.IOException if the saved state cannot be read.
+     */
+    public synchronized FeedSync setStartingPoint(@NotNull OffsetDateTime since) throws IOException {
+        FeedSyncState current = state();
+        if (current.watermark == 0) {
+            current.watermark = since.toEpochSecond();
+        }
+        return this;
+    }
+
+    /**
+     * Starts polling in the background. The first poll runs immediately.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        next = scheduler.schedule(this::poll, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling. A sync that is in progress finishes its current page.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (next != null) next.cancel(false);
+    }
+
+    /**
+     * Runs one sync asynchronously.
+     *
+     * @return a future completed with the number of changed chapters.
+     */
+    public CompletableFuture<Integer> submit() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return complete();
+            } catch (HTTPRequestException | IOException e) {
+                logger.error("Feed sync failed", e);
+                throw new CompletionException(e);
+            }
+        }, scheduler);
+    }
+
+    /**
+     * Fetches every chapter changed since the watermark, notifies the listeners and advances the watermark.
+     *
+     * @return the number of changed chapters.
+     * @throws HTTPRequestException if a page cannot be retrieved; the pages before it are kept.
+     * @throws java.io.IOException if the state cannot be read or saved.
+     */
+    public synchronized int complete() throws HTTPRequestException, IOException {
+        FeedSyncState current = state();
+        long syncStart = current.watermark;
+        int changed = 0;
+        int offset = 0;
+        while (true) {
+            JsonArray page = fetchPage(current.watermark, offset);
+            long pageStartWatermark = current.watermark;
+            for (JsonElement element : page) {
+                if (apply(current, element.getAsJsonObject(), syncStart)) changed++;
+            }
+            // Advancing the watermark restarts the window at offset 0. Only a full page sharing one timestamp
+            // has to be skipped by offset instead.
+            offset = current.watermark == pageStartWatermark ? offset + page.size() : 0;
+            current.save(statePath);
+            if (page.size() < PAGE_SIZE) break;
+            if (offset + PAGE_SIZE > MAX_WINDOW) {
+                logger.warn("More than {} chapters share the update time {}, skipping the rest", MAX_WINDOW, Instant.ofEpochSecond(current.watermark));
+                current.watermark++;
+                current.boundaryIds.clear();
+                offset = 0;
+            }
+        }
+        logger.debug("Feed sync finished with {} changed chapters, watermark {}", changed, Instant.ofEpochSecond(current.watermark));
+        return changed;
+    }
+
+    /**
+     * Returns the mean time between releases of a followed manga, as observed by this sync.
+     *
+     * @param mangaId the id of the manga.
+     * @return the interval, or empty if fewer than two releases were seen.
+     * @throws java.io.IOException if the saved state cannot be read.
+     */
+    public synchronized Optional<Duration> getUpdateInterval(@NotNull UUID mangaId) throws IOException {
+        FeedSyncState.MangaHistory history = state().manga.get(mangaId.toString());
+        if (history == null || history.meanInterval <= 0) return Optional.empty();
+        return Optional.of(Duration.ofSeconds((long) history.meanInterval));
+    }
+
+    /**
+     * <p>Getter for the field <code>watermark</code>.</p>
+     *
+     * @return the {@code updatedAt} of the newest processed chapter, or empty before the first sync.
+     * @throws java.io.IOException if the saved state cannot be read.
+     */
+    public synchronized Optional<OffsetDateTime> getWatermark() throws IOException {
+        long watermark = state().watermark;
+        return watermark == 0 ? Optional.empty() : Optional.of(OffsetDateTime.ofInstant(Instant.ofEpochSecond(watermark), ZoneOffset.UTC));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        stop();
+        scheduler.shutdown();
+    }
+
+    private void poll() {
+        boolean changed = false;
+        try {
+            changed = complete() > 0;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Feed sync failed, retrying later", e);
+        }
+        synchronized (this) {
+            if (!running) return;
+            Duration delay = nextDelay(changed);
+            logger.debug("Next feed sync in {}", delay);
+            next = scheduler.schedule(this::poll, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Polls again soon after changes were found, otherwise shortly after the earliest expected release.
+     */
+    private synchronized Duration nextDelay(boolean changed) {
+        if (changed || state == null) return minInterval;
+        long now = Instant.now().getEpochSecond();
+        long earliest = Long.MAX_VALUE;
+        for (FeedSyncState.MangaHistory history : state.manga.values()) {
+            long interval = (long) history.meanInterval;
+            if (interval <= 0) continue;
+            // a release that is overdue is expected again at the next whole interval after now
+            long expected = history.lastUpdate + (Math.max(0, now - history.lastUpdate) / interval + 1) * interval;
+            earliest = Math.min(earliest, expected);
+        }
+        if (earliest == Long.MAX_VALUE) return maxInterval;
+        Duration delay = Duration.ofSeconds(earliest - now);
+        if (delay.compareTo(minInterval) < 0) return minInterval;
+        return delay.compareTo(maxInterval) > 0 ? maxInterval : delay;
+    }
+
+    private JsonArray fetchPage(long watermark, int offset) throws HTTPRequestException {
+        StringBuilder query = new StringBuilder(FEED_ENDPOINT)
+                .append("?limit=").append(PAGE_SIZE)
+                .append("&offset=").append(offset)
+                .append("&order[updatedAt]=asc")
+                .append("&includeFutureUpdates=1");
+        for (ContentRating rating : ContentRating.values()) {
+            if (rating != ContentRating.NONE) query.append("&contentRating[]=").append(rating.getValue());
+        }
+        if (watermark > 0) {
+            query.append("&updatedAtSince=").append(LocalDateTime.ofEpochSecond(watermark, 0, ZoneOffset.UTC).format(SINCE_FORMAT));
+        }
+        String response = HTTPRequest.get(query.toString(), Optional.of(token.getAccessToken()));
+        return JsonParser.parseString(response).getAsJsonObject().getAsJsonArray("data");
+    }
+
+    /**
+     * Applies one chapter of the feed to the state and notifies the listeners.
+     *
+     * @return false if the chapter was already seen at the watermark.
+     */
+    private boolean apply(FeedSyncState current, JsonObject data, long syncStart) {
+        String id = data.get("id").getAsString();
+        Chapter chapter = new Chapter(data);
+        long updatedAt = chapter.getUpdatedAt().toEpochSecond();
+        if (updatedAt < current.watermark || (updatedAt == current.watermark && !current.boundaryIds.add(id))) {
+            return false;
+        }
+        if (updatedAt > current.watermark) {
+            current.watermark = updatedAt;
+            current.boundaryIds.clear();
+            current.boundaryIds.add(id);
+        }
+
+        EntityStores.write(StoredEntityType.CHAPTER, data);
+        chapter = EntityCaches.CHAPTER.put(chapter);
+        EntityCaches.AGGREGATE.invalidate(chapter);
+        recordUpdate(current, chapter, updatedAt);
+
+        boolean added = syncStart == 0 || chapter.getCreatedAt().toEpochSecond() >= syncStart;
+        for (FeedListener listener : listeners) {
+            try {
+                if (added) listener.onChapterAdded(chapter);
+                else listener.onChapterUpdated(chapter);
+            } catch (RuntimeException e) {
+                logger.error("Feed listener failed for chapter {}", id, e);
+            }
+        }
+        return true;
+    }
+
+    private static void recordUpdate(FeedSyncState current, Chapter chapter, long updatedAt) {
+        UUID manga = chapter.getRelationshipMap().getFirstId(RelationshipType.MANGA);
+        if (manga == null) return;
+        FeedSyncState.MangaHistory history = current.manga.computeIfAbsent(manga.toString(), k -> new FeedSyncState.MangaHistory());
+        long interval = updatedAt - history.lastUpdate;
+        if (history.lastUpdate == 0 || interval <= 0) {
+            history.lastUpdate = Math.max(history.lastUpdate, updatedAt);
+            return;
+        }
+        if (interval >= BURST_SECONDS) {
+            history.meanInterval = history.meanInterval <= 0 ? interval : SMOOTHING * interval + (1 - SMOOTHING) * history.meanInterval;
+        }
+        history.lastUpdate = updatedAt;
+    }
+
+    private FeedSyncState state() throws IOException {
+        if (state == null) state = FeedSyncState.load(statePath);
+        return state;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * The durable part of a {@link FeedSync}: the watermark, the ids already seen at the watermark and the update
+ * history of every manga. Saved as JSON with an atomic rename, so a crash leaves either the old or the new state.
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+final class FeedSyncState {
+
+    private static final Gson GSON = new Gson();
+
+    /** epoch second of the newest {@code updatedAt} processed, or {@code 0} before the first sync */
+    long watermark;
+    /** chapters whose {@code updatedAt} equals the watermark, which the next query returns again */
+    Set<String> boundaryIds = new LinkedHashSet<>();
+    Map<String, MangaHistory> manga = new HashMap<>();
+
+    static FeedSyncState load(Path path) throws IOException {
+        if (!Files.exists(path)) return new FeedSyncState();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            FeedSyncState state = GSON.fromJson(reader, FeedSyncState.class);
+            if (state == null) return new FeedSyncState();
+            if (state.boundaryIds == null) state.boundaryIds = new LinkedHashSet<>();
+            if (state.manga == null) state.manga = new HashMap<>();
+            return state;
+        } catch (JsonParseException e) {
+            throw new IOException("Corrupt feed sync state " + path, e);
+        }
+    }
+
+    void save(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * How often one manga receives chapter updates.
+     */
+    static final class MangaHistory {
+        /** epoch second of the newest chapter update seen */
+        long lastUpdate;
+        /** exponentially weighted mean of the seconds between update bursts, {@code 0} until two were seen */
+        double meanInterval;
+    }
+}
@@ -0,0 +1,280 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.FollowsAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.PageFanOut;
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.utils.RefreshState;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+/**
+ * The ids of every manga or group one user follows, so that follow checks are answered without a request.
+ *
+ * <p>A refresh pulls the whole library through {@link PageFanOut}, fetching the follow pages concurrently. The
+ * followed entities land in the entity caches on the way, and the ids are kept in a {@link UuidSet}. Each refresh
+ * returns a {@link Diff} of the ids added and removed since the previous snapshot. The library is pulled again when
+ * it is older than {@link #setMaxAge(Duration) maxAge}, or on {@link #refresh()}. The follows endpoints offer no
+ * change feed, so a refresh reads every page. Follows made through {@link dev.kurumidisciples.javadex.api.core.JavaDex}
+ * or a {@link BulkFollow} are applied to the snapshot right away, and are kept over a refresh that was already in
+ * flight.</p>
+ *
+ * <p>MangaDex serves at most 10,000 follows of a kind; see {@link #isComplete()}.</p>
+ *
+ * <pre>{@code
+ * LibrarySnapshot library = javadex.getMangaLibrary();
+ * LibrarySnapshot.Diff diff = library.refresh();
+ * diff.getAdded().forEach(id -> notifyFollowed(id));
+ * if (library.isFollowing(mangaId)) { ... }
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class LibrarySnapshot {
+
+    private static final Logger logger = LogManager.getLogger(LibrarySnapshot.class);
+
+    /**
+     * The ids that entered and left the library between two snapshots.
+     */
+    public static final class Diff {
+
+        private final UuidSet added;
+        private final UuidSet removed;
+
+        Diff(UuidSet added, UuidSet removed) {
+            this.added = added;
+            this.removed = removed;
+        }
+
+        /**
+         * <p>Getter for the field <code>added</code>.</p>
+         *
+         * @return the ids followed since the previous snapshot, every id on the first one.
+         */
+        public UuidSet getAdded() {
+            return added;
+        }
+
+        /**
+         * <p>Getter for the field <code>removed</code>.</p>
+         *
+         * @return the ids unfollowed since the previous snapshot.
+         */
+        public UuidSet getRemoved() {
+            return removed;
+        }
+
+        /**
+         * <p>isEmpty.</p>
+         *
+         * @return {@code true} if nothing changed.
+         */
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return "Diff{added=" + added.size() + ", removed=" + removed.size() + '}';
+        }
+    }
+
+    private final Token token;
+    private final FollowingEntityType type;
+    /** Guarded by this snapshot, like {@link #ids} */
+    private final RefreshState refreshState = new RefreshState(Duration.ofMinutes(10));
+
+    private UuidSet ids = new UuidSet();
+    private boolean complete = true;
+
+    private volatile int concurrency = 4;
+
+    /**
+     * Creates an empty snapshot.
+     *
+     * @param token the token of the user.
+     * @param type {@link FollowingEntityType#SELF_MANGA} or {@link FollowingEntityType#SELF_GROUP}.
+     */
+    public LibrarySnapshot(@NotNull Token token, @NotNull FollowingEntityType type) {
+        if (type != FollowingEntityType.SELF_MANGA && type != FollowingEntityType.SELF_GROUP) {
+            throw new IllegalArgumentException("Only manga and group follows can be snapshotted");
+        }
+        this.token = token;
+        this.type = type;
+    }
+
+    /**
+     * Sets how long a snapshot is served before the next lookup pulls the library again.
+     *
+     * @param maxAge the age, or {@code null} to pull only on {@link #refresh()}.
+     * @return this snapshot.
+     */
+    public LibrarySnapshot setMaxAge(@Nullable Duration maxAge) {
+        refreshState.setMaxAge(maxAge);
+        return this;
+    }
+
+    /**
+     * Sets how many follow pages are fetched at once. Default is 4.
+     *
+     * @param concurrency at least 1.
+     * @return this snapshot.
+     */
+    public LibrarySnapshot setConcurrency(@Size(min=1) int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * <p>Getter for the field <code>type</code>.</p>
+     *
+     * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType} object
+     */
+    public FollowingEntityType getType() {
+        return type;
+    }
+
+    /**
+     * Returns whether the user follows the given manga or group.
+     *
+     * @param id the manga or group.
+     * @return {@code true} if it is followed.
+     * @throws HTTPRequestException if the library has to be pulled and a request fails.
+     */
+    public boolean isFollowing(@NotNull UUID id) throws HTTPRequestException {
+        refreshIfStale();
+        synchronized (this) {
+            return ids.contains(id);
+        }
+    }
+
+    /**
+     * Returns the followed ids.
+     *
+     * @return a copy of the ids.
+     * @throws HTTPRequestException if the library has to be pulled and a request fails.
+     */
+    public UuidSet getIds() throws HTTPRequestException {
+        refreshIfStale();
+        synchronized (this) {
+            return new UuidSet(ids);
+        }
+    }
+
+    /**
+     * Returns the number of followed ids.
+     *
+     * @return the size of the library.
+     * @throws HTTPRequestException if the library has to be pulled and a request fails.
+     */
+    public int size() throws HTTPRequestException {
+        refreshIfStale();
+        synchronized (this) {
+            return ids.size();
+        }
+    }
+
+    /**
+     * Returns whether the last pull saw the whole library. It does not when the user follows more than the
+     * 10,000 entities the API serves; ids past that are reported as not followed.
+     *
+     * @return {@code false} if the last pull was cut off.
+     */
+    public synchronized boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Pulls the library if it was never pulled or is older than {@link #setMaxAge(Duration) maxAge}.
+     *
+     * @return the changes, or {@code null} if the snapshot was fresh.
+     * @throws HTTPRequestException if a request fails; the snapshot is left unchanged.
+     */
+    public Diff refreshIfStale() throws HTTPRequestException {
+        return refreshState.refreshIfStale(this::pull);
+    }
+
+    /**
+     * Pulls the whole library and replaces the snapshot.
+     *
+     * @return the ids added and removed since the previous snapshot.
+     * @throws HTTPRequestException if a request fails; the snapshot is left unchanged.
+     */
+    public Diff refresh() throws HTTPRequestException {
+        return refreshState.refresh(this::pull);
+    }
+
+    /**
+     * Records a follow or unfollow that already reached the API, without a pull.
+     *
+     * @param id the manga or group.
+     * @param followed the new state.
+     */
+    public synchronized void apply(@NotNull UUID id, boolean followed) {
+        refreshState.recordWrite(id);
+        if (followed) {
+            ids.add(id);
+        } else {
+            ids.remove(id);
+        }
+    }
+
+    /**
+     * Marks the snapshot stale; the next lookup pulls the library again.
+     */
+    public void invalidate() {
+        refreshState.invalidate();
+    }
+
+    private Diff pull() throws HTTPRequestException {
+        long startGeneration;
+        int expected;
+        synchronized (this) {
+            startGeneration = refreshState.getGeneration();
+            expected = ids.size();
+        }
+        UuidSet pulled = new UuidSet(expected);
+        PageFanOut<?> fanOut = new PageFanOut<>(new FollowsAction(type, token), PageFanOut.MAX_WINDOW).setConcurrency(concurrency);
+        int count = fanOut.stream(entity -> pulled.add(entity.getId()));
+
+        synchronized (this) {
+            UuidSet current = ids;
+            refreshState.forEachWrittenAfter(startGeneration, id -> {
+                if (current.contains(id)) {
+                    pulled.add(id);
+                } else {
+                    pulled.remove(id);
+                }
+            });
+            refreshState.pruneWrites(startGeneration);
+            UuidSet added = new UuidSet();
+            for (UUID id : pulled) {
+                if (!current.contains(id)) added.add(id);
+            }
+            UuidSet removed = new UuidSet();
+            for (UUID id : current) {
+                if (!pulled.contains(id)) removed.add(id);
+            }
+            ids = pulled;
+            complete = count < PageFanOut.MAX_WINDOW;
+            if (!complete) {
+                logger.warn("Only the first {} followed {} could be pulled", PageFanOut.MAX_WINDOW, type.getType());
+            }
+            Diff diff = new Diff(added, removed);
+            logger.debug("Pulled {} followed {}: {}", count, type.getType(), diff);
+            return diff;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.internal.annotations.Size;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+/**
+ * Collects read marker changes and sends them to {@code /manga/{id}/read} in batches.
+ *
+ * <p>The endpoint takes arrays of read and unread chapter ids, so instead of one request per chapter the buffer
+ * keeps the pending changes of each manga and sends them with a single request. A chapter that is toggled again
+ * before its manga is sent keeps only its latest state, so marking a chapter read and then unread sends one unread
+ * marker. A manga is sent once no change arrived for the debounce delay, at the latest after the maximum delay,
+ * as soon as it has {@link #setMaxBatchSize(int) maxBatchSize} pending chapters, on {@link #flush()} and on
+ * {@link #close()}.</p>
+ *
+ * <p>Every call gets its own future, completed when the request carrying its change succeeds, or exceptionally
+ * with the error of that request. Requests are sent one at a time from a single thread, so the changes of a manga
+ * reach the API in the order they were made.</p>
+ *
+ * <pre>{@code
+ * ReadMarkerBuffer markers = javadex.getReadMarkerBuffer();
+ * for (Chapter chapter : session) {
+ *     markers.markRead(mangaId, chapter.getId());
+ * }
+ * markers.flush().join();
+ * }</pre>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class ReadMarkerBuffer implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ReadMarkerBuffer.class);
+
+    private static final String API_ENDPOINT = "https://api.mangadex.org/manga/";
+
+    private final Token token;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "javadex-read-markers");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<UUID, Batch> pending = new HashMap<>();
+    private Duration debounce = Duration.ofSeconds(2);
+    private Duration maxDelay = Duration.ofSeconds(10);
+    private int maxBatchSize = 100;
+    private boolean closed;
+
+    /**
+     * Creates a buffer that sends the changes with the given token.
+     *
+     * @param token the token of the user.
+     */
+    public ReadMarkerBuffer(@NotNull Token token) {
+        this.token = token;
+    }
+
+    /**
+     * Sets how long a manga must go without changes before it is sent.
+     *
+     * @param debounce the quiet period, at least zero.
+     * @return this buffer.
+     */
+    public synchronized ReadMarkerBuffer setDebounce(@NotNull Duration debounce) {
+        if (debounce.isNegative()) throw new IllegalArgumentException("Debounce must not be negative");
+        this.debounce = debounce;
+        return this;
+    }
+
+    /**
+     * Sets how long the first pending change of a manga may wait, however often the debounce delay is reset.
+     *
+     * @param maxDelay the maximum delay, at least zero.
+     * @return this buffer.
+     */
+    public synchronized ReadMarkerBuffer setMaxDelay(@NotNull Duration maxDelay) {
+        if (maxDelay.isNegative()) throw new IllegalArgumentException("Maximum delay must not be negative");
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * Sets how many pending chapters of a manga cause it to be sent immediately.
+     *
+     * @param maxBatchSize the number of chapters.
+     * @return this buffer.
+     */
+    public synchronized ReadMarkerBuffer setMaxBatchSize(@Size(min=1, max=10000) int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Marks a chapter as read.
+     *
+     * @param mangaId the manga of the chapter.
+     * @param chapterId the chapter.
+     * @return a future completed when the change was sent.
+     * @throws IllegalStateException if the buffer is closed.
+     */
+    public CompletableFuture<Void> markRead(@NotNull UUID mangaId, @NotNull UUID chapterId) {
+        return mark(mangaId, chapterId, true);
+    }
+
+    /**
+     * Marks a chapter as unread.
+     *
+     * @param mangaId the manga of the chapter.
+     * @param chapterId the chapter.
+     * @return a future completed when the change was sent.
+     * @throws IllegalStateException if the buffer is closed.
+     */
+    public CompletableFuture<Void> markUnread(@NotNull UUID mangaId, @NotNull UUID chapterId) {
+        return mark(mangaId, chapterId, false);
+    }
+
+    /**
+     * Returns the number of chapters waiting to be sent.
+     *
+     * @return the number of pending chapters over all manga.
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (Batch batch : pending.values()) {
+            count += batch.changes.size();
+        }
+        return count;
+    }
+
+    /**
+     * Sends the pending changes of every manga now.
+     *
+     * @return a future completed once the requests were sent. Failures are reported to the futures of the calls.
+     */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(this::sendAll, scheduler);
+    }
+
+    /**
+     * Sends the pending changes of one manga now.
+     *
+     * @param mangaId the manga.
+     * @return a future completed once the request was sent. Failures are reported to the futures of the calls.
+     */
+    public CompletableFuture<Void> flush(@NotNull UUID mangaId) {
+        return CompletableFuture.runAsync(() -> send(mangaId), scheduler);
+    }
+
+    /**
+     * Sends the pending changes and stops the buffer. Later calls to {@link #markRead(UUID, UUID)} throw.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+        }
+        try {
+            flush().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Could not send the pending read markers", e.getCause());
+        }
+        scheduler.shutdown();
+    }
+
+    private CompletableFuture<Void> mark(UUID mangaId, UUID chapterId, boolean read) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (closed) throw new IllegalStateException("The read marker buffer is closed");
+            Batch batch = pending.computeIfAbsent(mangaId, id -> new Batch(System.nanoTime()));
+            Change change = batch.changes.computeIfAbsent(chapterId, id -> new Change());
+            change.read = read;
+            change.callers.add(future);
+
+            if (batch.timer != null) batch.timer.cancel(false);
+            if (batch.changes.size() >= maxBatchSize) {
+                // Detached right away so later changes start the next batch
+                pending.remove(mangaId);
+                scheduler.execute(() -> send(mangaId, batch));
+            } else {
+                long waited = System.nanoTime() - batch.firstChange;
+                long delay = Math.max(0, Math.min(debounce.toNanos(), maxDelay.toNanos() - waited));
+                batch.timer = scheduler.schedule(() -> send(mangaId), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+        return future;
+    }
+
+    private void sendAll() {
+        List<UUID> mangaIds;
+        synchronized (this) {
+            mangaIds = new ArrayList<>(pending.keySet());
+        }
+        for (UUID mangaId : mangaIds) {
+            send(mangaId);
+        }
+    }
+
+    private void send(UUID mangaId) {
+        Batch batch;
+        synchronized (this) {
+            batch = pending.remove(mangaId);
+            if (batch == null) return;
+            if (batch.timer != null) batch.timer.cancel(false);
+        }
+        send(mangaId, batch);
+    }
+
+    private void send(UUID mangaId, Batch batch) {
+        JsonArray read = new JsonArray();
+        JsonArray unread = new JsonArray();
+        for (Map.Entry<UUID, Change> entry : batch.changes.entrySet()) {
+            (entry.getValue().read ? read : unread).add(entry.getKey().toString());
+        }
+        JsonObject body = new JsonObject();
+        body.add("chapterIdsRead", read);
+        body.add("chapterIdsUnread", unread);
+        try {
+            HTTPRequest.post(API_ENDPOINT + mangaId + "/read", body.toString(), Optional.of(token.getAccessToken()));
+            logger.debug("Sent {} read and {} unread markers for manga {}", read.size(), unread.size(), mangaId);
+            for (Change change : batch.changes.values()) {
+                change.callers.forEach(caller -> caller.complete(null));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Could not send the read markers of manga {}", mangaId, e);
+            for (Change change : batch.changes.values()) {
+                change.callers.forEach(caller -> caller.completeExceptionally(e));
+            }
+        }
+    }
+
+    private static final class Batch {
+
+        private final long firstChange;
+        private final Map<UUID, Change> changes = new LinkedHashMap<>();
+        private ScheduledFuture<?> timer;
+
+        Batch(long firstChange) {
+            this.firstChange = firstChange;
+        }
+    }
+
+    private static final class Change {
+
+        private boolean read;
+        private final List<CompletableFuture<Void>> callers = new ArrayList<>(1);
+    }
+}
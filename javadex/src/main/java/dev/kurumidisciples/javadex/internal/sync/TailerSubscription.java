@@ -0,0 +1,107 @@
+package dev.kurumidisciples.javadex.internal.sync;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+
+/**
+ * A subscriber of a {@link ChapterTailer} with its own bounded queue and delivery thread.
+ *
+ * <p>A slow subscriber never holds up the tailer or the other subscribers. When its queue is full the oldest
+ * undelivered chapter is dropped and counted in {@link #getDroppedCount()}.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class TailerSubscription implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(TailerSubscription.class);
+
+    private final ChapterTailer tailer;
+    private final Consumer<Chapter> consumer;
+    private final int capacity;
+    private final ArrayDeque<Chapter> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean closed;
+
+    TailerSubscription(ChapterTailer tailer, Consumer<Chapter> consumer, int capacity) {
+        this.tailer = tailer;
+        this.consumer = consumer;
+        this.capacity = capacity;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 1024));
+        this.thread = new Thread(this::deliver, "javadex-tailer-subscriber");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Returns the number of chapters dropped because the queue was full.
+     *
+     * @return a long
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the number of chapters waiting to be delivered.
+     *
+     * @return an int
+     */
+    public synchronized int getPending() {
+        return queue.size();
+    }
+
+    /**
+     * Stops delivery and unsubscribes. Pending chapters are discarded.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            queue.clear();
+            notifyAll();
+        }
+        tailer.unsubscribe(this);
+    }
+
+    synchronized void offer(Chapter chapter) {
+        if (closed) return;
+        if (queue.size() >= capacity) {
+            queue.pollFirst();
+            dropped.incrementAndGet();
+        }
+        queue.addLast(chapter);
+        notifyAll();
+    }
+
+    private void deliver() {
+        while (true) {
+            Chapter chapter;
+            synchronized (this) {
+                while (queue.isEmpty() && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (closed) return;
+                chapter = queue.pollFirst();
+            }
+            try {
+                consumer.accept(chapter);
+            } catch (RuntimeException e) {
+                logger.error("Tailer subscriber failed for chapter {}", chapter.getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,588 @@
+package dev.kurumidisciples.javadex.internal.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.parsers.TimestampParser;
+
+/**
+ * A column-oriented table of chapters for holding very large feeds in memory.
+ *
+ * <p>Every field is stored in a primitive array: ids as two {@code long}s, timestamps as epoch milliseconds,
+ * volume and chapter numbers as {@code float}s ({@code NaN} when absent), the language as a {@link Locale}
+ * ordinal and titles as UTF-8 in one shared byte pool. Relationships are flattened into parallel arrays indexed
+ * by per-row offsets. A row costs about 120 bytes plus its title, against roughly 1 KB for a {@link Chapter}.</p>
+ *
+ * <p>Rows are read through a {@link Row} flyweight that only points at an index, so scanning the table
+ * allocates nothing unless an accessor builds an object such as a {@link UUID} or {@link OffsetDateTime}.</p>
+ *
+ * <pre>{@code
+ * ChapterTable table = new ChapterTable();
+ * table.appendAll(response.getAsJsonArray("data"));
+ * table.forEach(row -> {
+ *     if (row.getTranslatedLanguage() == Locale.ENGLISH) ...
+ * });
+ * }</pre>
+ *
+ * <p>This class is not thread-safe.</p>
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public class ChapterTable {
+
+    private static final Locale[] LOCALES = Locale.values();
+    private static final RelationshipType[] RELATIONSHIP_TYPES = RelationshipType.values();
+
+    private int size;
+
+    private long[] idMsb;
+    private long[] idLsb;
+    private long[] createdAt;
+    private long[] updatedAt;
+    private long[] publishAt;
+    private long[] readableAt;
+    private float[] volume;
+    private float[] chapter;
+    private short[] language;
+    private int[] pages;
+    private int[] version;
+    private int[] titleStart;
+    /** length of the title in the pool, {@code -1} for no title */
+    private int[] titleLength;
+    /** first relationship of each row; row {@code i} owns {@code [relationStart[i], relationStart[i + 1])} */
+    private int[] relationStart;
+
+    private byte[] titlePool = new byte[1024];
+    private int titlePoolSize;
+
+    private long[] relationMsb = new long[64];
+    private long[] relationLsb = new long[64];
+    private byte[] relationType = new byte[64];
+    private int relationCount;
+
+    /**
+     * Creates an empty table.
+     */
+    public ChapterTable() {
+        this(1024);
+    }
+
+    /**
+     * Creates an empty table sized for {@code initialCapacity} rows.
+     *
+     * @param initialCapacity the number of rows to allocate for.
+     */
+    public ChapterTable(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    /**
+     * Appends every chapter of the {@code data} array of a chapter list response.
+     *
+     * @param data the {@code data} array.
+     * @return this table.
+     */
+    public ChapterTable appendAll(@NotNull JsonArray data) {
+        ensureCapacity(size + data.size());
+        for (JsonElement element : data) {
+            append(element.getAsJsonObject());
+        }
+        return this;
+    }
+
+    /**
+     * Appends a chapter from its {@code data} object.
+     *
+     * @param data the {@code data} object of a chapter.
+     * @return the index of the new row.
+     */
+    public int append(@NotNull JsonObject data) {
+        JsonObject attributes = data.getAsJsonObject("attributes");
+        UUID id = UUID.fromString(data.get("id").getAsString());
+        int row = beginRow(id);
+        createdAt[row] = parseMillis(attributes.get("createdAt"));
+        updatedAt[row] = parseMillis(attributes.get("updatedAt"));
+        publishAt[row] = parseMillis(attributes.get("publishAt"));
+        readableAt[row] = parseMillis(attributes.get("readableAt"));
+        volume[row] = parseFloat(attributes.get("volume"));
+        chapter[row] = parseFloat(attributes.get("chapter"));
+        JsonElement translatedLanguage = attributes.get("translatedLanguage");
+        language[row] = (short) (translatedLanguage == null || translatedLanguage.isJsonNull()
+                ? Locale.UNKNOWN : Locale.getByLanguage(translatedLanguage.getAsString())).ordinal();
+        pages[row] = getInt(attributes.get("pages"));
+        version[row] = getInt(attributes.get("version"));
+        JsonElement title = attributes.get("title");
+        setTitle(row, title == null || title.isJsonNull() ? null : title.getAsString());
+
+        JsonArray relationships = data.getAsJsonArray("relationships");
+        if (relationships != null) {
+            for (JsonElement element : relationships) {
+                JsonObject relationship = element.getAsJsonObject();
+                addRelation(UUID.fromString(relationship.get("id").getAsString()),
+                        RelationshipType.fromString(relationship.get("type").getAsString()));
+            }
+        }
+        return endRow();
+    }
+
+    /**
+     * Appends a chapter entity.
+     *
+     * @param source the chapter.
+     * @return the index of the new row.
+     */
+    public int append(@NotNull Chapter source) {
+        int row = beginRow(source.getId());
+        createdAt[row] = toMillis(source.getCreatedAt());
+        updatedAt[row] = toMillis(source.getUpdatedAt());
+        publishAt[row] = toMillis(source.getPublishAt());
+        readableAt[row] = toMillis(source.getReadableAt());
+        volume[row] = source.getVolume() == null ? Float.NaN : source.getVolume().floatValue();
+        chapter[row] = source.getChapterNumber() == null ? Float.NaN : source.getChapterNumber().floatValue();
+        language[row] = (short) (source.getTranslatedLanguage() == null ? Locale.UNKNOWN : source.getTranslatedLanguage()).ordinal();
+        pages[row] = source.getPages();
+        version[row] = source.getVersion();
+        setTitle(row, source.getTitle());
+        for (Map.Entry<RelationshipType, List<RelationshipData>> entry : source.getRelationshipMap().entrySet()) {
+            for (RelationshipData data : entry.getValue()) {
+                addRelation(data.getId(), entry.getKey());
+            }
+        }
+        return endRow();
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return an int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a flyweight pointing at the row.
+     *
+     * @param index the index of the row.
+     * @return a {@link Row} object
+     */
+    public Row row(int index) {
+        return new Row().moveTo(index);
+    }
+
+    /**
+     * Calls the action with a single flyweight moved across every row in order.
+     * <p>The row must not be kept after the action returns.</p>
+     *
+     * @param action the action.
+     */
+    public void forEach(@NotNull Consumer<Row> action) {
+        Row row = new Row();
+        for (int i = 0; i < size; i++) {
+            action.accept(row.moveTo(i));
+        }
+    }
+
+    /**
+     * Returns the index of the first row with the given id, or {@code -1}.
+     * <p>This is a linear scan over two {@code long} columns.</p>
+     *
+     * @param id the id of the chapter.
+     * @return an int
+     */
+    public int indexOf(@NotNull UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int i = 0; i < size; i++) {
+            if (idMsb[i] == msb && idLsb[i] == lsb) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Shrinks every column to the current number of rows.
+     */
+    public void trimToSize() {
+        resize(size);
+        titlePool = Arrays.copyOf(titlePool, titlePoolSize);
+        relationMsb = Arrays.copyOf(relationMsb, relationCount);
+        relationLsb = Arrays.copyOf(relationLsb, relationCount);
+        relationType = Arrays.copyOf(relationType, relationCount);
+    }
+
+    private int beginRow(UUID id) {
+        ensureCapacity(size + 1);
+        idMsb[size] = id.getMostSignificantBits();
+        idLsb[size] = id.getLeastSignificantBits();
+        relationStart[size] = relationCount;
+        return size;
+    }
+
+    private int endRow() {
+        relationStart[size + 1] = relationCount;
+        return size++;
+    }
+
+    private void setTitle(int row, @Nullable String title) {
+        if (title == null) {
+            titleStart[row] = titlePoolSize;
+            titleLength[row] = -1;
+            return;
+        }
+        byte[] bytes = title.getBytes(StandardCharsets.UTF_8);
+        if (titlePoolSize + bytes.length > titlePool.length) {
+            titlePool = Arrays.copyOf(titlePool, Math.max(titlePool.length + (titlePool.length >> 1), titlePoolSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, titlePool, titlePoolSize, bytes.length);
+        titleStart[row] = titlePoolSize;
+        titleLength[row] = bytes.length;
+        titlePoolSize += bytes.length;
+    }
+
+    private void addRelation(UUID id, @Nullable RelationshipType type) {
+        if (relationCount == relationMsb.length) {
+            int capacity = relationMsb.length + (relationMsb.length >> 1);
+            relationMsb = Arrays.copyOf(relationMsb, capacity);
+            relationLsb = Arrays.copyOf(relationLsb, capacity);
+            relationType = Arrays.copyOf(relationType, capacity);
+        }
+        relationMsb[relationCount] = id.getMostSignificantBits();
+        relationLsb[relationCount] = id.getLeastSignificantBits();
+        relationType[relationCount] = (byte) (type == null ? -1 : type.ordinal());
+        relationCount++;
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= idMsb.length) return;
+        resize(Math.max(rows, idMsb.length + (idMsb.length >> 1)));
+    }
+
+    private void allocate(int capacity) {
+        idMsb = new long[capacity];
+        idLsb = new long[capacity];
+        createdAt = new long[capacity];
+        updatedAt = new long[capacity];
+        publishAt = new long[capacity];
+        readableAt = new long[capacity];
+        volume = new float[capacity];
+        chapter = new float[capacity];
+        language = new short[capacity];
+        pages = new int[capacity];
+        version = new int[capacity];
+        titleStart = new int[capacity];
+        titleLength = new int[capacity];
+        relationStart = new int[capacity + 1];
+    }
+
+    private void resize(int capacity) {
+        idMsb = Arrays.copyOf(idMsb, capacity);
+        idLsb = Arrays.copyOf(idLsb, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        publishAt = Arrays.copyOf(publishAt, capacity);
+        readableAt = Arrays.copyOf(readableAt, capacity);
+        volume = Arrays.copyOf(volume, capacity);
+        chapter = Arrays.copyOf(chapter, capacity);
+        language = Arrays.copyOf(language, capacity);
+        pages = Arrays.copyOf(pages, capacity);
+        version = Arrays.copyOf(version, capacity);
+        titleStart = Arrays.copyOf(titleStart, capacity);
+        titleLength = Arrays.copyOf(titleLength, capacity);
+        relationStart = Arrays.copyOf(relationStart, capacity + 1);
+    }
+
+    private static long parseMillis(@Nullable JsonElement element) {
+        if (element == null || element.isJsonNull()) return Long.MIN_VALUE;
+        return TimestampParser.parseEpochMilli(element.getAsString());
+    }
+
+    private static long toMillis(@Nullable OffsetDateTime time) {
+        return time == null ? Long.MIN_VALUE : time.toInstant().toEpochMilli();
+    }
+
+    private static float parseFloat(@Nullable JsonElement element) {
+        if (element == null || element.isJsonNull()) return Float.NaN;
+        try {
+            return Float.parseFloat(element.getAsString());
+        } catch (NumberFormatException e) {
+            return Float.NaN;
+        }
+    }
+
+    private static int getInt(@Nullable JsonElement element) {
+        return element == null || element.isJsonNull() ? 0 : element.getAsInt();
+    }
+
+    private static OffsetDateTime toDateTime(long millis) {
+        return millis == Long.MIN_VALUE ? null : OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    /**
+     * A movable view of one row of a {@link ChapterTable}.
+     * <p>Timestamp accessors return {@code Long.MIN_VALUE} in millisecond form, or {@code null}, when the API
+     * did not send the field.</p>
+     */
+    public class Row {
+
+        private int index;
+
+        private Row() {
+        }
+
+        /**
+         * Points this flyweight at another row.
+         *
+         * @param index the index of the row.
+         * @return this row.
+         */
+        public Row moveTo(int index) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Row " + index + " of " + size);
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * <p>Getter for the field <code>index</code>.</p>
+         *
+         * @return an int
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * <p>Getter for the field <code>id</code>.</p>
+         *
+         * @return a {@link java.util.UUID} object
+         */
+        public UUID getId() {
+            return new UUID(idMsb[index], idLsb[index]);
+        }
+
+        /**
+         * Returns the most significant bits of the id, without allocating a {@link UUID}.
+         *
+         * @return a long
+         */
+        public long getIdMostSignificantBits() {
+            return idMsb[index];
+        }
+
+        /**
+         * Returns the least significant bits of the id, without allocating a {@link UUID}.
+         *
+         * @return a long
+         */
+        public long getIdLeastSignificantBits() {
+            return idLsb[index];
+        }
+
+        /**
+         * <p>getCreatedAtMillis.</p>
+         *
+         * @return epoch milliseconds
+         */
+        public long getCreatedAtMillis() {
+            return createdAt[index];
+        }
+
+        /**
+         * <p>getUpdatedAtMillis.</p>
+         *
+         * @return epoch milliseconds
+         */
+        public long getUpdatedAtMillis() {
+            return updatedAt[index];
+        }
+
+        /**
+         * <p>getPublishAtMillis.</p>
+         *
+         * @return epoch milliseconds
+         */
+        public long getPublishAtMillis() {
+            return publishAt[index];
+        }
+
+        /**
+         * <p>getReadableAtMillis.</p>
+         *
+         * @return epoch milliseconds
+         */
+        public long getReadableAtMillis() {
+            return readableAt[index];
+        }
+
+        /**
+         * <p>getCreatedAt.</p>
+         *
+         * @return a {@link java.time.OffsetDateTime} object in UTC
+         */
+        public OffsetDateTime getCreatedAt() {
+            return toDateTime(createdAt[index]);
+        }
+
+        /**
+         * <p>getUpdatedAt.</p>
+         *
+         * @return a {@link java.time.OffsetDateTime} object in UTC
+         */
+        public OffsetDateTime getUpdatedAt() {
+            return toDateTime(updatedAt[index]);
+        }
+
+        /**
+         * <p>getPublishAt.</p>
+         *
+         * @return a {@link java.time.OffsetDateTime} object in UTC
+         */
+        public OffsetDateTime getPublishAt() {
+            return toDateTime(publishAt[index]);
+        }
+
+        /**
+         * <p>getReadableAt.</p>
+         *
+         * @return a {@link java.time.OffsetDateTime} object in UTC
+         */
+        public OffsetDateTime getReadableAt() {
+            return toDateTime(readableAt[index]);
+        }
+
+        /**
+         * Returns the volume number, or {@code NaN} if the chapter has no volume.
+         *
+         * @return a float
+         */
+        public float getVolume() {
+            return volume[index];
+        }
+
+        /**
+         * Returns the chapter number, or {@code NaN} if it is absent or not numeric.
+         *
+         * @return a float
+         */
+        public float getChapter() {
+            return chapter[index];
+        }
+
+        /**
+         * <p>getTranslatedLanguage.</p>
+         *
+         * @return a {@link dev.kurumidisciples.javadex.api.entities.enums.Locale} object
+         */
+        public Locale getTranslatedLanguage() {
+            return LOCALES[language[index]];
+        }
+
+        /**
+         * <p>getPages.</p>
+         *
+         * @return an int
+         */
+        public int getPages() {
+            return pages[index];
+        }
+
+        /**
+         * <p>getVersion.</p>
+         *
+         * @return an int
+         */
+        public int getVersion() {
+            return version[index];
+        }
+
+        /**
+         * Decodes the title.
+         *
+         * @return the title, or {@code null} if the chapter has none.
+         */
+        @Nullable
+        public String getTitle() {
+            int length = titleLength[index];
+            return length < 0 ? null : new String(titlePool, titleStart[index], length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * <p>getRelationshipCount.</p>
+         *
+         * @return the number of relationships of the chapter.
+         */
+        public int getRelationshipCount() {
+            return relationStart[index + 1] - relationStart[index];
+        }
+
+        /**
+         * Returns the type of a relationship.
+         *
+         * @param i the relationship, from {@code 0} to {@link #getRelationshipCount()} exclusive.
+         * @return the type, or {@code null} if it is unknown to this version of JavaDex.
+         */
+        @Nullable
+        public RelationshipType getRelationshipType(int i) {
+            byte type = relationType[relation(i)];
+            return type < 0 ? null : RELATIONSHIP_TYPES[type];
+        }
+
+        /**
+         * Returns the id of a relationship.
+         *
+         * @param i the relationship, from {@code 0} to {@link #getRelationshipCount()} exclusive.
+         * @return a {@link java.util.UUID} object
+         */
+        public UUID getRelationshipId(int i) {
+            int relation = relation(i);
+            return new UUID(relationMsb[relation], relationLsb[relation]);
+        }
+
+        /**
+         * Returns the id of the first relationship of the given type.
+         *
+         * @param type the type of the relationship.
+         * @return the id, or {@code null} if the chapter has no such relationship.
+         */
+        @Nullable
+        public UUID getRelationshipId(@NotNull RelationshipType type) {
+            byte code = (byte) type.ordinal();
+            for (int r = relationStart[index]; r < relationStart[index + 1]; r++) {
+                if (relationType[r] == code) return new UUID(relationMsb[r], relationLsb[r]);
+            }
+            return null;
+        }
+
+        /**
+         * <p>getMangaId.</p>
+         *
+         * @return the id of the manga of the chapter, or {@code null}.
+         */
+        @Nullable
+        public UUID getMangaId() {
+            return getRelationshipId(RelationshipType.MANGA);
+        }
+
+        private int relation(int i) {
+            if (i < 0 || i >= getRelationshipCount()) throw new IndexOutOfBoundsException("Relationship " + i + " of " + getRelationshipCount());
+            return relationStart[index] + i;
+        }
+    }
+}
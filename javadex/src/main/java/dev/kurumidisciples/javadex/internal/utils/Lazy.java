@@ -0,0 +1,69 @@
+package dev.kurumidisciples.javadex.internal.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * A value computed on first access.
+ * <p>The supplier, and whatever JSON it captured, is released once the value has been computed.</p>
+ *
+ * <p>This class is an internal utility class and should not be used directly.</p>
+ * @param <T> the type of the value.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private volatile Supplier<? extends T> supplier;
+    private T value;
+
+    private Lazy(Supplier<? extends T> supplier, T value) {
+        this.supplier = supplier;
+        this.value = value;
+    }
+
+    /**
+     * Creates a value that is computed by the supplier on first access.
+     *
+     * @param supplier computes the value, called at most once.
+     * @param <T> the type of the value.
+     * @return a {@link Lazy} object
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> supplier) {
+        return new Lazy<>(supplier, null);
+    }
+
+    /**
+     * Creates an already computed value.
+     *
+     * @param value the value.
+     * @param <T> the type of the value.
+     * @return a {@link Lazy} object
+     */
+    public static <T> Lazy<T> value(T value) {
+        return new Lazy<>(null, value);
+    }
+
+    /**
+     * <p>isComputed.</p>
+     *
+     * @return whether the value has been computed, without computing it.
+     */
+    public boolean isComputed() {
+        return supplier == null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T get() {
+        if (supplier != null) {
+            synchronized (this) {
+                Supplier<? extends T> pending = supplier;
+                if (pending != null) {
+                    value = pending.get();
+                    supplier = null;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,177 @@
+package dev.kurumidisciples.javadex.internal.utils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+
+/**
+ * The bookkeeping of a local copy that is pulled from the API as a whole and changed locally in between, such as
+ * the reading statuses or the follows of a user.
+ *
+ * <p>Tracks when the copy was last pulled, so lookups can pull it again once it is older than the maximum age, and
+ * serializes pulls so concurrent lookups of a stale copy send one request. Local changes are numbered with a
+ * generation; a pull that started before a change must not overwrite it, since the pulled data may predate it.</p>
+ *
+ * <p>The freshness methods are thread-safe. The generation methods are not: call them while holding the lock that
+ * guards the copy itself, so a change and its generation are recorded together.</p>
+ *
+ * <p>This class is an internal utility class and should not be used directly.</p>
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class RefreshState {
+
+    /**
+     * Pulls the copy and applies it.
+     *
+     * @param <T> the result of the pull.
+     */
+    @FunctionalInterface
+    public interface Pull<T> {
+
+        /**
+         * <p>pull.</p>
+         *
+         * @return the result of the pull.
+         * @throws HTTPRequestException if a request fails.
+         */
+        T pull() throws HTTPRequestException;
+    }
+
+    private final Object refreshLock = new Object();
+    /** Generation of the last local change per id */
+    private UuidLongMap writes = new UuidLongMap();
+    private long generation;
+
+    private volatile boolean loaded;
+    private volatile long loadedAt;
+    private volatile long maxAgeNanos;
+
+    /**
+     * Creates the state of a copy that was never pulled.
+     *
+     * @param maxAge how long a pulled copy is served, or {@code null} to pull only on request.
+     */
+    public RefreshState(@Nullable Duration maxAge) {
+        setMaxAge(maxAge);
+    }
+
+    /**
+     * <p>Setter for the field <code>maxAge</code>.</p>
+     *
+     * @param maxAge how long a pulled copy is served, or {@code null} to pull only on request.
+     */
+    public void setMaxAge(@Nullable Duration maxAge) {
+        this.maxAgeNanos = maxAge == null ? 0 : maxAge.toNanos();
+    }
+
+    /**
+     * <p>isFresh.</p>
+     *
+     * @return {@code true} if the copy was pulled and is not older than the maximum age.
+     */
+    public boolean isFresh() {
+        return loaded && (maxAgeNanos == 0 || System.nanoTime() - loadedAt < maxAgeNanos);
+    }
+
+    /**
+     * Marks the copy stale, so the next {@link #refreshIfStale(Pull)} pulls it again.
+     */
+    public void invalidate() {
+        loaded = false;
+    }
+
+    /**
+     * Runs a pull unless the copy is fresh. Threads that find the copy stale at once wait for a single pull.
+     *
+     * @param pull the pull.
+     * @param <T> the result of the pull.
+     * @return the result, or {@code null} if the copy was fresh.
+     * @throws HTTPRequestException if the pull fails.
+     */
+    public <T> T refreshIfStale(@NotNull Pull<T> pull) throws HTTPRequestException {
+        if (isFresh()) return null;
+        synchronized (refreshLock) {
+            // Another thread may have pulled while this one waited
+            return isFresh() ? null : refresh(pull);
+        }
+    }
+
+    /**
+     * Runs a pull, after any pull already in flight, and marks the copy fresh as of its start once it succeeded.
+     *
+     * @param pull the pull.
+     * @param <T> the result of the pull.
+     * @return the result.
+     * @throws HTTPRequestException if the pull fails; the copy keeps its previous age.
+     */
+    public <T> T refresh(@NotNull Pull<T> pull) throws HTTPRequestException {
+        synchronized (refreshLock) {
+            long started = System.nanoTime();
+            T result = pull.pull();
+            loadedAt = started;
+            loaded = true;
+            return result;
+        }
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #isWrittenAfter(UUID, long)} once the pull that starts
+     * now has returned.
+     *
+     * @return the generation of the latest local change.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Records a local change.
+     *
+     * @param id the changed entry.
+     */
+    public void recordWrite(@NotNull UUID id) {
+        writes.put(id, ++generation);
+    }
+
+    /**
+     * <p>isWrittenAfter.</p>
+     *
+     * @param id the entry.
+     * @param generation the generation a pull started at.
+     * @return {@code true} if the entry was changed locally since, so the pulled value is older than the local one.
+     */
+    public boolean isWrittenAfter(@NotNull UUID id, long generation) {
+        return writes.get(id) > generation;
+    }
+
+    /**
+     * Hands every entry changed locally since a generation to the consumer.
+     *
+     * @param generation the generation a pull started at.
+     * @param consumer the consumer.
+     */
+    public void forEachWrittenAfter(long generation, @NotNull Consumer<UUID> consumer) {
+        writes.forEach((id, written) -> {
+            if (written > generation) consumer.accept(id);
+        });
+    }
+
+    /**
+     * Forgets the changes a finished pull already includes.
+     *
+     * @param generation the generation the pull started at.
+     */
+    public void pruneWrites(long generation) {
+        UuidLongMap kept = new UuidLongMap();
+        writes.forEach((id, written) -> {
+            if (written > generation) kept.put(id, written);
+        });
+        writes = kept;
+    }
+}
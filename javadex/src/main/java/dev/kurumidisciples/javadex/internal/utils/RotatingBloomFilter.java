@@ -0,0 +1,123 @@
+package dev.kurumidisciples.javadex.internal.utils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A Bloom filter of {@link UUID}s that forgets old entries by rotating between two generations.
+ *
+ * <p>Ids are added to the current generation; lookups check both. Once the current generation holds
+ * {@code capacity} ids it becomes the previous one and the old previous generation is dropped, so memory stays
+ * fixed at two bit sets while every id is remembered for at least {@code capacity} further insertions.</p>
+ *
+ * <p>With 20 bits and 10 probes per id the false positive rate of a full generation is below 0.01%.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class RotatingBloomFilter {
+
+    private static final int BITS_PER_ID = 20;
+    private static final int PROBES = 10;
+
+    private final int capacity;
+    private final int bitMask;
+    private long[] current;
+    private long[] previous;
+    private int count;
+
+    /**
+     * Creates a filter that remembers at least {@code capacity} ids.
+     *
+     * @param capacity the number of ids per generation.
+     */
+    public RotatingBloomFilter(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1");
+        long bits = Math.max(64, Long.highestOneBit((long) capacity * BITS_PER_ID - 1) << 1);
+        if (bits > 1L << 31) throw new IllegalArgumentException("Capacity is too large");
+        this.capacity = capacity;
+        this.bitMask = (int) (bits - 1);
+        this.current = new long[(int) (bits >>> 6)];
+        this.previous = new long[current.length];
+    }
+
+    /**
+     * Returns whether the id may have been added. A {@code false} result is always correct.
+     *
+     * @param id the id.
+     * @return false if the id was definitely not added within the last two generations.
+     */
+    public boolean mightContain(UUID id) {
+        return contains(current, id) || contains(previous, id);
+    }
+
+    /**
+     * Adds the id, rotating the generations if the current one is full.
+     *
+     * @param id the id.
+     */
+    public void put(UUID id) {
+        if (count >= capacity) {
+            long[] recycled = previous;
+            Arrays.fill(recycled, 0);
+            previous = current;
+            current = recycled;
+            count = 0;
+        }
+        long h1 = mix(id.getMostSignificantBits() ^ (id.getLeastSignificantBits() * 0x9e3779b97f4a7c15L));
+        long h2 = mix(h1 ^ id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < PROBES; i++) {
+            int bit = (int) (h1 + i * h2) & bitMask;
+            current[bit >>> 6] |= 1L << bit;
+        }
+        count++;
+    }
+
+    /**
+     * Writes the filter so it can be restored with {@link #read(DataInput)}.
+     *
+     * @param out the output.
+     * @throws java.io.IOException if writing fails.
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(capacity);
+        out.writeInt(count);
+        for (long word : current) out.writeLong(word);
+        for (long word : previous) out.writeLong(word);
+    }
+
+    /**
+     * Reads a filter written by {@link #write(DataOutput)}.
+     *
+     * @param in the input.
+     * @return the filter.
+     * @throws java.io.IOException if reading fails.
+     */
+    public static RotatingBloomFilter read(DataInput in) throws IOException {
+        RotatingBloomFilter filter = new RotatingBloomFilter(in.readInt());
+        filter.count = in.readInt();
+        for (int i = 0; i < filter.current.length; i++) filter.current[i] = in.readLong();
+        for (int i = 0; i < filter.previous.length; i++) filter.previous[i] = in.readLong();
+        return filter;
+    }
+
+    private boolean contains(long[] bits, UUID id) {
+        long h1 = mix(id.getMostSignificantBits() ^ (id.getLeastSignificantBits() * 0x9e3779b97f4a7c15L));
+        long h2 = mix(h1 ^ id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < PROBES; i++) {
+            int bit = (int) (h1 + i * h2) & bitMask;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
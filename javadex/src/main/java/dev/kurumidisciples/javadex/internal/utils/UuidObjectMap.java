@@ -0,0 +1,214 @@
+package dev.kurumidisciples.javadex.internal.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A map from {@link UUID}s to objects, such as id to entity lookups, with the keys stored as pairs of longs in an
+ * open addressing table.
+ *
+ * <p>An entry costs the 16 byte key and a value reference plus free slots instead of the node and boxed key of a
+ * {@code HashMap<UUID, V>}. {@link #get(long, long)} looks up an id parsed with
+ * {@link dev.kurumidisciples.javadex.internal.parsers.UuidParser#mostSignificantBits(CharSequence)} without creating
+ * it. Keys are created only when iterating the entries or keys.</p>
+ *
+ * <p>Iterators do not support removal. This class is not thread-safe.</p>
+ *
+ * @param <V> the type of the values.
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class UuidObjectMap<V> extends AbstractMap<UUID, V> {
+
+    private Object[] values;
+    private final UuidTable table;
+
+    /**
+     * Creates an empty map.
+     */
+    public UuidObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expected} entries without resizing.
+     *
+     * @param expected the expected number of entries.
+     */
+    public UuidObjectMap(int expected) {
+        this.table = new UuidTable(expected, new UuidTable.Values() {
+            @Override
+            public void resize(int length, int[] moved) {
+                Object[] resized = new Object[length];
+                for (int old = 0; old < moved.length; old++) {
+                    if (moved[old] >= 0) resized[moved[old]] = values[old];
+                }
+                values = resized;
+            }
+
+            @Override
+            public void move(int from, int to) {
+                values[to] = values[from];
+            }
+
+            @Override
+            public void clear(int slot) {
+                values[slot] = null;
+            }
+        });
+        this.values = new Object[table.length()];
+    }
+
+    /**
+     * Returns the value of an id given by its halves.
+     *
+     * @param most the high 64 bits.
+     * @param least the low 64 bits.
+     * @return the value, or {@code null} if the id is absent.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long most, long least) {
+        int slot = table.find(most, least);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof UUID)) return null;
+        return get(((UUID) key).getMostSignificantBits(), ((UUID) key).getLeastSignificantBits());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof UUID && table.find(((UUID) key).getMostSignificantBits(), ((UUID) key).getLeastSignificantBits()) >= 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(@NotNull UUID key, V value) {
+        int slot = table.add(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (slot < 0) {
+            values[-slot - 1] = value;
+            return null;
+        }
+        V previous = (V) values[slot];
+        values[slot] = value;
+        return previous;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (!(key instanceof UUID)) return null;
+        int slot = table.find(((UUID) key).getMostSignificantBits(), ((UUID) key).getLeastSignificantBits());
+        if (slot < 0) return null;
+        V previous = (V) values[slot];
+        table.removeAt(slot);
+        return previous;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        table.clear();
+        Arrays.fill(values, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Map.Entry<UUID, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<UUID, V>> iterator() {
+                return new Iterator<>() {
+                    private int next = table.next(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next >= 0;
+                    }
+
+                    @Override
+                    public Map.Entry<UUID, V> next() {
+                        if (next < 0) throw new NoSuchElementException();
+                        Entry entry = new Entry(next);
+                        next = table.next(next + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return table.size();
+            }
+        };
+    }
+
+    /** An entry that reads and writes its slot; valid until the map is changed. */
+    private final class Entry implements Map.Entry<UUID, V> {
+
+        private final int slot;
+        private final UUID key;
+
+        Entry(int slot) {
+            this.slot = slot;
+            this.key = new UUID(table.msb[slot], table.lsb[slot]);
+        }
+
+        @Override
+        public UUID getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[slot];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package dev.kurumidisciples.javadex.internal.utils;
+
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import dev.kurumidisciples.javadex.internal.parsers.UuidParser;
+
+/**
+ * A set of {@link UUID}s stored as pairs of longs in an open addressing table.
+ *
+ * <p>A {@code HashSet<UUID>} costs about 80 bytes per id between the node, the boxed UUID and the table slot.
+ * This set keeps 16 bytes per id plus free slots, about 21 to 43 bytes, and {@link #add(CharSequence)} and
+ * {@link #addAll(JsonReader)} parse ids straight into the table without creating a {@code UUID}. UUIDs are only
+ * created when iterating.</p>
+ *
+ * <p>Iterators do not support removal; use {@link #removeIf(Predicate)}. This class is not thread-safe.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+public final class UuidSet extends AbstractSet<UUID> {
+
+    private final UuidTable table;
+
+    /**
+     * Creates an empty set.
+     */
+    public UuidSet() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty set that holds {@code expected} ids without resizing.
+     *
+     * @param expected the expected number of ids.
+     */
+    public UuidSet(int expected) {
+        this.table = new UuidTable(expected, null);
+    }
+
+    /**
+     * Creates a set of the given ids.
+     *
+     * @param ids the ids.
+     */
+    public UuidSet(@NotNull Collection<UUID> ids) {
+        this(ids.size());
+        addAll(ids);
+    }
+
+    /**
+     * Adds an id given by its halves.
+     *
+     * @param most the high 64 bits.
+     * @param least the low 64 bits.
+     * @return {@code true} if the id was not in the set.
+     */
+    public boolean add(long most, long least) {
+        return table.add(most, least) < 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean add(@NotNull UUID id) {
+        return add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    /**
+     * Parses and adds an id without creating a {@code UUID}.
+     *
+     * @param id the id in its canonical form.
+     * @return {@code true} if the id was not in the set.
+     * @throws IllegalArgumentException if the text is not a UUID.
+     */
+    public boolean add(@NotNull CharSequence id) {
+        return add(UuidParser.mostSignificantBits(id), UuidParser.leastSignificantBits(id));
+    }
+
+    /**
+     * Adds every id of a JSON array of id strings, such as {@code chapterIds} or the values of a grouped read
+     * marker response. {@code null} elements are skipped.
+     *
+     * @param in a reader positioned at the array.
+     * @return the number of ids that were not in the set.
+     * @throws IOException if the array cannot be read.
+     */
+    public int addAll(@NotNull JsonReader in) throws IOException {
+        int added = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+            } else if (add(in.nextString())) {
+                added++;
+            }
+        }
+        in.endArray();
+        return added;
+    }
+
+    /**
+     * Returns whether an id given by its halves is in the set.
+     *
+     * @param most the high 64 bits.
+     * @param least the low 64 bits.
+     * @return {@code true} if the id is in the set.
+     */
+    public boolean contains(long most, long least) {
+        return table.find(most, least) >= 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof UUID && contains(((UUID) o).getMostSignificantBits(), ((UUID) o).getLeastSignificantBits());
+    }
+
+    /**
+     * Removes an id given by its halves.
+     *
+     * @param most the high 64 bits.
+     * @param least the low 64 bits.
+     * @return {@code true} if the id was in the set.
+     */
+    public boolean remove(long most, long least) {
+        int slot = table.find(most, least);
+        if (slot < 0) return false;
+        table.removeAt(slot);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof UUID && remove(((UUID) o).getMostSignificantBits(), ((UUID) o).getLeastSignificantBits());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean removeAll(@NotNull Collection<?> c) {
+        boolean changed = false;
+        for (Object o : c) {
+            changed |= remove(o);
+        }
+        return changed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean retainAll(@NotNull Collection<?> c) {
+        return removeIf(id -> !c.contains(id));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean removeIf(@NotNull Predicate<? super UUID> filter) {
+        // Removal shifts entries back, so the ids to drop are collected first
+        List<UUID> removed = new ArrayList<>();
+        for (UUID id : this) {
+            if (filter.test(id)) removed.add(id);
+        }
+        removed.forEach(this::remove);
+        return !removed.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Iterator<UUID> iterator() {
+        return new Iterator<>() {
+            private int next = table.next(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public UUID next() {
+                if (next < 0) throw new NoSuchElementException();
+                UUID id = new UUID(table.msb[next], table.lsb[next]);
+                next = table.next(next + 1);
+                return id;
+            }
+        };
+    }
+}
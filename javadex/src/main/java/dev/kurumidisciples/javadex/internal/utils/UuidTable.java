@@ -0,0 +1,199 @@
+package dev.kurumidisciples.javadex.internal.utils;
+
+import java.util.Arrays;
+
+/**
+ * The open addressing table behind {@link UuidSet}, {@link UuidLongMap} and {@link UuidObjectMap}.
+ *
+ * <p>Keys are stored as the two halves of the UUID in parallel {@code long} arrays and probed linearly, so an entry
+ * costs 16 bytes of key plus the free slots, with no object per entry. The pair {@code (0, 0)} marks a free slot;
+ * the nil UUID itself is kept in an extra slot after the table. Removal shifts the following entries back instead
+ * of leaving tombstones. Owners with values keep them in arrays indexed by the same slots and are told about moves
+ * through {@link Values}.</p>
+ *
+ * @since 0.1.5
+ * @author Hacking Pancakez
+ */
+final class UuidTable {
+
+    /**
+     * Keeps the values of an owner in step with the slots of the table.
+     */
+    interface Values {
+
+        /**
+         * Replaces the value arrays after a resize.
+         *
+         * @param length the new number of slots.
+         * @param moved the new slot of every old slot, or -1 for free slots.
+         */
+        void resize(int length, int[] moved);
+
+        void move(int from, int to);
+
+        void clear(int slot);
+    }
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    long[] msb;
+    long[] lsb;
+    private final Values values;
+    private int mask;
+    private int size;
+    private int threshold;
+    private boolean hasNil;
+
+    UuidTable(int expected, Values values) {
+        if (expected < 0) throw new IllegalArgumentException("Expected size must not be negative");
+        this.values = values;
+        allocate(capacityFor(expected));
+    }
+
+    /** Returns the slot of the nil UUID, one past the table. */
+    int nilSlot() {
+        return mask + 1;
+    }
+
+    /** Returns the number of slots including the nil slot, the length value arrays must have. */
+    int length() {
+        return mask + 2;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot of a key.
+     *
+     * @return the slot, or -1 if the key is absent.
+     */
+    int find(long most, long least) {
+        if ((most | least) == 0) return hasNil ? nilSlot() : -1;
+        int slot = hash(most, least) & mask;
+        while ((msb[slot] | lsb[slot]) != 0) {
+            if (msb[slot] == most && lsb[slot] == least) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a key if it is absent.
+     *
+     * @return the slot of an existing key, or {@code -slot - 1} if the key was added.
+     */
+    int add(long most, long least) {
+        if ((most | least) == 0) {
+            if (hasNil) return nilSlot();
+            hasNil = true;
+            size++;
+            return -nilSlot() - 1;
+        }
+        int slot = hash(most, least) & mask;
+        while ((msb[slot] | lsb[slot]) != 0) {
+            if (msb[slot] == most && lsb[slot] == least) return slot;
+            slot = (slot + 1) & mask;
+        }
+        msb[slot] = most;
+        lsb[slot] = least;
+        if (++size > threshold) {
+            slot = grow(slot);
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * Removes the key in a slot returned by {@link #find(long, long)}.
+     */
+    void removeAt(int slot) {
+        size--;
+        if (slot == nilSlot()) {
+            hasNil = false;
+            if (values != null) values.clear(slot);
+            return;
+        }
+        // Moves back every entry of the probe run that would no longer be found past the freed slot
+        int last = slot;
+        int current = (slot + 1) & mask;
+        while ((msb[current] | lsb[current]) != 0) {
+            int home = hash(msb[current], lsb[current]) & mask;
+            boolean reachable = last <= current ? (home <= last || home > current) : (home <= last && home > current);
+            if (reachable) {
+                msb[last] = msb[current];
+                lsb[last] = lsb[current];
+                if (values != null) values.move(current, last);
+                last = current;
+            }
+            current = (current + 1) & mask;
+        }
+        msb[last] = 0;
+        lsb[last] = 0;
+        if (values != null) values.clear(last);
+    }
+
+    /**
+     * Returns the first used slot at or after {@code from}, the nil slot included, or -1.
+     */
+    int next(int from) {
+        for (int slot = from; slot <= mask; slot++) {
+            if ((msb[slot] | lsb[slot]) != 0) return slot;
+        }
+        return hasNil && from <= nilSlot() ? nilSlot() : -1;
+    }
+
+    void clear() {
+        Arrays.fill(msb, 0);
+        Arrays.fill(lsb, 0);
+        size = 0;
+        hasNil = false;
+    }
+
+    /** Doubles the table and returns the new slot of {@code tracked}. */
+    private int grow(int tracked) {
+        if (mask + 1 >= MAX_CAPACITY) throw new IllegalStateException("UUID table is full");
+        long[] oldMsb = msb;
+        long[] oldLsb = lsb;
+        int oldNil = nilSlot();
+        allocate((mask + 1) << 1);
+        int[] moved = new int[oldMsb.length];
+        int result = tracked;
+        for (int old = 0; old < oldNil; old++) {
+            if ((oldMsb[old] | oldLsb[old]) == 0) {
+                moved[old] = -1;
+                continue;
+            }
+            int slot = hash(oldMsb[old], oldLsb[old]) & mask;
+            while ((msb[slot] | lsb[slot]) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            msb[slot] = oldMsb[old];
+            lsb[slot] = oldLsb[old];
+            moved[old] = slot;
+            if (old == tracked) result = slot;
+        }
+        moved[oldNil] = hasNil ? nilSlot() : -1;
+        if (values != null) values.resize(length(), moved);
+        return result;
+    }
+
+    private void allocate(int capacity) {
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+        msb = new long[capacity + 1];
+        lsb = new long[capacity + 1];
+    }
+
+    private static int capacityFor(int expected) {
+        long needed = Math.max(4, (long) Math.ceil(expected / LOAD_FACTOR) + 1);
+        if (needed > MAX_CAPACITY) throw new IllegalArgumentException("Expected size is too large");
+        return (int) Long.highestOneBit(needed - 1) << 1;
+    }
+
+    static int hash(long most, long least) {
+        long h = (most ^ Long.rotateLeft(least, 32)) * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,99 @@
+package actions;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.MDList;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType;
+import dev.kurumidisciples.javadex.api.entities.intermediate.middlemen.EntityMiddleman;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.FollowsAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ListAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaBatchAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.PageFanOut;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListActionTest {
+
+    private static final Token TOKEN = new Token("access", "refresh");
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(49, 400, 2));
+
+    @Test
+    public void testOwnAndPublicLists() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        UUID shared = server.addList("Shared", true, mangaIds.subList(0, 5));
+        UUID hidden = server.addList("Hidden", false, mangaIds.subList(5, 7));
+
+        List<MDList> own = new ListAction(TOKEN).setLimit(100).complete();
+        assertEquals(List.of(shared, hidden), own.stream().map(MDList::getId).toList());
+        assertTrue(own.get(1).isPrivate());
+        assertEquals(5, own.get(0).getMangaCount());
+        assertEquals(mangaIds.subList(0, 5), own.get(0).getMangaIds());
+        assertEquals(server.getSelfId(), own.get(0).getCreatorId());
+
+        List<MDList> visible = new ListAction(server.getSelfId(), null).complete();
+        assertEquals(List.of(shared), visible.stream().map(MDList::getId).toList());
+
+        assertEquals("Hidden", ListAction.getListById(hidden, TOKEN).join().getName());
+        assertThrows(CompletionException.class, () -> ListAction.getListById(hidden, null).join());
+    }
+
+    @Test
+    public void testRetrievesListMangaInBatches() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        List<UUID> titles = new ArrayList<>(mangaIds.subList(0, 250));
+        titles.add(UUID.randomUUID());
+        MDList list = ListAction.getListById(server.addList("Large", true, titles), null).join();
+        assertEquals(251, list.getMangaCount());
+
+        long before = server.getRequestCount();
+        List<Manga> manga = list.retrieveManga().setConcurrency(3).complete();
+        assertEquals(before + 3, server.getRequestCount());
+        // List order, the unknown title left out
+        assertEquals(mangaIds.subList(0, 250), manga.stream().map(Manga::getId).toList());
+
+        // Cached titles need no request
+        before = server.getRequestCount();
+        assertEquals(250, new MangaBatchAction(mangaIds.subList(0, 250)).complete().size());
+        assertEquals(before, server.getRequestCount());
+        new MangaBatchAction(mangaIds.subList(200, 300)).complete();
+        assertEquals(before + 1, server.getRequestCount());
+    }
+
+    @Test
+    public void testListFeedAndFollowedLists() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        UUID hidden = server.addList("Hidden", false, mangaIds.subList(0, 120));
+        List<Chapter> feed = new PageFanOut<>(ChapterAction.ofListFeed(hidden, TOKEN), 10_000).complete();
+        assertEquals(240, feed.size());
+        assertTrue(mangaIds.subList(0, 120).contains(feed.get(0).getRelationshipMap().getFirstId(RelationshipType.MANGA)));
+        assertThrows(RuntimeException.class, () -> ChapterAction.ofListFeed(hidden, null).complete());
+
+        UUID shared = server.addList("Shared", true, mangaIds.subList(0, 1));
+        HTTPRequest.post("https://api.mangadex.org/list/" + shared + "/follow", Optional.of(TOKEN.getAccessToken()));
+        List<EntityMiddleman> followed = new FollowsAction(FollowingEntityType.SELF_LIST, TOKEN).complete();
+        assertEquals(1, followed.size());
+        assertEquals(shared, new FollowsAction(FollowingEntityType.SELF_LIST, TOKEN).completePage(0, 10).getItems().get(0).getId());
+    }
+}
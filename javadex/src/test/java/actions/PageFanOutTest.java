@@ -0,0 +1,157 @@
+package actions;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.MangaProjection;
+import dev.kurumidisciples.javadex.api.exceptions.http.HTTPServerErrorException;
+import dev.kurumidisciples.javadex.internal.actions.Page;
+import dev.kurumidisciples.javadex.internal.actions.PagedAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.PageFanOut;
+
+import standin.FaultProfile;
+import standin.LatencyDistribution;
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageFanOutTest {
+
+    @RegisterExtension
+    static final StandInExtension standIn = new StandInExtension(new SyntheticData(37, 450, 1));
+
+    @Test
+    public void testOrderedPullMatchesSerialPaging() {
+        StandInServer server = standIn.getServer();
+        server.setFaults(FaultProfile.builder().setLatency(LatencyDistribution.uniform(1, 15)).build());
+        try {
+            List<Manga> serial = new ArrayList<>();
+            for (int offset = 0; offset < 430; offset += 100) {
+                serial.addAll(new MangaAction().setLimit(Math.min(100, 430 - offset)).setOffset(offset).complete());
+            }
+            PageFanOut<Manga> fanOut = new PageFanOut<>(new MangaAction(), 430).setConcurrency(8);
+            List<Manga> pulled = fanOut.complete();
+
+            assertEquals(430, pulled.size());
+            for (int i = 0; i < serial.size(); i++) {
+                assertEquals(serial.get(i).getId(), pulled.get(i).getId());
+            }
+            assertEquals(0, fanOut.getDuplicates());
+        } finally {
+            server.setFaults(FaultProfile.none());
+        }
+    }
+
+    @Test
+    public void testProjectedPagesMatchFullPages() {
+        Page<Manga> full = new MangaAction().completePage(100, 50);
+        Page<Manga> titles = new MangaAction().setProjection(MangaProjection.TITLES).completePage(100, 50);
+        assertEquals(full.getTotal(), titles.getTotal());
+        assertEquals(full.getOffset(), titles.getOffset());
+        assertEquals(full.getLimit(), titles.getLimit());
+        assertEquals(50, titles.getItems().size());
+        for (int i = 0; i < full.getItems().size(); i++) {
+            Manga manga = titles.getItems().get(i);
+            assertEquals(full.getItems().get(i).getId(), manga.getId());
+            assertEquals(full.getItems().get(i).getDefaultTitle(), manga.getDefaultTitle());
+            assertEquals(MangaProjection.TITLES, manga.getProjection());
+            assertNull(manga.getDescriptions());
+        }
+    }
+
+    @Test
+    public void testStopsAtTotalAndStreams() {
+        ChapterAction feed = new ChapterAction();
+        Set<UUID> streamed = Collections.synchronizedSet(new HashSet<>());
+        PageFanOut<Chapter> fanOut = new PageFanOut<>(feed, 10_000).setPageSize(50);
+        assertEquals(450, fanOut.stream(chapter -> assertTrue(streamed.add(chapter.getId()))));
+        assertEquals(450, streamed.size());
+    }
+
+    @Test
+    public void testDropsItemsThatShiftBetweenPages() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            ids.add(new UUID(0, i));
+        }
+        AtomicInteger calls = new AtomicInteger();
+        // an item is inserted at the front after the first page, pushing the rest back by one
+        PagedAction<Snowflake> shifting = (offset, limit) -> {
+            int shift = calls.getAndIncrement() == 0 ? 0 : 1;
+            List<Snowflake> page = new ArrayList<>();
+            for (int i = offset - shift; i < Math.min(ids.size(), offset - shift + limit); i++) {
+                page.add(new Snowflake(ids.get(Math.max(0, i))));
+            }
+            return new Page<>(page, offset, limit, ids.size());
+        };
+        PageFanOut<Snowflake> fanOut = new PageFanOut<>(shifting, 250).setConcurrency(1);
+        List<Snowflake> pulled = fanOut.complete();
+        assertEquals(new HashSet<>(pulled).size(), pulled.size());
+        assertEquals(1, fanOut.getDuplicates());
+        assertEquals(249, pulled.size());
+    }
+
+    @Test
+    public void testFailedPageFailsThePull() {
+        StandInServer server = standIn.getServer();
+        server.setFaults(FaultProfile.builder().setServerErrorRate(1).build());
+        try {
+            assertThrows(HTTPServerErrorException.class, () -> new PageFanOut<>(new MangaAction(), 300).complete());
+        } finally {
+            server.setFaults(FaultProfile.none());
+        }
+    }
+
+    private static final class Snowflake implements dev.kurumidisciples.javadex.api.entities.intermediate.ISnowflake {
+
+        private final UUID id;
+
+        private Snowflake(UUID id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getIdRaw() {
+            return id.toString();
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public java.time.OffsetDateTime getCreatedAt() {
+            return null;
+        }
+
+        @Override
+        public java.time.OffsetDateTime getUpdatedAt() {
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Snowflake && ((Snowflake) other).id.equals(id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package actions;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.ChapterAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.MangaAction;
+import dev.kurumidisciples.javadex.internal.actions.retrieve.PageFanOut;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SplitQueryTest {
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(50, 600, 2));
+
+    @Test
+    public void testMangaIdsAreSplitAndMerged() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> ids = standIn.getMangaIds();
+        List<UUID> wanted = new ArrayList<>(ids.subList(0, 450));
+        Collections.shuffle(wanted, new Random(50));
+        List<UUID> query = new ArrayList<>(wanted);
+        query.add(UUID.randomUUID());
+        // Repeated ids are sent once
+        query.addAll(wanted.subList(0, 30));
+
+        long before = server.getRequestCount();
+        List<Manga> manga = new MangaAction().addMangaIds(query).setPreserveIdOrder(true).setConcurrency(3).complete();
+        // 451 distinct ids, at most 100 per request
+        assertEquals(before + 5, server.getRequestCount());
+        assertEquals(wanted, manga.stream().map(Manga::getId).toList());
+
+        List<Manga> unordered = new MangaAction().addMangaIds(query).setLimit(5).complete();
+        assertEquals(new HashSet<>(wanted), new HashSet<>(unordered.stream().map(Manga::getId).toList()));
+
+        // Small filters still take one request and keep the API behaviour
+        before = server.getRequestCount();
+        assertEquals(wanted.subList(0, 50), new MangaAction().addMangaIds(wanted.subList(0, 50)).setLimit(100)
+                .setPreserveIdOrder(true).complete().stream().map(Manga::getId).toList());
+        assertEquals(before + 1, server.getRequestCount());
+    }
+
+    @Test
+    public void testPagingASplitActionRunsItOnce() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> ids = standIn.getMangaIds();
+        MangaAction action = new MangaAction().addMangaIds(ids.subList(0, 450)).setPreserveIdOrder(true);
+
+        long before = server.getRequestCount();
+        List<Manga> paged = new PageFanOut<>(action, 10_000).setPageSize(50).complete();
+        // Nine pages of 50, but the five sub-queries run once
+        assertEquals(before + 5, server.getRequestCount());
+        assertEquals(ids.subList(0, 450), paged.stream().map(Manga::getId).toList());
+
+        // A later page reuses the result, a new scan or a changed filter runs the sub-queries again
+        before = server.getRequestCount();
+        assertEquals(50, action.completePage(400, 50).getItems().size());
+        assertEquals(before, server.getRequestCount());
+        assertEquals(450, action.completePage(0, 50).getTotal());
+        assertEquals(before + 5, server.getRequestCount());
+        action.addMangaIds(ids.subList(450, 460));
+        assertEquals(460, action.completePage(100, 50).getTotal());
+        assertEquals(before + 10, server.getRequestCount());
+
+        List<String> chapterIds = new ArrayList<>();
+        server.getData().chapters().forEach(chapter -> chapterIds.add(chapter.get("id").getAsString()));
+        ChapterAction chapters = new ChapterAction().addChapters(chapterIds.subList(0, 250));
+        before = server.getRequestCount();
+        assertEquals(250, new PageFanOut<>(chapters, 10_000).setPageSize(25).complete().size());
+        assertEquals(before + 3, server.getRequestCount());
+    }
+
+    @Test
+    public void testChapterAndGroupFiltersAreSplit() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<JsonObject> chapters = server.getData().chapters();
+        List<String> wanted = new ArrayList<>();
+        for (int i = chapters.size() - 1; i >= chapters.size() - 250; i--) {
+            wanted.add(chapters.get(i).get("id").getAsString());
+        }
+        List<Chapter> byId = new ChapterAction().addChapters(wanted).setPreserveIdOrder(true).complete();
+        assertEquals(wanted, byId.stream().map(chapter -> chapter.getId().toString()).toList());
+
+        // 150 groups are known, 60 more are not; every chapter of the known ones matches
+        List<String> groups = new ArrayList<>();
+        server.getData().groups().forEach(group -> groups.add(group.get("id").getAsString()));
+        Set<String> known = new HashSet<>(groups);
+        for (int i = 0; i < 60; i++) {
+            groups.add(UUID.randomUUID().toString());
+        }
+        List<Chapter> byGroup = new ChapterAction().addGroups(groups).setConcurrency(2).complete();
+        assertEquals(chapters.size(), byGroup.size());
+        assertTrue(known.contains(byGroup.get(0).getRelationshipMap().getFirstId(RelationshipType.SCANLATION_GROUP).toString()));
+
+        // Both filters at once intersect as a single request would
+        List<Chapter> both = new ChapterAction().addChapters(wanted).addGroups(groups.subList(0, 120)).complete();
+        Set<String> firstGroups = new HashSet<>(groups.subList(0, 120));
+        long expected = chapters.stream()
+                .filter(chapter -> wanted.contains(chapter.get("id").getAsString()))
+                .filter(chapter -> firstGroups.contains(groupOf(chapter)))
+                .count();
+        assertEquals(expected, both.size());
+    }
+
+    private static String groupOf(JsonObject chapter) {
+        for (JsonElement relationship : chapter.getAsJsonArray("relationships")) {
+            JsonObject object = relationship.getAsJsonObject();
+            if ("scanlation_group".equals(object.get("type").getAsString())) return object.get("id").getAsString();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,138 @@
+package cache;
+
+import dev.kurumidisciples.javadex.api.core.JavaDexBuilder;
+import dev.kurumidisciples.javadex.api.entities.Aggregate;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.cache.AggregateCache;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.Test;
+
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregateCacheTest {
+
+    private static final UUID MANGA_ID = UUID.fromString("a96676e5-8ae2-425e-b549-7f15dd34a6d8");
+    private static final String FIRST = "0b6b8b1a-6f3d-4fcd-9d2e-0c3b1f0b6a11";
+    private static final String OTHER = "4f1de6a2-f0c5-4ac5-bce5-02c7dbb67deb";
+    private static final String SECOND = "1c3fa5a0-5a1d-4fd2-8b0e-0f6a2d1e3b22";
+
+    @Test
+    public void testParsesVolumesAndChapters() {
+        String json = "{\"result\":\"ok\",\"volumes\":{"
+                + "\"none\":{\"volume\":\"none\",\"count\":1,\"chapters\":{\"12.5\":{\"chapter\":\"12.5\",\"id\":\"" + SECOND + "\",\"others\":[],\"count\":1}}},"
+                + "\"1\":{\"volume\":\"1\",\"count\":3,\"chapters\":{\"1\":{\"chapter\":\"1\",\"id\":\"" + FIRST + "\",\"others\":[\"" + OTHER + "\"],\"count\":2},"
+                + "\"2\":{\"chapter\":\"2\",\"id\":\"" + SECOND + "\",\"others\":[],\"count\":1}}}}}";
+        Aggregate aggregate = new Aggregate(MANGA_ID, List.of(Locale.ENGLISH), JsonParser.parseString(json).getAsJsonObject());
+
+        assertEquals(3, aggregate.getChapterCount());
+        assertEquals(List.of("none", "1"), aggregate.getVolumes().stream().map(Aggregate.Volume::getVolume).toList());
+        assertEquals(UUID.fromString(FIRST), aggregate.getChapter("1").getId());
+        assertEquals(List.of(UUID.fromString(OTHER)), aggregate.getChapter("1").getOthers());
+        assertEquals(2, aggregate.getChapter("1").getCount());
+        assertNull(aggregate.getChapter("3"));
+        assertEquals(3, aggregate.getVolume("1").getCount());
+        assertEquals(List.of(UUID.fromString(SECOND), UUID.fromString(FIRST), UUID.fromString(SECOND)), aggregate.getChapterIds());
+        assertEquals(4, aggregate.getAllChapterIds().size());
+
+        Aggregate empty = new Aggregate(MANGA_ID, List.of(), JsonParser.parseString("{\"result\":\"ok\",\"volumes\":[]}").getAsJsonObject());
+        assertEquals(0, empty.getChapterCount());
+        assertTrue(empty.getVolumes().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        AggregateCache cache = new AggregateCache(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Aggregate loaded = new Aggregate(MANGA_ID, List.of(), JsonParser.parseString("{\"volumes\":[]}").getAsJsonObject());
+        List<CompletableFuture<Aggregate>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return cache.get(MANGA_ID, Set.of(Locale.ENGLISH, Locale.JAPANESE), () -> {
+                        loads.incrementAndGet();
+                        awaitQuietly(release);
+                        return loaded;
+                    });
+                } catch (HTTPRequestException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (CompletableFuture<Aggregate> future : futures) {
+            assertSame(loaded, future.join());
+        }
+        assertEquals(1, loads.get());
+        // Language order does not matter
+        assertSame(loaded, cache.get(MANGA_ID, List.of(Locale.JAPANESE, Locale.ENGLISH), () -> fail("cached")));
+        cache.invalidate(MANGA_ID);
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() throws Exception {
+        AggregateCache cache = new AggregateCache(10, Duration.ofMinutes(1));
+        assertThrows(AssertionError.class, () -> cache.get(MANGA_ID, List.of(), () -> {
+            throw new AssertionError("loader broke");
+        }));
+        assertEquals(0, cache.stats().getSize());
+        Aggregate loaded = new Aggregate(MANGA_ID, List.of(), JsonParser.parseString("{\"volumes\":[]}").getAsJsonObject());
+        assertSame(loaded, cache.get(MANGA_ID, List.of(), () -> loaded));
+    }
+
+    @Test
+    public void testMangaMethodsShareTheAggregate() throws Exception {
+        int limit = HTTPRequest.getRequestsPerMinute();
+        HTTPRequest.setRequestsPerMinute(Integer.MAX_VALUE);
+        EntityCaches.AGGREGATE.invalidateAll();
+        try (StandInServer server = new StandInServer(new SyntheticData(40, 5, 12)).attach()) {
+            UUID mangaId = UUID.fromString(server.getData().manga().get(0).get("id").getAsString());
+            Manga manga = JavaDexBuilder.createGuest().getMangaById(mangaId.toString()).get();
+
+            long before = server.getRequestCount();
+            assertEquals(12, manga.retrieveChapterCount(Locale.ENGLISH).get());
+            List<UUID> ids = manga.retrieveChaptersIds(Locale.ENGLISH).get();
+            assertEquals(12, ids.size());
+            assertEquals(before + 1, server.getRequestCount());
+
+            manga.retrieveAggregate(Locale.ENGLISH, Locale.JAPANESE).get();
+            assertEquals(before + 2, server.getRequestCount());
+
+            Chapter chapter = new Chapter(server.getData().feed(mangaId).get(0));
+            EntityCaches.AGGREGATE.invalidate(chapter);
+            assertEquals(12, manga.retrieveChapterCount(Locale.ENGLISH).get());
+            assertEquals(before + 3, server.getRequestCount());
+        } finally {
+            HTTPRequest.setRequestsPerMinute(limit);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
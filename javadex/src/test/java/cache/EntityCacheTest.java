@@ -0,0 +1,100 @@
+package cache;
+
+import dev.kurumidisciples.javadex.internal.cache.CacheStats;
+import dev.kurumidisciples.javadex.internal.cache.EntityCache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityCacheTest {
+
+    private static final class Entity {
+        final UUID id;
+        final int version;
+
+        Entity(UUID id, int version) {
+            this.id = id;
+            this.version = version;
+        }
+    }
+
+    private static EntityCache<Entity> newCache(long size, Duration ttl) {
+        return new EntityCache<>("test", e -> e.id, e -> e.version, size, ttl);
+    }
+
+    @Test
+    public void testGetIfPresentReturnsPutEntity() {
+        EntityCache<Entity> cache = newCache(100, null);
+        Entity entity = new Entity(UUID.randomUUID(), 1);
+        cache.put(entity);
+        assertSame(entity, cache.getIfPresent(entity.id));
+        assertNull(cache.getIfPresent(UUID.randomUUID()));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    public void testOlderVersionDoesNotOverwrite() {
+        EntityCache<Entity> cache = newCache(100, null);
+        UUID id = UUID.randomUUID();
+        Entity newer = new Entity(id, 3);
+        cache.put(newer);
+        assertSame(newer, cache.put(new Entity(id, 2)));
+        assertSame(newer, cache.getIfPresent(id));
+        assertEquals(1, cache.stats().getStaleWriteCount());
+
+        Entity newest = new Entity(id, 4);
+        cache.put(newest);
+        assertSame(newest, cache.getIfPresent(id));
+    }
+
+    @Test
+    public void testExpiredEntityIsNotServed() throws InterruptedException {
+        EntityCache<Entity> cache = newCache(100, Duration.ofMillis(1));
+        Entity entity = new Entity(UUID.randomUUID(), 1);
+        cache.put(entity);
+        Thread.sleep(5);
+        assertNull(cache.getIfPresent(entity.id));
+    }
+
+    @Test
+    public void testSizeStaysBounded() {
+        EntityCache<Entity> cache = newCache(64, null);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(new Entity(UUID.randomUUID(), 1));
+        }
+        assertTrue(cache.estimatedSize() <= 64 + 16, "size was " + cache.estimatedSize());
+    }
+
+    @Test
+    public void testFrequentEntitySurvivesScan() {
+        EntityCache<Entity> cache = newCache(1_600, null);
+        Entity hot = new Entity(UUID.randomUUID(), 1);
+        cache.put(hot);
+        for (int i = 0; i < 10; i++) {
+            cache.getIfPresent(hot.id);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            Entity cold = new Entity(UUID.randomUUID(), 1);
+            cache.getIfPresent(cold.id);
+            cache.put(cold);
+        }
+        assertSame(hot, cache.getIfPresent(hot.id));
+    }
+
+    @Test
+    public void testLoaderOnlyRunsOnMiss() {
+        EntityCache<Entity> cache = newCache(100, null);
+        UUID id = UUID.randomUUID();
+        int[] loads = {0};
+        cache.get(id, key -> { loads[0]++; return new Entity(key, 1); });
+        cache.get(id, key -> { loads[0]++; return new Entity(key, 1); });
+        assertEquals(1, loads[0]);
+    }
+}
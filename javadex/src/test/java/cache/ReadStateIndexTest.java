@@ -0,0 +1,112 @@
+package cache;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.Aggregate;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.cache.ReadStateIndex;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadStateIndexTest {
+
+    private static final Token TOKEN = new Token("access", "refresh");
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(45, 150, 6));
+
+    @Test
+    public void testLoadBatchesReadMarkers() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        for (UUID id : mangaIds) {
+            EntityCaches.AGGREGATE.get(id, List.of());
+        }
+        UUID first = mangaIds.get(0);
+        List<UUID> chapters = orderedChapters(first);
+        markRemotely(first, chapters.get(0), chapters.get(1));
+
+        ReadStateIndex index = new ReadStateIndex(TOKEN);
+        long before = server.getRequestCount();
+        index.load(mangaIds);
+        // Aggregates are cached, so only the read markers of two batches are requested
+        assertEquals(before + 2, server.getRequestCount());
+
+        assertEquals(chapters.size(), index.getChapterCount(first));
+        assertEquals(2, index.getReadCount(first));
+        assertEquals(chapters.size() - 2, index.getUnreadCount(first));
+        assertTrue(index.isRead(first, chapters.get(1)));
+        assertFalse(index.isRead(first, chapters.get(2)));
+
+        Map<UUID, Integer> unread = index.getUnreadCounts();
+        assertEquals(150, unread.size());
+        UUID last = mangaIds.get(149);
+        assertEquals(index.getChapterCount(last), unread.get(last));
+        assertEquals(before + 2, server.getRequestCount());
+    }
+
+    @Test
+    public void testNextUnreadFollowsFurthestRead() throws Exception {
+        List<UUID> mangaIds = standIn.getMangaIds();
+        UUID manga = mangaIds.get(3);
+        List<UUID> chapters = orderedChapters(manga);
+        ReadStateIndex index = new ReadStateIndex(TOKEN);
+        // Nothing read comes back as an array
+        index.load(List.of(manga));
+        assertEquals(chapters.get(0), index.getNextUnread(manga).getId());
+
+        // A skipped chapter does not move the position back
+        markRemotely(manga, chapters.get(0), chapters.get(2));
+        index.load(List.of(manga));
+        assertEquals(chapters.get(3), index.getNextUnread(manga).getId());
+
+        index.apply(manga, chapters.get(chapters.size() - 1), true);
+        assertNull(index.getNextUnread(manga));
+        index.apply(manga, chapters.get(chapters.size() - 1), false);
+        index.apply(manga, UUID.randomUUID(), true);
+        assertEquals(chapters.get(3), index.getNextUnread(manga).getId());
+    }
+
+    @Test
+    public void testUnloadedMangaIsRejected() {
+        List<UUID> mangaIds = standIn.getMangaIds();
+        ReadStateIndex index = new ReadStateIndex(TOKEN);
+        UUID manga = mangaIds.get(0);
+        assertFalse(index.isLoaded(manga));
+        assertThrows(IllegalArgumentException.class, () -> index.getUnreadCount(manga));
+        // Changes to manga that are not loaded are ignored
+        index.apply(manga, UUID.randomUUID(), true);
+        assertFalse(index.isLoaded(manga));
+    }
+
+    private List<UUID> orderedChapters(UUID mangaId) throws Exception {
+        List<UUID> ids = new ArrayList<>();
+        List<Aggregate.ChapterEntry> entries = new ArrayList<>();
+        EntityCaches.AGGREGATE.get(mangaId, List.of()).getVolumes().forEach(volume -> entries.addAll(volume.getChapters()));
+        entries.sort((a, b) -> Double.compare(Double.parseDouble(a.getChapterNumber()), Double.parseDouble(b.getChapterNumber())));
+        entries.forEach(entry -> ids.add(entry.getId()));
+        return ids;
+    }
+
+    private void markRemotely(UUID mangaId, UUID... chapterIds) {
+        StringBuilder read = new StringBuilder();
+        for (UUID id : chapterIds) {
+            read.append(read.length() == 0 ? "" : ",").append('"').append(id).append('"');
+        }
+        HTTPRequest.post("https://api.mangadex.org/manga/" + mangaId + "/read",
+                "{\"chapterIdsRead\":[" + read + "],\"chapterIdsUnread\":[]}", Optional.of(TOKEN.getAccessToken()));
+    }
+}
@@ -0,0 +1,89 @@
+package cache;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.enums.ReadingStatus;
+import dev.kurumidisciples.javadex.internal.cache.ReadingStatusCache;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadingStatusCacheTest {
+
+    private static final Token TOKEN = new Token("access", "refresh");
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(44, 300, 1));
+
+    @Test
+    public void testLibraryCostsOneRequest() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        for (int i = 0; i < mangaIds.size(); i++) {
+            setRemotely(mangaIds.get(i), i % 3 == 0 ? ReadingStatus.COMPLETED : ReadingStatus.READING);
+        }
+        ReadingStatusCache cache = new ReadingStatusCache(TOKEN);
+        long before = server.getRequestCount();
+        for (UUID id : mangaIds) {
+            assertNotNull(cache.get(id));
+        }
+        assertEquals(ReadingStatus.COMPLETED, cache.get(mangaIds.get(0)));
+        assertEquals(100, cache.getAll(ReadingStatus.COMPLETED).size());
+        assertEquals(300, cache.getAll().size());
+        assertEquals(before + 1, server.getRequestCount());
+    }
+
+    @Test
+    public void testWritesGoThroughAndRefreshAppliesDifferences() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        ReadingStatusCache cache = new ReadingStatusCache(TOKEN).setMaxAge(null);
+        // An empty library comes back as an array
+        assertNull(cache.get(mangaIds.get(0)));
+
+        long before = server.getRequestCount();
+        cache.set(mangaIds.get(0), ReadingStatus.READING);
+        cache.set(mangaIds.get(1), ReadingStatus.PLAN_TO_READ);
+        assertEquals(ReadingStatus.READING, cache.get(mangaIds.get(0)));
+        assertEquals(before + 2, server.getRequestCount());
+
+        // Changed elsewhere, for example on the website
+        setRemotely(mangaIds.get(1), ReadingStatus.DROPPED);
+        setRemotely(mangaIds.get(2), ReadingStatus.ON_HOLD);
+        setRemotely(mangaIds.get(0), null);
+        assertEquals(ReadingStatus.PLAN_TO_READ, cache.get(mangaIds.get(1)));
+
+        Set<UUID> changed = cache.refresh();
+        assertEquals(Set.of(mangaIds.get(0), mangaIds.get(1), mangaIds.get(2)), changed);
+        assertEquals(Map.of(mangaIds.get(1), ReadingStatus.DROPPED, mangaIds.get(2), ReadingStatus.ON_HOLD), cache.getAll());
+        assertTrue(cache.refresh().isEmpty());
+    }
+
+    @Test
+    public void testStaleLibraryIsPulledAgain() throws Exception {
+        List<UUID> mangaIds = standIn.getMangaIds();
+        ReadingStatusCache cache = new ReadingStatusCache(TOKEN).setMaxAge(Duration.ofMillis(50));
+        assertNull(cache.get(mangaIds.get(0)));
+        setRemotely(mangaIds.get(0), ReadingStatus.RE_READING);
+        Thread.sleep(100);
+        assertEquals(ReadingStatus.RE_READING, cache.get(mangaIds.get(0)));
+    }
+
+    private static void setRemotely(UUID mangaId, ReadingStatus status) {
+        String body = status == null ? "{\"status\":null}" : "{\"status\":\"" + status.getStatus() + "\"}";
+        HTTPRequest.post("https://api.mangadex.org/manga/" + mangaId + "/status", body, Optional.of(TOKEN.getAccessToken()));
+    }
+}
@@ -0,0 +1,163 @@
+package cache;
+
+import dev.kurumidisciples.javadex.api.core.JavaDex;
+import dev.kurumidisciples.javadex.api.core.JavaDexBuilder;
+import dev.kurumidisciples.javadex.api.entities.MangaStatistics;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.cache.StatisticsCache;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+import com.google.gson.stream.JsonReader;
+
+import org.junit.jupiter.api.Test;
+
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatisticsCacheTest {
+
+    private static final UUID MANGA_ID = UUID.fromString("a96676e5-8ae2-425e-b549-7f15dd34a6d8");
+
+    @Test
+    public void testParsesStatistics() {
+        String json = "{\"comments\":{\"threadId\":4756728,\"repliesCount\":12},"
+                + "\"rating\":{\"average\":7.5,\"bayesian\":6.47,\"distribution\":{\"1\":0,\"7\":3,\"10\":5}},"
+                + "\"follows\":3}";
+        MangaStatistics statistics = new MangaStatistics(MANGA_ID, new JsonReader(new StringReader(json)));
+        assertEquals(MANGA_ID, statistics.getMangaId());
+        assertEquals(7.5, statistics.getAverageRating());
+        assertEquals(6.47, statistics.getBayesianRating());
+        assertEquals(3, statistics.getVotes(7));
+        assertEquals(8, statistics.getTotalVotes());
+        assertEquals(3, statistics.getFollows());
+        assertEquals(4756728L, statistics.getThreadId());
+        assertEquals(12, statistics.getCommentCount());
+
+        MangaStatistics unrated = new MangaStatistics(MANGA_ID, new JsonReader(new StringReader("{\"comments\":null,\"rating\":{\"average\":null,\"bayesian\":0,\"distribution\":{}},\"follows\":0}")));
+        assertNull(unrated.getAverageRating());
+        assertNull(unrated.getThreadId());
+        assertEquals(0, unrated.getTotalVotes());
+    }
+
+    @Test
+    public void testPageIsLoadedInBatches() throws Exception {
+        int limit = HTTPRequest.getRequestsPerMinute();
+        HTTPRequest.setRequestsPerMinute(Integer.MAX_VALUE);
+        EntityCaches.STATISTICS.invalidateAll();
+        try (StandInServer server = new StandInServer(new SyntheticData(41, 150, 1)).attach()) {
+            List<UUID> ids = new ArrayList<>();
+            server.getData().manga().forEach(manga -> ids.add(UUID.fromString(manga.get("id").getAsString())));
+            JavaDex javadex = JavaDexBuilder.createGuest();
+
+            long before = server.getRequestCount();
+            Map<UUID, MangaStatistics> statistics = javadex.retrieveStatistics(ids).complete();
+            assertEquals(before + 2, server.getRequestCount());
+            assertEquals(ids, new ArrayList<>(statistics.keySet()));
+
+            Map<UUID, MangaStatistics> again = javadex.retrieveStatistics(ids.subList(20, 120)).complete();
+            assertEquals(before + 2, server.getRequestCount());
+            assertSame(statistics.get(ids.get(20)), again.get(ids.get(20)));
+
+            EntityCaches.STATISTICS.invalidate(ids.get(0));
+            assertEquals(statistics.get(ids.get(0)).getFollows(), javadex.retrieveStatistics(ids).complete().get(ids.get(0)).getFollows());
+            assertEquals(before + 3, server.getRequestCount());
+        } finally {
+            HTTPRequest.setRequestsPerMinute(limit);
+        }
+    }
+
+    @Test
+    public void testOverlappingCallsShareLoads() throws Exception {
+        StatisticsCache cache = new StatisticsCache(1_000, Duration.ofMinutes(1));
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            ids.add(new UUID(0, i));
+        }
+        AtomicInteger requested = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        StatisticsCache.BatchLoader loader = chunk -> {
+            requested.addAndGet(chunk.size());
+            awaitQuietly(release);
+            Map<UUID, MangaStatistics> loaded = new HashMap<>();
+            for (UUID id : chunk) {
+                loaded.put(id, new MangaStatistics(id, new JsonReader(new StringReader("{\"follows\":" + id.getLeastSignificantBits() + "}"))));
+            }
+            return loaded;
+        };
+        List<CompletableFuture<Map<UUID, MangaStatistics>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            List<UUID> page = ids.subList(i * 10, i * 10 + 30);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return cache.getAll(page, loader);
+                } catch (HTTPRequestException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (int i = 0; i < futures.size(); i++) {
+            Map<UUID, MangaStatistics> page = futures.get(i).join();
+            assertEquals(30, page.size());
+            assertEquals(i * 10, page.values().iterator().next().getFollows());
+        }
+        assertEquals(60, requested.get());
+        assertEquals(60, cache.stats().getSize());
+    }
+
+    @Test
+    public void testFailedBatchFailsWaitersAndIsNotCached() throws Exception {
+        StatisticsCache cache = new StatisticsCache(1_000, Duration.ofMinutes(1));
+        List<UUID> ids = List.of(new UUID(0, 1), new UUID(0, 2));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Map<UUID, MangaStatistics>> owner = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.getAll(ids, chunk -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    throw new AssertionError("loader broke");
+                });
+            } catch (HTTPRequestException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        started.await();
+        CompletableFuture<Map<UUID, MangaStatistics>> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return cache.getAll(ids, chunk -> fail("the claimed ids are loaded by the first call"));
+            } catch (HTTPRequestException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        release.countDown();
+        assertInstanceOf(AssertionError.class, assertThrows(CompletionException.class, owner::join).getCause());
+        assertInstanceOf(AssertionError.class, assertThrows(CompletionException.class, waiter::join).getCause());
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
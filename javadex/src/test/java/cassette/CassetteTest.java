@@ -0,0 +1,88 @@
+package cassette;
+
+import dev.kurumidisciples.javadex.api.core.JavaDex;
+import dev.kurumidisciples.javadex.api.core.JavaDexBuilder;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.http.cassette.Cassette;
+import dev.kurumidisciples.javadex.internal.http.cassette.CassettePlayer;
+import dev.kurumidisciples.javadex.internal.http.cassette.CassetteRecorder;
+
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CassetteTest {
+
+    @TempDir
+    static Path directory;
+
+    @RegisterExtension
+    static final StandInExtension standIn = new StandInExtension();
+
+    @Test
+    public void testRecordThenReplayOffline() throws Exception {
+        Path file = directory.resolve("search.cassette");
+        List<Manga> live;
+        try (CassetteRecorder recorder = CassetteRecorder.start(file);
+             StandInServer server = new StandInServer(new SyntheticData(36, 30, 5)).attach()) {
+            JavaDex javadex = JavaDexBuilder.createPersonal("client").setClientSecret("secret")
+                    .setUsername("reader").setPassword("hunter2").build();
+            live = javadex.search("cassette").setLimit(25).complete();
+            javadex.close();
+            assertEquals(2, recorder.getRecorded());
+        }
+
+        String raw = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        assertFalse(raw.contains("stand-in-access"));
+        assertFalse(raw.contains("hunter2"));
+
+        try (CassettePlayer player = CassettePlayer.start(file)) {
+            List<Manga> replayed = JavaDexBuilder.createGuest().search("cassette").setLimit(25).complete();
+            assertEquals(live.size(), replayed.size());
+            for (int i = 0; i < live.size(); i++) {
+                assertEquals(live.get(i).getId(), replayed.get(i).getId());
+                assertEquals(live.get(i).getDefaultTitle(), replayed.get(i).getDefaultTitle());
+            }
+            assertThrows(RuntimeException.class, () -> JavaDexBuilder.createGuest().search("not recorded").complete());
+        }
+    }
+
+    @Test
+    public void testBodiesAreServedFromTheMapping() throws Exception {
+        Path file = directory.resolve("feed.cassette");
+        String url = "https://api.mangadex.org/chapter?limit=100&offset=0";
+        try (CassetteRecorder recorder = CassetteRecorder.start(file);
+             StandInServer server = new StandInServer(new SyntheticData(36, 4, 40)).attach()) {
+            HTTPRequest.get(url);
+            HTTPRequest.get("https://api.mangadex.org/manga/00000000-0000-4000-8000-000000000000");
+        } catch (RuntimeException expected) {
+            // the 404 for the unknown manga is recorded before the library throws
+        }
+
+        try (Cassette cassette = Cassette.open(file)) {
+            assertEquals(2, cassette.size());
+            Cassette.Interaction feed = cassette.next("GET", url);
+            assertTrue(feed.isCompressed());
+            ByteBuffer first = feed.body();
+            ByteBuffer second = cassette.body("GET", url);
+            assertTrue(first.isReadOnly());
+            assertEquals(first, second);
+            assertTrue(StandardCharsets.UTF_8.decode(first).toString().contains("\"total\":160"));
+            assertEquals(404, cassette.next("GET", "https://api.mangadex.org/manga/00000000-0000-4000-8000-000000000000").getStatus());
+            assertNull(cassette.next("GET", "https://api.mangadex.org/group"));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package entities;
+
+import dev.kurumidisciples.javadex.api.entities.Aggregate;
+
+import com.google.gson.stream.JsonReader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregateTest {
+
+    private static final UUID MANGA = UUID.fromString("a96676e5-8ae2-425e-b549-7f15dd34a6d8");
+
+    private static String chapter(String number, UUID id, UUID... others) {
+        StringBuilder json = new StringBuilder("{\"chapter\":\"" + number + "\",\"id\":\"" + id + "\",\"others\":[");
+        for (int i = 0; i < others.length; i++) {
+            json.append(i > 0 ? "," : "").append('"').append(others[i]).append('"');
+        }
+        return json.append("],\"count\":").append(others.length + 1).append('}').toString();
+    }
+
+    private static Aggregate parse(String volumes) {
+        return new Aggregate(MANGA, List.of(), new JsonReader(new StringReader("{\"result\":\"ok\",\"volumes\":{" + volumes + "}}")));
+    }
+
+    @Test
+    public void testRepeatedVolumeIsMerged() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        Aggregate aggregate = parse(
+                "\"1\":{\"volume\":\"1\",\"count\":2,\"chapters\":{\"1\":" + chapter("1", first) + ",\"2\":" + chapter("2", second) + "}},"
+                + "\"1\":{\"volume\":\"1\",\"count\":2,\"chapters\":{\"2\":" + chapter("2", other) + ",\"3\":" + chapter("3", third) + "}}");
+
+        assertEquals(1, aggregate.getVolumes().size());
+        Aggregate.Volume volume = aggregate.getVolume("1");
+        assertEquals(List.of("1", "2", "3"), volume.getChapters().stream().map(Aggregate.ChapterEntry::getChapterNumber).toList());
+        assertEquals(4, volume.getCount());
+        assertEquals(3, aggregate.getChapterCount());
+        assertEquals(List.of(first, second, third), aggregate.getChapterIds());
+        assertEquals(List.of(first, second, other, third), aggregate.getAllChapterIds());
+
+        Aggregate.ChapterEntry merged = aggregate.getChapter("2");
+        assertEquals(second, merged.getId());
+        assertEquals(List.of(other), merged.getOthers());
+        assertEquals(2, merged.getCount());
+    }
+
+    @Test
+    public void testChapterInSeveralVolumesKeepsEveryUpload() {
+        UUID first = UUID.randomUUID();
+        UUID repeated = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        Aggregate aggregate = parse(
+                "\"none\":{\"volume\":\"none\",\"count\":1,\"chapters\":{\"5\":" + chapter("5", first) + "}},"
+                + "\"2\":{\"volume\":\"2\",\"count\":2,\"chapters\":{\"5\":" + chapter("5", repeated, other) + "}}");
+
+        assertEquals(2, aggregate.getChapterCount());
+        assertEquals(List.of(first, repeated), aggregate.getChapterIds());
+        Aggregate.ChapterEntry chapter = aggregate.getChapter("5");
+        assertEquals(first, chapter.getId());
+        assertEquals(List.of(repeated, other), chapter.getOthers());
+        assertEquals(3, chapter.getCount());
+        // The volumes keep their own entries
+        assertEquals(repeated, aggregate.getVolume("2").getChapters().get(0).getId());
+    }
+}
@@ -0,0 +1,100 @@
+package entities;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.ScanlationGroup;
+import dev.kurumidisciples.javadex.api.entities.User;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.http.adapters.EntityCodecs;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityCodecsTest {
+
+    private static final UUID CHAPTER_ID = UUID.fromString("0b6b8b1a-6f3d-4fcd-9d2e-0c3b1f0b6a11");
+    private static final UUID MANGA_ID = UUID.fromString("a96676e5-8ae2-425e-b549-7f15dd34a6d8");
+    private static final UUID GROUP_ID = UUID.fromString("4f1de6a2-f0c5-4ac5-bce5-02c7dbb67deb");
+
+    private static String chapterJson() {
+        return "{\"id\":\"" + CHAPTER_ID + "\",\"type\":\"chapter\",\"attributes\":{"
+                + "\"volume\":\"3\",\"chapter\":\"21.5\",\"title\":null,\"translatedLanguage\":\"en\","
+                + "\"externalUrl\":null,\"publishAt\":\"2024-01-02T10:00:00+00:00\",\"readableAt\":\"2024-01-02T10:00:00+00:00\","
+                + "\"createdAt\":\"2024-01-01T09:00:00+00:00\",\"updatedAt\":\"2024-01-03T11:00:00+00:00\",\"pages\":19,\"version\":2},"
+                + "\"relationships\":[{\"id\":\"" + GROUP_ID + "\",\"type\":\"scanlation_group\"},"
+                + "{\"id\":\"" + MANGA_ID + "\",\"type\":\"manga\",\"attributes\":{\"title\":{\"en\":\"expanded\"}}}]}";
+    }
+
+    @Test
+    public void testChapterStreamingMatchesTree() {
+        Chapter streamed = EntityCodecs.GSON.fromJson(chapterJson(), Chapter.class);
+        Chapter tree = new Chapter(JsonParser.parseString(chapterJson()).getAsJsonObject());
+
+        for (Chapter chapter : new Chapter[] {streamed, tree}) {
+            assertEquals(CHAPTER_ID, chapter.getId());
+            assertEquals(3, chapter.getVolume().intValue());
+            assertEquals(21.5, chapter.getChapterNumber().doubleValue());
+            assertNull(chapter.getTitle());
+            assertEquals(Locale.ENGLISH, chapter.getTranslatedLanguage());
+            assertEquals(19, chapter.getPages());
+            assertEquals(2, chapter.getVersion());
+            assertEquals(11, chapter.getUpdatedAt().getHour());
+            assertEquals(MANGA_ID, chapter.getRelationshipMap().get(RelationshipType.MANGA).get(0).getId());
+            assertEquals(GROUP_ID, chapter.getRelationshipMap().get(RelationshipType.SCANLATION_GROUP).get(0).getId());
+        }
+    }
+
+    @Test
+    public void testRejectsOtherTypes() {
+        JsonObject data = JsonParser.parseString(chapterJson()).getAsJsonObject();
+        data.addProperty("type", "manga");
+        assertThrows(IllegalArgumentException.class, () -> new Chapter(data));
+    }
+
+    @Test
+    public void testMangaStreamingMatchesTree() {
+        JsonObject json = MangaProjectionTest.mangaJson();
+        Manga streamed = EntityCodecs.GSON.fromJson(json.toString(), Manga.class);
+        Manga tree = new Manga(json);
+
+        assertEquals(tree.getId(), streamed.getId());
+        assertEquals(tree.getDefaultTitle(), streamed.getDefaultTitle());
+        assertEquals(tree.getDescriptions(), streamed.getDescriptions());
+        assertEquals(tree.getAltTitles(), streamed.getAltTitles());
+        assertEquals(tree.getLinks(), streamed.getLinks());
+        assertEquals(tree.getTags(), streamed.getTags());
+        assertEquals(tree.getCreatedAt(), streamed.getCreatedAt());
+        assertEquals(tree.getYear(), streamed.getYear());
+        assertEquals(tree.getAuthor(), streamed.getAuthor());
+        assertNotNull(streamed.getAuthor());
+    }
+
+    @Test
+    public void testGroupAndUser() {
+        String group = "{\"id\":\"" + GROUP_ID + "\",\"type\":\"scanlation_group\",\"attributes\":{\"name\":\"Group\","
+                + "\"website\":null,\"focusedLanguages\":[\"en\",\"es-la\"],\"locked\":true,\"official\":false,\"inactive\":false,"
+                + "\"verified\":true,\"version\":7,\"createdAt\":\"2021-04-19T21:45:59+00:00\",\"updatedAt\":\"2023-02-01T00:00:00+00:00\"},"
+                + "\"relationships\":[]}";
+        ScanlationGroup scanlationGroup = EntityCodecs.GSON.fromJson(group, ScanlationGroup.class);
+        assertEquals("Group", scanlationGroup.getName());
+        assertNull(scanlationGroup.getWebsite());
+        assertEquals(2, scanlationGroup.getFocusedLanguage().size());
+        assertTrue(scanlationGroup.isLocked());
+        assertEquals(7, scanlationGroup.getVersion());
+
+        String user = "{\"result\":\"ok\",\"data\":{\"id\":\"" + GROUP_ID + "\",\"type\":\"user\","
+                + "\"attributes\":{\"username\":\"reader\",\"roles\":[\"ROLE_MEMBER\",\"ROLE_NEW\"],\"version\":3},\"relationships\":[]}}";
+        User wrapped = new User(JsonParser.parseString(user).getAsJsonObject());
+        assertEquals("reader", wrapped.getUsername());
+        assertEquals(User.Role.MEMBER, wrapped.getRoles().get(0));
+        assertEquals(User.Role.UNKNOWN, wrapped.getRoles().get(1));
+        assertEquals(3, wrapped.getVersion());
+    }
+}
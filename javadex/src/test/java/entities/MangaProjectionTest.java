@@ -0,0 +1,86 @@
+package entities;
+
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.enums.MangaProjection;
+import dev.kurumidisciples.javadex.internal.utils.Lazy;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MangaProjectionTest {
+
+    private static final UUID ID = UUID.fromString("a96676e5-8ae2-425e-b549-7f15dd34a6d8");
+
+    static JsonObject mangaJson() {
+        return JsonParser.parseString("{\"id\":\"" + ID + "\",\"type\":\"manga\",\"attributes\":{"
+                + "\"title\":{\"en\":\"Komi-san wa Komyushou Desu.\"},"
+                + "\"altTitles\":[{\"ja\":\"古見さんは、コミュ症です。\"},{\"en\":\"Komi Can't Communicate\"}],"
+                + "\"description\":{\"en\":\"Komi-san is a beautiful girl.\",\"fr\":\"Komi-san est belle.\"},"
+                + "\"isLocked\":true,\"links\":{\"al\":\"97852\",\"mu\":\"126287\"},\"originalLanguage\":\"ja\","
+                + "\"lastVolume\":null,\"lastChapter\":null,\"publicationDemographic\":\"shounen\",\"status\":\"ongoing\","
+                + "\"year\":2016,\"contentRating\":\"safe\",\"tags\":[{\"id\":\"423e2eae-a7a2-4a8b-ac03-a8351462d71d\",\"type\":\"tag\"}],"
+                + "\"state\":\"published\",\"chapterNumbersResetOnNewVolume\":false,"
+                + "\"createdAt\":\"2018-11-21T04:53:12+00:00\",\"updatedAt\":\"2024-05-02T16:25:06+00:00\",\"version\":41,"
+                + "\"availableTranslatedLanguages\":[\"en\",\"fr\"],\"latestUploadedChapter\":\"" + UUID.randomUUID() + "\"},"
+                + "\"relationships\":[{\"id\":\"" + UUID.randomUUID() + "\",\"type\":\"author\"},"
+                + "{\"id\":\"" + UUID.randomUUID() + "\",\"type\":\"artist\"}]}").getAsJsonObject();
+    }
+
+    @Test
+    public void testFullDecodesLazily() throws Exception {
+        Manga manga = new Manga(mangaJson());
+        assertEquals(MangaProjection.FULL, manga.getProjection());
+        Lazy<?> description = lazyField(manga, "description");
+        Lazy<?> tags = lazyField(manga, "tags");
+        assertFalse(description.isComputed());
+        assertFalse(tags.isComputed());
+        assertEquals("Komi-san est belle.", manga.getDescription(Locale.FRENCH));
+        assertTrue(description.isComputed());
+        assertFalse(tags.isComputed());
+        assertEquals(2, manga.getAltTitles().size());
+        assertEquals(2, manga.getAvailableTranslatedLanguages().size());
+        assertEquals(2018, manga.getCreatedAt().getYear());
+        assertEquals(41, manga.getVersion());
+        assertTrue(manga.isLocked());
+        assertSame(manga.getTags(), manga.getTags());
+    }
+
+    private static Lazy<?> lazyField(Manga manga, String name) throws ReflectiveOperationException {
+        Field field = Manga.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return (Lazy<?>) field.get(manga);
+    }
+
+    @Test
+    public void testTitlesProjection() {
+        Manga manga = new Manga(mangaJson(), MangaProjection.TITLES);
+        assertEquals(ID, manga.getId());
+        assertEquals("Komi-san wa Komyushou Desu.", manga.getDefaultTitle());
+        assertEquals("Komi Can't Communicate", manga.getAltTitles().get(Locale.ENGLISH).get(0));
+        assertNull(manga.getDescriptions());
+        assertNull(manga.getCreatedAt());
+        assertNull(manga.getRelationshipMap());
+        assertFalse(manga.isLocked());
+        IllegalStateException missing = assertThrows(IllegalStateException.class, manga::retrieveAuthor);
+        assertTrue(missing.getMessage().contains("author"));
+        assertThrows(IllegalStateException.class, manga::retrieveCurrentCover);
+    }
+
+    @Test
+    public void testIdOnlyProjection() {
+        Manga manga = new Manga(mangaJson(), MangaProjection.ID_ONLY);
+        assertEquals(ID, manga.getId());
+        assertEquals(41, manga.getVersion());
+        assertNull(manga.getDefaultTitle());
+        assertNull(manga.getAltTitles());
+        assertNull(manga.getTags());
+    }
+}
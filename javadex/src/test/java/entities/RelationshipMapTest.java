@@ -0,0 +1,85 @@
+package entities;
+
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipData;
+import dev.kurumidisciples.javadex.api.entities.relationship.RelationshipMap;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipRelated;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RelationshipMapTest {
+
+    private static final UUID MANGA = UUID.fromString("a1c7c817-4e59-43b7-9365-09675a149a6f");
+    private static final UUID GROUP_A = UUID.fromString("f9c33607-9180-4ba6-b85c-e4b5faee7192");
+    private static final UUID GROUP_B = UUID.fromString("4f1de6a2-f0c5-4ac5-bce5-02c7dbb67deb");
+    private static final UUID USER = UUID.fromString("d2ae45e0-b5e2-4e7f-a688-17925c2d7d6b");
+    private static final UUID SEQUEL = UUID.fromString("32d76d19-8a05-4db0-9fc2-e0b0648fe9d0");
+    private static final UUID ODD = UUID.fromString("0f1e2d3c-4b5a-4968-8776-655443322110");
+
+    private static RelationshipMap parse(String json) {
+        return new RelationshipMap(JsonParser.parseString(json).getAsJsonArray());
+    }
+
+    @Test
+    public void testGroupsByTypeInResponseOrder() {
+        RelationshipMap map = parse("["
+                + "{\"id\":\"" + GROUP_A + "\",\"type\":\"scanlation_group\"},"
+                + "{\"id\":\"" + MANGA + "\",\"type\":\"manga\",\"attributes\":{\"title\":{\"en\":\"x\"}}},"
+                + "{\"id\":\"" + USER + "\",\"type\":\"user\"},"
+                + "{\"id\":\"" + GROUP_B + "\",\"type\":\"scanlation_group\"}]");
+
+        assertEquals(3, map.size());
+        assertEquals(List.of(new RelationshipData(GROUP_A), new RelationshipData(GROUP_B)), map.get(RelationshipType.SCANLATION_GROUP));
+        assertEquals(MANGA, map.get(RelationshipType.MANGA).get(0).getId());
+        assertEquals(RelationshipRelated.UNKNOWN, map.get(RelationshipType.MANGA).get(0).getRelated());
+        assertNull(map.get(RelationshipType.AUTHOR));
+        assertFalse(map.containsKey(RelationshipType.AUTHOR));
+
+        assertEquals(2, map.count(RelationshipType.SCANLATION_GROUP));
+        assertEquals(0, map.count(RelationshipType.COVER_ART));
+        assertEquals(USER, map.getFirstId(RelationshipType.USER));
+        assertNull(map.getFirstId(RelationshipType.LEADER));
+        assertTrue(map.contains(RelationshipType.SCANLATION_GROUP, GROUP_B));
+        assertFalse(map.contains(RelationshipType.MANGA, GROUP_B));
+        assertEquals(2, map.getIds(RelationshipType.SCANLATION_GROUP).size());
+
+        List<RelationshipType> types = new ArrayList<>();
+        for (Map.Entry<RelationshipType, List<RelationshipData>> entry : map.entrySet()) {
+            types.add(entry.getKey());
+        }
+        assertEquals(List.of(RelationshipType.SCANLATION_GROUP, RelationshipType.MANGA, RelationshipType.USER), types);
+        assertThrows(UnsupportedOperationException.class, () -> map.put(RelationshipType.AUTHOR, List.of()));
+    }
+
+    @Test
+    public void testRelatedUnknownTypesAndMissingIds() {
+        JsonArray array = JsonParser.parseString("["
+                + "{\"id\":\"" + SEQUEL + "\",\"type\":\"manga\",\"related\":\"sequel\"},"
+                + "{\"id\":\"" + MANGA + "\",\"type\":\"manga\",\"related\":\"not_a_relation\"},"
+                + "{\"id\":\"" + ODD + "\",\"type\":\"creator\"},"
+                + "{\"type\":\"author\"}]").getAsJsonArray();
+        RelationshipMap map = new RelationshipMap(array);
+
+        List<RelationshipData> manga = map.get(RelationshipType.MANGA);
+        assertEquals(RelationshipRelated.SEQUEL, manga.get(0).getRelated());
+        assertEquals(RelationshipRelated.UNKNOWN, manga.get(1).getRelated());
+        assertThrows(IndexOutOfBoundsException.class, () -> manga.get(2));
+        // Types this library does not know stay reachable under the null key
+        assertEquals(ODD, map.get(null).get(0).getId());
+        assertFalse(map.containsKey(RelationshipType.AUTHOR));
+        assertEquals(2, map.size());
+
+        assertTrue(parse("[]").isEmpty());
+        assertEquals(0, parse("[]").size());
+    }
+}
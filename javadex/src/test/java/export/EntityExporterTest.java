@@ -0,0 +1,145 @@
+package export;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.internal.export.EntityExporter;
+import dev.kurumidisciples.javadex.internal.export.ExportCompression;
+import dev.kurumidisciples.javadex.internal.export.ExportFormat;
+import dev.kurumidisciples.javadex.internal.export.ExportSchema;
+import dev.kurumidisciples.javadex.internal.export.RowFileReader;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import standin.SyntheticData;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityExporterTest {
+
+    private static List<Chapter> chapters;
+
+    @BeforeAll
+    public static void load() {
+        chapters = new ArrayList<>();
+        for (JsonObject data : new SyntheticData(39, 30, 50).chapters()) {
+            chapters.add(new Chapter(data));
+        }
+    }
+
+    @Test
+    public void testRollingGzipNdjson(@TempDir Path dir) throws Exception {
+        EntityExporter<Chapter> exporter = new EntityExporter<>(dir, "chapters", ExportSchema.CHAPTER, ExportFormat.NDJSON)
+                .setCompression(ExportCompression.GZIP)
+                .setMaxFileBytes(16 * 1024)
+                .setQueueCapacity(16);
+        chapters.forEach(exporter);
+        exporter.close();
+
+        assertEquals(chapters.size(), exporter.getRecords());
+        List<Path> files = exporter.getFiles();
+        assertTrue(files.size() > 1, "files should roll");
+        assertEquals("chapters-00000.ndjson.gz", files.get(0).getFileName().toString());
+        try (Stream<Path> listing = Files.list(dir)) {
+            assertEquals(files.size(), listing.count(), "no part files are left behind");
+        }
+
+        List<JsonObject> lines = new ArrayList<>();
+        for (Path file : files) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                reader.lines().forEach(line -> lines.add(JsonParser.parseString(line).getAsJsonObject()));
+            }
+        }
+        assertEquals(chapters.size(), lines.size());
+        for (int i = 0; i < chapters.size(); i++) {
+            Chapter chapter = chapters.get(i);
+            JsonObject line = lines.get(i);
+            assertEquals(chapter.getId().toString(), line.get("id").getAsString());
+            assertEquals(chapter.getPages(), line.get("pages").getAsInt());
+            assertEquals(chapter.getCreatedAt(), OffsetDateTime.parse(line.get("createdAt").getAsString()));
+            assertTrue(line.has("title"));
+        }
+    }
+
+    @Test
+    public void testRowsRoundTrip(@TempDir Path dir) throws Exception {
+        try (EntityExporter<Chapter> exporter = new EntityExporter<>(dir, "chapters", ExportSchema.CHAPTER, ExportFormat.ROWS)) {
+            chapters.forEach(exporter);
+        }
+        Path file = dir.resolve("chapters-00000.rows");
+        List<String> columns;
+        List<Object[]> rows = new ArrayList<>();
+        try (RowFileReader reader = RowFileReader.open(file)) {
+            assertEquals("chapter", reader.getSchemaName());
+            columns = reader.getColumnNames();
+            for (Object[] row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        assertEquals(chapters.size(), rows.size());
+        for (int i = 0; i < chapters.size(); i++) {
+            Chapter chapter = chapters.get(i);
+            Object[] row = rows.get(i);
+            assertEquals(chapter.getId(), row[columns.indexOf("id")]);
+            assertEquals((long) chapter.getPages(), row[columns.indexOf("pages")]);
+            assertEquals(chapter.getCreatedAt().toInstant(), ((OffsetDateTime) row[columns.indexOf("createdAt")]).toInstant());
+            assertEquals(chapter.getTranslatedLanguage().getLanguage(), row[columns.indexOf("translatedLanguage")]);
+        }
+
+        long ndjsonBytes;
+        try (EntityExporter<Chapter> exporter = new EntityExporter<>(dir, "json", ExportSchema.CHAPTER, ExportFormat.NDJSON)) {
+            chapters.forEach(exporter);
+        }
+        ndjsonBytes = Files.size(dir.resolve("json-00000.ndjson"));
+        assertTrue(Files.size(file) < ndjsonBytes / 2, "rows should be far smaller than NDJSON");
+    }
+
+    @Test
+    public void testWriterFailureSurfaces(@TempDir Path dir) throws Exception {
+        Path notADirectory = Files.createFile(dir.resolve("taken"));
+        EntityExporter<Chapter> exporter = new EntityExporter<>(notADirectory, "chapters", ExportSchema.CHAPTER, ExportFormat.NDJSON)
+                .setQueueCapacity(1);
+        assertThrows(UncheckedIOException.class, () -> chapters.forEach(exporter));
+        assertThrows(IOException.class, exporter::close);
+        assertThrows(IllegalStateException.class, () -> exporter.accept(chapters.get(0)));
+    }
+
+    @Test
+    public void testFailedFileIsDeleted(@TempDir Path dir) throws Exception {
+        Chapter broken = chapters.get(chapters.size() - 10);
+        ExportSchema<Chapter> schema = new ExportSchema<Chapter>("failing")
+                .addUuid("id", Chapter::getId)
+                .addString("title", chapter -> {
+                    if (chapter == broken) throw new IllegalStateException("broken chapter");
+                    return chapter.getTitle();
+                });
+        EntityExporter<Chapter> exporter = new EntityExporter<>(dir, "chapters", schema, ExportFormat.NDJSON)
+                .setMaxFileBytes(16 * 1024)
+                .setQueueCapacity(1);
+        assertThrows(UncheckedIOException.class, () -> chapters.forEach(exporter));
+        assertThrows(IOException.class, exporter::close);
+
+        // The files completed before the failure stay, the one being written is gone
+        assertFalse(exporter.getFiles().isEmpty());
+        try (Stream<Path> listed = Files.list(dir)) {
+            List<Path> left = listed.sorted().toList();
+            assertEquals(exporter.getFiles(), left);
+        }
+    }
+}
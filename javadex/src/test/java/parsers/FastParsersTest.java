@@ -0,0 +1,72 @@
+package parsers;
+
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.enums.manga.LinkType;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipRelated;
+import dev.kurumidisciples.javadex.internal.parsers.TimestampParser;
+import dev.kurumidisciples.javadex.internal.parsers.UuidParser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FastParsersTest {
+
+    @Test
+    public void testUuidMatchesJdk() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID expected = UUID.randomUUID();
+            assertEquals(expected, UuidParser.parse(expected.toString()));
+            assertEquals(expected, UuidParser.parse(expected.toString().toUpperCase()));
+            byte[] bytes = ("\"id\":\"" + expected + "\"").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, UuidParser.parse(bytes, 6));
+        }
+        assertEquals(UUID.fromString("1-0-1-0-2"), UuidParser.parse("1-0-1-0-2"));
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.parse("a96676e5-8ae2-425e-b549-7f15dd34a6dg"));
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.parse("not a uuid"));
+    }
+
+    @Test
+    public void testTimestampMatchesJdk() {
+        String[] samples = {
+                "2018-11-21T04:53:12+00:00",
+                "2024-02-29T23:59:59+09:30",
+                "1969-12-31T23:59:59-05:00",
+                "2023-06-01T12:00:00Z",
+                "2023-06-01T12:00:00.123+00:00",
+                "2023-06-01T12:00:00.123456789Z",
+                "2023-06-01T12:00+02:00",
+        };
+        for (String sample : samples) {
+            OffsetDateTime expected = OffsetDateTime.parse(sample);
+            assertEquals(expected, TimestampParser.parse(sample), sample);
+            assertEquals(expected.toEpochSecond(), TimestampParser.parseEpochSecond(sample), sample);
+            assertEquals(expected.toInstant().toEpochMilli(), TimestampParser.parseEpochMilli(sample), sample);
+        }
+        assertThrows(DateTimeParseException.class, () -> TimestampParser.parse("2023-02-29T12:00:00+00:00"));
+        assertThrows(DateTimeParseException.class, () -> TimestampParser.parseEpochSecond("2023-13-01T12:00:00+00:00"));
+    }
+
+    @Test
+    public void testEnumIndexes() {
+        assertEquals(Locale.ENGLISH, Locale.getByLanguage("en"));
+        assertEquals(Locale.UNKNOWN, Locale.getByLanguage("xx"));
+        assertEquals(Locale.UNKNOWN, Locale.getByLanguage(null));
+        assertEquals(LinkType.UNKNOWN, LinkType.getByType("nope"));
+        assertEquals(RelationshipRelated.UNKNOWN, RelationshipRelated.fromString(null));
+        assertEquals(Manga.Tag.ROMANCE, Manga.Tag.getById(UUID.fromString("423e2eae-a7a2-4a8b-ac03-a8351462d71d")));
+        assertEquals(Manga.Tag.SCI_FI, Manga.Tag.getByName("sci-fi"));
+        assertNull(Manga.Tag.getByName(null));
+        for (LinkType type : LinkType.values()) {
+            if (type != LinkType.UNKNOWN) {
+                assertEquals(type, LinkType.getByType(type.getType()));
+            }
+        }
+    }
+}
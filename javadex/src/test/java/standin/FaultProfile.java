@@ -0,0 +1,103 @@
+package standin;
+
+/**
+ * Latency, failure injection and rate limiting applied by {@link StandInServer}.
+ * <p>Faults are drawn per request: first the rate limit window is checked, then a 429 and a 5xx are injected
+ * with the configured probabilities, and whatever is served is delayed by the latency distribution.</p>
+ */
+public final class FaultProfile {
+
+    private final LatencyDistribution latency;
+    private final double tooManyRequestsRate;
+    private final double serverErrorRate;
+    private final int requestsPerWindow;
+    private final long windowMillis;
+
+    private FaultProfile(Builder builder) {
+        this.latency = builder.latency;
+        this.tooManyRequestsRate = builder.tooManyRequestsRate;
+        this.serverErrorRate = builder.serverErrorRate;
+        this.requestsPerWindow = builder.requestsPerWindow;
+        this.windowMillis = builder.windowMillis;
+    }
+
+    /**
+     * @return a profile with no latency, no faults and no rate limit.
+     */
+    public static FaultProfile none() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getTooManyRequestsRate() {
+        return tooManyRequestsRate;
+    }
+
+    public double getServerErrorRate() {
+        return serverErrorRate;
+    }
+
+    public int getRequestsPerWindow() {
+        return requestsPerWindow;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public static final class Builder {
+
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double tooManyRequestsRate;
+        private double serverErrorRate;
+        private int requestsPerWindow;
+        private long windowMillis = 1_000;
+
+        private Builder() {
+        }
+
+        public Builder setLatency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * @param rate the probability in {@code [0, 1]} that a request is answered with 429, regardless of the window.
+         */
+        public Builder setTooManyRequestsRate(double rate) {
+            this.tooManyRequestsRate = rate;
+            return this;
+        }
+
+        /**
+         * @param rate the probability in {@code [0, 1]} that a request is answered with 500 or 503.
+         */
+        public Builder setServerErrorRate(double rate) {
+            this.serverErrorRate = rate;
+            return this;
+        }
+
+        /**
+         * Enforces a fixed-window rate limit and sends the {@code X-RateLimit-*} headers MangaDex sends.
+         *
+         * @param requests the requests allowed per window, zero for no limit.
+         * @param windowMillis the window length.
+         */
+        public Builder setRateLimit(int requests, long windowMillis) {
+            this.requestsPerWindow = requests;
+            this.windowMillis = windowMillis;
+            return this;
+        }
+
+        public FaultProfile build() {
+            return new FaultProfile(this);
+        }
+    }
+}
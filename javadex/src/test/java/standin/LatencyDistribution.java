@@ -0,0 +1,37 @@
+package standin;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * How long the stand-in server waits before answering a request.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @return the next delay in milliseconds.
+     */
+    long nextMillis();
+
+    static LatencyDistribution none() {
+        return () -> 0;
+    }
+
+    static LatencyDistribution fixed(long millis) {
+        return () -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+    }
+
+    /**
+     * A long-tailed distribution, the usual shape of API latencies.
+     *
+     * @param medianMillis the median delay.
+     * @param sigma the spread of the underlying normal distribution; 0.5 gives a p99 of roughly 3x the median.
+     */
+    static LatencyDistribution logNormal(double medianMillis, double sigma) {
+        return () -> Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
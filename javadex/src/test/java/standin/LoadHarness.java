@@ -0,0 +1,154 @@
+package standin;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a workload from several threads and reports throughput and latency percentiles.
+ * <p>Each thread runs the workload back to back until it has done its share of the operations. Latencies are kept
+ * per thread and merged at the end, so recording adds no contention to the measured path.</p>
+ */
+public final class LoadHarness {
+
+    private final int threads;
+    private final int operations;
+    private final int warmup;
+
+    /**
+     * @param threads how many threads run the workload concurrently.
+     * @param operations how many measured operations to run in total.
+     * @param warmup how many unmeasured operations each thread runs first.
+     */
+    public LoadHarness(int threads, int operations, int warmup) {
+        this.threads = threads;
+        this.operations = operations;
+        this.warmup = warmup;
+    }
+
+    /**
+     * Runs the workload.
+     *
+     * @param workload one operation, for example a search through {@code JavaDex}.
+     * @return the report.
+     * @throws InterruptedException if interrupted while waiting for the threads.
+     */
+    public Report run(Callable<?> workload) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long[][] latencies = new long[threads][];
+        @SuppressWarnings("unchecked")
+        Map<String, Integer>[] errors = new Map[threads];
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            int share = operations / threads + (t < operations % threads ? 1 : 0);
+            pool.execute(() -> {
+                long[] recorded = new long[share];
+                Map<String, Integer> failures = new TreeMap<>();
+                try {
+                    for (int i = 0; i < warmup; i++) {
+                        call(workload, null);
+                    }
+                    ready.countDown();
+                    start.await();
+                    for (int i = 0; i < share; i++) {
+                        long begin = System.nanoTime();
+                        call(workload, failures);
+                        recorded[i] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latencies[thread] = recorded;
+                    errors[thread] = failures;
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        Map<String, Integer> failures = new TreeMap<>();
+        for (Map<String, Integer> perThread : errors) {
+            perThread.forEach((type, count) -> failures.merge(type, count, Integer::sum));
+        }
+        return new Report(all, elapsed, failures);
+    }
+
+    private static void call(Callable<?> workload, Map<String, Integer> failures) {
+        try {
+            workload.call();
+        } catch (Exception e) {
+            if (failures != null) {
+                failures.merge(e.getClass().getSimpleName(), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * The outcome of a run. Failed operations count towards throughput and latency like successful ones.
+     */
+    public static final class Report {
+
+        private final long[] sortedNanos;
+        private final long elapsedNanos;
+        private final Map<String, Integer> failures;
+
+        private Report(long[] sortedNanos, long elapsedNanos, Map<String, Integer> failures) {
+            this.sortedNanos = sortedNanos;
+            this.elapsedNanos = elapsedNanos;
+            this.failures = failures;
+        }
+
+        public int getOperations() {
+            return sortedNanos.length;
+        }
+
+        public double getThroughput() {
+            return sortedNanos.length / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * @param percentile in {@code [0, 100]}.
+         * @return the latency at the percentile in milliseconds, by the nearest-rank method.
+         */
+        public double getLatencyMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sortedNanos.length);
+            return sortedNanos[Math.max(0, Math.min(sortedNanos.length - 1, rank - 1))] / 1e6;
+        }
+
+        /**
+         * @return failed operations by exception type.
+         */
+        public Map<String, Integer> getFailures() {
+            return failures;
+        }
+
+        public int getFailureCount() {
+            return failures.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d ops in %.2f s, %.1f ops/s, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms, failures %s",
+                    getOperations(), elapsedNanos / 1e9, getThroughput(), getLatencyMillis(50), getLatencyMillis(90),
+                    getLatencyMillis(99), getLatencyMillis(100), failures);
+        }
+    }
+}
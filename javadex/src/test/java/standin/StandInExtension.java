@@ -0,0 +1,106 @@
+package standin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+
+/**
+ * Runs tests against a {@link StandInServer}: lifts the library's request limit, clears the entity caches and
+ * attaches a server over the given data, then undoes all of it, restoring the limit that was set before.
+ * <p>Registered on a static field the server lives for the whole class, on an instance field it is started fresh
+ * for every test:</p>
+ * <pre>{@code
+ * @RegisterExtension
+ * final StandInExtension standIn = new StandInExtension(new SyntheticData(44, 300, 1));
+ * }</pre>
+ * <p>Without data only the limit and the caches are handled, for tests that start their own servers.</p>
+ */
+public final class StandInExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private final SyntheticData data;
+    private boolean perClass;
+    private int previousLimit;
+    private StandInServer server;
+    private List<UUID> mangaIds;
+
+    /**
+     * Handles the request limit and the caches only.
+     */
+    public StandInExtension() {
+        this(null);
+    }
+
+    /**
+     * @param data the catalog the server serves, or {@code null} to start no server.
+     */
+    public StandInExtension(SyntheticData data) {
+        this.data = data;
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        perClass = true;
+        start();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        stop();
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws Exception {
+        if (!perClass) start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (!perClass) stop();
+    }
+
+    /**
+     * @return the attached server.
+     * @throws IllegalStateException if the extension was created without data.
+     */
+    public StandInServer getServer() {
+        if (server == null) throw new IllegalStateException("No stand-in server is running");
+        return server;
+    }
+
+    /**
+     * @return the ids of the seeded manga, in the order of {@link SyntheticData#manga()}.
+     */
+    public List<UUID> getMangaIds() {
+        getServer();
+        return mangaIds;
+    }
+
+    private void start() throws Exception {
+        previousLimit = HTTPRequest.getRequestsPerMinute();
+        HTTPRequest.setRequestsPerMinute(Integer.MAX_VALUE);
+        EntityCaches.invalidateAll();
+        if (data != null) {
+            server = new StandInServer(data).attach();
+            List<UUID> ids = new ArrayList<>();
+            data.manga().forEach(manga -> ids.add(UUID.fromString(manga.get("id").getAsString())));
+            mangaIds = Collections.unmodifiableList(ids);
+        }
+    }
+
+    private void stop() {
+        if (server != null) server.close();
+        server = null;
+        EntityCaches.invalidateAll();
+        HTTPRequest.setRequestsPerMinute(previousLimit);
+    }
+}
@@ -0,0 +1,836 @@
+package standin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+
+/**
+ * A local stand-in for the MangaDex API, its auth server and its image hosts, backed by {@link SyntheticData}.
+ * <p>{@link #attach()} routes every request the library sends to {@code *.mangadex.org} or {@code *.mangadex.network}
+ * to this server instead, so {@code JavaDex} can be driven unchanged. Image downloads through
+ * {@code PageProxy} and {@code CoverProxy} open their own connections and are not redirected; fetch
+ * {@link #url(String)} directly to load-test the image routes.</p>
+ * <p>Endpoints under {@code /user} and the follow and read marker routes require a bearer token, which the token
+ * endpoint hands out for any credentials.</p>
+ */
+public final class StandInServer implements AutoCloseable {
+
+    static {
+        // Headers and body go out in separate writes; without TCP_NODELAY delayed ACKs add ~40 ms per response.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private static final int MAX_WINDOW = 10_000;
+    private static final int MAX_ARRAY = 100;
+    private static final int MAX_PAGE = 100;
+    /** the followed feed pages like the real one, up to 500 chapters */
+    private static final int MAX_FEED_PAGE = 500;
+    private static final byte[] IMAGE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+    private final SyntheticData data;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Interceptor redirect;
+    private volatile FaultProfile faults = FaultProfile.none();
+
+    private final Set<UUID> followedManga = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> followedGroups = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<UUID>> readMarkers = new ConcurrentHashMap<>();
+    private final Map<UUID, String> readingStatuses = new ConcurrentHashMap<>();
+    private final Map<UUID, JsonObject> lists = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Set<UUID> followedLists = ConcurrentHashMap.newKeySet();
+    private final UUID self;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private volatile long windowStart = System.currentTimeMillis();
+
+    /**
+     * Starts a server on a free loopback port.
+     *
+     * @param data the catalog to serve.
+     * @throws IOException if the server cannot bind.
+     */
+    public StandInServer(SyntheticData data) throws IOException {
+        this.data = data;
+        this.self = UUID.nameUUIDFromBytes("stand-in-self".getBytes(StandardCharsets.UTF_8));
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        int port = server.getAddress().getPort();
+        this.redirect = chain -> {
+            HttpUrl url = chain.request().url();
+            if (!url.host().endsWith("mangadex.org") && !url.host().endsWith("mangadex.network")) {
+                return chain.proceed(chain.request());
+            }
+            HttpUrl local = url.newBuilder().scheme("http").host("127.0.0.1").port(port).build();
+            return chain.proceed(chain.request().newBuilder().url(local).build());
+        };
+    }
+
+    /**
+     * Routes the library's requests to this server until {@link #close()}.
+     *
+     * @return this server.
+     */
+    public StandInServer attach() {
+        HTTPRequest.addInterceptor(redirect);
+        return this;
+    }
+
+    public void setFaults(FaultProfile faults) {
+        this.faults = faults;
+        windowCount.set(0);
+        windowStart = System.currentTimeMillis();
+    }
+
+    public SyntheticData getData() {
+        return data;
+    }
+
+    /**
+     * @return the id of the user the bearer tokens belong to.
+     */
+    public UUID getSelfId() {
+        return self;
+    }
+
+    /**
+     * Creates a custom list owned by the token holder.
+     *
+     * @param name the name of the list.
+     * @param visible whether the list is public.
+     * @param mangaIds the titles of the list, in order.
+     * @return the id of the list.
+     */
+    public UUID addList(String name, boolean visible, List<UUID> mangaIds) {
+        UUID id = UUID.nameUUIDFromBytes(("stand-in-list-" + lists.size()).getBytes(StandardCharsets.UTF_8));
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("name", name);
+        attributes.addProperty("visibility", visible ? "public" : "private");
+        attributes.addProperty("version", 1);
+        JsonArray relationships = new JsonArray();
+        for (UUID mangaId : mangaIds) {
+            relationships.add(relationship(mangaId, "manga"));
+        }
+        relationships.add(relationship(self, "user"));
+        JsonObject list = new JsonObject();
+        list.addProperty("id", id.toString());
+        list.addProperty("type", "custom_list");
+        list.add("attributes", attributes);
+        list.add("relationships", relationships);
+        lists.put(id, list);
+        return id;
+    }
+
+    /**
+     * @param path an absolute path such as {@code /manga}.
+     * @return the URL of the path on this server.
+     */
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    public long getServerErrorCount() {
+        return serverErrors.get();
+    }
+
+    @Override
+    public void close() {
+        HTTPRequest.removeInterceptor(redirect);
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            FaultProfile profile = faults;
+            sleep(profile.getLatency().nextMillis());
+            if (!admit(exchange, profile)) {
+                throttled.incrementAndGet();
+                error(exchange, 429, "Too Many Requests", "You have been rate limited");
+                return;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < profile.getTooManyRequestsRate()) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().set("X-RateLimit-Retry-After", String.valueOf(System.currentTimeMillis() / 1000 + 1));
+                error(exchange, 429, "Too Many Requests", "Injected rate limit");
+                return;
+            }
+            if (random.nextDouble() < profile.getServerErrorRate()) {
+                serverErrors.incrementAndGet();
+                int status = random.nextBoolean() ? 500 : 503;
+                error(exchange, status, status == 500 ? "Internal Server Error" : "Service Unavailable", "Injected failure");
+                return;
+            }
+            route(exchange);
+        } catch (RuntimeException e) {
+            error(exchange, 500, "Internal Server Error", String.valueOf(e.getMessage()));
+        }
+    }
+
+    /** Counts the request against the fixed window and sets the rate limit headers. */
+    private boolean admit(HttpExchange exchange, FaultProfile profile) {
+        int limit = profile.getRequestsPerWindow();
+        if (limit <= 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (windowCount) {
+            if (now - windowStart >= profile.getWindowMillis()) {
+                windowStart = now;
+                windowCount.set(0);
+            }
+        }
+        int used = windowCount.incrementAndGet();
+        long retryAfter = (windowStart + profile.getWindowMillis()) / 1000 + 1;
+        exchange.getResponseHeaders().set("X-RateLimit-Limit", String.valueOf(limit));
+        exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(Math.max(0, limit - used)));
+        exchange.getResponseHeaders().set("X-RateLimit-Retry-After", String.valueOf(retryAfter));
+        return used <= limit;
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().replaceAll("^/+|/+$", "").split("/");
+        Map<String, List<String>> query = query(exchange.getRequestURI().getRawQuery());
+        for (Map.Entry<String, List<String>> parameter : query.entrySet()) {
+            if (parameter.getValue().size() > MAX_ARRAY) {
+                error(exchange, 400, "Bad Request", parameter.getKey() + " takes at most " + MAX_ARRAY + " values");
+                return;
+            }
+        }
+        switch (path[0]) {
+            case "manga":
+                manga(exchange, method, path, query);
+                break;
+            case "chapter":
+                if (path.length == 1) {
+                    collection(exchange, filter(data.chapters(), query, "manga"), query);
+                } else {
+                    entity(exchange, data.chapter(parseId(path[1])));
+                }
+                break;
+            case "group":
+                if (path.length == 1) {
+                    collection(exchange, filter(data.groups(), query, null), query);
+                } else if (path.length == 3 && "follow".equals(path[2])) {
+                    if (authorized(exchange)) {
+                        if ("DELETE".equals(method)) {
+                            followedGroups.remove(parseId(path[1]));
+                        } else {
+                            followedGroups.add(parseId(path[1]));
+                        }
+                        json(exchange, 200, ok());
+                    }
+                } else {
+                    entity(exchange, data.group(parseId(path[1])));
+                }
+                break;
+            case "cover":
+                if (path.length == 1) {
+                    collection(exchange, filter(data.covers(), query, "manga[]"), query);
+                } else {
+                    entity(exchange, data.cover(parseId(path[1])));
+                }
+                break;
+            case "author":
+                entity(exchange, path.length > 1 ? data.author(parseId(path[1])) : null);
+                break;
+            case "statistics":
+                statistics(exchange, query);
+                break;
+            case "at-home":
+                atHome(exchange, path);
+                break;
+            case "list":
+                list(exchange, method, path, query);
+                break;
+            case "user":
+                user(exchange, method, path, query);
+                break;
+            case "realms":
+                token(exchange);
+                break;
+            case "data":
+            case "data-saver":
+            case "covers":
+                send(exchange, 200, "image/png", IMAGE);
+                break;
+            default:
+                error(exchange, 404, "Not Found", "No route for " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private void manga(HttpExchange exchange, String method, String[] path, Map<String, List<String>> query) throws IOException {
+        if (path.length == 1) {
+            collection(exchange, filter(data.manga(), query, null), query);
+            return;
+        }
+        if (path.length == 2 && "status".equals(path[1])) {
+            if (authorized(exchange)) {
+                List<String> wanted = query.getOrDefault("status", Collections.emptyList());
+                JsonObject statuses = new JsonObject();
+                readingStatuses.forEach((manga, status) -> {
+                    if (wanted.isEmpty() || wanted.contains(status)) statuses.addProperty(manga.toString(), status);
+                });
+                JsonObject response = ok();
+                // MangaDex sends an empty library as an array
+                if (statuses.size() == 0) {
+                    response.add("statuses", new JsonArray());
+                } else {
+                    response.add("statuses", statuses);
+                }
+                json(exchange, 200, response);
+            }
+            return;
+        }
+        if (path.length == 2 && "read".equals(path[1])) {
+            if (authorized(exchange)) {
+                JsonObject grouped = new JsonObject();
+                for (String raw : query.getOrDefault("ids[]", Collections.emptyList())) {
+                    Set<UUID> read = readMarkers.get(parseId(raw));
+                    if (read == null || read.isEmpty()) continue;
+                    JsonArray ids = new JsonArray();
+                    read.forEach(chapter -> ids.add(chapter.toString()));
+                    grouped.add(raw, ids);
+                }
+                JsonObject response = ok();
+                // Like the statuses, nothing read comes back as an array
+                if (grouped.size() == 0) {
+                    response.add("data", new JsonArray());
+                } else {
+                    response.add("data", grouped);
+                }
+                json(exchange, 200, response);
+            }
+            return;
+        }
+        UUID id = parseId(path[1]);
+        if (data.manga(id) == null) {
+            error(exchange, 404, "Not Found", "Manga could not be found");
+            return;
+        }
+        if (path.length == 2) {
+            entity(exchange, data.manga(id));
+            return;
+        }
+        switch (path[2]) {
+            case "feed":
+                collection(exchange, data.feed(id), query);
+                break;
+            case "aggregate":
+                json(exchange, 200, aggregate(data.feed(id)));
+                break;
+            case "follow":
+                if (authorized(exchange)) {
+                    if ("DELETE".equals(method)) {
+                        followedManga.remove(id);
+                    } else {
+                        followedManga.add(id);
+                    }
+                    json(exchange, 200, ok());
+                }
+                break;
+            case "read":
+                if (authorized(exchange)) {
+                    read(exchange, method, id);
+                }
+                break;
+            case "status":
+                if (authorized(exchange)) {
+                    JsonObject response = ok();
+                    if ("POST".equals(method)) {
+                        JsonElement status = JsonParser.parseString(body(exchange)).getAsJsonObject().get("status");
+                        if (status == null || status.isJsonNull()) {
+                            readingStatuses.remove(id);
+                        } else {
+                            readingStatuses.put(id, status.getAsString());
+                        }
+                    } else {
+                        response.addProperty("status", readingStatuses.get(id));
+                    }
+                    json(exchange, 200, response);
+                }
+                break;
+            default:
+                error(exchange, 404, "Not Found", "No route for " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private void statistics(HttpExchange exchange, Map<String, List<String>> query) throws IOException {
+        List<String> ids = query.getOrDefault("manga[]", Collections.emptyList());
+        if (ids.size() > 100) {
+            error(exchange, 400, "Bad Request", "At most 100 manga per request");
+            return;
+        }
+        JsonObject statistics = new JsonObject();
+        for (String raw : ids) {
+            UUID id = parseId(raw);
+            if (data.manga(id) == null) continue;
+            // Derived from the id so repeated requests agree
+            int seed = id.hashCode() & 0x7fffffff;
+            JsonObject distribution = new JsonObject();
+            for (int score = 1; score <= 10; score++) {
+                distribution.addProperty(String.valueOf(score), (seed >> score) % 50);
+            }
+            JsonObject rating = new JsonObject();
+            rating.addProperty("average", 1 + seed % 900 / 100.0);
+            rating.addProperty("bayesian", 1 + seed % 800 / 100.0);
+            rating.add("distribution", distribution);
+            JsonObject comments = new JsonObject();
+            comments.addProperty("threadId", seed % 100_000);
+            comments.addProperty("repliesCount", seed % 300);
+            JsonObject entry = new JsonObject();
+            entry.add("comments", comments);
+            entry.add("rating", rating);
+            entry.addProperty("follows", seed % 10_000);
+            statistics.add(id.toString(), entry);
+        }
+        JsonObject response = ok();
+        response.add("statistics", statistics);
+        json(exchange, 200, response);
+    }
+
+    private void read(HttpExchange exchange, String method, UUID mangaId) throws IOException {
+        Set<UUID> read = readMarkers.computeIfAbsent(mangaId, id -> ConcurrentHashMap.newKeySet());
+        if ("POST".equals(method)) {
+            JsonObject body = JsonParser.parseString(body(exchange)).getAsJsonObject();
+            if (body.has("chapterIdsRead")) {
+                body.getAsJsonArray("chapterIdsRead").forEach(element -> read.add(UUID.fromString(element.getAsString())));
+            }
+            if (body.has("chapterIdsUnread")) {
+                body.getAsJsonArray("chapterIdsUnread").forEach(element -> read.remove(UUID.fromString(element.getAsString())));
+            }
+            json(exchange, 200, ok());
+            return;
+        }
+        JsonObject response = ok();
+        JsonArray ids = new JsonArray();
+        read.forEach(id -> ids.add(id.toString()));
+        response.add("data", ids);
+        json(exchange, 200, response);
+    }
+
+    private void atHome(HttpExchange exchange, String[] path) throws IOException {
+        JsonObject chapter = path.length > 2 ? data.chapter(parseId(path[2])) : null;
+        if (chapter == null) {
+            error(exchange, 404, "Not Found", "Chapter could not be found");
+            return;
+        }
+        int pages = chapter.getAsJsonObject("attributes").get("pages").getAsInt();
+        String hash = chapter.get("id").getAsString().replace("-", "");
+        JsonArray files = new JsonArray();
+        for (int i = 1; i <= pages; i++) {
+            files.add(i + "-" + hash + ".png");
+        }
+        JsonObject body = new JsonObject();
+        body.addProperty("hash", hash);
+        body.add("data", files);
+        body.add("dataSaver", files);
+        JsonObject response = ok();
+        response.addProperty("baseUrl", url(""));
+        response.add("chapter", body);
+        json(exchange, 200, response);
+    }
+
+    private void list(HttpExchange exchange, String method, String[] path, Map<String, List<String>> query) throws IOException {
+        JsonObject list = path.length > 1 ? lists.get(parseId(path[1])) : null;
+        if (list == null) {
+            error(exchange, 404, "Not Found", "List could not be found");
+            return;
+        }
+        boolean visible = "public".equals(list.getAsJsonObject("attributes").get("visibility").getAsString());
+        if (!visible && !authorized(exchange)) {
+            return;
+        }
+        if (path.length == 2) {
+            entity(exchange, list);
+        } else if (path.length == 3 && "feed".equals(path[2])) {
+            List<JsonObject> feed = new ArrayList<>();
+            for (JsonElement relationship : list.getAsJsonArray("relationships")) {
+                JsonObject object = relationship.getAsJsonObject();
+                if ("manga".equals(object.get("type").getAsString())) {
+                    feed.addAll(data.feed(parseId(object.get("id").getAsString())));
+                }
+            }
+            collection(exchange, filter(feed, query, null), query);
+        } else if (path.length == 3 && "follow".equals(path[2])) {
+            if (authorized(exchange)) {
+                if ("DELETE".equals(method)) {
+                    followedLists.remove(parseId(path[1]));
+                } else {
+                    followedLists.add(parseId(path[1]));
+                }
+                json(exchange, 200, ok());
+            }
+        } else {
+            error(exchange, 404, "Not Found", "No route for " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private List<JsonObject> lists(boolean includePrivate) {
+        List<JsonObject> result = new ArrayList<>();
+        synchronized (lists) {
+            for (JsonObject list : lists.values()) {
+                if (includePrivate || "public".equals(list.getAsJsonObject("attributes").get("visibility").getAsString())) {
+                    result.add(list);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void user(HttpExchange exchange, String method, String[] path, Map<String, List<String>> query) throws IOException {
+        if (path.length == 3 && "list".equals(path[2]) && !"follows".equals(path[1])) {
+            // Public lists of any user; every stand-in list belongs to the token holder
+            collection(exchange, self.equals(parseId(path[1])) ? lists(false) : Collections.emptyList(), query);
+            return;
+        }
+        if (!authorized(exchange)) {
+            return;
+        }
+        if (path.length == 2 && "list".equals(path[1])) {
+            collection(exchange, lists(true), query);
+            return;
+        }
+        if (path.length == 2 && "me".equals(path[1])) {
+            JsonObject me = data.user(self);
+            entity(exchange, me != null ? me : selfUser());
+            return;
+        }
+        if (path.length >= 4 && "follows".equals(path[1])) {
+            boolean manga = "manga".equals(path[2]);
+            if (path.length == 4 && manga && "feed".equals(path[3])) {
+                List<JsonObject> feed = new ArrayList<>();
+                followedManga.forEach(id -> feed.addAll(data.feed(id)));
+                collection(exchange, filter(feed, query, null), query, MAX_FEED_PAGE);
+                return;
+            }
+            Set<UUID> followed = manga ? followedManga : followedGroups;
+            if (path.length == 4) {
+                if (followed.contains(parseId(path[3]))) {
+                    json(exchange, 200, ok());
+                } else {
+                    error(exchange, 404, "Not Found", "Not following");
+                }
+                return;
+            }
+        }
+        if (path.length == 3 && "follows".equals(path[1])) {
+            List<JsonObject> followed = new ArrayList<>();
+            if ("manga".equals(path[2])) {
+                followedManga.forEach(id -> followed.add(data.manga(id)));
+            } else if ("list".equals(path[2])) {
+                followedLists.forEach(id -> followed.add(lists.get(id)));
+            } else {
+                followedGroups.forEach(id -> followed.add(data.group(id)));
+            }
+            collection(exchange, followed, query);
+            return;
+        }
+        if (path.length == 2) {
+            entity(exchange, data.user(parseId(path[1])));
+            return;
+        }
+        error(exchange, 404, "Not Found", "No route for " + exchange.getRequestURI().getPath() + " (" + method + ")");
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        body(exchange);
+        JsonObject response = new JsonObject();
+        response.addProperty("access_token", "stand-in-access-" + UUID.randomUUID());
+        response.addProperty("refresh_token", "stand-in-refresh-" + UUID.randomUUID());
+        response.addProperty("expires_in", 900);
+        response.addProperty("token_type", "Bearer");
+        json(exchange, 200, response);
+    }
+
+    private static JsonObject relationship(UUID id, String type) {
+        JsonObject relationship = new JsonObject();
+        relationship.addProperty("id", id.toString());
+        relationship.addProperty("type", type);
+        return relationship;
+    }
+
+    private JsonObject selfUser() {
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("username", "stand-in");
+        JsonArray roles = new JsonArray();
+        roles.add("ROLE_MEMBER");
+        attributes.add("roles", roles);
+        attributes.addProperty("version", 1);
+        JsonObject user = new JsonObject();
+        user.addProperty("id", self.toString());
+        user.addProperty("type", "user");
+        user.add("attributes", attributes);
+        user.add("relationships", new JsonArray());
+        return user;
+    }
+
+    private static JsonObject aggregate(List<JsonObject> feed) {
+        Map<String, JsonObject> volumes = new LinkedHashMap<>();
+        for (JsonObject chapter : feed) {
+            JsonObject attributes = chapter.getAsJsonObject("attributes");
+            String volume = attributes.get("volume").getAsString();
+            JsonObject entry = volumes.computeIfAbsent(volume, key -> {
+                JsonObject created = new JsonObject();
+                created.addProperty("volume", key);
+                created.addProperty("count", 0);
+                created.add("chapters", new JsonObject());
+                return created;
+            });
+            JsonObject aggregated = new JsonObject();
+            aggregated.add("chapter", attributes.get("chapter"));
+            aggregated.add("id", chapter.get("id"));
+            aggregated.add("others", new JsonArray());
+            aggregated.addProperty("count", 1);
+            entry.getAsJsonObject("chapters").add(attributes.get("chapter").getAsString(), aggregated);
+            entry.addProperty("count", entry.get("count").getAsInt() + 1);
+        }
+        JsonObject volumeObject = new JsonObject();
+        volumes.forEach(volumeObject::add);
+        JsonObject response = ok();
+        response.add("volumes", volumeObject);
+        return response;
+    }
+
+    /**
+     * Applies the {@code ids[]}, {@code groups[]}, manga, {@code createdAtSince}, {@code updatedAtSince} and {@code order[...]}
+     * parameters shared by the collection endpoints. Ties keep the data set order.
+     */
+    private static List<JsonObject> filter(List<JsonObject> entities, Map<String, List<String>> query, String mangaKey) {
+        Predicate<JsonObject> predicate = entity -> true;
+        for (String field : new String[] {"createdAt", "updatedAt"}) {
+            List<String> since = query.get(field + "Since");
+            if (since != null && !since.isEmpty()) {
+                long bound = LocalDateTime.parse(since.get(0)).toEpochSecond(ZoneOffset.UTC);
+                predicate = predicate.and(entity -> epochSecond(entity, field) >= bound);
+            }
+        }
+        List<String> ids = query.getOrDefault("ids[]", Collections.emptyList());
+        if (!ids.isEmpty()) {
+            predicate = predicate.and(entity -> ids.contains(entity.get("id").getAsString()));
+        }
+        List<String> manga = mangaKey == null ? Collections.emptyList() : query.getOrDefault(mangaKey, Collections.emptyList());
+        if (!manga.isEmpty()) {
+            predicate = predicate.and(entity -> relatedTo(entity, "manga", manga));
+        }
+        List<String> groups = query.getOrDefault("groups[]", Collections.emptyList());
+        if (!groups.isEmpty()) {
+            predicate = predicate.and(entity -> relatedTo(entity, "scanlation_group", groups));
+        }
+        List<JsonObject> result = new ArrayList<>();
+        for (JsonObject entity : entities) {
+            if (predicate.test(entity)) {
+                result.add(entity);
+            }
+        }
+        for (Map.Entry<String, List<String>> parameter : query.entrySet()) {
+            String key = parameter.getKey();
+            if (key.startsWith("order[") && key.endsWith("]")) {
+                String field = key.substring(6, key.length() - 1);
+                Comparator<JsonObject> order = Comparator.comparingLong(entity -> epochSecond(entity, field));
+                result.sort("desc".equals(parameter.getValue().get(0)) ? order.reversed() : order);
+            }
+        }
+        return result;
+    }
+
+    private static long epochSecond(JsonObject entity, String field) {
+        JsonElement value = entity.getAsJsonObject("attributes").get(field);
+        return value == null || value.isJsonNull() ? Long.MIN_VALUE : OffsetDateTime.parse(value.getAsString()).toEpochSecond();
+    }
+
+    private static boolean relatedTo(JsonObject entity, String type, List<String> ids) {
+        for (JsonElement relationship : entity.getAsJsonArray("relationships")) {
+            JsonObject object = relationship.getAsJsonObject();
+            if (type.equals(object.get("type").getAsString()) && ids.contains(object.get("id").getAsString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void collection(HttpExchange exchange, List<JsonObject> entities, Map<String, List<String>> query) throws IOException {
+        collection(exchange, entities, query, MAX_PAGE);
+    }
+
+    private void collection(HttpExchange exchange, List<JsonObject> entities, Map<String, List<String>> query, int maxLimit) throws IOException {
+        int limit = Math.min(maxLimit, intParameter(query, "limit", 10));
+        int offset = intParameter(query, "offset", 0);
+        if (offset + limit > MAX_WINDOW) {
+            error(exchange, 400, "Bad Request", "Collection size limit reached: offset + limit must be <= " + MAX_WINDOW);
+            return;
+        }
+        JsonArray page = new JsonArray();
+        for (int i = offset; i < Math.min(entities.size(), offset + limit); i++) {
+            page.add(entities.get(i));
+        }
+        JsonObject response = ok();
+        response.addProperty("response", "collection");
+        response.add("data", page);
+        response.addProperty("limit", limit);
+        response.addProperty("offset", offset);
+        response.addProperty("total", entities.size());
+        json(exchange, 200, response);
+    }
+
+    private void entity(HttpExchange exchange, JsonObject entity) throws IOException {
+        if (entity == null) {
+            error(exchange, 404, "Not Found", "Entity could not be found");
+            return;
+        }
+        JsonObject response = ok();
+        response.addProperty("response", "entity");
+        response.add("data", entity);
+        json(exchange, 200, response);
+    }
+
+    private boolean authorized(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return true;
+        }
+        error(exchange, 401, "Unauthorized", "Missing bearer token");
+        return false;
+    }
+
+    private static JsonObject ok() {
+        JsonObject response = new JsonObject();
+        response.addProperty("result", "ok");
+        return response;
+    }
+
+    private static void error(HttpExchange exchange, int status, String title, String detail) throws IOException {
+        JsonObject error = new JsonObject();
+        error.addProperty("id", UUID.randomUUID().toString());
+        error.addProperty("status", status);
+        error.addProperty("title", title);
+        error.addProperty("detail", detail);
+        JsonArray errors = new JsonArray();
+        errors.add(error);
+        JsonObject response = new JsonObject();
+        response.addProperty("result", "error");
+        response.add("errors", errors);
+        json(exchange, status, response);
+    }
+
+    private static void json(HttpExchange exchange, int status, JsonObject body) throws IOException {
+        send(exchange, status, "application/json", body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String body(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Map<String, List<String>> query(String rawQuery) {
+        Map<String, List<String>> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String key = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+            String value = equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            parameters.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+
+    private static int intParameter(Map<String, List<String>> query, String key, int fallback) {
+        List<String> values = query.get(key);
+        if (values == null || values.isEmpty()) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(values.get(0));
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
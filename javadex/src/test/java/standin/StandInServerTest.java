@@ -0,0 +1,104 @@
+package standin;
+
+import dev.kurumidisciples.javadex.api.core.JavaDex;
+import dev.kurumidisciples.javadex.api.core.JavaDexBuilder;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.exceptions.http.HTTPClientErrorException;
+import dev.kurumidisciples.javadex.api.exceptions.http.HTTPServerErrorException;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StandInServerTest {
+
+    @RegisterExtension
+    static final StandInExtension standIn = new StandInExtension(new SyntheticData(35, 40, 25));
+
+    @AfterEach
+    public void resetFaults() {
+        StandInServer server = standIn.getServer();
+        server.setFaults(FaultProfile.none());
+    }
+
+    @Test
+    public void testServesLibraryCalls() throws Exception {
+        JavaDex javadex = JavaDexBuilder.createGuest();
+        List<Manga> manga = javadex.search("stand-in").setLimit(20).complete();
+        assertEquals(20, manga.size());
+
+        UUID mangaId = manga.get(3).getId();
+        Manga byId = JavaDexBuilder.createGuest().getMangaById(mangaId.toString()).get();
+        assertEquals(manga.get(3).getDefaultTitle(), byId.getDefaultTitle());
+
+        List<Chapter> chapters = javadex.retrieveChapters().setMangaId(mangaId).setLimit(100).complete();
+        assertEquals(25, chapters.size());
+        assertTrue(chapters.stream().allMatch(chapter -> chapter.getPages() >= 10));
+    }
+
+    @Test
+    public void testAuthenticatedRoutes() throws Exception {
+        StandInServer server = standIn.getServer();
+        JavaDex javadex = JavaDexBuilder.createPersonal("client").setClientSecret("secret")
+                .setUsername("reader").setPassword("password").build();
+        UUID mangaId = UUID.fromString(server.getData().manga().get(0).get("id").getAsString());
+        assertTrue(javadex.followManga(mangaId).get());
+        assertTrue(javadex.retrieveReadChapters(mangaId.toString()).get().isEmpty());
+        javadex.close();
+    }
+
+    @Test
+    public void testFaultInjection() {
+        StandInServer server = standIn.getServer();
+        server.setFaults(FaultProfile.builder().setServerErrorRate(1).build());
+        assertThrows(HTTPServerErrorException.class, () -> JavaDexBuilder.createGuest().search("x").complete());
+
+        server.setFaults(FaultProfile.builder().setRateLimit(2, 60_000).build());
+        long throttled = server.getThrottledCount();
+        JavaDexBuilder.createGuest().search("x").complete();
+        JavaDexBuilder.createGuest().search("x").complete();
+        assertThrows(HTTPClientErrorException.class, () -> JavaDexBuilder.createGuest().search("x").complete());
+        assertEquals(throttled + 1, server.getThrottledCount());
+    }
+
+    @Test
+    public void testRateLimitHeadersAndImages() throws Exception {
+        StandInServer server = standIn.getServer();
+        server.setFaults(FaultProfile.builder().setRateLimit(5, 60_000).build());
+        OkHttpClient client = new OkHttpClient();
+        try (Response response = client.newCall(new Request.Builder().url(server.url("/data/hash/1-page.png")).build()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals("image/png", response.header("Content-Type"));
+            assertEquals("5", response.header("X-RateLimit-Limit"));
+            assertEquals("4", response.header("X-RateLimit-Remaining"));
+            assertNotNull(response.header("X-RateLimit-Retry-After"));
+        }
+    }
+
+    @Test
+    public void testLoadHarness() throws Exception {
+        StandInServer server = standIn.getServer();
+        server.setFaults(FaultProfile.builder()
+                .setLatency(LatencyDistribution.logNormal(2, 0.5))
+                .setServerErrorRate(0.05)
+                .build());
+        JavaDex javadex = JavaDexBuilder.createGuest();
+        LoadHarness.Report report = new LoadHarness(8, 400, 5).run(() -> javadex.search("load").setLimit(10).complete());
+
+        assertEquals(400, report.getOperations());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.getLatencyMillis(50) <= report.getLatencyMillis(99));
+        assertTrue(report.getLatencyMillis(99) <= report.getLatencyMillis(100));
+        assertEquals(report.getFailureCount(), report.getFailures().getOrDefault("HTTPServerErrorException", 0));
+    }
+}
@@ -0,0 +1,284 @@
+package standin;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+
+/**
+ * A deterministic catalog in the shape of MangaDex responses: manga, their chapters, scanlation groups,
+ * uploaders, authors and covers. The same seed always yields the same ids, so tests can address entities directly.
+ */
+public final class SyntheticData {
+
+    private static final String[] LANGUAGES = {"en", "es-la", "fr", "de", "pt-br", "it", "id", "vi"};
+    private static final String[] STATUSES = {"ongoing", "completed", "hiatus", "cancelled"};
+    private static final String[] DEMOGRAPHICS = {"shounen", "shoujo", "seinen", "josei"};
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssxxx");
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(2018, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final Random random;
+    private final Map<UUID, JsonObject> manga = new LinkedHashMap<>();
+    private final Map<UUID, List<JsonObject>> chaptersByManga = new LinkedHashMap<>();
+    private final Map<UUID, JsonObject> chapters = new LinkedHashMap<>();
+    private final Map<UUID, JsonObject> groups = new LinkedHashMap<>();
+    private final Map<UUID, JsonObject> users = new LinkedHashMap<>();
+    private final Map<UUID, JsonObject> authors = new LinkedHashMap<>();
+    private final Map<UUID, JsonObject> covers = new LinkedHashMap<>();
+
+    /**
+     * Generates a catalog.
+     *
+     * @param seed the random seed.
+     * @param mangaCount how many manga to generate.
+     * @param chaptersPerManga how many chapters each manga gets.
+     */
+    public SyntheticData(long seed, int mangaCount, int chaptersPerManga) {
+        this.random = new Random(seed);
+        for (int i = 0; i < Math.max(1, mangaCount / 4); i++) {
+            UUID id = nextId();
+            groups.put(id, group(id, i));
+        }
+        for (int i = 0; i < Math.max(1, mangaCount / 4); i++) {
+            UUID id = nextId();
+            users.put(id, user(id, i));
+        }
+        for (int i = 0; i < mangaCount; i++) {
+            UUID mangaId = nextId();
+            UUID authorId = nextId();
+            UUID coverId = nextId();
+            authors.put(authorId, author(authorId, mangaId, i));
+            covers.put(coverId, cover(coverId, mangaId));
+            List<JsonObject> feed = new ArrayList<>(chaptersPerManga);
+            for (int c = 0; c < chaptersPerManga; c++) {
+                UUID chapterId = nextId();
+                JsonObject chapter = chapter(chapterId, mangaId, c);
+                feed.add(chapter);
+                chapters.put(chapterId, chapter);
+            }
+            chaptersByManga.put(mangaId, feed);
+            manga.put(mangaId, manga(mangaId, authorId, coverId, i, feed));
+        }
+    }
+
+    public List<JsonObject> manga() {
+        return new ArrayList<>(manga.values());
+    }
+
+    public JsonObject manga(UUID id) {
+        return manga.get(id);
+    }
+
+    public List<JsonObject> chapters() {
+        return new ArrayList<>(chapters.values());
+    }
+
+    public JsonObject chapter(UUID id) {
+        return chapters.get(id);
+    }
+
+    public List<JsonObject> feed(UUID mangaId) {
+        return chaptersByManga.getOrDefault(mangaId, Collections.emptyList());
+    }
+
+    public List<JsonObject> groups() {
+        return new ArrayList<>(groups.values());
+    }
+
+    public JsonObject group(UUID id) {
+        return groups.get(id);
+    }
+
+    public JsonObject user(UUID id) {
+        return users.get(id);
+    }
+
+    public JsonObject author(UUID id) {
+        return authors.get(id);
+    }
+
+    public List<JsonObject> covers() {
+        return new ArrayList<>(covers.values());
+    }
+
+    public JsonObject cover(UUID id) {
+        return covers.get(id);
+    }
+
+    private UUID nextId() {
+        return new UUID(random.nextLong() & 0xffffffffffff0fffL | 0x4000L, random.nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L);
+    }
+
+    private String nextTimestamp() {
+        return TIMESTAMP.format(EPOCH.plusSeconds(random.nextInt(200_000_000)));
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static JsonObject entity(UUID id, String type, JsonObject attributes, JsonArray relationships) {
+        JsonObject object = new JsonObject();
+        object.addProperty("id", id.toString());
+        object.addProperty("type", type);
+        object.add("attributes", attributes);
+        object.add("relationships", relationships);
+        return object;
+    }
+
+    private static JsonObject relationship(UUID id, String type) {
+        JsonObject relationship = new JsonObject();
+        relationship.addProperty("id", id.toString());
+        relationship.addProperty("type", type);
+        return relationship;
+    }
+
+    private static JsonObject localized(String language, String value) {
+        JsonObject object = new JsonObject();
+        object.addProperty(language, value);
+        return object;
+    }
+
+    private JsonObject manga(UUID id, UUID authorId, UUID coverId, int index, List<JsonObject> feed) {
+        JsonObject attributes = new JsonObject();
+        attributes.add("title", localized("en", "Stand-in Title " + index));
+        JsonArray altTitles = new JsonArray();
+        altTitles.add(localized(pick(LANGUAGES), "Alt title " + index));
+        attributes.add("altTitles", altTitles);
+        attributes.add("description", localized("en", "Synthetic description for manga " + index + "."));
+        attributes.addProperty("isLocked", false);
+        JsonObject links = new JsonObject();
+        links.addProperty("mu", String.valueOf(random.nextInt(100_000)));
+        attributes.add("links", links);
+        attributes.addProperty("originalLanguage", "ja");
+        attributes.addProperty("lastVolume", "");
+        attributes.add("lastChapter", JsonNull.INSTANCE);
+        attributes.addProperty("publicationDemographic", pick(DEMOGRAPHICS));
+        attributes.addProperty("status", pick(STATUSES));
+        attributes.addProperty("year", 1990 + random.nextInt(35));
+        attributes.addProperty("contentRating", "safe");
+        JsonArray tags = new JsonArray();
+        Manga.Tag[] allTags = Manga.Tag.values();
+        for (int t = 0; t < 3; t++) {
+            Manga.Tag tag = allTags[random.nextInt(allTags.length)];
+            JsonObject tagAttributes = new JsonObject();
+            tagAttributes.add("name", localized("en", tag.getName()));
+            tagAttributes.add("description", new JsonObject());
+            tagAttributes.addProperty("group", "genre");
+            tagAttributes.addProperty("version", 1);
+            tags.add(entity(tag.getId(), "tag", tagAttributes, new JsonArray()));
+        }
+        attributes.add("tags", tags);
+        attributes.addProperty("state", "published");
+        attributes.addProperty("chapterNumbersResetOnNewVolume", false);
+        attributes.addProperty("createdAt", nextTimestamp());
+        attributes.addProperty("updatedAt", nextTimestamp());
+        attributes.addProperty("version", 1 + random.nextInt(20));
+        JsonArray languages = new JsonArray();
+        languages.add("en");
+        attributes.add("availableTranslatedLanguages", languages);
+        if (feed.isEmpty()) {
+            attributes.add("latestUploadedChapter", JsonNull.INSTANCE);
+        } else {
+            attributes.add("latestUploadedChapter", feed.get(feed.size() - 1).get("id"));
+        }
+        JsonArray relationships = new JsonArray();
+        relationships.add(relationship(authorId, "author"));
+        relationships.add(relationship(authorId, "artist"));
+        relationships.add(relationship(coverId, "cover_art"));
+        return entity(id, "manga", attributes, relationships);
+    }
+
+    private JsonObject chapter(UUID id, UUID mangaId, int index) {
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("volume", String.valueOf(index / 10 + 1));
+        attributes.addProperty("chapter", String.valueOf(index + 1));
+        attributes.addProperty("title", "Chapter " + (index + 1));
+        attributes.addProperty("translatedLanguage", "en");
+        attributes.add("externalUrl", JsonNull.INSTANCE);
+        String timestamp = nextTimestamp();
+        attributes.addProperty("publishAt", timestamp);
+        attributes.addProperty("readableAt", timestamp);
+        attributes.addProperty("createdAt", timestamp);
+        attributes.addProperty("updatedAt", timestamp);
+        attributes.addProperty("pages", 10 + random.nextInt(30));
+        attributes.addProperty("version", 1);
+        JsonArray relationships = new JsonArray();
+        relationships.add(relationship(pick(new ArrayList<>(groups.keySet())), "scanlation_group"));
+        relationships.add(relationship(mangaId, "manga"));
+        relationships.add(relationship(pick(new ArrayList<>(users.keySet())), "user"));
+        return entity(id, "chapter", attributes, relationships);
+    }
+
+    private JsonObject group(UUID id, int index) {
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("name", "Stand-in Group " + index);
+        attributes.add("altNames", new JsonArray());
+        attributes.addProperty("locked", false);
+        attributes.add("website", JsonNull.INSTANCE);
+        attributes.add("description", JsonNull.INSTANCE);
+        JsonArray focused = new JsonArray();
+        focused.add(pick(LANGUAGES));
+        attributes.add("focusedLanguages", focused);
+        attributes.addProperty("official", false);
+        attributes.addProperty("verified", false);
+        attributes.addProperty("inactive", false);
+        attributes.addProperty("createdAt", nextTimestamp());
+        attributes.addProperty("updatedAt", nextTimestamp());
+        attributes.addProperty("version", 1);
+        return entity(id, "scanlation_group", attributes, new JsonArray());
+    }
+
+    private JsonObject user(UUID id, int index) {
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("username", "reader" + index);
+        JsonArray roles = new JsonArray();
+        roles.add("ROLE_MEMBER");
+        attributes.add("roles", roles);
+        attributes.addProperty("version", 1);
+        return entity(id, "user", attributes, new JsonArray());
+    }
+
+    private JsonObject author(UUID id, UUID mangaId, int index) {
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("name", "Author " + index);
+        attributes.add("imageUrl", JsonNull.INSTANCE);
+        attributes.add("biography", new JsonObject());
+        attributes.addProperty("createdAt", nextTimestamp());
+        attributes.addProperty("updatedAt", nextTimestamp());
+        attributes.addProperty("version", 1);
+        JsonArray relationships = new JsonArray();
+        relationships.add(relationship(mangaId, "manga"));
+        return entity(id, "author", attributes, relationships);
+    }
+
+    private JsonObject cover(UUID id, UUID mangaId) {
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("description", "");
+        attributes.addProperty("volume", "1");
+        attributes.addProperty("fileName", id + ".jpg");
+        attributes.addProperty("locale", "ja");
+        attributes.addProperty("createdAt", nextTimestamp());
+        attributes.addProperty("updatedAt", nextTimestamp());
+        attributes.addProperty("version", 1);
+        JsonArray relationships = new JsonArray();
+        relationships.add(relationship(mangaId, "manga"));
+        return entity(id, "cover_art", attributes, relationships);
+    }
+}
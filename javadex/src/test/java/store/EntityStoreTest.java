@@ -0,0 +1,151 @@
+package store;
+
+import dev.kurumidisciples.javadex.internal.store.EntityStore;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.store.StoredRecord;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static JsonObject data(UUID id, long version, String title) {
+        JsonObject attributes = new JsonObject();
+        attributes.addProperty("title", title);
+        attributes.addProperty("version", version);
+        JsonObject data = new JsonObject();
+        data.addProperty("id", id.toString());
+        data.addProperty("type", "manga");
+        data.add("attributes", attributes);
+        return data;
+    }
+
+    @Test
+    public void testRecordsSurviveReopen() throws IOException {
+        UUID id = UUID.randomUUID();
+        try (EntityStore store = new EntityStore(directory)) {
+            assertTrue(store.put(StoredEntityType.MANGA, id, 1, data(id, 1, "first")));
+            assertTrue(store.put(StoredEntityType.MANGA, id, 2, data(id, 2, "second")));
+            assertFalse(store.put(StoredEntityType.MANGA, id, 1, data(id, 1, "stale")));
+        }
+        try (EntityStore store = new EntityStore(directory)) {
+            StoredRecord record = store.get(StoredEntityType.MANGA, id);
+            assertNotNull(record);
+            assertEquals(2, record.getVersion());
+            assertEquals("second", record.getData().getAsJsonObject("attributes").get("title").getAsString());
+            assertNull(store.get(StoredEntityType.CHAPTER, id));
+        }
+    }
+
+    @Test
+    public void testIndexIsRebuiltAfterUncleanShutdown() throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        EntityStore store = new EntityStore(directory);
+        for (int i = 0; i < 3_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            store.put(StoredEntityType.CHAPTER, id, 1, data(id, 1, "chapter " + i));
+        }
+        // not closed: the index is still marked dirty
+        try (EntityStore reopened = new EntityStore(directory)) {
+            assertEquals(ids.size(), reopened.size());
+            assertEquals("chapter 1234", reopened.get(StoredEntityType.CHAPTER, ids.get(1234)).getData()
+                    .getAsJsonObject("attributes").get("title").getAsString());
+        }
+    }
+
+    @Test
+    public void testTornRecordIsTruncated() throws IOException {
+        UUID id = UUID.randomUUID();
+        try (EntityStore store = new EntityStore(directory)) {
+            store.put(StoredEntityType.MANGA, id, 1, data(id, 1, "kept"));
+        }
+        Path log = directory.resolve("entities.log");
+        long size = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(java.nio.ByteBuffer.wrap(new byte[]{0, 0, 1, 0, 42}));
+        }
+        Files.delete(directory.resolve("entities.idx"));
+        try (EntityStore store = new EntityStore(directory)) {
+            assertEquals("kept", store.get(StoredEntityType.MANGA, id).getData().getAsJsonObject("attributes").get("title").getAsString());
+        }
+        assertEquals(size, Files.size(log));
+    }
+
+    @Test
+    public void testBinaryEncodingRoundTrips() throws IOException {
+        UUID id = UUID.randomUUID();
+        JsonObject data = JsonParser.parseString("{\"id\":\"" + id + "\",\"type\":\"chapter\",\"attributes\":{"
+                + "\"title\":\"Ch\u00e2pitre \u7b2c\u4e00\u8a71\",\"volume\":null,\"pages\":27,\"version\":-3,"
+                + "\"rating\":9.25,\"big\":123456789012345678901234567890,\"locked\":false,\"official\":true,"
+                + "\"upper\":\"" + id.toString().toUpperCase() + "\",\"empty\":{},\"tags\":[[],\"\",0,{\"pages\":1}]},"
+                + "\"relationships\":[{\"id\":\"" + UUID.randomUUID() + "\",\"type\":\"manga\"}]}").getAsJsonObject();
+        try (EntityStore store = new EntityStore(directory)) {
+            store.put(StoredEntityType.CHAPTER, id, 1, data);
+        }
+        try (EntityStore store = new EntityStore(directory)) {
+            assertEquals(data, store.get(StoredEntityType.CHAPTER, id).getData());
+        }
+    }
+
+    @Test
+    public void testOlderFormatIsDiscarded() throws IOException {
+        Path log = directory.resolve("entities.log");
+        ByteBuffer header = ByteBuffer.allocate(32).putInt(0x4a445853).putInt(1).putLong(7).putLong(0).putLong(0);
+        Files.write(log, header.array());
+        UUID id = UUID.randomUUID();
+        try (EntityStore store = new EntityStore(directory)) {
+            assertEquals(0, store.size());
+            assertTrue(store.put(StoredEntityType.MANGA, id, 1, data(id, 1, "fresh")));
+        }
+        try (EntityStore store = new EntityStore(directory)) {
+            assertEquals("fresh", store.get(StoredEntityType.MANGA, id).getData().getAsJsonObject("attributes").get("title").getAsString());
+        }
+    }
+
+    @Test
+    public void testForeignLogIsRejected() throws IOException {
+        Files.write(directory.resolve("entities.log"), new byte[64]);
+        EntityStore store = new EntityStore(directory);
+        assertThrows(IOException.class, store::size);
+        // The failed open left nothing behind, so the next attempt fails the same way
+        assertThrows(IOException.class, store::size);
+        store.close();
+        assertEquals(64, Files.size(directory.resolve("entities.log")));
+    }
+
+    @Test
+    public void testCompactionKeepsLatestVersions() throws IOException {
+        UUID id = UUID.randomUUID();
+        try (EntityStore store = new EntityStore(directory)) {
+            for (int version = 1; version <= 200; version++) {
+                store.put(StoredEntityType.MANGA, id, version, data(id, version, "v" + version));
+            }
+            long before = Files.size(directory.resolve("entities.log"));
+            store.compact();
+            assertTrue(Files.size(directory.resolve("entities.log")) < before);
+            assertEquals(200, store.get(StoredEntityType.MANGA, id).getVersion());
+        }
+        try (EntityStore store = new EntityStore(directory)) {
+            assertEquals("v200", store.get(StoredEntityType.MANGA, id).getData().getAsJsonObject("attributes").get("title").getAsString());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package sync;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.sync.BulkFollow;
+import dev.kurumidisciples.javadex.internal.sync.BulkFollowResult;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import standin.FaultProfile;
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkFollowTest {
+
+    private static final Token TOKEN = new Token("access", "refresh");
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(43, 60, 1));
+
+    @Test
+    public void testSkipsCurrentFollowsAndReportsFailures() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        for (UUID id : mangaIds.subList(0, 10)) {
+            HTTPRequest.post("https://api.mangadex.org/manga/" + id + "/follow", Optional.of(TOKEN.getAccessToken()));
+        }
+        UUID unknown = UUID.fromString("00000000-0000-4000-8000-000000000000");
+        List<UUID> requested = new ArrayList<>(mangaIds);
+        requested.add(unknown);
+
+        long before = server.getRequestCount();
+        BulkFollowResult result = new BulkFollow(TOKEN, FollowingEntityType.SELF_MANGA, true, requested).complete();
+        assertEquals(requested.size(), result.getItems().size());
+        assertEquals(10, result.getCount(BulkFollowResult.Status.SKIPPED));
+        assertEquals(50, result.getCount(BulkFollowResult.Status.DONE));
+        assertEquals(List.of(unknown), result.getFailures().stream().map(BulkFollowResult.Item::getId).toList());
+        assertEquals(1, result.getFailures().get(0).getAttempts());
+        // One page of current follows, then one request per id that was not followed yet
+        assertEquals(before + 1 + 51, server.getRequestCount());
+        assertEquals(requested, result.getItems().stream().map(BulkFollowResult.Item::getId).toList());
+
+        BulkFollowResult unfollowed = new BulkFollow(TOKEN, FollowingEntityType.SELF_MANGA, false, requested).complete();
+        assertEquals(60, unfollowed.getCount(BulkFollowResult.Status.DONE));
+        assertEquals(1, unfollowed.getCount(BulkFollowResult.Status.SKIPPED));
+        assertTrue(unfollowed.isSuccessful());
+    }
+
+    @Test
+    public void testPacingStaysUnderTheRateLimit() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        server.setFaults(FaultProfile.builder().setRateLimit(10, 1_000).build());
+        long start = System.nanoTime();
+        BulkFollowResult result = new BulkFollow(TOKEN, FollowingEntityType.SELF_MANGA, true, mangaIds.subList(0, 24))
+                .setRequestsPerMinute(480)
+                .complete();
+        long elapsed = System.nanoTime() - start;
+        assertTrue(result.isSuccessful(), result.getFailures().toString());
+        assertEquals(0, server.getThrottledCount());
+        assertTrue(elapsed >= Duration.ofMillis(2_500).toNanos(), "25 requests at 8 per second take about 3 seconds");
+    }
+
+    @Test
+    public void testTransientFailuresAreRetried() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        server.setFaults(FaultProfile.builder().setTooManyRequestsRate(0.1).setServerErrorRate(0.25).build());
+        BulkFollowResult result = new BulkFollow(TOKEN, FollowingEntityType.SELF_MANGA, true, mangaIds.subList(0, 20))
+                .setSkipCurrent(false)
+                .setMaxAttempts(20)
+                .setBackoff(Duration.ofMillis(10))
+                .complete();
+        assertTrue(result.isSuccessful(), result.getFailures().toString());
+        assertEquals(20, result.getCount(BulkFollowResult.Status.DONE));
+        assertTrue(server.getThrottledCount() + server.getServerErrorCount() > 0);
+        int attempts = result.getItems().stream().mapToInt(BulkFollowResult.Item::getAttempts).sum();
+        assertEquals(20 + server.getThrottledCount() + server.getServerErrorCount(), attempts);
+    }
+}
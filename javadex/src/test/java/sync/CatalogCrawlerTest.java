@@ -0,0 +1,94 @@
+package sync;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.content.Manga;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.sync.CatalogCrawler;
+
+import com.google.gson.JsonObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import standin.FaultProfile;
+import standin.StandInExtension;
+import standin.SyntheticData;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogCrawlerTest {
+
+    @RegisterExtension
+    static final StandInExtension standIn = new StandInExtension(catalog());
+
+    private static Set<UUID> chapterIds;
+
+    private static SyntheticData catalog() {
+        SyntheticData data = new SyntheticData(38, 30, 50);
+        // A run of equal timestamps longer than a page, so window boundaries land inside it
+        List<JsonObject> chapters = data.chapters();
+        for (int i = 0; i < 250; i++) {
+            chapters.get(i * 3).getAsJsonObject("attributes").addProperty("createdAt", "2015-06-01T00:00:00+00:00");
+        }
+        chapterIds = new HashSet<>();
+        chapters.forEach(chapter -> chapterIds.add(UUID.fromString(chapter.get("id").getAsString())));
+        return data;
+    }
+
+    @Test
+    public void testCrawlsPastTheWindowExactlyOnce(@TempDir Path dir) throws Exception {
+        List<Chapter> delivered = new ArrayList<>();
+        CatalogCrawler<Chapter> crawler = CatalogCrawler.chapters(dir.resolve("chapters.ckpt"), CatalogCrawler.Key.CREATED_AT, null)
+                .setWindow(300);
+        assertEquals(1_500, crawler.crawl(delivered::add));
+
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i < delivered.size(); i++) {
+            assertTrue(ids.add(delivered.get(i).getId()), "delivered twice");
+            if (i > 0) assertFalse(delivered.get(i).getCreatedAt().isBefore(delivered.get(i - 1).getCreatedAt()));
+        }
+        assertEquals(chapterIds, ids);
+
+        assertEquals(0, crawler.crawl(chapter -> fail("nothing is new")));
+        assertNotNull(crawler.getCursor());
+    }
+
+    @Test
+    public void testResumesFromCheckpoint(@TempDir Path dir) throws Exception {
+        Path checkpoint = dir.resolve("chapters.ckpt");
+        Set<UUID> ids = new HashSet<>();
+        int[] count = {0};
+        try {
+            CatalogCrawler.chapters(checkpoint, CatalogCrawler.Key.CREATED_AT, null).setWindow(400).crawl(chapter -> {
+                assertTrue(ids.add(chapter.getId()), "delivered twice");
+                if (++count[0] == 650) standIn.getServer().setFaults(FaultProfile.builder().setServerErrorRate(1).build());
+            });
+            fail("the crawl should have been interrupted");
+        } catch (HTTPRequestException e) {
+            assertTrue(count[0] >= 650 && count[0] < 750);
+        } finally {
+            standIn.getServer().setFaults(FaultProfile.none());
+        }
+
+        long rest = CatalogCrawler.chapters(checkpoint, CatalogCrawler.Key.CREATED_AT, null).setWindow(400)
+                .crawl(chapter -> assertTrue(ids.add(chapter.getId()), "delivered twice"));
+        assertEquals(1_500 - count[0], rest);
+        assertEquals(chapterIds, ids);
+    }
+
+    @Test
+    public void testMangaByUpdatedAt(@TempDir Path dir) throws Exception {
+        Set<UUID> ids = new HashSet<>();
+        CatalogCrawler<Manga> crawler = CatalogCrawler.manga(dir.resolve("manga.ckpt"), CatalogCrawler.Key.UPDATED_AT, null);
+        assertEquals(30, crawler.crawl(manga -> assertTrue(ids.add(manga.getId()))));
+        assertEquals(30, ids.size());
+    }
+}
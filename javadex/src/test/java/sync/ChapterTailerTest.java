@@ -0,0 +1,110 @@
+package sync;
+
+import dev.kurumidisciples.javadex.internal.store.EntityStores;
+import dev.kurumidisciples.javadex.internal.store.StoredEntityType;
+import dev.kurumidisciples.javadex.internal.sync.ChapterTailer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import com.google.gson.JsonObject;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChapterTailerTest {
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(29, 75, 2));
+
+    @Test
+    public void testSaturatedFilterDoesNotDropChapters(@TempDir Path dir) throws Exception {
+        StandInServer server = standIn.getServer();
+        Path checkpoint = writeSaturatedCheckpoint(dir.resolve("tailer.ckpt"), List.of());
+
+        try (ChapterTailer tailer = new ChapterTailer(checkpoint)) {
+            long before = server.getRequestCount();
+            // Every chapter is delivered and paging only stops at the short last page
+            assertEquals(150, tailer.poll());
+            assertEquals(before + 2, server.getRequestCount());
+
+            // The exact window still stops the next poll on its first page
+            before = server.getRequestCount();
+            assertEquals(0, tailer.poll());
+            assertEquals(before + 1, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void testStoredChaptersAreNotTakenAsDelivered(@TempDir Path dir) throws Exception {
+        EntityStores.open(dir.resolve("store"));
+        try {
+            // Every chapter is stored, as it would be after a fetch or a feed sync
+            for (JsonObject chapter : standIn.getServer().getData().chapters()) {
+                EntityStores.write(StoredEntityType.CHAPTER, chapter);
+                assertNotNull(EntityStores.read(StoredEntityType.CHAPTER, UUID.fromString(chapter.get("id").getAsString())));
+            }
+
+            // A tailer that delivered nothing yet still gets them all, however its filter answers
+            Path checkpoint = writeSaturatedCheckpoint(dir.resolve("second.ckpt"), List.of());
+            try (ChapterTailer tailer = new ChapterTailer(checkpoint)) {
+                assertEquals(150, tailer.poll());
+            }
+        } finally {
+            EntityStores.close();
+        }
+    }
+
+    @Test
+    public void testOlderDeliveriesAreSuppressed(@TempDir Path dir) throws Exception {
+        List<UUID> delivered = new ArrayList<>();
+        List<JsonObject> chapters = standIn.getServer().getData().chapters();
+        for (int i = 0; i < 40; i++) {
+            delivered.add(UUID.fromString(chapters.get(i).get("id").getAsString()));
+        }
+        Path checkpoint = writeSaturatedCheckpoint(dir.resolve("tailer.ckpt"), delivered);
+
+        try (ChapterTailer tailer = new ChapterTailer(checkpoint)) {
+            // Only the 40 listed ids are held back, the saturated filter alone holds back nothing
+            assertEquals(110, tailer.poll());
+        }
+        try (ChapterTailer tailer = new ChapterTailer(checkpoint)) {
+            // The older ids survive the checkpoint written by the first tailer
+            assertEquals(0, tailer.poll());
+        }
+    }
+
+    /**
+     * Writes a checkpoint with an empty recent window, the given ids as older deliveries and a Bloom filter that
+     * answers yes for every id.
+     */
+    private static Path writeSaturatedCheckpoint(Path checkpoint, List<UUID> older) throws Exception {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(checkpoint))) {
+            out.writeInt(0x4a445443);
+            out.writeInt(2);
+            out.writeInt(0);
+            out.writeInt(older.size());
+            for (UUID id : older) {
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+            }
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeInt(1);
+            out.writeLong(-1L);
+            out.writeLong(-1L);
+        }
+        return checkpoint;
+    }
+}
@@ -0,0 +1,139 @@
+package sync;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.sync.FeedListener;
+import dev.kurumidisciples.javadex.internal.sync.FeedSync;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import standin.StandInExtension;
+import standin.SyntheticData;
+
+import com.google.gson.JsonObject;
+
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeedSyncTest {
+
+    private static final Token TOKEN = new Token("access", "refresh");
+    private static final OffsetDateTime LATER = OffsetDateTime.of(2030, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(28, 4, 200));
+
+    private final List<UUID> added = new ArrayList<>();
+    private final List<UUID> updated = new ArrayList<>();
+    private final FeedListener listener = new FeedListener() {
+        @Override
+        public void onChapterAdded(Chapter chapter) {
+            added.add(chapter.getId());
+        }
+
+        @Override
+        public void onChapterUpdated(Chapter chapter) {
+            updated.add(chapter.getId());
+        }
+    };
+
+    @BeforeEach
+    public void follow() throws Exception {
+        for (UUID id : standIn.getMangaIds()) {
+            HTTPRequest.post("https://api.mangadex.org/manga/" + id + "/follow", Optional.of(TOKEN.getAccessToken()));
+        }
+    }
+
+    @Test
+    public void testResumesFromTheSavedWatermark(@TempDir Path dir) throws Exception {
+        Path state = dir.resolve("feed-sync.json");
+        OffsetDateTime watermark;
+        try (FeedSync sync = new FeedSync(TOKEN, state).addListener(listener)) {
+            assertEquals(800, sync.complete());
+            watermark = sync.getWatermark().orElseThrow();
+        }
+        // The first sync has no previous run to compare with, so everything is new
+        assertEquals(800, added.size());
+        assertEquals(800, new HashSet<>(added).size());
+        assertTrue(updated.isEmpty());
+        added.clear();
+
+        List<JsonObject> chapters = standIn.getServer().getData().chapters();
+        JsonObject edited = chapters.get(10);
+        JsonObject created = chapters.get(20);
+        setTimestamp(edited, "updatedAt", LATER);
+        setTimestamp(created, "createdAt", LATER.plusSeconds(1));
+        setTimestamp(created, "updatedAt", LATER.plusSeconds(1));
+
+        try (FeedSync sync = new FeedSync(TOKEN, state).addListener(listener)) {
+            assertEquals(Optional.of(watermark), sync.getWatermark());
+            long before = standIn.getServer().getRequestCount();
+            // Only the two chapters changed after the saved watermark come back, on a single page
+            assertEquals(2, sync.complete());
+            assertEquals(before + 1, standIn.getServer().getRequestCount());
+            assertEquals(Optional.of(LATER.plusSeconds(1)), sync.getWatermark());
+        }
+        assertEquals(List.of(id(edited)), updated);
+        assertEquals(List.of(id(created)), added);
+    }
+
+    @Test
+    public void testSkipsChaptersSeenAtTheWatermark(@TempDir Path dir) throws Exception {
+        List<JsonObject> chapters = standIn.getServer().getData().chapters();
+        for (JsonObject chapter : chapters.subList(0, 3)) {
+            setTimestamp(chapter, "updatedAt", LATER);
+        }
+        Path state = dir.resolve("feed-sync.json");
+        try (FeedSync sync = new FeedSync(TOKEN, state).addListener(listener)) {
+            assertEquals(800, sync.complete());
+            assertEquals(Optional.of(LATER), sync.getWatermark());
+
+            // The query includes the watermark second, but the three chapters at it were already seen
+            assertEquals(0, sync.complete());
+
+            // A chapter that reaches the same second afterwards is still picked up
+            setTimestamp(chapters.get(3), "updatedAt", LATER);
+            assertEquals(1, sync.complete());
+        }
+        assertEquals(List.of(id(chapters.get(3))), updated);
+        assertEquals(801, added.size() + updated.size());
+    }
+
+    @Test
+    public void testStepsOverAFullPageSharingOneTimestamp(@TempDir Path dir) throws Exception {
+        List<JsonObject> chapters = standIn.getServer().getData().chapters();
+        OffsetDateTime shared = OffsetDateTime.of(2017, 6, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        for (JsonObject chapter : chapters.subList(0, 600)) {
+            setTimestamp(chapter, "updatedAt", shared);
+        }
+        try (FeedSync sync = new FeedSync(TOKEN, dir.resolve("feed-sync.json")).addListener(listener)) {
+            long before = standIn.getServer().getRequestCount();
+            assertEquals(800, sync.complete());
+            // The watermark moves to the shared second, the same 500 come back and are skipped by offset,
+            // the last page holds the remaining 100 at that second and the 200 after it
+            assertEquals(before + 3, standIn.getServer().getRequestCount());
+        }
+        assertEquals(800, new HashSet<>(added).size());
+        assertEquals(800, added.size());
+    }
+
+    private static void setTimestamp(JsonObject chapter, String field, OffsetDateTime time) {
+        chapter.getAsJsonObject("attributes").addProperty(field, time.toString().replace("Z", "+00:00"));
+    }
+
+    private static UUID id(JsonObject chapter) {
+        return UUID.fromString(chapter.get("id").getAsString());
+    }
+}
@@ -0,0 +1,118 @@
+package sync;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.entities.enums.FollowingEntityType;
+import dev.kurumidisciples.javadex.internal.cache.EntityCaches;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.sync.BulkFollow;
+import dev.kurumidisciples.javadex.internal.sync.LibrarySnapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LibrarySnapshotTest {
+
+    private static final Token TOKEN = new Token("access", "refresh");
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(48, 400, 1));
+
+    @Test
+    public void testRefreshPullsLibraryAndDiffs() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        for (UUID id : mangaIds.subList(0, 250)) {
+            followRemotely(id, true);
+        }
+        LibrarySnapshot library = new LibrarySnapshot(TOKEN, FollowingEntityType.SELF_MANGA).setMaxAge(null);
+        long before = server.getRequestCount();
+        LibrarySnapshot.Diff first = library.refresh();
+        assertEquals(before + 3, server.getRequestCount());
+        assertEquals(250, first.getAdded().size());
+        assertTrue(first.getRemoved().isEmpty());
+        assertTrue(library.isComplete());
+        // The followed entities are cached on the way
+        assertNotNull(EntityCaches.MANGA.getIfPresent(mangaIds.get(0)));
+
+        before = server.getRequestCount();
+        for (UUID id : mangaIds) {
+            assertEquals(mangaIds.indexOf(id) < 250, library.isFollowing(id));
+        }
+        assertEquals(before, server.getRequestCount());
+
+        for (UUID id : mangaIds.subList(0, 10)) {
+            followRemotely(id, false);
+        }
+        for (UUID id : mangaIds.subList(300, 305)) {
+            followRemotely(id, true);
+        }
+        LibrarySnapshot.Diff second = library.refresh();
+        assertEquals(mangaIds.subList(300, 305).stream().sorted().toList(), second.getAdded().stream().sorted().toList());
+        assertEquals(10, second.getRemoved().size());
+        assertTrue(second.getRemoved().contains(mangaIds.get(0)));
+        assertEquals(245, library.size());
+        assertTrue(library.refresh().isEmpty());
+    }
+
+    @Test
+    public void testStalenessAndLocalChanges() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        followRemotely(mangaIds.get(0), true);
+        LibrarySnapshot library = new LibrarySnapshot(TOKEN, FollowingEntityType.SELF_MANGA).setMaxAge(Duration.ofMillis(200));
+        assertTrue(library.isFollowing(mangaIds.get(0)));
+        long before = server.getRequestCount();
+        assertNull(library.refreshIfStale());
+
+        // Applied locally without a pull
+        library.apply(mangaIds.get(1), true);
+        assertTrue(library.isFollowing(mangaIds.get(1)));
+        assertEquals(before, server.getRequestCount());
+
+        Thread.sleep(250);
+        // The local change never reached the stand-in, so the next pull drops it
+        LibrarySnapshot.Diff diff = library.refreshIfStale();
+        assertNotNull(diff);
+        assertTrue(diff.getRemoved().contains(mangaIds.get(1)));
+        assertFalse(library.isFollowing(mangaIds.get(1)));
+    }
+
+    @Test
+    public void testBulkFollowUpdatesSnapshot() throws Exception {
+        StandInServer server = standIn.getServer();
+        List<UUID> mangaIds = standIn.getMangaIds();
+        LibrarySnapshot library = new LibrarySnapshot(TOKEN, FollowingEntityType.SELF_MANGA).setMaxAge(null);
+        assertEquals(0, library.size());
+        new BulkFollow(TOKEN, FollowingEntityType.SELF_MANGA, true, mangaIds.subList(0, 20))
+                .setSnapshot(library)
+                .complete();
+        long before = server.getRequestCount();
+        assertEquals(20, library.size());
+        assertTrue(library.isFollowing(mangaIds.get(19)));
+        assertEquals(before, server.getRequestCount());
+        assertTrue(library.refresh().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> new BulkFollow(TOKEN, FollowingEntityType.SELF_GROUP, true, List.of())
+                .setSnapshot(library));
+    }
+
+    private void followRemotely(UUID mangaId, boolean follow) {
+        String url = "https://api.mangadex.org/manga/" + mangaId + "/follow";
+        if (follow) {
+            HTTPRequest.post(url, Optional.of(TOKEN.getAccessToken()));
+        } else {
+            HTTPRequest.delete(url, Optional.of(TOKEN.getAccessToken()));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package sync;
+
+import dev.kurumidisciples.javadex.api.core.authentication.Token;
+import dev.kurumidisciples.javadex.api.exceptions.http.middlemen.HTTPRequestException;
+import dev.kurumidisciples.javadex.internal.http.HTTPRequest;
+import dev.kurumidisciples.javadex.internal.sync.ReadMarkerBuffer;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import standin.FaultProfile;
+import standin.StandInExtension;
+import standin.StandInServer;
+import standin.SyntheticData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadMarkerBufferTest {
+
+    private static final Token TOKEN = new Token("access", "refresh");
+
+    @RegisterExtension
+    final StandInExtension standIn = new StandInExtension(new SyntheticData(42, 2, 40));
+
+    private StandInServer server;
+    private UUID mangaId;
+    private List<UUID> chapterIds;
+
+    @BeforeEach
+    public void start() {
+        server = standIn.getServer();
+        mangaId = standIn.getMangaIds().get(0);
+        chapterIds = new ArrayList<>();
+        server.getData().feed(mangaId).forEach(chapter -> chapterIds.add(UUID.fromString(chapter.get("id").getAsString())));
+    }
+
+    @Test
+    public void testChangesAreCoalesced() throws Exception {
+        ReadMarkerBuffer buffer = new ReadMarkerBuffer(TOKEN).setDebounce(Duration.ofHours(1)).setMaxDelay(Duration.ofHours(1));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (UUID chapterId : chapterIds.subList(0, 30)) {
+            futures.add(buffer.markRead(mangaId, chapterId));
+        }
+        // Toggled back before the flush, only the unread marker is sent
+        futures.add(buffer.markUnread(mangaId, chapterIds.get(0)));
+        assertEquals(30, buffer.getPendingCount());
+
+        long before = server.getRequestCount();
+        buffer.flush().join();
+        assertEquals(before + 1, server.getRequestCount());
+        futures.forEach(CompletableFuture::join);
+        assertEquals(new HashSet<>(chapterIds.subList(1, 30)), readChapters());
+        buffer.close();
+    }
+
+    @Test
+    public void testSizeThresholdAndClose() throws Exception {
+        ReadMarkerBuffer buffer = new ReadMarkerBuffer(TOKEN).setDebounce(Duration.ofHours(1)).setMaxBatchSize(10);
+        long before = server.getRequestCount();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (UUID chapterId : chapterIds.subList(0, 25)) {
+            futures.add(buffer.markRead(mangaId, chapterId));
+        }
+        CompletableFuture.allOf(futures.subList(0, 20).toArray(new CompletableFuture[0])).join();
+        assertEquals(before + 2, server.getRequestCount());
+        assertEquals(5, buffer.getPendingCount());
+
+        buffer.close();
+        assertEquals(before + 3, server.getRequestCount());
+        futures.forEach(CompletableFuture::join);
+        assertEquals(new HashSet<>(chapterIds.subList(0, 25)), readChapters());
+        assertThrows(IllegalStateException.class, () -> buffer.markRead(mangaId, chapterIds.get(30)));
+    }
+
+    @Test
+    public void testDebounceAndFailures() throws Exception {
+        ReadMarkerBuffer buffer = new ReadMarkerBuffer(TOKEN).setDebounce(Duration.ofMillis(50));
+        buffer.markRead(mangaId, chapterIds.get(0)).get();
+        assertEquals(Set.of(chapterIds.get(0)), readChapters());
+
+        server.setFaults(FaultProfile.builder().setServerErrorRate(1).build());
+        try {
+            CompletableFuture<Void> failed = buffer.markRead(mangaId, chapterIds.get(1));
+            CompletionException e = assertThrows(CompletionException.class, failed::join);
+            assertInstanceOf(HTTPRequestException.class, e.getCause());
+        } finally {
+            server.setFaults(FaultProfile.none());
+        }
+        buffer.close();
+    }
+
+    private Set<UUID> readChapters() throws HTTPRequestException {
+        Set<UUID> read = new HashSet<>();
+        String response = HTTPRequest.get("https://api.mangadex.org/manga/" + mangaId + "/read", Optional.of(TOKEN.getAccessToken()));
+        for (JsonElement id : JsonParser.parseString(response).getAsJsonObject().getAsJsonArray("data")) {
+            read.add(UUID.fromString(id.getAsString()));
+        }
+        return read;
+    }
+}
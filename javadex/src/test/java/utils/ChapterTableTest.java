@@ -0,0 +1,82 @@
+package utils;
+
+import dev.kurumidisciples.javadex.api.entities.Chapter;
+import dev.kurumidisciples.javadex.api.entities.enums.Locale;
+import dev.kurumidisciples.javadex.api.entities.relationship.enums.RelationshipType;
+import dev.kurumidisciples.javadex.internal.utils.ChapterTable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChapterTableTest {
+
+    private static JsonObject chapter(UUID id, UUID mangaId, String chapterNumber, String title) {
+        return JsonParser.parseString("{"
+                + "\"id\":\"" + id + "\",\"type\":\"chapter\","
+                + "\"attributes\":{\"volume\":null,\"chapter\":" + (chapterNumber == null ? "null" : "\"" + chapterNumber + "\"") + ","
+                + "\"title\":" + (title == null ? "null" : "\"" + title + "\"") + ",\"translatedLanguage\":\"en\","
+                + "\"externalUrl\":null,\"publishAt\":\"2024-03-01T10:00:00+00:00\",\"readableAt\":\"2024-03-01T10:00:00+00:00\","
+                + "\"createdAt\":\"2024-03-01T09:00:00+00:00\",\"updatedAt\":\"2024-03-02T09:00:00+00:00\",\"pages\":21,\"version\":3},"
+                + "\"relationships\":[{\"id\":\"" + UUID.randomUUID() + "\",\"type\":\"scanlation_group\"},"
+                + "{\"id\":\"" + mangaId + "\",\"type\":\"manga\"},{\"id\":\"" + UUID.randomUUID() + "\",\"type\":\"something_new\"}]}")
+                .getAsJsonObject();
+    }
+
+    @Test
+    public void testAppendAllAndRead() {
+        UUID mangaId = UUID.randomUUID();
+        JsonArray page = new JsonArray();
+        UUID[] ids = new UUID[2_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+            page.add(chapter(ids[i], mangaId, i % 10 == 0 ? null : i + ".5", i % 2 == 0 ? null : "Chapter é " + i));
+        }
+        ChapterTable table = new ChapterTable(16).appendAll(page);
+        assertEquals(ids.length, table.size());
+
+        ChapterTable.Row row = table.row(7);
+        assertEquals(ids[7], row.getId());
+        assertEquals(7.5f, row.getChapter());
+        assertTrue(Float.isNaN(row.getVolume()));
+        assertEquals("Chapter é 7", row.getTitle());
+        assertEquals(Locale.ENGLISH, row.getTranslatedLanguage());
+        assertEquals(21, row.getPages());
+        assertEquals(3, row.getVersion());
+        assertEquals(3, row.getRelationshipCount());
+        assertEquals(mangaId, row.getMangaId());
+        assertNull(row.getRelationshipType(2));
+        assertEquals(1709283600000L, row.getCreatedAtMillis());
+
+        assertNull(table.row(10).getTitle());
+        assertTrue(Float.isNaN(table.row(10).getChapter()));
+        assertEquals(1999, table.indexOf(ids[1999]));
+
+        int[] seen = {0};
+        table.forEach(r -> {
+            assertEquals(ids[r.getIndex()], r.getId());
+            seen[0]++;
+        });
+        assertEquals(ids.length, seen[0]);
+    }
+
+    @Test
+    public void testAppendChapterEntity() {
+        UUID mangaId = UUID.randomUUID();
+        Chapter entity = new Chapter(chapter(UUID.randomUUID(), mangaId, "12", "Title"));
+        ChapterTable table = new ChapterTable();
+        int index = table.append(entity);
+        table.trimToSize();
+        ChapterTable.Row row = table.row(index);
+        assertEquals(entity.getId(), row.getId());
+        assertEquals(12f, row.getChapter());
+        assertEquals(entity.getUpdatedAt().toInstant(), row.getUpdatedAt().toInstant());
+        assertEquals(mangaId, row.getRelationshipId(RelationshipType.MANGA));
+    }
+}
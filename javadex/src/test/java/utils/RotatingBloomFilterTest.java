@@ -0,0 +1,71 @@
+package utils;
+
+import dev.kurumidisciples.javadex.internal.utils.RotatingBloomFilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RotatingBloomFilterTest {
+
+    @Test
+    public void testAddedIdsAreRememberedForOneGeneration() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            filter.put(id);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+        for (UUID id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRateIsLow() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) falsePositives++;
+        }
+        assertTrue(falsePositives < 50, "false positives: " + falsePositives);
+    }
+
+    @Test
+    public void testOldGenerationsAreForgotten() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(100);
+        UUID old = UUID.randomUUID();
+        filter.put(old);
+        for (int i = 0; i < 300; i++) {
+            filter.put(UUID.randomUUID());
+        }
+        assertFalse(filter.mightContain(old));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        RotatingBloomFilter filter = new RotatingBloomFilter(500);
+        UUID id = UUID.randomUUID();
+        filter.put(id);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.write(new DataOutputStream(bytes));
+        RotatingBloomFilter read = RotatingBloomFilter.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertTrue(read.mightContain(id));
+    }
+}
@@ -0,0 +1,107 @@
+package utils;
+
+import dev.kurumidisciples.javadex.internal.utils.UuidLongMap;
+import dev.kurumidisciples.javadex.internal.utils.UuidObjectMap;
+import dev.kurumidisciples.javadex.internal.utils.UuidSet;
+
+import com.google.gson.stream.JsonReader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidCollectionsTest {
+
+    @Test
+    public void testSetMatchesHashSet() {
+        Random random = new Random(46);
+        UuidSet set = new UuidSet();
+        Set<UUID> expected = new HashSet<>();
+        List<UUID> pool = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            pool.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        // The nil UUID doubles as the free slot marker internally
+        pool.add(new UUID(0, 0));
+        for (int i = 0; i < 50_000; i++) {
+            UUID id = pool.get(random.nextInt(pool.size()));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id), set.remove(id));
+            } else {
+                assertEquals(expected.add(id), set.add(id));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(expected, set);
+        for (UUID id : pool) {
+            assertEquals(expected.contains(id), set.contains(id));
+        }
+
+        set.removeIf(id -> id.getMostSignificantBits() < 0);
+        expected.removeIf(id -> id.getMostSignificantBits() < 0);
+        assertEquals(expected, set);
+    }
+
+    @Test
+    public void testSetParsesJsonWithoutUuids() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UuidSet set = new UuidSet();
+        JsonReader in = new JsonReader(new StringReader("[\"" + first + "\", null, \"" + second + "\", \"" + first + "\"]"));
+        assertEquals(2, set.addAll(in));
+        assertTrue(set.contains(first));
+        assertTrue(set.contains(second.getMostSignificantBits(), second.getLeastSignificantBits()));
+        assertFalse(set.add(first.toString().toUpperCase()));
+        assertThrows(IllegalArgumentException.class, () -> set.add("not-a-uuid"));
+    }
+
+    @Test
+    public void testMapsMatchHashMap() {
+        Random random = new Random(47);
+        UuidLongMap counts = new UuidLongMap(4, -1);
+        UuidObjectMap<String> names = new UuidObjectMap<>();
+        Map<UUID, Long> expectedCounts = new HashMap<>();
+        Map<UUID, String> expectedNames = new HashMap<>();
+        List<UUID> pool = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            pool.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        for (int i = 0; i < 30_000; i++) {
+            UUID id = pool.get(random.nextInt(pool.size()));
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expectedCounts.getOrDefault(id, -1L), counts.remove(id));
+                    expectedCounts.remove(id);
+                    assertEquals(expectedNames.remove(id), names.remove(id));
+                    break;
+                case 1:
+                    assertEquals(expectedCounts.merge(id, 2L, (a, b) -> a + b), counts.containsKey(id) ? counts.addTo(id, 2) : counts.addTo(id, 3));
+                    break;
+                default:
+                    long value = random.nextLong();
+                    assertEquals(expectedCounts.getOrDefault(id, -1L), counts.put(id, value));
+                    expectedCounts.put(id, value);
+                    assertEquals(expectedNames.put(id, "n" + value), names.put(id, "n" + value));
+            }
+        }
+        assertEquals(expectedCounts.size(), counts.size());
+        expectedCounts.forEach((id, value) -> assertEquals(value, counts.get(id)));
+        counts.forEach((id, value) -> assertEquals(expectedCounts.get(id), value));
+        assertEquals(expectedCounts.keySet(), counts.keySet());
+        assertEquals(expectedNames, names);
+        assertEquals(-1, counts.get(UUID.randomUUID()));
+
+        names.entrySet().forEach(entry -> entry.setValue("x"));
+        assertEquals("x", names.get(names.keySet().iterator().next()));
+    }
+}